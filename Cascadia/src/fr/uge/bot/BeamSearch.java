@@ -0,0 +1,251 @@
+package fr.uge.bot;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntFunction;
+
+import fr.uge.game.Catalogue;
+import fr.uge.game.WildlifeCount;
+import fr.uge.game.element.Animals;
+import fr.uge.game.element.Player;
+import fr.uge.game.element.Tile;
+import fr.uge.game.wildlifeCount.Bear;
+import fr.uge.game.wildlifeCount.Buzzard;
+import fr.uge.game.wildlifeCount.Elk;
+import fr.uge.game.wildlifeCount.Family;
+import fr.uge.game.wildlifeCount.Fox;
+import fr.uge.game.wildlifeCount.Intermediate;
+import fr.uge.game.wildlifeCount.Salmon;
+import fr.uge.simulation.BoardGenerator;
+
+/**
+ * Plans the turns of a solo game whose draws are known in advance, for the solo
+ * challenges and the puzzles.
+ * <p>
+ * Every turn, each board of the beam is expanded with the moves of the
+ * {@link MoveGenerator}, and the {@code beamWidth} best boards by static value are kept
+ * for the next turn. Two boards reached by different moves are the same state when they
+ * have the same hash and nature tokens, so only one of them is kept. The boards of a turn
+ * are expanded in parallel; the kept boards only depend on the values and hashes, so the
+ * plan does not depend on the number of threads.
+ * <p>
+ * A wider beam finds better plans, the time and memory of a turn grow linearly with it.
+ */
+public final class BeamSearch {
+	/**
+	 * The draw of a turn: the tile to place and the animal that can be placed.
+	 *
+	 * @param tile The tile.
+	 * @param animal The animal.
+	 */
+	public record Turn(Tile tile, Animals animal) {
+		/**
+		 * Checks the turn.
+		 */
+		public Turn {
+			Objects.requireNonNull(tile, "tile is null");
+			Objects.requireNonNull(animal, "animal is null");
+			if (animal == Animals.NOTHING) {
+				throw new IllegalArgumentException("animal is NOTHING");
+			}
+		}
+	}
+
+	/**
+	 * The result of a search.
+	 *
+	 * @param moves The moves of the plan, one a turn, all in slot 0.
+	 * @param score The static value of the board at the end of the plan.
+	 * @param expanded The number of boards reached during the search.
+	 */
+	public record Plan(List<Move> moves, double score, long expanded) {
+		/**
+		 * Copies the moves.
+		 */
+		public Plan {
+			moves = List.copyOf(moves);
+		}
+	}
+
+	private record Line(Line previous, Move move) {
+	}
+
+	private record Entry(Player player, Line line, double value) {
+	}
+
+	private record Child(int parent, Move move, double value, long hash) {
+	}
+
+	private static final Comparator<Child> BEST_FIRST = Comparator.comparingDouble(Child::value).reversed()
+			.thenComparingLong(Child::hash);
+
+	private final MoveGenerator generator;
+	private final int beamWidth;
+	private final int threads;
+
+	/**
+	 * Creates a planner.
+	 *
+	 * @param generator The moves and their static values.
+	 * @param beamWidth The number of boards kept each turn.
+	 * @param threads The number of threads expanding the boards.
+	 * @throws IllegalArgumentException if beamWidth or threads is not positive.
+	 */
+	public BeamSearch(MoveGenerator generator, int beamWidth, int threads) {
+		this.generator = Objects.requireNonNull(generator, "generator is null");
+		if (beamWidth < 1 || threads < 1) {
+			throw new IllegalArgumentException("beamWidth < 1 or threads < 1");
+		}
+		this.beamWidth = beamWidth;
+		this.threads = threads;
+	}
+
+	/**
+	 * Plans the turns of a player.
+	 *
+	 * @param player The board at the start, left as it was.
+	 * @param turns The draws of the turns left, in order.
+	 * @return The best plan found.
+	 * @throws InterruptedException if the thread is interrupted while waiting.
+	 */
+	public Plan plan(Player player, List<Turn> turns) throws InterruptedException {
+		Objects.requireNonNull(player, "player is null");
+		Objects.requireNonNull(turns, "turns is null");
+		var beam = List.of(new Entry(player.copy(), null, generator.evaluator().evaluate(player)));
+		var expanded = 0L;
+		var executor = Executors.newFixedThreadPool(threads);
+		try {
+			for (var turn : List.copyOf(turns)) {
+				var current = beam;
+				var children = new ArrayList<Child>();
+				for (var list : parallel(executor, current.size(), i -> expand(current.get(i).player(), turn, i))) {
+					children.addAll(list);
+				}
+				if (children.isEmpty()) {
+					break;
+				}
+				expanded += children.size();
+				children.sort(BEST_FIRST);
+				var seen = new HashSet<Long>();
+				var kept = new ArrayList<Child>();
+				for (var child : children) {
+					if (kept.size() == beamWidth) {
+						break;
+					}
+					if (seen.add(child.hash())) {
+						kept.add(child);
+					}
+				}
+				beam = parallel(executor, kept.size(), i -> {
+					var child = kept.get(i);
+					var parent = current.get(child.parent());
+					return new Entry(play(parent.player(), turn, child.move()), new Line(parent.line(), child.move()), child.value());
+				});
+			}
+		} catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+		var best = beam.get(0);
+		var moves = new ArrayList<Move>();
+		for (var line = best.line(); line != null; line = line.previous()) {
+			moves.add(line.move());
+		}
+		return new Plan(moves.reversed(), best.value(), expanded);
+	}
+
+	private Position position(Player player, Turn turn) {
+		return new Position(player, List.of(turn.tile()), List.of(turn.animal()), List.of(), Map.of(),
+				generator.evaluator().shapeOfTile(), 1);
+	}
+
+	private List<Child> expand(Player player, Turn turn, int parent) {
+		var position = position(player, turn);
+		var children = new ArrayList<Child>();
+		for (var candidate : generator.candidates(position, 0)) {
+			position.play(candidate.move());
+			children.add(new Child(parent, candidate.move(), candidate.value(), GameHash.seat(0, position.player())));
+			position.undo();
+		}
+		return children;
+	}
+
+	private Player play(Player player, Turn turn, Move move) {
+		var position = position(player, turn);
+		position.play(move);
+		return position.player();
+	}
+
+	private static <T> List<T> parallel(ExecutorService executor, int count, IntFunction<T> task)
+			throws InterruptedException, ExecutionException {
+		var tasks = new ArrayList<Callable<T>>(count);
+		for (var i = 0; i < count; i++) {
+			var index = i;
+			tasks.add(() -> task.apply(index));
+		}
+		var results = new ArrayList<T>(count);
+		for (var future : executor.invokeAll(tasks)) {
+			results.add(future.get());
+		}
+		return results;
+	}
+
+	/**
+	 * Returns every pattern of every wildlife card, so the plans value all of them.
+	 *
+	 * @param shapeOfTile The shape of the tiles.
+	 * @return The cards.
+	 */
+	private static List<WildlifeCount> cards(int shapeOfTile) {
+		var cards = new ArrayList<WildlifeCount>();
+		for (var pattern = 1; pattern <= 4; pattern++) {
+			cards.add(new Fox("fox" + pattern, pattern, shapeOfTile));
+			cards.add(new Salmon("salmon" + pattern, pattern, shapeOfTile));
+			cards.add(new Bear("bear" + pattern, pattern, shapeOfTile));
+			cards.add(new Elk("elk" + pattern, pattern, shapeOfTile));
+			cards.add(new Buzzard("buzzard" + pattern, pattern, shapeOfTile));
+		}
+		cards.add(new Family("family", 5, shapeOfTile));
+		cards.add(new Intermediate("intermediate", 6, shapeOfTile));
+		return cards;
+	}
+
+	/**
+	 * Plans random solo games with several beam widths and prints the scores and times.
+	 *
+	 * @param args The number of turns, the number of threads and the seed, all optional.
+	 * @throws Exception if the cards cannot be read or the thread is interrupted.
+	 */
+	public static void main(String[] args) throws Exception {
+		var turnCount = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+		var threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+		var seed = args.length > 2 ? Long.parseLong(args[2]) : 0;
+		var shapeOfTile = 2;
+		var deck = Catalogue.habitatCards();
+		var start = BoardGenerator.standard(new BoardGenerator.Settings(shapeOfTile, 3, 0, 1)).player(seed);
+		var random = new SplittableRandom(seed);
+		var species = List.of(Animals.values()).subList(0, Animals.NOTHING.ordinal());
+		var turns = new ArrayList<Turn>();
+		for (var i = 0; i < turnCount; i++) {
+			turns.add(new Turn(deck.get(random.nextInt(deck.size())), species.get(random.nextInt(species.size()))));
+		}
+		var generator = new MoveGenerator(new Evaluator(cards(shapeOfTile), shapeOfTile), 4);
+		for (var beamWidth : List.of(1, 8, 64, 256)) {
+			var begin = System.nanoTime();
+			var plan = new BeamSearch(generator, beamWidth, threads).plan(start, turns);
+			var millis = (System.nanoTime() - begin) / 1_000_000;
+			System.out.println("beam " + beamWidth + ": " + plan.score() + " points, " + plan.expanded() + " boards, "
+					+ millis + " ms");
+		}
+	}
+}
@@ -0,0 +1,54 @@
+package fr.uge.bot;
+
+import java.util.Objects;
+
+/**
+ * A player of the headless games: chooses the move of a turn.
+ */
+@FunctionalInterface
+public interface Bot {
+	/**
+	 * Chooses the move of a turn.
+	 *
+	 * @param position The position of the player, which the bot may change as long as it
+	 *                 leaves it as it was.
+	 * @return A legal move of the position.
+	 */
+	Move play(Position position);
+
+	/**
+	 * Returns a bot playing the move of best static value.
+	 *
+	 * @param generator The moves and their values.
+	 * @return The bot.
+	 */
+	static Bot greedy(MoveGenerator generator) {
+		Objects.requireNonNull(generator, "generator is null");
+		return position -> {
+			var candidates = generator.candidates(position);
+			if (candidates.isEmpty()) {
+				throw new IllegalStateException("no move in this position");
+			}
+			return candidates.get(0).move();
+		};
+	}
+
+	/**
+	 * Returns a bot searching its moves with an expectimax search.
+	 *
+	 * @param search The search, only used by this bot.
+	 * @param maxDepth The largest number of turns searched.
+	 * @param millis The time budget of a turn.
+	 * @return The bot.
+	 */
+	static Bot expectimax(Expectimax search, int maxDepth, long millis) {
+		Objects.requireNonNull(search, "search is null");
+		return position -> {
+			var result = search.search(position, maxDepth, millis, position.hash());
+			if (result == null) {
+				throw new IllegalStateException("no move in this position");
+			}
+			return result.move();
+		};
+	}
+}
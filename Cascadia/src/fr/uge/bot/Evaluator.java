@@ -0,0 +1,105 @@
+package fr.uge.bot;
+
+import java.util.List;
+import java.util.Objects;
+
+import fr.uge.game.CountPoint;
+import fr.uge.game.WildlifeCount;
+import fr.uge.game.element.Animals;
+import fr.uge.game.element.Biome;
+import fr.uge.game.element.Player;
+
+/**
+ * Static evaluation of a board for the bots: the points the board would score if the
+ * game ended now, without the majority bonuses, which depend on the other players,
+ * weighted by a profile of {@link Weights}. With {@link Weights#DEFAULT} the evaluation
+ * is the points.
+ * <p>
+ * The evaluation is split in a part that only changes when a tile is placed, a part that
+ * only changes when an animal is placed and the nature tokens, so the moves can value the
+ * two halves of a turn apart.
+ *
+ * @param wildlifeCards The wildlife cards in play.
+ * @param shapeOfTile The shape of the tiles (2 for hexagons, square otherwise).
+ * @param weights The weights of the evaluation.
+ */
+public record Evaluator(List<WildlifeCount> wildlifeCards, int shapeOfTile, Weights weights) {
+	private static final List<Biome> BIOMES = List.of(Biome.MOUNTAIN, Biome.FOREST, Biome.MEADOW, Biome.SWAMP, Biome.RIVER);
+
+	/**
+	 * Checks and copies the cards.
+	 */
+	public Evaluator {
+		wildlifeCards = List.copyOf(wildlifeCards);
+		Objects.requireNonNull(weights, "weights is null");
+	}
+
+	/**
+	 * Creates an evaluation scoring the board like the game does.
+	 *
+	 * @param wildlifeCards The wildlife cards in play.
+	 * @param shapeOfTile The shape of the tiles (2 for hexagons, square otherwise).
+	 */
+	public Evaluator(List<WildlifeCount> wildlifeCards, int shapeOfTile) {
+		this(wildlifeCards, shapeOfTile, Weights.DEFAULT);
+	}
+
+	/**
+	 * Returns the part of the evaluation that only changes when a tile is placed: the
+	 * corridors and the tiles, each of them an animal slot until an animal is placed.
+	 *
+	 * @param player The player.
+	 * @return The weighted largest corridor of each biome and the weighted tiles.
+	 */
+	public double tileValue(Player player) {
+		Objects.requireNonNull(player, "player is null");
+		var value = weights.openSlot() * player.habitats().size();
+		for (var biome : BIOMES) {
+			var weight = weights.corridor(biome);
+			if (weight != 0) {
+				value += weight * CountPoint.largestCorridor(player, biome, shapeOfTile);
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * Returns the part of the evaluation that only changes when an animal is placed: the
+	 * wildlife cards, and the animal slots filled.
+	 *
+	 * @param player The player.
+	 * @return The points of the cards less the weighted animals.
+	 */
+	public double animalValue(Player player) {
+		Objects.requireNonNull(player, "player is null");
+		var points = 0;
+		for (var card : wildlifeCards) {
+			points += card.pointCount(player);
+		}
+		var animals = 0;
+		for (var habitat : player.habitats().values()) {
+			animals += habitat.animal() == Animals.NOTHING ? 0 : 1;
+		}
+		return points - weights.openSlot() * animals;
+	}
+
+	/**
+	 * Returns the value of nature tokens.
+	 *
+	 * @param natureTokens The number of tokens.
+	 * @return The weighted tokens.
+	 */
+	public double tokenValue(int natureTokens) {
+		return weights.natureToken() * natureTokens;
+	}
+
+	/**
+	 * Evaluates a board.
+	 *
+	 * @param player The player.
+	 * @return The weighted corridors, tiles, wildlife cards, animals and nature tokens.
+	 */
+	public double evaluate(Player player) {
+		return tileValue(player) + animalValue(player) + tokenValue(player.natureToken());
+	}
+}
@@ -0,0 +1,438 @@
+package fr.uge.bot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+import fr.uge.game.board.Zobrist;
+import fr.uge.game.element.Animals;
+
+/**
+ * Expectimax search over the player's next turns, with the market refills as chance nodes.
+ * <p>
+ * After a move, the slot taken is refilled like in {@code GameRound.updateGame}: a tile
+ * drawn uniformly from the pile and an animal drawn by {@link fr.uge.game.element.Draw#randomAnimal()},
+ * where every species with a token left is equally likely. The animals are enumerated;
+ * the tiles are too when the pile holds at most {@code tileSamples} kinds of tiles, which
+ * is the case late in the game, and are sampled by weight otherwise. The other players are
+ * not modelled, the search plans the player's own turns on the market it can see.
+ * <p>
+ * Chance nodes are pruned with Star1 and Star2: the leaves are clamped to
+ * {@code [root - SWING * depth, root + SWING * depth]}, which bounds every node, so a
+ * chance node stops as soon as the outcomes left cannot bring its value back into the
+ * window, and the outcomes are first probed with their first move for a lower bound that
+ * can cut the node before any full search. Decision nodes are shared between workers
+ * through the {@link TranspositionTable}. The search deepens one turn at a time until
+ * its time runs out, or its thread is interrupted, and returns the move of the last depth
+ * completed.
+ * <p>
+ * An instance is not thread-safe, each worker needs its own; the table can be shared.
+ */
+public final class Expectimax {
+	/**
+	 * The most a turn is expected to move the evaluation, up or down.
+	 */
+	private static final int SWING = 30;
+	private static final int SCALE = 64;
+
+	/**
+	 * The result of a search.
+	 *
+	 * @param move The best move.
+	 * @param value The expected evaluation after the turns searched.
+	 * @param depth The number of turns searched.
+	 * @param nodes The number of decision nodes visited.
+	 */
+	public record Result(Move move, double value, int depth, long nodes) {
+	}
+
+	private record Outcome(int pileIndex, Animals animal, double probability) {
+	}
+
+	/**
+	 * Thrown when the time of the search is up.
+	 */
+	private static final class Timeout extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		private Timeout() {
+			super(null, null, false, false);
+		}
+	}
+
+	private final MoveGenerator generator;
+	private final TranspositionTable table;
+	private final int width;
+	private final int tileSamples;
+	private final HashMap<Long, Double> leaves = new HashMap<>();
+	private Position position;
+	private SplittableRandom random;
+	private long deadline;
+	private long nodes;
+	private double low;
+	private double high;
+
+	/**
+	 * Creates a search.
+	 *
+	 * @param generator The moves and their static values.
+	 * @param table The transposition table, possibly shared with other searches.
+	 * @param width The number of moves searched at a decision node, best first.
+	 * @param tileSamples The number of kinds of tiles enumerated at a chance node.
+	 * @throws IllegalArgumentException if width or tileSamples is not positive.
+	 */
+	public Expectimax(MoveGenerator generator, TranspositionTable table, int width, int tileSamples) {
+		this.generator = Objects.requireNonNull(generator, "generator is null");
+		this.table = Objects.requireNonNull(table, "table is null");
+		if (width < 1 || tileSamples < 1) {
+			throw new IllegalArgumentException("width < 1 or tileSamples < 1");
+		}
+		this.width = width;
+		this.tileSamples = tileSamples;
+	}
+
+	/**
+	 * Searches the best move of a position.
+	 *
+	 * @param position The position, left as it was.
+	 * @param maxDepth The largest number of turns searched.
+	 * @param millis The time budget, the first turn is always searched whatever the budget.
+	 * @param seed The seed of the tile samples.
+	 * @return The best move found, or null if the player cannot move.
+	 * @throws IllegalArgumentException if maxDepth is not positive.
+	 */
+	public Result search(Position position, int maxDepth, long millis, long seed) {
+		return search(position, maxDepth, millis, seed, result -> {
+		});
+	}
+
+	/**
+	 * Searches the best move of a position and reports the result of every depth completed.
+	 *
+	 * @param position The position, left as it was.
+	 * @param maxDepth The largest number of turns searched.
+	 * @param millis The time budget, the first turn is always searched whatever the budget.
+	 * @param seed The seed of the tile samples.
+	 * @param progress Receives the result of each depth, on the thread of the search.
+	 * @return The best move found, or null if the player cannot move.
+	 * @throws IllegalArgumentException if maxDepth is not positive.
+	 */
+	public Result search(Position position, int maxDepth, long millis, long seed, Consumer<Result> progress) {
+		Objects.requireNonNull(progress, "progress is null");
+		this.position = Objects.requireNonNull(position, "position is null");
+		if (maxDepth < 1) {
+			throw new IllegalArgumentException("maxDepth < 1");
+		}
+		var candidates = generator.candidates(position);
+		if (position.isOver() || candidates.isEmpty()) {
+			return null;
+		}
+		var depth = Math.min(maxDepth, position.turnsLeft());
+		var root = generator.evaluator().evaluate(position.player());
+		low = root - SWING * depth;
+		high = root + SWING * depth;
+		random = new SplittableRandom(seed);
+		deadline = System.nanoTime() + millis * 1_000_000;
+		nodes = 1;
+		leaves.clear();
+		table.newSearch();
+		var best = candidates.get(0);
+		var result = new Result(best.move(), clamp(best.value()), 1, nodes);
+		progress.accept(result);
+		var ordered = new ArrayList<>(candidates.subList(0, Math.min(width, candidates.size())));
+		for (var d = 2; d <= depth; d++) {
+			try {
+				var alpha = low - 1;
+				Move bestMove = null;
+				for (var candidate : ordered) {
+					var move = candidate.move();
+					position.play(move);
+					double value;
+					try {
+						value = chance(move.slot(), d - 1, alpha, high + 1);
+					} finally {
+						position.undo();
+					}
+					if (value > alpha) {
+						alpha = value;
+						bestMove = move;
+					}
+				}
+				result = new Result(bestMove, alpha, d, nodes);
+				progress.accept(result);
+				var first = bestMove;
+				ordered.sort((a, b) -> Boolean.compare(b.move().equals(first), a.move().equals(first)));
+			} catch (Timeout e) {
+				break;
+			}
+		}
+		return new Result(result.move(), result.value(), result.depth(), nodes);
+	}
+
+	private double clamp(double value) {
+		return Math.max(low, Math.min(high, value));
+	}
+
+	private void tick() {
+		if (Thread.currentThread().isInterrupted() || (++nodes & 31) == 0 && System.nanoTime() > deadline) {
+			throw new Timeout();
+		}
+	}
+
+	/**
+	 * Values a decision node.
+	 *
+	 * @param depth The number of turns left to search, at least 1.
+	 * @param alpha The lower end of the window.
+	 * @param beta The upper end of the window.
+	 * @return The value, exact inside the window and a bound outside it.
+	 */
+	private double max(int depth, double alpha, double beta) {
+		tick();
+		if (position.isOver()) {
+			return clamp(generator.evaluator().evaluate(position.player()));
+		}
+		if (depth == 1) {
+			return staticBest();
+		}
+		var key = position.hash();
+		var entry = table.probe(key);
+		var hashMove = 0;
+		if (entry != TranspositionTable.MISS) {
+			hashMove = TranspositionTable.move(entry);
+			if (TranspositionTable.depth(entry) >= depth) {
+				var value = (double) TranspositionTable.value(entry) / SCALE;
+				switch (TranspositionTable.bound(entry)) {
+				case EXACT:
+					return value;
+				case LOWER:
+					if (value >= beta) {
+						return value;
+					}
+					break;
+				case UPPER:
+					if (value <= alpha) {
+						return value;
+					}
+					break;
+				}
+			}
+		}
+		var moves = ordered(hashMove);
+		var best = Double.NEGATIVE_INFINITY;
+		Move bestMove = null;
+		var floor = alpha;
+		for (var move : moves) {
+			position.play(move);
+			double value;
+			try {
+				value = chance(move.slot(), depth - 1, floor, beta);
+			} finally {
+				position.undo();
+			}
+			if (value > best) {
+				best = value;
+				bestMove = move;
+				floor = Math.max(floor, value);
+				if (best >= beta) {
+					break;
+				}
+			}
+		}
+		var bound = best <= alpha ? TranspositionTable.Bound.UPPER : best >= beta ? TranspositionTable.Bound.LOWER : TranspositionTable.Bound.EXACT;
+		table.store(key, (int) Math.round(best * SCALE), depth, bound, bestMove.encode());
+		return best;
+	}
+
+	/**
+	 * Returns the moves searched at a decision node, the move of the table first when it
+	 * is one of them.
+	 *
+	 * @param hashMove The packed move of the table, 0 if none.
+	 * @return The moves.
+	 */
+	private List<Move> ordered(int hashMove) {
+		var candidates = generator.candidates(position);
+		var moves = new ArrayList<Move>(width);
+		for (var candidate : candidates.subList(0, Math.min(width, candidates.size()))) {
+			if (candidate.move().encode() == hashMove) {
+				moves.add(0, candidate.move());
+			} else {
+				moves.add(candidate.move());
+			}
+		}
+		return moves;
+	}
+
+	/**
+	 * Values a decision node one turn from the horizon: the best static value of its
+	 * moves. The best value of a tile and an animal does not depend on the slot, so it is
+	 * kept for the other outcomes of the chance node, which share three slots of four.
+	 *
+	 * @return The value, clamped.
+	 */
+	private double staticBest() {
+		var player = position.player();
+		var board = Zobrist.mix(player.hash() + player.natureToken());
+		var best = Double.NEGATIVE_INFINITY;
+		for (var slot = 0; slot < Position.SLOTS; slot++) {
+			var tile = position.tile(slot);
+			var animal = position.animal(slot);
+			if (tile == null || animal == null) {
+				continue;
+			}
+			var key = board ^ GameHash.tile(0, tile) ^ GameHash.animal(0, animal);
+			var value = leaves.get(key);
+			if (value == null) {
+				var candidates = generator.candidates(position, slot);
+				value = candidates.isEmpty() ? Double.NEGATIVE_INFINITY : candidates.get(0).value();
+				leaves.put(key, value);
+			}
+			best = Math.max(best, value);
+		}
+		return clamp(best == Double.NEGATIVE_INFINITY ? generator.evaluator().evaluate(player) : best);
+	}
+
+	/**
+	 * Lists the refills of a slot and their probabilities, most likely first.
+	 *
+	 * @return The outcomes, none if the pile or the bag is empty.
+	 */
+	private List<Outcome> outcomes() {
+		var animals = position.drawableAnimals();
+		var outcomes = new ArrayList<Outcome>();
+		if (animals.isEmpty() || position.pileSize() == 0) {
+			return outcomes;
+		}
+		var kinds = new ArrayList<Integer>();
+		for (var i = 0; i < position.pileKinds(); i++) {
+			if (position.pileCount(i) > 0) {
+				kinds.add(i);
+			}
+		}
+		var total = position.pileSize();
+		if (kinds.size() > tileSamples) {
+			var sampled = new ArrayList<Integer>(tileSamples);
+			var left = total;
+			total = 0;
+			while (sampled.size() < tileSamples) {
+				var pick = random.nextInt(left);
+				for (var i = 0; i < kinds.size(); i++) {
+					var count = position.pileCount(kinds.get(i));
+					if (pick < count) {
+						sampled.add(kinds.remove(i));
+						left -= count;
+						total += count;
+						break;
+					}
+					pick -= count;
+				}
+			}
+			kinds = sampled;
+		}
+		for (var kind : kinds) {
+			var probability = (double) position.pileCount(kind) / total / animals.size();
+			for (var animal : animals) {
+				outcomes.add(new Outcome(kind, animal, probability));
+			}
+		}
+		outcomes.sort((a, b) -> Double.compare(b.probability(), a.probability()));
+		return outcomes;
+	}
+
+	/**
+	 * Values a chance node: the expected value of the refills of a slot.
+	 *
+	 * @param slot The slot emptied by the move.
+	 * @param depth The number of turns left to search after the move.
+	 * @param alpha The lower end of the window.
+	 * @param beta The upper end of the window.
+	 * @return The value, exact inside the window and a bound outside it.
+	 */
+	private double chance(int slot, int depth, double alpha, double beta) {
+		if (depth == 0 || position.turnsLeft() == 0) {
+			return clamp(generator.evaluator().evaluate(position.player()));
+		}
+		var outcomes = outcomes();
+		if (outcomes.isEmpty()) {
+			return max(depth, alpha, beta);
+		}
+		var lower = new double[outcomes.size()];
+		var restLow = 0.0;
+		if (depth == 1) {
+			restLow = low;
+			Arrays.fill(lower, low);
+		} else {
+			var probed = 0.0;
+			var unprobed = 1.0;
+			for (var i = 0; i < outcomes.size(); i++) {
+				var outcome = outcomes.get(i);
+				unprobed -= outcome.probability();
+				var probeBeta = (beta - probed - unprobed * low) / outcome.probability();
+				position.refill(slot, outcome.pileIndex(), outcome.animal());
+				try {
+					lower[i] = probe(depth, Math.min(probeBeta, high));
+				} finally {
+					position.undo();
+				}
+				probed += outcome.probability() * lower[i];
+				if (probed + unprobed * low >= beta) {
+					return probed + unprobed * low;
+				}
+			}
+			restLow = probed;
+		}
+		var sum = 0.0;
+		var restHigh = high;
+		for (var i = 0; i < outcomes.size(); i++) {
+			var outcome = outcomes.get(i);
+			var p = outcome.probability();
+			restLow -= p * lower[i];
+			restHigh -= p * high;
+			var childAlpha = Math.max(low, (alpha - sum - restHigh) / p);
+			var childBeta = Math.min(high, (beta - sum - restLow) / p);
+			position.refill(slot, outcome.pileIndex(), outcome.animal());
+			double value;
+			try {
+				value = max(depth, childAlpha, childBeta);
+			} finally {
+				position.undo();
+			}
+			sum += p * value;
+			if (sum + restHigh <= alpha) {
+				return sum + restHigh;
+			}
+			if (sum + restLow >= beta) {
+				return sum + restLow;
+			}
+		}
+		return sum;
+	}
+
+	/**
+	 * Finds a lower bound of a decision node by searching its first move only.
+	 *
+	 * @param depth The number of turns left to search, at least 2.
+	 * @param beta The value above which the exact bound does not matter.
+	 * @return A lower bound of the value of the node.
+	 */
+	private double probe(int depth, double beta) {
+		tick();
+		if (position.isOver()) {
+			return clamp(generator.evaluator().evaluate(position.player()));
+		}
+		var entry = table.probe(position.hash());
+		var moves = ordered(entry == TranspositionTable.MISS ? 0 : TranspositionTable.move(entry));
+		var move = moves.get(0);
+		position.play(move);
+		try {
+			return chance(move.slot(), depth - 1, low, Math.max(beta, low + 1.0 / SCALE));
+		} finally {
+			position.undo();
+		}
+	}
+}
@@ -0,0 +1,146 @@
+package fr.uge.bot;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import fr.uge.game.Structure;
+import fr.uge.game.board.Zobrist;
+import fr.uge.game.element.Animals;
+import fr.uge.game.element.Draw;
+import fr.uge.game.element.Player;
+import fr.uge.game.element.Tile;
+
+/**
+ * Hashes a whole game state for the transposition table: the board and nature tokens of
+ * every player by seat, the tiles and animals of the market by slot, the token bag and
+ * whose turn it is. Each part is a 64-bit key and the state is their xor, so a search
+ * that changes one part only hashes that part again.
+ * <p>
+ * The boards use the Zobrist hash kept by {@link Player}, the other parts are keyed by
+ * mixing their content with a salt of their own.
+ */
+public final class GameHash {
+	private static final long SEAT = 0x5EA7L << 40;
+	private static final long NATURE = 0x7A7BL << 40;
+	private static final long MARKET_TILE = 0x711EL << 40;
+	private static final long MARKET_ANIMAL = 0xA41AL << 40;
+	private static final long BAG = 0xBA90L << 40;
+	private static final long TURN = 0x7E42L << 40;
+
+	private GameHash() {
+	}
+
+	/**
+	 * Hashes the state of a game.
+	 *
+	 * @param structure The game, holding the players and the token bag.
+	 * @param draw The market.
+	 * @param currentPlayer The index of the player about to play.
+	 * @param turn The number of the turn.
+	 * @return The hash of the state.
+	 */
+	public static long of(Structure structure, Draw draw, int currentPlayer, int turn) {
+		Objects.requireNonNull(structure, "structure is null");
+		Objects.requireNonNull(draw, "draw is null");
+		var players = structure.players();
+		var hash = market(draw.tilesForChoice(), draw.animalsForChoice()) ^ bag(structure.animalToken()) ^ turn(currentPlayer, turn);
+		for (var seat = 0; seat < players.size(); seat++) {
+			hash ^= seat(seat, players.get(seat));
+		}
+		return hash;
+	}
+
+	/**
+	 * Returns the key of the board and nature tokens of a player.
+	 *
+	 * @param seat The index of the player in the game.
+	 * @param player The player.
+	 * @return The key.
+	 */
+	public static long seat(int seat, Player player) {
+		Objects.requireNonNull(player, "player is null");
+		return Zobrist.mix(player.hash() + Zobrist.mix(SEAT + seat)) ^ Zobrist.mix(NATURE + seat * 256L + player.natureToken());
+	}
+
+	/**
+	 * Returns the key of the market. A tile and an animal are only keyed with their slot,
+	 * so swapping two slots changes the key.
+	 *
+	 * @param tiles The tiles of the market.
+	 * @param animals The animals of the market.
+	 * @return The key.
+	 */
+	public static long market(List<Tile> tiles, List<Animals> animals) {
+		Objects.requireNonNull(tiles, "tiles is null");
+		Objects.requireNonNull(animals, "animals is null");
+		var hash = 0L;
+		for (var slot = 0; slot < tiles.size(); slot++) {
+			hash ^= tile(slot, tiles.get(slot));
+		}
+		for (var slot = 0; slot < animals.size(); slot++) {
+			hash ^= animal(slot, animals.get(slot));
+		}
+		return hash;
+	}
+
+	/**
+	 * Returns the key of a tile of the market.
+	 *
+	 * @param slot The slot of the tile.
+	 * @param tile The tile, null for an empty slot.
+	 * @return The key, 0 for an empty slot.
+	 */
+	public static long tile(int slot, Tile tile) {
+		return tile == null ? 0 : Zobrist.mix(MARKET_TILE + Zobrist.content(tile) * 8 + slot);
+	}
+
+	/**
+	 * Returns the key of an animal of the market.
+	 *
+	 * @param slot The slot of the animal.
+	 * @param animal The animal, null for an empty slot.
+	 * @return The key, 0 for an empty slot.
+	 */
+	public static long animal(int slot, Animals animal) {
+		return animal == null ? 0 : Zobrist.mix(MARKET_ANIMAL + animal.ordinal() * 8 + slot);
+	}
+
+	/**
+	 * Returns the key of the token bag.
+	 *
+	 * @param tokens The number of tokens left of each animal.
+	 * @return The key.
+	 */
+	public static long bag(Map<Animals, Integer> tokens) {
+		Objects.requireNonNull(tokens, "tokens is null");
+		var hash = 0L;
+		for (var entry : tokens.entrySet()) {
+			hash ^= tokens(entry.getKey(), entry.getValue());
+		}
+		return hash;
+	}
+
+	/**
+	 * Returns the key of the number of tokens left of one animal.
+	 *
+	 * @param animal The animal.
+	 * @param count The number of tokens left.
+	 * @return The key.
+	 */
+	public static long tokens(Animals animal, int count) {
+		Objects.requireNonNull(animal, "animal is null");
+		return Zobrist.mix(BAG + animal.ordinal() * 256L + count);
+	}
+
+	/**
+	 * Returns the key of the turn.
+	 *
+	 * @param currentPlayer The index of the player about to play.
+	 * @param turn The number of the turn.
+	 * @return The key.
+	 */
+	public static long turn(int currentPlayer, int turn) {
+		return Zobrist.mix(TURN + turn * 8L + currentPlayer);
+	}
+}
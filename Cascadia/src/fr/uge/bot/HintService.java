@@ -0,0 +1,90 @@
+package fr.uge.bot;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import fr.uge.game.Structure;
+import fr.uge.game.element.Draw;
+import fr.uge.game.element.Player;
+
+/**
+ * Suggests a move to a human player while they choose their batch.
+ * <p>
+ * {@link #start} copies the position on the calling thread, then searches it with an
+ * {@link Expectimax} on a virtual thread, deepening one turn at a time and publishing the
+ * best move of every depth completed, so the suggestion gets better the longer the player
+ * thinks. {@link #cancel()} interrupts the search without waiting for it: the search
+ * stops at its next node check, and nothing it finds afterwards is published. The
+ * transposition table is kept from one turn to the next.
+ * <p>
+ * The methods can be called from any thread; the listener is called on the thread of the
+ * search, so it must only hand the move over.
+ */
+public final class HintService {
+	private final Structure structure;
+	private final Draw draw;
+	private final MoveGenerator generator;
+	private final TranspositionTable table = new TranspositionTable(1 << 18);
+	private final int maxDepth;
+	private final long millis;
+	private Thread search;
+
+	/**
+	 * Creates the hint service of a game.
+	 *
+	 * @param structure The game.
+	 * @param draw The market of the game.
+	 * @param maxDepth The largest number of turns searched.
+	 * @param millis The time a search may take.
+	 * @throws IllegalArgumentException if maxDepth or millis is not positive.
+	 */
+	public HintService(Structure structure, Draw draw, int maxDepth, long millis) {
+		this.structure = Objects.requireNonNull(structure, "structure is null");
+		this.draw = Objects.requireNonNull(draw, "draw is null");
+		if (maxDepth < 1 || millis < 1) {
+			throw new IllegalArgumentException("maxDepth < 1 or millis < 1");
+		}
+		this.generator = new MoveGenerator(new Evaluator(structure.wildlifeCards(), structure.shapeOfTile()), 4);
+		this.maxDepth = maxDepth;
+		this.millis = millis;
+	}
+
+	/**
+	 * Starts searching a hint for a player on the market as it is now, after cancelling
+	 * the search running.
+	 *
+	 * @param player The player about to choose a batch.
+	 * @param turnsLeft The number of turns the player has left, this one included.
+	 * @param listener Receives the best move of each depth completed, on the thread of the search.
+	 */
+	public void start(Player player, int turnsLeft, Consumer<Move> listener) {
+		Objects.requireNonNull(listener, "listener is null");
+		var position = new Position(player, draw.tilesForChoice(), draw.animalsForChoice(), structure.tiles(),
+				structure.animalToken(), structure.shapeOfTile(), turnsLeft);
+		synchronized (this) {
+			cancel();
+			search = Thread.ofVirtual().name("hint").unstarted(() -> {
+				var expectimax = new Expectimax(generator, table, 6, 4);
+				expectimax.search(position, maxDepth, millis, position.hash(), result -> publish(result.move(), listener));
+			});
+			search.start();
+		}
+	}
+
+	private synchronized void publish(Move move, Consumer<Move> listener) {
+		if (search == Thread.currentThread()) {
+			listener.accept(move);
+		}
+	}
+
+	/**
+	 * Cancels the search running, if any. Once this method returns, the listener of the
+	 * search is not called anymore.
+	 */
+	public synchronized void cancel() {
+		if (search != null) {
+			search.interrupt();
+			search = null;
+		}
+	}
+}
@@ -0,0 +1,229 @@
+package fr.uge.bot;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+import fr.uge.game.CountPoint;
+import fr.uge.game.ScoreBreakdown;
+import fr.uge.game.Structure;
+import fr.uge.game.WildlifeCount;
+import fr.uge.game.board.Topology;
+import fr.uge.game.element.Animals;
+import fr.uge.game.element.Biome;
+import fr.uge.game.element.Player;
+import fr.uge.game.element.Tile;
+import fr.uge.simulation.BoardGenerator;
+
+/**
+ * Plays whole games between bots, without display, for the tuning and the tournaments.
+ * <p>
+ * A game follows {@link fr.uge.game.Structure} and {@link fr.uge.game.GameRound}: a pile
+ * of {@code 20 * players + 3} habitat cards, a start triad for each player, 20 tokens of
+ * each animal, a market of four tiles and four animals and 15 rounds. A turn takes the
+ * tile and the animal of a slot, then the slot is refilled from the pile and the bag.
+ * Every random draw comes from the seed of the game, so a seed always plays the same
+ * game with the same bots. The bots do not spend their nature tokens.
+ */
+public final class Match {
+	private static final int TOKENS = 20;
+	private static final List<Animals> SPECIES = List.of(Animals.BEAR, Animals.SALMON, Animals.FOX, Animals.ELK, Animals.BUZZARD);
+
+	/**
+	 * The result of a game.
+	 *
+	 * @param scores The breakdown of the score of each player, by seat.
+	 */
+	public record Result(List<ScoreBreakdown> scores) {
+		/**
+		 * Copies the scores.
+		 */
+		public Result {
+			scores = List.copyOf(scores);
+		}
+
+		/**
+		 * Returns the total of a player.
+		 *
+		 * @param seat The seat of the player.
+		 * @return The points of the player.
+		 */
+		public int score(int seat) {
+			return scores.get(seat).total();
+		}
+
+		/**
+		 * Returns the share of the win of a player: 1 for a win, 1 / n for a tie between n
+		 * players, 0 for a loss.
+		 *
+		 * @param seat The seat of the player.
+		 * @return The share of the win.
+		 */
+		public double win(int seat) {
+			var best = 0;
+			var tied = 0;
+			for (var score : scores) {
+				if (score.total() > best) {
+					best = score.total();
+					tied = 1;
+				} else if (score.total() == best) {
+					tied++;
+				}
+			}
+			return score(seat) == best ? 1.0 / tied : 0;
+		}
+	}
+
+	private final List<Tile> deck;
+	private final List<Tile> startCards;
+	private final List<WildlifeCount> wildlifeCards;
+	private final int shapeOfTile;
+
+	/**
+	 * Creates the games of a set of cards.
+	 *
+	 * @param deck The habitat cards.
+	 * @param startCards The start habitat cards, three by three.
+	 * @param wildlifeCards The wildlife cards scored at the end.
+	 * @param shapeOfTile The shape of the tiles (2 for hexagons, square otherwise).
+	 * @throws IllegalArgumentException if there is no card or no start triad.
+	 */
+	public Match(List<Tile> deck, List<Tile> startCards, List<WildlifeCount> wildlifeCards, int shapeOfTile) {
+		this.deck = List.copyOf(deck);
+		this.startCards = List.copyOf(startCards);
+		this.wildlifeCards = List.copyOf(wildlifeCards);
+		if (this.deck.isEmpty() || this.startCards.size() < 3) {
+			throw new IllegalArgumentException("no habitat card or no start triad");
+		}
+		this.shapeOfTile = shapeOfTile;
+	}
+
+	/**
+	 * Creates the games of the hexagonal version, with the cards of {@code HabitatCards.txt}
+	 * and {@code StartHabitatCards.txt}.
+	 *
+	 * @param wildlifeCards The wildlife cards scored at the end.
+	 * @return The games.
+	 * @throws java.io.UncheckedIOException if a file cannot be read.
+	 */
+	public static Match standard(List<WildlifeCount> wildlifeCards) {
+		return new Match(BoardGenerator.standardDeck(), BoardGenerator.standardStartCards(), wildlifeCards, 2);
+	}
+
+	/**
+	 * Returns the wildlife cards of the games.
+	 *
+	 * @return The cards.
+	 */
+	public List<WildlifeCount> wildlifeCards() {
+		return wildlifeCards;
+	}
+
+	/**
+	 * Returns the shape of the tiles of the games.
+	 *
+	 * @return The shape of the tiles.
+	 */
+	public int shapeOfTile() {
+		return shapeOfTile;
+	}
+
+	/**
+	 * Plays a game.
+	 *
+	 * @param bots The bots, by seat, from 1 to 4.
+	 * @param seed The seed of the draws.
+	 * @return The scores.
+	 * @throws IllegalArgumentException if there are not 1 to 4 bots or if a bot plays an illegal move.
+	 */
+	public Result play(List<Bot> bots, long seed) {
+		bots = List.copyOf(bots);
+		var triads = startCards.size() / 3;
+		if (bots.isEmpty() || bots.size() > Math.min(4, triads)) {
+			throw new IllegalArgumentException("between 1 and " + Math.min(4, triads) + " bots");
+		}
+		var random = new SplittableRandom(seed);
+		var pile = new ArrayList<Tile>(deck);
+		Collections.shuffle(pile, random);
+		pile.subList(Math.min(pile.size(), bots.size() * 20 + 3), pile.size()).clear();
+		var triadOrder = new ArrayList<Integer>();
+		for (var i = 0; i < triads; i++) {
+			triadOrder.add(i);
+		}
+		Collections.shuffle(triadOrder, random);
+		var players = new ArrayList<Player>();
+		for (var seat = 0; seat < bots.size(); seat++) {
+			var player = new Player("Player " + (seat + 1), 0, 0, biomePoints());
+			var first = triadOrder.get(seat) * 3;
+			player.add(startCards.get(first), 25, 24, Animals.NOTHING, 1);
+			player.add(startCards.get(first + 1), 25, 25, Animals.NOTHING, 2);
+			player.add(startCards.get(first + 2), 26, 25, Animals.NOTHING, 3);
+			players.add(player);
+		}
+		var bag = new EnumMap<Animals, Integer>(Animals.class);
+		for (var species : SPECIES) {
+			bag.put(species, TOKENS);
+		}
+		var market = new ArrayList<Tile>();
+		var animals = new ArrayList<Animals>();
+		for (var slot = 0; slot < Position.SLOTS; slot++) {
+			market.add(pile.isEmpty() ? null : pile.remove(pile.size() - 1));
+			animals.add(randomAnimal(bag, random));
+		}
+		for (var round = 0; round < Structure.ROUNDS; round++) {
+			for (var seat = 0; seat < bots.size(); seat++) {
+				var position = new Position(players.get(seat), market, animals, pile, bag, shapeOfTile, Structure.ROUNDS - round);
+				if (position.isOver()) {
+					continue;
+				}
+				var move = Objects.requireNonNull(bots.get(seat).play(position), "the bot played no move");
+				var slot = move.slot();
+				position.play(move);
+				players.set(seat, position.player());
+				if (move.animalCell() != Topology.NONE) {
+					bag.merge(animals.get(slot), -1, Integer::sum);
+				}
+				market.set(slot, pile.isEmpty() ? null : pile.remove(pile.size() - 1));
+				animals.set(slot, randomAnimal(bag, random));
+			}
+		}
+		return new Result(CountPoint.pointCount(players, wildlifeCards, shapeOfTile, players.size()));
+	}
+
+	/**
+	 * Draws an animal like {@link fr.uge.game.element.Draw#randomAnimal()}: every species
+	 * with a token left is equally likely.
+	 *
+	 * @param bag The number of tokens left of each species.
+	 * @param random The draws of the game.
+	 * @return The animal, null if the bag is empty.
+	 */
+	private static Animals randomAnimal(EnumMap<Animals, Integer> bag, SplittableRandom random) {
+		var left = new ArrayList<Animals>();
+		for (var species : SPECIES) {
+			if (bag.get(species) > 0) {
+				left.add(species);
+			}
+		}
+		return left.isEmpty() ? null : left.get(random.nextInt(left.size()));
+	}
+
+	/**
+	 * Creates the biome points of a fresh player, all at 0.
+	 *
+	 * @return The map of biome points.
+	 */
+	private static HashMap<String, Integer> biomePoints() {
+		var map = new HashMap<String, Integer>();
+		for (var biome : Biome.values()) {
+			if (biome != Biome.NOTHING) {
+				map.put(biome.name(), 0);
+			}
+		}
+		return map;
+	}
+}
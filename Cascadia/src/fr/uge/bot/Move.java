@@ -0,0 +1,70 @@
+package fr.uge.bot;
+
+import java.util.Objects;
+
+import fr.uge.game.board.Topology;
+
+/**
+ * One turn of a player: the market slot taken, where its tile goes and where its animal
+ * goes. The tile and the animal of a slot are taken together.
+ *
+ * @param slot The market slot, from 0 to 3.
+ * @param cell The index of the cell of the tile.
+ * @param rotation The rotation of the tile, from 1 to 6.
+ * @param animalCell The index of the cell receiving the animal, {@link Topology#NONE} to
+ *                   give the animal back.
+ */
+public record Move(int slot, int cell, int rotation, int animalCell) {
+	/**
+	 * Checks the move.
+	 *
+	 * @throws IllegalArgumentException if a value is out of its range.
+	 */
+	public Move {
+		if (slot < 0 || slot > 3) {
+			throw new IllegalArgumentException("slot < 0 or slot > 3");
+		}
+		if (rotation < 1 || rotation > 6) {
+			throw new IllegalArgumentException("rotation < 1 or rotation > 6");
+		}
+		Objects.checkIndex(cell, Topology.CELLS);
+		if (animalCell != Topology.NONE) {
+			Objects.checkIndex(animalCell, Topology.CELLS);
+		}
+	}
+
+	/**
+	 * Packs the move into an int, for the transposition table.
+	 *
+	 * @return The packed move, never 0.
+	 */
+	public int encode() {
+		return slot | rotation << 2 | cell << 5 | animalCell + 1 << 17;
+	}
+
+	/**
+	 * Unpacks a move packed by {@link #encode()}.
+	 *
+	 * @param code The packed move.
+	 * @return The move.
+	 * @throws IllegalArgumentException if the code is not a packed move.
+	 */
+	public static Move decode(int code) {
+		return new Move(code & 3, code >>> 5 & 0xFFF, code >>> 2 & 7, (code >>> 17 & 0xFFF) - 1);
+	}
+
+	@Override
+	public String toString() {
+		var tile = Topology.coordinate(cell);
+		var builder = new StringBuilder();
+		builder.append("slot ").append(slot + 1).append(", tile at ").append(tile.x()).append(' ').append(tile.y())
+				.append(" rotation ").append(rotation).append(", animal ");
+		if (animalCell == Topology.NONE) {
+			builder.append("given back");
+		} else {
+			var animal = Topology.coordinate(animalCell);
+			builder.append("at ").append(animal.x()).append(' ').append(animal.y());
+		}
+		return builder.toString();
+	}
+}
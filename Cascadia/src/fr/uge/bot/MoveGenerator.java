@@ -0,0 +1,140 @@
+package fr.uge.bot;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import fr.uge.game.board.Topology;
+import fr.uge.game.element.Animals;
+
+/**
+ * Lists the moves of a position with their static value, best first.
+ * <p>
+ * A tile without animal only changes {@link Evaluator#tileValue(fr.uge.game.element.Player)}
+ * and an animal only changes {@link Evaluator#animalValue(fr.uge.game.element.Player)},
+ * so the two halves of a move are valued apart: every cell and rotation of the tile is
+ * valued by its corridors, every home of the animal by its cards, and a move is worth
+ * the sum. Only the {@code tileWidth} best placements of each tile are
+ * kept, which bounds the moves of a position to a few dozen per slot.
+ */
+public final class MoveGenerator {
+	/**
+	 * A move and the static value of the board after it.
+	 *
+	 * @param move The move.
+	 * @param value The value of the board after the move.
+	 */
+	public record Candidate(Move move, double value) {
+		/**
+		 * Checks the candidate.
+		 */
+		public Candidate {
+			Objects.requireNonNull(move, "move is null");
+		}
+	}
+
+	private static final Comparator<Candidate> BEST_FIRST = Comparator.comparingDouble(Candidate::value).reversed()
+			.thenComparingInt(candidate -> candidate.move().encode());
+
+	private record Placement(int cell, int rotation, double value) {
+	}
+
+	private final Evaluator evaluator;
+	private final int tileWidth;
+
+	/**
+	 * Creates a generator.
+	 *
+	 * @param evaluator The static evaluation.
+	 * @param tileWidth The number of placements kept for each tile.
+	 * @throws IllegalArgumentException if tileWidth is not positive.
+	 */
+	public MoveGenerator(Evaluator evaluator, int tileWidth) {
+		this.evaluator = Objects.requireNonNull(evaluator, "evaluator is null");
+		if (tileWidth < 1) {
+			throw new IllegalArgumentException("tileWidth < 1");
+		}
+		this.tileWidth = tileWidth;
+	}
+
+	/**
+	 * Returns the evaluation the moves are valued with.
+	 *
+	 * @return The evaluator.
+	 */
+	public Evaluator evaluator() {
+		return evaluator;
+	}
+
+	/**
+	 * Lists the moves of every slot of the market.
+	 *
+	 * @param position The position, left as it was.
+	 * @return The moves, best first.
+	 */
+	public List<Candidate> candidates(Position position) {
+		var candidates = new ArrayList<Candidate>();
+		for (var slot = 0; slot < Position.SLOTS; slot++) {
+			candidates.addAll(candidates(position, slot));
+		}
+		candidates.sort(BEST_FIRST);
+		return candidates;
+	}
+
+	/**
+	 * Lists the moves taking one slot of the market.
+	 *
+	 * @param position The position, left as it was.
+	 * @param slot The slot.
+	 * @return The moves, best first, none if the slot is empty.
+	 */
+	public List<Candidate> candidates(Position position, int slot) {
+		Objects.requireNonNull(position, "position is null");
+		var tile = position.tile(slot);
+		var animal = position.animal(slot);
+		if (tile == null || animal == null || position.turnsLeft() == 0) {
+			return List.of();
+		}
+		var player = position.player();
+		var wildlife = evaluator.animalValue(player);
+		var tokens = player.natureToken();
+		var rotations = position.topology() == Topology.HEXAGON && tile.biome().size() > 1 ? 6 : 1;
+		var placements = new ArrayList<Placement>();
+		for (var cell : position.frontier()) {
+			var coordinate = Topology.coordinate(cell);
+			for (var rotation = 1; rotation <= rotations; rotation++) {
+				player.add(tile, coordinate.x(), coordinate.y(), Animals.NOTHING, rotation);
+				placements.add(new Placement(cell, rotation, evaluator.tileValue(player)));
+				player.remove(coordinate.x(), coordinate.y());
+			}
+		}
+		placements.sort(Comparator.comparingDouble(Placement::value).reversed());
+		var kept = placements.subList(0, Math.min(tileWidth, placements.size()));
+		var homes = position.homes(animal);
+		var homeValues = new double[homes.size()];
+		for (var i = 0; i < homes.size(); i++) {
+			var habitat = player.getHabitat(Topology.coordinate(homes.get(i)));
+			habitat.changeAnimal(animal);
+			homeValues[i] = evaluator.animalValue(player) + (habitat.tile().biome().size() == 1 ? evaluator.tokenValue(1) : 0);
+			habitat.changeAnimal(Animals.NOTHING);
+		}
+		var candidates = new ArrayList<Candidate>();
+		for (var placement : kept) {
+			var base = placement.value() + evaluator.tokenValue(tokens);
+			candidates.add(new Candidate(new Move(slot, placement.cell(), placement.rotation(), Topology.NONE), base + wildlife));
+			for (var i = 0; i < homes.size(); i++) {
+				candidates.add(new Candidate(new Move(slot, placement.cell(), placement.rotation(), homes.get(i)), base + homeValues[i]));
+			}
+			if (tile.getAnimals().contains(animal)) {
+				var coordinate = Topology.coordinate(placement.cell());
+				player.add(tile, coordinate.x(), coordinate.y(), animal, placement.rotation());
+				var value = evaluator.animalValue(player) + (tile.biome().size() == 1 ? evaluator.tokenValue(1) : 0);
+				player.remove(coordinate.x(), coordinate.y());
+				candidates.add(new Candidate(new Move(slot, placement.cell(), placement.rotation(), placement.cell()), base + value));
+			}
+		}
+		candidates.sort(BEST_FIRST);
+		return candidates;
+	}
+}
@@ -0,0 +1,407 @@
+package fr.uge.bot;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import fr.uge.game.Structure;
+import fr.uge.game.board.Topology;
+import fr.uge.game.element.Animals;
+import fr.uge.game.element.Draw;
+import fr.uge.game.element.Player;
+import fr.uge.game.element.Tile;
+
+/**
+ * The state a bot searches from the point of view of one player: its board, the market,
+ * the tiles left in the pile, the tokens left in the bag and the number of turns it has
+ * left. The board is a copy of the player's, so searching never touches the game.
+ * <p>
+ * Moves and market refills are applied in place and taken back in reverse order with
+ * {@link #undo()}, which keeps the incremental structures of the board up to date
+ * without copying it at every node.
+ */
+public final class Position {
+	/**
+	 * The number of slots of the market.
+	 */
+	public static final int SLOTS = 4;
+	private static final Animals[] SPECIES = { Animals.BEAR, Animals.SALMON, Animals.FOX, Animals.ELK, Animals.BUZZARD };
+
+	/**
+	 * A change that {@link #undo()} takes back.
+	 */
+	private sealed interface Change permits Played, Refilled {
+	}
+
+	private record Played(Move move, Tile tile, Animals animal, boolean token) implements Change {
+	}
+
+	private record Refilled(int slot, int pileIndex) implements Change {
+	}
+
+	private final Player player;
+	private final int shapeOfTile;
+	private final Topology topology;
+	private final Tile[] tiles = new Tile[SLOTS];
+	private final Animals[] animals = new Animals[SLOTS];
+	private final Tile[] pile;
+	private final int[] pileCounts;
+	private int pileSize;
+	private final int[] bag = new int[Animals.values().length];
+	private int turnsLeft;
+	private final ArrayDeque<Change> changes = new ArrayDeque<>();
+
+	/**
+	 * Creates a position.
+	 *
+	 * @param player The player, copied.
+	 * @param market The tiles of the market, by slot, null for an empty slot.
+	 * @param animals The animals of the market, by slot, null for an empty slot.
+	 * @param pile The tiles left in the pile.
+	 * @param bag The number of tokens left of each animal.
+	 * @param shapeOfTile The shape of the tiles (2 for hexagons, square otherwise).
+	 * @param turnsLeft The number of turns the player has left, this one included.
+	 * @throws IllegalArgumentException if the market has more than 4 slots or turnsLeft is negative.
+	 */
+	public Position(Player player, List<Tile> market, List<Animals> animals, List<Tile> pile, Map<Animals, Integer> bag, int shapeOfTile, int turnsLeft) {
+		Objects.requireNonNull(player, "player is null");
+		Objects.requireNonNull(market, "market is null");
+		Objects.requireNonNull(animals, "animals is null");
+		Objects.requireNonNull(pile, "pile is null");
+		Objects.requireNonNull(bag, "bag is null");
+		if (market.size() > SLOTS || animals.size() > SLOTS) {
+			throw new IllegalArgumentException("more than " + SLOTS + " slots");
+		}
+		if (turnsLeft < 0) {
+			throw new IllegalArgumentException("turnsLeft < 0");
+		}
+		this.player = player.copy();
+		this.shapeOfTile = shapeOfTile;
+		this.topology = Topology.of(shapeOfTile);
+		for (var slot = 0; slot < SLOTS; slot++) {
+			this.tiles[slot] = slot < market.size() ? market.get(slot) : null;
+			this.animals[slot] = slot < animals.size() ? animals.get(slot) : null;
+		}
+		var counts = new LinkedHashMap<Tile, Integer>();
+		for (var tile : pile) {
+			counts.merge(Objects.requireNonNull(tile, "tile is null"), 1, Integer::sum);
+		}
+		this.pile = counts.keySet().toArray(Tile[]::new);
+		this.pileCounts = counts.values().stream().mapToInt(Integer::intValue).toArray();
+		this.pileSize = pile.size();
+		for (var entry : bag.entrySet()) {
+			if (entry.getKey() != Animals.NOTHING) {
+				this.bag[entry.getKey().ordinal()] = entry.getValue();
+			}
+		}
+		this.turnsLeft = turnsLeft;
+	}
+
+	/**
+	 * Creates the position of a player of a game.
+	 *
+	 * @param structure The game.
+	 * @param draw The market of the game.
+	 * @param playerIndex The index of the player.
+	 * @param turnsLeft The number of turns the player has left, this one included.
+	 * @return The position.
+	 */
+	public static Position of(Structure structure, Draw draw, int playerIndex, int turnsLeft) {
+		Objects.requireNonNull(structure, "structure is null");
+		Objects.requireNonNull(draw, "draw is null");
+		return new Position(structure.players().get(playerIndex), draw.tilesForChoice(), draw.animalsForChoice(),
+				structure.tiles(), structure.animalToken(), structure.shapeOfTile(), turnsLeft);
+	}
+
+	/**
+	 * Returns the board of the position. It must only be read.
+	 *
+	 * @return The player holding the board.
+	 */
+	public Player player() {
+		return player;
+	}
+
+	/**
+	 * Returns the shape of the tiles.
+	 *
+	 * @return The shape of the tiles.
+	 */
+	public int shapeOfTile() {
+		return shapeOfTile;
+	}
+
+	/**
+	 * Returns the topology of the board.
+	 *
+	 * @return The topology.
+	 */
+	public Topology topology() {
+		return topology;
+	}
+
+	/**
+	 * Returns the tile of a market slot.
+	 *
+	 * @param slot The slot.
+	 * @return The tile, null if the slot is empty.
+	 */
+	public Tile tile(int slot) {
+		return tiles[slot];
+	}
+
+	/**
+	 * Returns the animal of a market slot.
+	 *
+	 * @param slot The slot.
+	 * @return The animal, null if the slot is empty.
+	 */
+	public Animals animal(int slot) {
+		return animals[slot];
+	}
+
+	/**
+	 * Returns the number of turns left.
+	 *
+	 * @return The number of turns the player has left.
+	 */
+	public int turnsLeft() {
+		return turnsLeft;
+	}
+
+	/**
+	 * Checks if the player has no turn left or nothing left to take.
+	 *
+	 * @return True if the game is over for the player.
+	 */
+	public boolean isOver() {
+		if (turnsLeft == 0) {
+			return true;
+		}
+		for (var slot = 0; slot < SLOTS; slot++) {
+			if (tiles[slot] != null && animals[slot] != null) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the hash of the position: the board and nature tokens, the market, the bag
+	 * and the turns left.
+	 *
+	 * @return The hash.
+	 */
+	public long hash() {
+		var hash = GameHash.seat(0, player) ^ GameHash.turn(0, turnsLeft);
+		for (var slot = 0; slot < SLOTS; slot++) {
+			hash ^= GameHash.tile(slot, tiles[slot]) ^ GameHash.animal(slot, animals[slot]);
+		}
+		for (var species : SPECIES) {
+			hash ^= GameHash.tokens(species, bag[species.ordinal()]);
+		}
+		return hash;
+	}
+
+	/**
+	 * Returns the free cells next to the tiles of the board, where a tile can go.
+	 *
+	 * @return The indices of the cells, in increasing order.
+	 */
+	public int[] frontier() {
+		var free = new boolean[Topology.CELLS];
+		for (var coordinate : player.habitats().keySet()) {
+			for (var neighbour : topology.neighbours(coordinate)) {
+				if (!player.habitats().containsKey(neighbour)) {
+					free[Topology.index(neighbour)] = true;
+				}
+			}
+		}
+		var count = 0;
+		for (var isFree : free) {
+			count += isFree ? 1 : 0;
+		}
+		var cells = new int[count];
+		for (int cell = 0, i = 0; i < count; cell++) {
+			if (free[cell]) {
+				cells[i++] = cell;
+			}
+		}
+		return cells;
+	}
+
+	/**
+	 * Returns the cells of the board where an animal can go: the tiles without animal that
+	 * can hold it.
+	 *
+	 * @param animal The animal.
+	 * @return The indices of the cells, in increasing order.
+	 */
+	public List<Integer> homes(Animals animal) {
+		Objects.requireNonNull(animal, "animal is null");
+		var homes = new ArrayList<Integer>();
+		for (var entry : player.habitats().entrySet()) {
+			var habitat = entry.getValue();
+			if (habitat.animal() == Animals.NOTHING && habitat.getAnimals().contains(animal)) {
+				homes.add(Topology.index(entry.getKey()));
+			}
+		}
+		homes.sort(null);
+		return homes;
+	}
+
+	/**
+	 * Plays a move: the tile and the animal of the slot are taken, the slot stays empty
+	 * until {@link #refill(int, int, Animals)}.
+	 *
+	 * @param move The move, which must be legal.
+	 * @throws IllegalArgumentException if the slot is empty, the cell is taken or the animal cannot go there.
+	 */
+	public void play(Move move) {
+		Objects.requireNonNull(move, "move is null");
+		var tile = tiles[move.slot()];
+		var animal = animals[move.slot()];
+		if (tile == null || animal == null) {
+			throw new IllegalArgumentException("slot " + move.slot() + " is empty");
+		}
+		var coordinate = Topology.coordinate(move.cell());
+		if (player.habitats().containsKey(coordinate)) {
+			throw new IllegalArgumentException("cell " + coordinate + " is taken");
+		}
+		player.add(tile, coordinate.x(), coordinate.y(), Animals.NOTHING, move.rotation());
+		var token = false;
+		if (move.animalCell() != Topology.NONE) {
+			var habitat = player.getHabitat(Topology.coordinate(move.animalCell()));
+			if (habitat == null || habitat.animal() != Animals.NOTHING || !habitat.getAnimals().contains(animal)) {
+				player.remove(coordinate.x(), coordinate.y());
+				throw new IllegalArgumentException("the animal cannot go at " + Topology.coordinate(move.animalCell()));
+			}
+			habitat.changeAnimal(animal);
+			token = habitat.tile().biome().size() == 1;
+			if (token) {
+				player.addNatureToken(habitat.tile());
+			}
+			bag[animal.ordinal()]--;
+		}
+		tiles[move.slot()] = null;
+		animals[move.slot()] = null;
+		turnsLeft--;
+		changes.push(new Played(move, tile, animal, token));
+	}
+
+	/**
+	 * Returns the number of tiles left in the pile.
+	 *
+	 * @return The size of the pile.
+	 */
+	public int pileSize() {
+		return pileSize;
+	}
+
+	/**
+	 * Returns the number of different tiles of the pile, the ones {@link #pileTile(int)}
+	 * can return.
+	 *
+	 * @return The number of kinds of tiles, some of them possibly used up.
+	 */
+	public int pileKinds() {
+		return pile.length;
+	}
+
+	/**
+	 * Returns a kind of tile of the pile.
+	 *
+	 * @param index The index of the kind, from 0 to {@link #pileKinds()}.
+	 * @return The tile.
+	 */
+	public Tile pileTile(int index) {
+		return pile[index];
+	}
+
+	/**
+	 * Returns the number of copies of a kind of tile left in the pile.
+	 *
+	 * @param index The index of the kind, from 0 to {@link #pileKinds()}.
+	 * @return The number of copies.
+	 */
+	public int pileCount(int index) {
+		return pileCounts[index];
+	}
+
+	/**
+	 * Returns the animals a token draw can give and how likely each one is. Like
+	 * {@link Draw#randomAnimal()}, every species with a token left is equally likely,
+	 * whatever the number of its tokens.
+	 *
+	 * @return The species with tokens left.
+	 */
+	public List<Animals> drawableAnimals() {
+		var drawable = new ArrayList<Animals>(SPECIES.length);
+		for (var species : SPECIES) {
+			if (bag[species.ordinal()] > 0) {
+				drawable.add(species);
+			}
+		}
+		return drawable;
+	}
+
+	/**
+	 * Refills an empty slot of the market with a tile of the pile and an animal.
+	 *
+	 * @param slot The empty slot.
+	 * @param pileIndex The kind of tile taken from the pile, as in {@link #pileTile(int)}.
+	 * @param animal The animal drawn.
+	 * @throws IllegalArgumentException if the slot is not empty or no copy of the tile is left.
+	 */
+	public void refill(int slot, int pileIndex, Animals animal) {
+		Objects.requireNonNull(animal, "animal is null");
+		if (tiles[slot] != null || animals[slot] != null) {
+			throw new IllegalArgumentException("slot " + slot + " is not empty");
+		}
+		if (pileCounts[pileIndex] == 0) {
+			throw new IllegalArgumentException("no copy of " + pile[pileIndex] + " is left");
+		}
+		pileCounts[pileIndex]--;
+		pileSize--;
+		tiles[slot] = pile[pileIndex];
+		animals[slot] = animal;
+		changes.push(new Refilled(slot, pileIndex));
+	}
+
+	/**
+	 * Takes back the last move or refill.
+	 *
+	 * @throws IllegalStateException if there is nothing to take back.
+	 */
+	public void undo() {
+		if (changes.isEmpty()) {
+			throw new IllegalStateException("nothing to undo");
+		}
+		switch (changes.pop()) {
+		case Played played -> {
+			var move = played.move();
+			if (move.animalCell() != Topology.NONE) {
+				player.getHabitat(Topology.coordinate(move.animalCell())).changeAnimal(Animals.NOTHING);
+				if (played.token()) {
+					player.subNatureToken();
+				}
+				bag[played.animal().ordinal()]++;
+			}
+			var coordinate = Topology.coordinate(move.cell());
+			player.remove(coordinate.x(), coordinate.y());
+			tiles[move.slot()] = played.tile();
+			animals[move.slot()] = played.animal();
+			turnsLeft++;
+		}
+		case Refilled refilled -> {
+			tiles[refilled.slot()] = null;
+			animals[refilled.slot()] = null;
+			pileCounts[refilled.pileIndex()]++;
+			pileSize++;
+		}
+		}
+	}
+}
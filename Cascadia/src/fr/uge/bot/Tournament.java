@@ -0,0 +1,489 @@
+package fr.uge.bot;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import fr.uge.game.WildlifeCount;
+import fr.uge.game.board.Zobrist;
+import fr.uge.game.wildlifeCount.Bear;
+import fr.uge.game.wildlifeCount.Buzzard;
+import fr.uge.game.wildlifeCount.Elk;
+import fr.uge.game.wildlifeCount.Fox;
+import fr.uge.game.wildlifeCount.Salmon;
+
+/**
+ * Plays bots against each other in headless games and rates them with Glicko.
+ * <p>
+ * Every round, the entrants are split into groups of {@code seats} players: all the
+ * groups in a round robin, or groups of close ratings that have met the least in a Swiss
+ * round. A group plays {@code seeds} seeds, each seed once for every rotation of the
+ * seats, so every bot sees the same draws from every seat. A game counts as a result
+ * between every two of its players, and the ratings are updated once a round, Glicko-1
+ * style, which gives each rating a deviation and a 95% interval.
+ * <p>
+ * Every game is appended to a results file as soon as it ends. A tournament started
+ * again with the same file reads the games already played, skips them, and rebuilds the
+ * ratings and the Swiss pairings from them, so a long tournament can be followed with
+ * {@code tail -f} and stopped at any time.
+ */
+public final class Tournament {
+	private static final double INITIAL_RATING = 1500;
+	private static final double INITIAL_DEVIATION = 350;
+	private static final double Q = Math.log(10) / 400;
+	private static final long GAME = 0x7A3EL << 40;
+
+	/**
+	 * The ways to pair the entrants.
+	 */
+	public enum Format {
+		/**
+		 * Every group of entrants plays every round.
+		 */
+		ROUND_ROBIN,
+		/**
+		 * Each entrant plays in one group a round, with entrants of close ratings.
+		 */
+		SWISS
+	}
+
+	/**
+	 * A player of the tournament.
+	 *
+	 * @param name The name, unique in the tournament and without blanks.
+	 * @param bot Creates the bot of a game; a bot only plays one game at a time.
+	 */
+	public record Entrant(String name, Supplier<Bot> bot) {
+		/**
+		 * Checks the entrant.
+		 *
+		 * @throws IllegalArgumentException if the name is empty or holds a blank.
+		 */
+		public Entrant {
+			Objects.requireNonNull(name, "name is null");
+			Objects.requireNonNull(bot, "bot is null");
+			if (name.isEmpty() || name.chars().anyMatch(Character::isWhitespace)) {
+				throw new IllegalArgumentException("name is empty or holds a blank: " + name);
+			}
+		}
+	}
+
+	/**
+	 * The settings of a tournament.
+	 *
+	 * @param format The pairings.
+	 * @param seats The number of players of a game, from 2 to 4.
+	 * @param rounds The number of rounds.
+	 * @param seeds The number of seeds a group plays in a round.
+	 * @param threads The number of threads playing the games.
+	 * @param volatility The deviation a rating gains each round, Glicko's {@code c}.
+	 * @param seed The seed of the games.
+	 */
+	public record Settings(Format format, int seats, int rounds, int seeds, int threads, double volatility, long seed) {
+		/**
+		 * Checks the settings.
+		 *
+		 * @throws IllegalArgumentException if a value is out of its range.
+		 */
+		public Settings {
+			Objects.requireNonNull(format, "format is null");
+			if (seats < 2 || seats > 4) {
+				throw new IllegalArgumentException("seats < 2 or seats > 4");
+			}
+			if (rounds < 1 || seeds < 1 || threads < 1) {
+				throw new IllegalArgumentException("rounds, seeds or threads < 1");
+			}
+			if (!(volatility >= 0)) {
+				throw new IllegalArgumentException("volatility < 0");
+			}
+		}
+	}
+
+	/**
+	 * The rating of an entrant.
+	 *
+	 * @param name The name of the entrant.
+	 * @param rating The Glicko rating.
+	 * @param deviation The rating deviation.
+	 * @param games The number of games played.
+	 * @param meanScore The mean points of the entrant.
+	 */
+	public record Standing(String name, double rating, double deviation, int games, double meanScore) {
+		/**
+		 * Returns the lower end of the 95% interval of the rating.
+		 *
+		 * @return The rating less 1.96 deviations.
+		 */
+		public double low() {
+			return rating - 1.96 * deviation;
+		}
+
+		/**
+		 * Returns the upper end of the 95% interval of the rating.
+		 *
+		 * @return The rating plus 1.96 deviations.
+		 */
+		public double high() {
+			return rating + 1.96 * deviation;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%-20s %7.1f  [%7.1f, %7.1f]  %5d games  %6.2f points", name, rating, low(), high(), games, meanScore);
+		}
+	}
+
+	/**
+	 * A game: who sat where and what each seat scored.
+	 */
+	private record Game(int round, int group, int seed, int rotation, List<String> names, List<Integer> scores) {
+		private String key() {
+			return round + "/" + group + "/" + seed + "/" + rotation;
+		}
+
+		private String line() {
+			var builder = new StringBuilder();
+			builder.append(round).append('\t').append(group).append('\t').append(seed).append('\t').append(rotation);
+			for (var i = 0; i < names.size(); i++) {
+				builder.append('\t').append(names.get(i)).append('\t').append(scores.get(i));
+			}
+			return builder.toString();
+		}
+
+		private static Game parse(String line) {
+			var words = line.split("\t");
+			if (words.length < 8 || words.length % 2 != 0) {
+				throw new IllegalArgumentException("not a game: " + line);
+			}
+			var names = new ArrayList<String>();
+			var scores = new ArrayList<Integer>();
+			for (var i = 4; i < words.length; i += 2) {
+				names.add(words[i]);
+				scores.add(Integer.parseInt(words[i + 1]));
+			}
+			return new Game(Integer.parseInt(words[0]), Integer.parseInt(words[1]), Integer.parseInt(words[2]),
+					Integer.parseInt(words[3]), names, scores);
+		}
+	}
+
+	private static final class Rating {
+		private double rating = INITIAL_RATING;
+		private double deviation = INITIAL_DEVIATION;
+		private int games;
+		private long points;
+	}
+
+	private final Match match;
+	private final List<Entrant> entrants;
+	private final Settings settings;
+	private final Map<String, Rating> ratings = new LinkedHashMap<>();
+	private final Map<String, Integer> meetings = new HashMap<>();
+
+	/**
+	 * Creates a tournament.
+	 *
+	 * @param match The games.
+	 * @param entrants The players, at least as many as the seats of a game.
+	 * @param settings The settings.
+	 * @throws IllegalArgumentException if two entrants have the same name or there are too few of them.
+	 */
+	public Tournament(Match match, List<Entrant> entrants, Settings settings) {
+		this.match = Objects.requireNonNull(match, "match is null");
+		this.entrants = List.copyOf(entrants);
+		this.settings = Objects.requireNonNull(settings, "settings is null");
+		if (this.entrants.size() < settings.seats()) {
+			throw new IllegalArgumentException("fewer entrants than seats");
+		}
+		for (var entrant : this.entrants) {
+			if (ratings.put(entrant.name(), new Rating()) != null) {
+				throw new IllegalArgumentException("two entrants named " + entrant.name());
+			}
+		}
+	}
+
+	/**
+	 * Plays the tournament, or what is left of it.
+	 *
+	 * @param results The file of the games, read first if it exists, then appended to.
+	 * @param progress Receives the standings after every round.
+	 * @return The standings, best rating first.
+	 * @throws IOException if the file cannot be read or written.
+	 * @throws InterruptedException if the thread is interrupted while waiting.
+	 * @throws IllegalArgumentException if the file holds a game of an unknown entrant.
+	 */
+	public List<Standing> run(Path results, Consumer<List<Standing>> progress) throws IOException, InterruptedException {
+		Objects.requireNonNull(results, "results is null");
+		Objects.requireNonNull(progress, "progress is null");
+		var played = new HashMap<String, Game>();
+		if (Files.exists(results)) {
+			for (var line : Files.readAllLines(results)) {
+				if (line.isBlank() || line.startsWith("#")) {
+					continue;
+				}
+				var game = Game.parse(line);
+				if (!ratings.keySet().containsAll(game.names())) {
+					throw new IllegalArgumentException("game of an unknown entrant: " + line);
+				}
+				played.put(game.key(), game);
+			}
+		}
+		var executor = Executors.newFixedThreadPool(settings.threads());
+		try (var writer = Files.newBufferedWriter(results, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+			for (var round = 0; round < settings.rounds(); round++) {
+				var groups = settings.format() == Format.ROUND_ROBIN ? allGroups() : swissGroups();
+				var games = new ArrayList<Game>();
+				var tasks = new ArrayList<Callable<Game>>();
+				for (var group = 0; group < groups.size(); group++) {
+					for (var seed = 0; seed < settings.seeds(); seed++) {
+						for (var rotation = 0; rotation < settings.seats(); rotation++) {
+							var seated = rotate(groups.get(group), rotation);
+							var done = played.get(round + "/" + group + "/" + seed + "/" + rotation);
+							if (done != null) {
+								if (!done.names().equals(names(seated))) {
+									throw new IllegalArgumentException("the results file is of another tournament: " + done.line());
+								}
+								games.add(done);
+							} else {
+								var game = new Game(round, group, seed, rotation, names(seated), List.of());
+								tasks.add(() -> play(game, seated, writer));
+							}
+						}
+					}
+				}
+				for (var future : executor.invokeAll(tasks)) {
+					games.add(future.get());
+				}
+				games.sort(Comparator.comparing(Game::key));
+				update(games);
+				for (var group : groups) {
+					for (var i = 0; i < group.size(); i++) {
+						for (var j = i + 1; j < group.size(); j++) {
+							meetings.merge(pair(group.get(i).name(), group.get(j).name()), 1, Integer::sum);
+						}
+					}
+				}
+				progress.accept(standings());
+			}
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof UncheckedIOException io) {
+				throw io.getCause();
+			}
+			throw new IllegalStateException(e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+		return standings();
+	}
+
+	private Game play(Game game, List<Entrant> seated, BufferedWriter writer) {
+		var bots = new ArrayList<Bot>();
+		for (var entrant : seated) {
+			bots.add(entrant.bot().get());
+		}
+		var result = match.play(bots, Zobrist.mix(settings.seed() ^ (GAME + ((long) game.round() << 32 | (long) game.group() << 16 | game.seed()))));
+		var scores = new ArrayList<Integer>();
+		for (var seat = 0; seat < seated.size(); seat++) {
+			scores.add(result.score(seat));
+		}
+		var played = new Game(game.round(), game.group(), game.seed(), game.rotation(), game.names(), scores);
+		synchronized (writer) {
+			try {
+				writer.write(played.line());
+				writer.newLine();
+				writer.flush();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+		return played;
+	}
+
+	private static List<Entrant> rotate(List<Entrant> group, int rotation) {
+		var seated = new ArrayList<Entrant>();
+		for (var i = 0; i < group.size(); i++) {
+			seated.add(group.get((i + rotation) % group.size()));
+		}
+		return seated;
+	}
+
+	private static List<String> names(List<Entrant> entrants) {
+		return entrants.stream().map(Entrant::name).toList();
+	}
+
+	private static String pair(String first, String second) {
+		return first.compareTo(second) < 0 ? first + " " + second : second + " " + first;
+	}
+
+	/**
+	 * Returns every group of {@code seats} entrants, in the order of the entrants.
+	 */
+	private List<List<Entrant>> allGroups() {
+		var groups = new ArrayList<List<Entrant>>();
+		combinations(0, new ArrayList<>(), groups);
+		return groups;
+	}
+
+	private void combinations(int start, ArrayList<Entrant> group, List<List<Entrant>> groups) {
+		if (group.size() == settings.seats()) {
+			groups.add(List.copyOf(group));
+			return;
+		}
+		for (var i = start; i < entrants.size(); i++) {
+			group.add(entrants.get(i));
+			combinations(i + 1, group, groups);
+			group.remove(group.size() - 1);
+		}
+	}
+
+	/**
+	 * Splits the entrants into groups of close ratings: the best entrant left starts a
+	 * group and takes, among the next best, those it has met the least. The entrants left
+	 * when there are not enough for a group sit the round out.
+	 */
+	private List<List<Entrant>> swissGroups() {
+		var left = new ArrayList<>(entrants);
+		left.sort(Comparator.comparingDouble((Entrant entrant) -> -ratings.get(entrant.name()).rating)
+				.thenComparing(Entrant::name));
+		var groups = new ArrayList<List<Entrant>>();
+		while (left.size() >= settings.seats()) {
+			var group = new ArrayList<Entrant>();
+			group.add(left.remove(0));
+			while (group.size() < settings.seats()) {
+				var best = 0;
+				var fewest = Integer.MAX_VALUE;
+				for (var i = 0; i < left.size(); i++) {
+					var met = 0;
+					for (var member : group) {
+						met += meetings.getOrDefault(pair(member.name(), left.get(i).name()), 0);
+					}
+					if (met < fewest) {
+						fewest = met;
+						best = i;
+					}
+				}
+				group.add(left.remove(best));
+			}
+			groups.add(group);
+		}
+		return groups;
+	}
+
+	/**
+	 * Updates the ratings with the games of a round, each game counting as a result
+	 * between every two of its players, against the ratings before the round.
+	 */
+	private void update(List<Game> games) {
+		var before = new HashMap<String, double[]>();
+		for (var entry : ratings.entrySet()) {
+			var rating = entry.getValue();
+			rating.deviation = Math.min(INITIAL_DEVIATION, Math.hypot(rating.deviation, settings.volatility()));
+			before.put(entry.getKey(), new double[] { rating.rating, rating.deviation });
+		}
+		var variance = new HashMap<String, Double>();
+		var delta = new HashMap<String, Double>();
+		for (var game : games) {
+			for (var i = 0; i < game.names().size(); i++) {
+				var name = game.names().get(i);
+				var rating = ratings.get(name);
+				rating.games++;
+				rating.points += game.scores().get(i);
+				var mine = before.get(name);
+				for (var j = 0; j < game.names().size(); j++) {
+					if (i == j) {
+						continue;
+					}
+					var theirs = before.get(game.names().get(j));
+					var g = 1 / Math.sqrt(1 + 3 * Q * Q * theirs[1] * theirs[1] / (Math.PI * Math.PI));
+					var expected = 1 / (1 + Math.pow(10, -g * (mine[0] - theirs[0]) / 400));
+					var score = Integer.compare(game.scores().get(i), game.scores().get(j)) / 2.0 + 0.5;
+					variance.merge(name, g * g * expected * (1 - expected), Double::sum);
+					delta.merge(name, g * (score - expected), Double::sum);
+				}
+			}
+		}
+		for (var entry : variance.entrySet()) {
+			var rating = ratings.get(entry.getKey());
+			var precision = 1 / (rating.deviation * rating.deviation) + Q * Q * entry.getValue();
+			rating.rating += Q / precision * delta.get(entry.getKey());
+			rating.deviation = Math.sqrt(1 / precision);
+		}
+	}
+
+	/**
+	 * Returns the standings, best rating first.
+	 *
+	 * @return The standings.
+	 */
+	public List<Standing> standings() {
+		var standings = new ArrayList<Standing>();
+		for (var entry : ratings.entrySet()) {
+			var rating = entry.getValue();
+			standings.add(new Standing(entry.getKey(), rating.rating, rating.deviation, rating.games,
+					rating.games == 0 ? 0 : (double) rating.points / rating.games));
+		}
+		standings.sort(Comparator.comparingDouble(Standing::rating).reversed().thenComparing(Standing::name));
+		return standings;
+	}
+
+	/**
+	 * Plays a tournament of greedy bots: the default weights, a narrower move generation,
+	 * and every profile given on the command line.
+	 *
+	 * @param args The results file, the format, the seats, the rounds, the seeds a round,
+	 *             then profile files, all optional.
+	 * @throws IOException if a file cannot be read or written.
+	 * @throws InterruptedException if the thread is interrupted.
+	 */
+	public static void main(String[] args) throws IOException, InterruptedException {
+		var results = Path.of(args.length > 0 ? args[0] : "tournament.tsv");
+		var format = args.length > 1 ? Format.valueOf(args[1]) : Format.SWISS;
+		var seats = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+		var rounds = args.length > 3 ? Integer.parseInt(args[3]) : 5;
+		var seeds = args.length > 4 ? Integer.parseInt(args[4]) : 4;
+		List<WildlifeCount> cards = List.of(new Fox("renard", 1, 2), new Salmon("saumon", 1, 2), new Bear("ours", 1, 2),
+				new Elk("wapiti", 1, 2), new Buzzard("buse", 1, 2));
+		var entrants = new ArrayList<Entrant>();
+		entrants.add(greedy("greedy", cards, Weights.DEFAULT, 4));
+		entrants.add(greedy("greedy-narrow", cards, Weights.DEFAULT, 1));
+		entrants.add(greedy("open-slots", cards, new Weights(1, 1, 1, 1, 1, 0.5, 1), 4));
+		entrants.add(greedy("corridors", cards, new Weights(1.5, 1.5, 1.5, 1.5, 1.5, 0, 1), 4));
+		Set<String> names = new HashSet<>();
+		for (var i = 5; i < args.length; i++) {
+			var profile = Path.of(args[i]);
+			var name = profile.getFileName().toString();
+			if (names.add(name)) {
+				entrants.add(greedy(name, cards, Weights.load(profile), 4));
+			}
+		}
+		var settings = new Settings(format, seats, rounds, seeds, Runtime.getRuntime().availableProcessors(), 30, 0);
+		var tournament = new Tournament(Match.standard(cards), entrants, settings);
+		var round = new int[1];
+		var standings = tournament.run(results, table -> {
+			System.out.println("after round " + ++round[0] + ":");
+			table.forEach(System.out::println);
+		});
+		System.out.println("final standings, games in " + results + ":");
+		standings.forEach(System.out::println);
+	}
+
+	private static Entrant greedy(String name, List<WildlifeCount> cards, Weights weights, int tileWidth) {
+		return new Entrant(name, () -> Bot.greedy(new MoveGenerator(new Evaluator(cards, 2, weights), tileWidth)));
+	}
+}
@@ -0,0 +1,223 @@
+package fr.uge.bot;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size table of the positions already searched, shared by the search workers
+ * without locks.
+ * <p>
+ * An entry is packed in one long: the best move in the low 32 bits, then the value as a
+ * 16-bit signed number, the depth on 6 bits, the {@link Bound} on 2 bits and the search
+ * generation on 8 bits. Each slot holds two longs, the key xored with the entry and the
+ * entry itself. A reader only accepts a slot whose two halves xor back to its key, so an
+ * entry torn by two workers writing at once reads as a miss instead of a wrong value.
+ * <p>
+ * A key goes to one of {@value #PROBES} consecutive slots. A new entry replaces the entry
+ * of the same key, or else the one least worth keeping: shallow entries first, and
+ * entries left by an older search before any of the current one.
+ */
+public final class TranspositionTable {
+	/**
+	 * The entry returned by {@link #probe(long)} when the key is not in the table.
+	 */
+	public static final long MISS = 0;
+	/**
+	 * The largest depth an entry can hold.
+	 */
+	public static final int MAX_DEPTH = 63;
+	private static final int PROBES = 4;
+
+	/**
+	 * How the value of an entry relates to the true value of the position.
+	 */
+	public enum Bound {
+		/**
+		 * The true value is at least the value, the search was cut above beta.
+		 */
+		LOWER,
+		/**
+		 * The true value is at most the value, no move reached alpha.
+		 */
+		UPPER,
+		/**
+		 * The value is the true value at this depth.
+		 */
+		EXACT
+	}
+
+	private static final Bound[] BOUNDS = Bound.values();
+
+	private final AtomicLongArray slots;
+	private final int mask;
+	private volatile int generation;
+
+	/**
+	 * Creates an empty table.
+	 *
+	 * @param entries The number of entries, rounded down to a power of two. Each entry
+	 *                takes 16 bytes.
+	 * @throws IllegalArgumentException if entries is less than 4 or more than 2^29.
+	 */
+	public TranspositionTable(int entries) {
+		if (entries < PROBES || entries > 1 << 29) {
+			throw new IllegalArgumentException("entries < " + PROBES + " or entries > 2^29");
+		}
+		var size = Integer.highestOneBit(entries);
+		this.slots = new AtomicLongArray(2 * size);
+		this.mask = size - 1;
+	}
+
+	/**
+	 * Returns the number of entries of the table.
+	 *
+	 * @return The capacity of the table.
+	 */
+	public int capacity() {
+		return mask + 1;
+	}
+
+	/**
+	 * Starts a new search: the entries stored so far are kept and read, but are the first
+	 * to be replaced.
+	 */
+	public void newSearch() {
+		generation = (generation + 1) & 0xFF;
+	}
+
+	/**
+	 * Looks a position up.
+	 *
+	 * @param key The hash of the position.
+	 * @return The packed entry, read with {@link #value(long)}, {@link #depth(long)},
+	 *         {@link #bound(long)} and {@link #move(long)}, or {@link #MISS}.
+	 */
+	public long probe(long key) {
+		var first = (int) key & mask;
+		for (var i = 0; i < PROBES; i++) {
+			var slot = (first + i & mask) * 2;
+			var entry = slots.getAcquire(slot + 1);
+			if (entry != MISS && (slots.getAcquire(slot) ^ entry) == key) {
+				return entry;
+			}
+		}
+		return MISS;
+	}
+
+	/**
+	 * Stores the result of a search. An entry of the same key is only replaced by a search
+	 * at least as deep, by an exact value, or when it comes from an older search.
+	 *
+	 * @param key The hash of the position.
+	 * @param value The value of the position, between -32768 and 32767.
+	 * @param depth The depth searched, between 0 and {@value #MAX_DEPTH}.
+	 * @param bound How the value bounds the true value.
+	 * @param move The best move found, encoded by the search.
+	 * @throws IllegalArgumentException if the value or the depth is out of range.
+	 */
+	public void store(long key, int value, int depth, Bound bound, int move) {
+		Objects.requireNonNull(bound, "bound is null");
+		if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+			throw new IllegalArgumentException("value out of the 16-bit range");
+		}
+		if (depth < 0 || depth > MAX_DEPTH) {
+			throw new IllegalArgumentException("depth < 0 or depth > " + MAX_DEPTH);
+		}
+		var current = generation;
+		var first = (int) key & mask;
+		var victim = -1;
+		var worst = Integer.MAX_VALUE;
+		for (var i = 0; i < PROBES; i++) {
+			var slot = (first + i & mask) * 2;
+			var entry = slots.getAcquire(slot + 1);
+			if (entry != MISS && (slots.getAcquire(slot) ^ entry) == key) {
+				if (depth < depth(entry) && bound != Bound.EXACT && generation(entry) == current) {
+					return;
+				}
+				victim = slot;
+				break;
+			}
+			var worth = entry == MISS ? Integer.MIN_VALUE : depth(entry) - (generation(entry) == current ? 0 : 2 * MAX_DEPTH);
+			if (worth < worst) {
+				worst = worth;
+				victim = slot;
+			}
+		}
+		var entry = (move & 0xFFFFFFFFL) | (value & 0xFFFFL) << 32 | (long) depth << 48
+				| (long) (bound.ordinal() + 1) << 54 | (long) current << 56;
+		slots.setRelease(victim, key ^ entry);
+		slots.setRelease(victim + 1, entry);
+	}
+
+	/**
+	 * Estimates how full the table is with entries of the current search.
+	 *
+	 * @return The number of slots in a thousand, among the first ones, used by the current search.
+	 */
+	public int hashfull() {
+		var sample = Math.min(1000, capacity());
+		var current = generation;
+		var used = 0;
+		for (var i = 0; i < sample; i++) {
+			var entry = slots.getAcquire(2 * i + 1);
+			if (entry != MISS && generation(entry) == current) {
+				used++;
+			}
+		}
+		return used * 1000 / sample;
+	}
+
+	/**
+	 * Empties the table. It must not run while workers use the table.
+	 */
+	public void clear() {
+		for (var i = 0; i < slots.length(); i++) {
+			slots.setRelease(i, 0);
+		}
+		generation = 0;
+	}
+
+	/**
+	 * Returns the value of an entry.
+	 *
+	 * @param entry A packed entry.
+	 * @return The value.
+	 */
+	public static int value(long entry) {
+		return (short) (entry >>> 32);
+	}
+
+	/**
+	 * Returns the depth of an entry.
+	 *
+	 * @param entry A packed entry.
+	 * @return The depth.
+	 */
+	public static int depth(long entry) {
+		return (int) (entry >>> 48) & MAX_DEPTH;
+	}
+
+	/**
+	 * Returns the bound of an entry.
+	 *
+	 * @param entry A packed entry, not {@link #MISS}.
+	 * @return The bound.
+	 */
+	public static Bound bound(long entry) {
+		return BOUNDS[((int) (entry >>> 54) & 3) - 1];
+	}
+
+	/**
+	 * Returns the best move of an entry.
+	 *
+	 * @param entry A packed entry.
+	 * @return The move, as encoded by the search.
+	 */
+	public static int move(long entry) {
+		return (int) entry;
+	}
+
+	private static int generation(long entry) {
+		return (int) (entry >>> 56) & 0xFF;
+	}
+}
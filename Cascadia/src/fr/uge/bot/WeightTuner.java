@@ -0,0 +1,281 @@
+package fr.uge.bot;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import fr.uge.game.WildlifeCount;
+import fr.uge.game.board.Zobrist;
+import fr.uge.game.wildlifeCount.Bear;
+import fr.uge.game.wildlifeCount.Buzzard;
+import fr.uge.game.wildlifeCount.Elk;
+import fr.uge.game.wildlifeCount.Fox;
+import fr.uge.game.wildlifeCount.Salmon;
+
+/**
+ * Tunes the {@link Weights} of the greedy bot by self-play, with SPSA (simultaneous
+ * perturbation stochastic approximation).
+ * <p>
+ * Each iteration moves every weight at once by {@code ±c_k}, plays the two perturbed
+ * bots against each other on {@code games} seeds, each seed twice with the seats swapped,
+ * and steps the weights along the mean score difference: {@code w += a_k * d / (2 c_k Δ)}.
+ * The gains decay like {@code a_k = a / (k + 1 + A)^0.602} and
+ * {@code c_k = c / (k + 1)^0.101}. Only two bots play each iteration whatever the number
+ * of weights, which is what makes SPSA cheap when a game is the only measure.
+ * <p>
+ * The perturbation and the seeds of an iteration only depend on the seed of the tuner
+ * and the number of the iteration, and the games are summed in order whatever thread
+ * plays them, so a tuner stopped and resumed from its checkpoint ends with the weights of
+ * a tuner that was never stopped.
+ */
+public final class WeightTuner {
+	private static final double ALPHA = 0.602;
+	private static final double GAMMA = 0.101;
+	private static final long PERTURBATION = 0x5A5AL << 32;
+	private static final long GAMES = 0x6A3EL << 32;
+
+	/**
+	 * The settings of a tuning.
+	 *
+	 * @param games The number of seeds played by iteration, each twice.
+	 * @param threads The number of threads playing the games.
+	 * @param stepSize The gain {@code a} of the steps.
+	 * @param perturbation The gain {@code c} of the perturbations.
+	 * @param stability The offset {@code A} of the steps, about a tenth of the iterations planned; it must not change when a tuning is resumed.
+	 * @param tileWidth The placements of a tile kept by the bots.
+	 * @param seed The seed of the perturbations and of the games.
+	 */
+	public record Settings(int games, int threads, double stepSize, double perturbation, double stability, int tileWidth, long seed) {
+		/**
+		 * Checks the settings.
+		 *
+		 * @throws IllegalArgumentException if a value is out of its range.
+		 */
+		public Settings {
+			if (games < 1 || threads < 1 || tileWidth < 1) {
+				throw new IllegalArgumentException("games, threads or tileWidth < 1");
+			}
+			if (!(stepSize > 0) || !(perturbation > 0) || !(stability >= 0)) {
+				throw new IllegalArgumentException("stepSize and perturbation must be positive and stability not negative");
+			}
+		}
+	}
+
+	/**
+	 * The games between two bots.
+	 *
+	 * @param winRate The share of the games won by the first bot, ties shared.
+	 * @param score The mean score of the first bot.
+	 * @param opponentScore The mean score of the second bot.
+	 */
+	public record Duel(double winRate, double score, double opponentScore) {
+	}
+
+	/**
+	 * An iteration of the tuning.
+	 *
+	 * @param iteration The number of the iteration, from 0.
+	 * @param weights The weights after the iteration.
+	 * @param duel The games of the bot perturbed up against the bot perturbed down.
+	 */
+	public record Step(int iteration, Weights weights, Duel duel) {
+	}
+
+	private final Match match;
+	private final Settings settings;
+
+	/**
+	 * Creates a tuner.
+	 *
+	 * @param match The games played.
+	 * @param settings The settings.
+	 */
+	public WeightTuner(Match match, Settings settings) {
+		this.match = Objects.requireNonNull(match, "match is null");
+		this.settings = Objects.requireNonNull(settings, "settings is null");
+	}
+
+	/**
+	 * Returns the greedy bot of weights.
+	 *
+	 * @param weights The weights.
+	 * @return The bot.
+	 */
+	public Bot bot(Weights weights) {
+		var evaluator = new Evaluator(match.wildlifeCards(), match.shapeOfTile(), weights);
+		return Bot.greedy(new MoveGenerator(evaluator, settings.tileWidth()));
+	}
+
+	/**
+	 * Plays two bots against each other, each seed twice with the seats swapped.
+	 *
+	 * @param first The first bot.
+	 * @param second The second bot.
+	 * @param firstSeed The seed of the first game, the others follow.
+	 * @return The games, seen from the first bot.
+	 * @throws InterruptedException if the thread is interrupted while waiting.
+	 */
+	public Duel duel(Weights first, Weights second, long firstSeed) throws InterruptedException {
+		Objects.requireNonNull(first, "first is null");
+		Objects.requireNonNull(second, "second is null");
+		var executor = Executors.newFixedThreadPool(settings.threads());
+		try {
+			var tasks = new ArrayList<Callable<double[]>>();
+			for (var game = 0; game < settings.games(); game++) {
+				var seed = firstSeed + game;
+				tasks.add(() -> {
+					var firstBot = bot(first);
+					var secondBot = bot(second);
+					var ahead = match.play(List.of(firstBot, secondBot), seed);
+					var behind = match.play(List.of(secondBot, firstBot), seed);
+					return new double[] { ahead.win(0) + behind.win(1), ahead.score(0) + behind.score(1), ahead.score(1) + behind.score(0) };
+				});
+			}
+			var sums = new double[3];
+			for (var future : executor.invokeAll(tasks)) {
+				var result = future.get();
+				for (var i = 0; i < sums.length; i++) {
+					sums[i] += result[i];
+				}
+			}
+			var played = 2.0 * settings.games();
+			return new Duel(sums[0] / played, sums[1] / played, sums[2] / played);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Runs an iteration.
+	 *
+	 * @param weights The weights before the iteration.
+	 * @param iteration The number of the iteration, from 0.
+	 * @return The iteration.
+	 * @throws InterruptedException if the thread is interrupted while waiting.
+	 */
+	public Step step(Weights weights, int iteration) throws InterruptedException {
+		Objects.requireNonNull(weights, "weights is null");
+		if (iteration < 0) {
+			throw new IllegalArgumentException("iteration < 0");
+		}
+		var gain = settings.stepSize() / Math.pow(iteration + 1 + settings.stability(), ALPHA);
+		var width = settings.perturbation() / Math.pow(iteration + 1, GAMMA);
+		var random = new SplittableRandom(Zobrist.mix(settings.seed() ^ (PERTURBATION + iteration)));
+		var theta = weights.toArray();
+		var delta = new double[theta.length];
+		var up = new double[theta.length];
+		var down = new double[theta.length];
+		for (var i = 0; i < theta.length; i++) {
+			delta[i] = random.nextBoolean() ? 1 : -1;
+			up[i] = theta[i] + width * delta[i];
+			down[i] = theta[i] - width * delta[i];
+		}
+		var seed = Zobrist.mix(settings.seed() ^ (GAMES + iteration));
+		var duel = duel(Weights.of(up), Weights.of(down), seed);
+		var difference = duel.score() - duel.opponentScore();
+		for (var i = 0; i < theta.length; i++) {
+			theta[i] += gain * difference / (2 * width * delta[i]);
+		}
+		return new Step(iteration, Weights.of(theta), duel);
+	}
+
+	/**
+	 * Tunes weights, starting again from a checkpoint if there is one, and writes the
+	 * checkpoint after every iteration.
+	 *
+	 * @param start The weights of the first iteration, when there is no checkpoint.
+	 * @param iterations The total number of iterations, those of the checkpoint included.
+	 * @param checkpoint The checkpoint file.
+	 * @param progress Receives a line after every iteration.
+	 * @return The tuned weights.
+	 * @throws IOException if the checkpoint cannot be read or written.
+	 * @throws InterruptedException if the thread is interrupted while waiting.
+	 * @throws IllegalArgumentException if the checkpoint was written by a tuner of another seed.
+	 */
+	public Weights tune(Weights start, int iterations, Path checkpoint, Consumer<String> progress) throws IOException, InterruptedException {
+		Objects.requireNonNull(start, "start is null");
+		Objects.requireNonNull(checkpoint, "checkpoint is null");
+		Objects.requireNonNull(progress, "progress is null");
+		var weights = start;
+		var iteration = 0;
+		if (Files.exists(checkpoint)) {
+			var others = new ArrayList<String>();
+			weights = Weights.parse(Files.readAllLines(checkpoint), others);
+			for (var line : others) {
+				var words = line.split("\\s+");
+				switch (words[0]) {
+				case "iteration" -> iteration = Integer.parseInt(words[1]);
+				case "seed" -> {
+					if (Long.parseLong(words[1]) != settings.seed()) {
+						throw new IllegalArgumentException("checkpoint of seed " + words[1] + ", not " + settings.seed());
+					}
+				}
+				default -> throw new IllegalArgumentException("unknown setting: " + line);
+				}
+			}
+			progress.accept("resumed at iteration " + iteration + " from " + checkpoint);
+		}
+		for (; iteration < iterations; iteration++) {
+			var step = step(weights, iteration);
+			weights = step.weights();
+			save(checkpoint, weights, iteration + 1);
+			var duel = step.duel();
+			progress.accept(String.format("iteration %d: up %.2f - down %.2f (%.0f%% won), %s", iteration, duel.score(),
+					duel.opponentScore(), 100 * duel.winRate(), weights));
+		}
+		return weights;
+	}
+
+	/**
+	 * Writes a checkpoint in a file next to it first, then moves it, so a tuner killed
+	 * while writing leaves the previous checkpoint.
+	 */
+	private void save(Path checkpoint, Weights weights, int iteration) throws IOException {
+		var lines = new ArrayList<String>();
+		lines.add("# weight tuner checkpoint");
+		lines.add("iteration " + iteration);
+		lines.add("seed " + settings.seed());
+		lines.addAll(weights.lines());
+		var temporary = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+		Files.write(temporary, lines);
+		Files.move(temporary, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Tunes the weights of the greedy bot on the hexagonal game with the first pattern of
+	 * every wildlife card, then writes the profile and plays it against the default weights.
+	 *
+	 * @param args The number of iterations, the games by iteration, the number of threads,
+	 *             the checkpoint file, the profile file and the seed, all optional.
+	 * @throws IOException if a file cannot be read or written.
+	 * @throws InterruptedException if the thread is interrupted.
+	 */
+	public static void main(String[] args) throws IOException, InterruptedException {
+		var iterations = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+		var games = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+		var threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+		var checkpoint = Path.of(args.length > 3 ? args[3] : "tuner.checkpoint");
+		var profile = Path.of(args.length > 4 ? args[4] : "weights.profile");
+		var seed = args.length > 5 ? Long.parseLong(args[5]) : 0;
+		List<WildlifeCount> cards = List.of(new Fox("renard", 1, 2), new Salmon("saumon", 1, 2), new Bear("ours", 1, 2),
+				new Elk("wapiti", 1, 2), new Buzzard("buse", 1, 2));
+		var settings = new Settings(games, threads, 0.002, 0.1, 10, 4, seed);
+		var tuner = new WeightTuner(Match.standard(cards), settings);
+		var weights = tuner.tune(Weights.DEFAULT, iterations, checkpoint, System.out::println);
+		weights.save(profile);
+		var duel = tuner.duel(weights, Weights.DEFAULT, Long.MIN_VALUE);
+		System.out.printf("tuned %.2f - default %.2f (%.0f%% won), profile written to %s%n", duel.score(),
+				duel.opponentScore(), 100 * duel.winRate(), profile);
+	}
+}
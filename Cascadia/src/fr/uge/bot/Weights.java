@@ -0,0 +1,176 @@
+package fr.uge.bot;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+
+import fr.uge.game.element.Biome;
+
+/**
+ * The weights of the evaluation of the bots. The points of the wildlife cards are the
+ * unit; a corridor is worth its size times the weight of its biome, a tile without animal
+ * is worth {@code openSlot} and a nature token {@code natureToken}.
+ * <p>
+ * A profile is a text file with one {@code name value} line a weight, in the order of
+ * {@link #NAMES}; blank lines and lines starting with {@code #} are skipped. A weight
+ * missing from the file keeps its {@link #DEFAULT} value.
+ *
+ * @param mountain The weight of the mountain corridor.
+ * @param forest The weight of the forest corridor.
+ * @param meadow The weight of the meadow corridor.
+ * @param swamp The weight of the swamp corridor.
+ * @param river The weight of the river corridor.
+ * @param openSlot The value of a tile that can still receive an animal.
+ * @param natureToken The value of a nature token.
+ */
+public record Weights(double mountain, double forest, double meadow, double swamp, double river, double openSlot, double natureToken) {
+	/**
+	 * The weights scoring the board like the game does.
+	 */
+	public static final Weights DEFAULT = new Weights(1, 1, 1, 1, 1, 0, 1);
+
+	/**
+	 * The names of the weights in a profile, in the order of {@link #toArray()}.
+	 */
+	public static final List<String> NAMES = List.of("mountain", "forest", "meadow", "swamp", "river", "openSlot", "natureToken");
+
+	/**
+	 * Checks the weights.
+	 *
+	 * @throws IllegalArgumentException if a weight is not finite.
+	 */
+	public Weights {
+		for (var weight : new double[] { mountain, forest, meadow, swamp, river, openSlot, natureToken }) {
+			if (!Double.isFinite(weight)) {
+				throw new IllegalArgumentException("weight is not finite");
+			}
+		}
+	}
+
+	/**
+	 * Returns the weight of the corridor of a biome.
+	 *
+	 * @param biome The biome.
+	 * @return The weight, 0 for {@link Biome#NOTHING}.
+	 */
+	public double corridor(Biome biome) {
+		return switch (Objects.requireNonNull(biome, "biome is null")) {
+		case MOUNTAIN -> mountain;
+		case FOREST -> forest;
+		case MEADOW -> meadow;
+		case SWAMP -> swamp;
+		case RIVER -> river;
+		case NOTHING -> 0;
+		};
+	}
+
+	/**
+	 * Returns the weights as a vector, for the tuner.
+	 *
+	 * @return The weights in the order of {@link #NAMES}.
+	 */
+	public double[] toArray() {
+		return new double[] { mountain, forest, meadow, swamp, river, openSlot, natureToken };
+	}
+
+	/**
+	 * Creates weights from a vector.
+	 *
+	 * @param values The weights in the order of {@link #NAMES}.
+	 * @return The weights.
+	 * @throws IllegalArgumentException if the vector does not hold one value a weight.
+	 */
+	public static Weights of(double[] values) {
+		Objects.requireNonNull(values, "values is null");
+		if (values.length != NAMES.size()) {
+			throw new IllegalArgumentException("values.length != " + NAMES.size());
+		}
+		return new Weights(values[0], values[1], values[2], values[3], values[4], values[5], values[6]);
+	}
+
+	/**
+	 * Parses the lines of a profile. Lines whose name is not a weight are returned to the
+	 * caller, so a file can hold other settings next to the weights.
+	 *
+	 * @param lines The lines.
+	 * @param others The lines that are not weights, filled by the method.
+	 * @return The weights.
+	 * @throws IllegalArgumentException if a line is not a name and a number.
+	 */
+	public static Weights parse(List<String> lines, List<String> others) {
+		Objects.requireNonNull(lines, "lines is null");
+		Objects.requireNonNull(others, "others is null");
+		var values = DEFAULT.toArray();
+		var seen = new HashSet<String>();
+		for (var line : lines) {
+			var trimmed = line.strip();
+			if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+				continue;
+			}
+			var words = trimmed.split("\\s+");
+			if (words.length != 2) {
+				throw new IllegalArgumentException("expected a name and a value: " + line);
+			}
+			var index = NAMES.indexOf(words[0]);
+			if (index == -1) {
+				others.add(trimmed);
+				continue;
+			}
+			if (!seen.add(words[0])) {
+				throw new IllegalArgumentException("weight " + words[0] + " given twice");
+			}
+			try {
+				values[index] = Double.parseDouble(words[1]);
+			} catch (NumberFormatException e) {
+				throw new IllegalArgumentException("not a number: " + line, e);
+			}
+		}
+		return of(values);
+	}
+
+	/**
+	 * Reads a profile.
+	 *
+	 * @param path The file.
+	 * @return The weights.
+	 * @throws IOException if the file cannot be read.
+	 * @throws IllegalArgumentException if the file holds something else than weights.
+	 */
+	public static Weights load(Path path) throws IOException {
+		var others = new ArrayList<String>();
+		var weights = parse(Files.readAllLines(Objects.requireNonNull(path, "path is null")), others);
+		if (!others.isEmpty()) {
+			throw new IllegalArgumentException("unknown weight: " + others.get(0));
+		}
+		return weights;
+	}
+
+	/**
+	 * Returns the lines of the profile of the weights. The values are written in full, so
+	 * reading them back gives the same weights.
+	 *
+	 * @return The lines, one a weight.
+	 */
+	public List<String> lines() {
+		var values = toArray();
+		var lines = new ArrayList<String>(values.length);
+		for (var i = 0; i < values.length; i++) {
+			lines.add(NAMES.get(i) + " " + values[i]);
+		}
+		return lines;
+	}
+
+	/**
+	 * Writes the profile of the weights.
+	 *
+	 * @param path The file, replaced if it exists.
+	 * @throws IOException if the file cannot be written.
+	 */
+	public void save(Path path) throws IOException {
+		Files.write(Objects.requireNonNull(path, "path is null"), lines());
+	}
+}
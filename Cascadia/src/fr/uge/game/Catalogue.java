@@ -0,0 +1,145 @@
+package fr.uge.game;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import fr.uge.game.element.Animals;
+import fr.uge.game.element.Biome;
+import fr.uge.game.element.Tile;
+
+/**
+ * The cards of the hexagonal version, read from {@code HabitatCards.txt} and
+ * {@code StartHabitatCards.txt} the first time they are needed, then shared by every
+ * game of the JVM. The lists are unmodifiable and the tiles immutable, so any number of
+ * games can draw from them at the same time.
+ * <p>
+ * The data files of the game are opened with {@link #openData(String)}, from the
+ * directory given by the {@code cascadia.data} system property, so the game can be
+ * started from any directory.
+ */
+public final class Catalogue {
+	private static final String DATA_PROPERTY = "cascadia.data";
+
+	private Catalogue() {
+	}
+
+	/**
+	 * Holds the cards, read when the class is first used.
+	 */
+	private static final class Standard {
+		private static final List<Tile> HABITAT_CARDS;
+		private static final List<Tile> START_HABITAT_CARDS;
+		static {
+			try (var habitats = openData("HabitatCards.txt"); var starts = openData("StartHabitatCards.txt")) {
+				HABITAT_CARDS = readFile(habitats);
+				START_HABITAT_CARDS = readFile(starts);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	/**
+	 * Returns the cards of {@code HabitatCards.txt}.
+	 *
+	 * @return The habitat cards, unmodifiable.
+	 * @throws UncheckedIOException if a file cannot be read.
+	 */
+	public static List<Tile> habitatCards() {
+		return Standard.HABITAT_CARDS;
+	}
+
+	/**
+	 * Returns the cards of {@code StartHabitatCards.txt}, three by three.
+	 *
+	 * @return The start habitat cards, unmodifiable.
+	 * @throws UncheckedIOException if a file cannot be read.
+	 */
+	public static List<Tile> startHabitatCards() {
+		return Standard.START_HABITAT_CARDS;
+	}
+
+	/**
+	 * Opens a data file of the game, like {@code HabitatCards.txt}. The file is read from
+	 * the directory of the {@code cascadia.data} system property when it is set. Otherwise
+	 * it is read from the working directory, or from the class path when it is not there.
+	 *
+	 * @param fileName The name of the file.
+	 * @return A reader of the file, to be closed by the caller.
+	 * @throws IOException If the file cannot be found or opened.
+	 */
+	public static BufferedReader openData(String fileName) throws IOException {
+		Objects.requireNonNull(fileName, "fileName is null");
+		var directory = System.getProperty(DATA_PROPERTY);
+		if (directory != null) {
+			return Files.newBufferedReader(Path.of(directory, fileName));
+		}
+		var path = Path.of(fileName);
+		if (Files.exists(path)) {
+			return Files.newBufferedReader(path);
+		}
+		var stream = Catalogue.class.getResourceAsStream("/" + fileName);
+		if (stream == null) {
+			throw new NoSuchFileException(fileName, null, "not in the working directory nor on the class path, set -D"
+					+ DATA_PROPERTY + " to the directory of the data files");
+		}
+		return new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Reads the tiles of a habitat card file.
+	 *
+	 * @param path The path to the file.
+	 * @return The tiles of the file, in the order of the file, unmodifiable.
+	 * @throws IOException If an I/O error occurs while reading the file.
+	 * @throws IllegalArgumentException if a line names an unknown biome or animal.
+	 */
+	public static List<Tile> readTiles(Path path) throws IOException {
+		Objects.requireNonNull(path, "path is null");
+		try (var reader = Files.newBufferedReader(path)) {
+			return readFile(reader);
+		}
+	}
+
+	/**
+	 * Reads the lines of a habitat card file, biomes then animals on each side of a
+	 * {@code |}.
+	 *
+	 * @param reader The BufferedReader used to read the file.
+	 * @return The tiles of the file.
+	 * @throws IOException If an I/O error occurs while reading the file.
+	 */
+	private static List<Tile> readFile(BufferedReader reader) throws IOException {
+		var tiles = new ArrayList<Tile>();
+		String line;
+		while ((line = reader.readLine()) != null) {
+			line = line.strip();
+			if (line.isEmpty()) {
+				continue;
+			}
+			var biomes = new ArrayList<Biome>();
+			var animals = new ArrayList<Animals>();
+			var change = false;
+			for (String word : line.split("\\s+")) {
+				if (word.equals("|")) {
+					change = true;
+				} else if (!change) {
+					biomes.add(Biome.valueOf(word));
+				} else {
+					animals.add(Animals.valueOf(word));
+				}
+			}
+			tiles.add(new Tile(animals, biomes));
+		}
+		return List.copyOf(tiles);
+	}
+}
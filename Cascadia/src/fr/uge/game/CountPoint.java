@@ -1,398 +1,307 @@
 package fr.uge.game;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import fr.uge.game.element.Animals;
 import fr.uge.game.element.Biome;
-import fr.uge.game.element.Coordinate;
-import fr.uge.game.element.Habitat;
 import fr.uge.game.element.Player;
+import fr.uge.game.element.Tile;
 
 /**
  * This class is responsible for calculating points based on different game elements
  * such as biomes, habitats, and wildlife cards.
  */
 public class CountPoint {
+	private static final List<Biome> BIOMES = List.of(Biome.FOREST, Biome.MEADOW, Biome.MOUNTAIN, Biome.RIVER, Biome.SWAMP);
 
 	public CountPoint() {
 	}
 
 	/**
-   * Recursively calculates the number of connected tiles of a specific biome in a square-shaped grid.
-   *
-   * @param player The player whose habitat is being evaluated.
-   * @param coordinate The current coordinate being evaluated.
-   * @param visitedHabitat A map tracking visited coordinates.
-   * @param biome The biome to count.
-   * @return The total number of connected tiles for the given biome.
-   */
-	private static int biomePointCountForSquare(Player player, Coordinate coordinate, HashMap<Coordinate, Boolean> visitedHabitat, String biome) {
-		if (visitedHabitat.getOrDefault(coordinate, false)) {
-			return 0;
-		}
-		Habitat habitat = player.getHabitat(coordinate);
-		if (habitat != null && habitat.biomeToString(0).equals(biome)) {
-			visitedHabitat.put(coordinate, true);
-			return 1
-					+ biomePointCountForSquare(player, new Coordinate(coordinate.x(), coordinate.y() - 1), visitedHabitat, biome)
-					+ biomePointCountForSquare(player, new Coordinate(coordinate.x() + 1, coordinate.y()), visitedHabitat, biome)
-					+ biomePointCountForSquare(player, new Coordinate(coordinate.x(), coordinate.y() + 1), visitedHabitat, biome)
-					+ biomePointCountForSquare(player, new Coordinate(coordinate.x() - 1, coordinate.y()), visitedHabitat, biome);
-		}
-		return 0;
-	}
-
-	/**
-   * Compares a coordinate against three neighbors and an old coordinate to check for overlap.
-   *
-   * @param neighbour1 The first neighboring coordinate.
-   * @param neighbour2 The second neighboring coordinate.
-   * @param neighbour3 The third neighboring coordinate.
-   * @param oldCoordinate The previous coordinate.
-   * @return true if the coordinates match, false otherwise.
-   */
-	private static boolean CompareCoordinate(Coordinate neighbour1, Coordinate neighbour2, Coordinate neighbour3, Coordinate oldCoordinate) {
-		return (oldCoordinate.x() == neighbour1.x() && oldCoordinate.y() == neighbour1.y()
-				|| oldCoordinate.x() == neighbour2.x() && oldCoordinate.y() == neighbour2.y()
-				|| oldCoordinate.x() == neighbour3.x() && oldCoordinate.y() == neighbour3.y())
-				|| (oldCoordinate.x() == -1 && oldCoordinate.y() == -1);
+	 * Returns the size of the largest corridor of a biome without touching the player's biome points.
+	 * The corridors are kept by the player as tiles are placed.
+	 *
+	 * @param player The player whose habitat is being evaluated.
+	 * @param biome The biome to measure.
+	 * @param shapeOfTile The shape of the tiles (square or hexagon).
+	 * @return The number of tiles of the largest corridor.
+	 */
+	public static int largestCorridor(Player player, Biome biome, int shapeOfTile) {
+		Objects.requireNonNull(player, "player is null");
+		Objects.requireNonNull(biome, "biome is null");
+		return player.corridors(shapeOfTile).largest(biome);
 	}
 
 	/**
-   * Calculates points for a single-biome habitat in a hexagonal grid.
-   *
-   * @param player The player whose habitat is being evaluated.
-   * @param coordinate The starting coordinate for evaluation.
-   * @param visitedHabitat A map tracking visited coordinates.
-   * @param biome The biome to count.
-   * @return The total points for the given biome.
-   */
-	private static int returnFunctionForOneBiomeHabitat(Player player, Coordinate coordinate, HashMap<Coordinate, Boolean> visitedHabitat, String biome) {
-		visitedHabitat.put(coordinate, true);
-		if (coordinate.y() % 2 != 0) {
-			return 1
-					+ biomePointCountForHexagon(player, new Coordinate(coordinate.x(), coordinate.y() - 1), visitedHabitat, biome,
-							coordinate)
-					+ biomePointCountForHexagon(player, new Coordinate(coordinate.x() + 1, coordinate.y()), visitedHabitat, biome,
-							coordinate)
-					+ biomePointCountForHexagon(player, new Coordinate(coordinate.x(), coordinate.y() + 1), visitedHabitat, biome,
-							coordinate)
-					+ biomePointCountForHexagon(player, new Coordinate(coordinate.x() - 1, coordinate.y() + 1), visitedHabitat,
-							biome, coordinate)
-					+ biomePointCountForHexagon(player, new Coordinate(coordinate.x() - 1, coordinate.y()), visitedHabitat, biome,
-							coordinate)
-					+ biomePointCountForHexagon(player, new Coordinate(coordinate.x() - 1, coordinate.y() - 1), visitedHabitat,
-							biome, coordinate);
-		} else {
-			return 1
-					+ biomePointCountForHexagon(player, new Coordinate(coordinate.x() + 1, coordinate.y() - 1), visitedHabitat,
-							biome, coordinate)
-					+ biomePointCountForHexagon(player, new Coordinate(coordinate.x() + 1, coordinate.y()), visitedHabitat, biome,
-							coordinate)
-					+ biomePointCountForHexagon(player, new Coordinate(coordinate.x() + 1, coordinate.y() + 1), visitedHabitat,
-							biome, coordinate)
-					+ biomePointCountForHexagon(player, new Coordinate(coordinate.x(), coordinate.y() + 1), visitedHabitat, biome,
-							coordinate)
-					+ biomePointCountForHexagon(player, new Coordinate(coordinate.x() - 1, coordinate.y()), visitedHabitat, biome,
-							coordinate)
-					+ biomePointCountForHexagon(player, new Coordinate(coordinate.x(), coordinate.y() - 1), visitedHabitat, biome,
-							coordinate);
+	 * Returns the points a player earns with the corridors, the sum of the largest corridor
+	 * of each biome, without the majority bonuses.
+	 *
+	 * @param player The player to evaluate.
+	 * @param shapeOfTile The shape of the tiles (square or hexagon).
+	 * @return The points of the corridors.
+	 */
+	public static int corridorPoints(Player player, int shapeOfTile) {
+		Objects.requireNonNull(player, "player is null");
+		var points = 0;
+		for (var biome : BIOMES) {
+			points += largestCorridor(player, biome, shapeOfTile);
 		}
+		return points;
 	}
 
 	/**
-   * Calculates points for a two-biome habitat in a hexagonal grid.
-   *
-   * @param player The player whose habitat is being evaluated.
-   * @param coordinate The starting coordinate for evaluation.
-   * @param visitedHabitat A map tracking visited coordinates.
-   * @param biome The biome to count.
-   * @param oldCoordinate The previous coordinate used for comparison.
-   * @param habitat The habitat to evaluate.
-   * @return The total points for the given biome.
-   */
-	private static int returnFunctionForTwoBiomeHabitat(Player player, Coordinate coordinate, HashMap<Coordinate, Boolean> visitedHabitat, String biome, Coordinate oldCoordinate, Habitat habitat) {
-		int index = habitat.biomeToString(0).equals(biome) ? 0 : 1;
-		Coordinate neighbour1 = initializeFirstNeighbour(habitat, coordinate, index),
-				neighbour2 = initializeSecondNeighbour(habitat, coordinate, index),
-				neighbour3 = initializeThirdNeighbour(habitat, coordinate, index);
-		if (!CompareCoordinate(neighbour1, neighbour2, neighbour3, oldCoordinate)) {
-			return 0;
+	 * Computes how many points a tile placement would bring to a player. The placement is
+	 * made on a copy of the player, whose corridors and animal groups are only updated
+	 * around the placed tile, so the player itself is only read and may be read by other
+	 * threads meanwhile. The new corridor of each biome of the tile is the one the tile
+	 * joins, which is compared with the largest corridor before the placement; only the
+	 * wildlife cards the animal can change are scored again.
+	 *
+	 * @param player The player who would place the tile.
+	 * @param tile The tile to place.
+	 * @param x The x-coordinate of the tile.
+	 * @param y The y-coordinate of the tile.
+	 * @param rotation The rotation of the tile.
+	 * @param animal The animal placed on the tile, {@code Animals.NOTHING} if none.
+	 * @param wildlifeCards The active wildlife cards.
+	 * @param shapeOfTile The shape of the tiles (square or hexagon).
+	 * @return The score difference for each category.
+	 * @throws IllegalArgumentException if the coordinate is already used or the tile cannot hold the animal.
+	 */
+	public static ScoreDelta placementScore(Player player, Tile tile, int x, int y, int rotation, Animals animal, List<WildlifeCount> wildlifeCards, int shapeOfTile) {
+		Objects.requireNonNull(player, "player is null");
+		Objects.requireNonNull(tile, "tile is null");
+		Objects.requireNonNull(animal, "animal is null");
+		Objects.requireNonNull(wildlifeCards, "wildlifeCards is null");
+		player.checkIndex(x, y);
+		if (player.getHabitat(x, y) != null) {
+			throw new IllegalArgumentException("coordinate already used");
 		}
-		visitedHabitat.put(coordinate, true);
-		return 1 + biomePointCountForHexagon(player, neighbour1, visitedHabitat, biome, coordinate)
-				+ biomePointCountForHexagon(player, neighbour2, visitedHabitat, biome, coordinate)
-				+ biomePointCountForHexagon(player, neighbour3, visitedHabitat, biome, coordinate);
-	}
-
-	/**
-   * Initializes the first neighboring coordinate for a habitat based on its rotation.
-   *
-   * @param habitat The habitat being evaluated.
-   * @param coordinate The current coordinate.
-   * @param index The biome index.
-   * @return The first neighboring coordinate.
-   */
-	private static Coordinate initializeFirstNeighbour(Habitat habitat, Coordinate coordinate, int index) {
-		if (habitat.rotation() == 1 || habitat.rotation() == 4) {
-			if ((index == 0 && habitat.rotation() == 1) || (index == 1 && habitat.rotation() == 4)) {
-				return coordinate.y() % 2 != 0 ? new Coordinate(coordinate.x() - 1, coordinate.y() + 1)
-						: new Coordinate(coordinate.x(), coordinate.y() + 1);
-			} else {
-				return coordinate.y() % 2 != 0 ? new Coordinate(coordinate.x(), coordinate.y() - 1)
-						: new Coordinate(coordinate.x() + 1, coordinate.y() - 1);
-			}
-		} else if (habitat.rotation() == 2 || habitat.rotation() == 5) {
-			if ((index == 0 && habitat.rotation() == 2) || (index == 1 && habitat.rotation() == 5)) {
-				return new Coordinate(coordinate.x() - 1, coordinate.y());
-			} else {
-				return new Coordinate(coordinate.x() + 1, coordinate.y());
-			}
-		} else {
-			if ((index == 0 && habitat.rotation() == 3) || (index == 1 && habitat.rotation() == 6)) {
-				return coordinate.y() % 2 != 0 ? new Coordinate(coordinate.x() - 1, coordinate.y() - 1)
-						: new Coordinate(coordinate.x(), coordinate.y() - 1);
-			} else {
-				return coordinate.y() % 2 != 0 ? new Coordinate(coordinate.x(), coordinate.y() + 1)
-						: new Coordinate(coordinate.x() + 1, coordinate.y() + 1);
-			}
+		if (!animal.equals(Animals.NOTHING) && !tile.getAnimals().contains(animal)) {
+			throw new IllegalArgumentException("tile cannot hold " + animal);
 		}
-	}
-
-	/**
-   * Initializes the second neighboring coordinate for a habitat based on its rotation.
-   *
-   * @param habitat The habitat being evaluated.
-   * @param coordinate The current coordinate.
-   * @param index The biome index.
-   * @return The second neighboring coordinate.
-   */
-	private static Coordinate initializeSecondNeighbour(Habitat habitat, Coordinate coordinate, int index) {
-		if (habitat.rotation() == 1 || habitat.rotation() == 4) {
-			if ((index == 0 && habitat.rotation() == 1) || (index == 1 && habitat.rotation() == 4)) {
-				return new Coordinate(coordinate.x() - 1, coordinate.y());
-			} else {
-				return new Coordinate(coordinate.x() + 1, coordinate.y());
-			}
-		} else if (habitat.rotation() == 2 || habitat.rotation() == 5) {
-			if ((index == 0 && habitat.rotation() == 2) || (index == 1 && habitat.rotation() == 5)) {
-				return coordinate.y() % 2 != 0 ? new Coordinate(coordinate.x() - 1, coordinate.y() - 1)
-						: new Coordinate(coordinate.x(), coordinate.y() - 1);
-			} else {
-				return coordinate.y() % 2 != 0 ? new Coordinate(coordinate.x(), coordinate.y() + 1)
-						: new Coordinate(coordinate.x() + 1, coordinate.y() + 1);
-			}
-		} else {
-			if ((index == 0 && habitat.rotation() == 3) || (index == 1 && habitat.rotation() == 6)) {
-				return coordinate.y() % 2 != 0 ? new Coordinate(coordinate.x(), coordinate.y() - 1)
-						: new Coordinate(coordinate.x() + 1, coordinate.y() - 1);
-			} else {
-				return coordinate.y() % 2 != 0 ? new Coordinate(coordinate.x() - 1, coordinate.y() + 1)
-						: new Coordinate(coordinate.x(), coordinate.y() + 1);
-			}
+		var copy = player.copy();
+		var corridors = copy.corridors(shapeOfTile);
+		var biomes = new EnumMap<Biome, Integer>(Biome.class);
+		for (var biome : tile.biome()) {
+			biomes.put(biome, corridors.largest(biome));
 		}
-	}
-
-	/**
-   * Initializes the third neighboring coordinate for a habitat based on its rotation.
-   *
-   * @param habitat The habitat being evaluated.
-   * @param coordinate The current coordinate.
-   * @param index The biome index.
-   * @return The third neighboring coordinate.
-   */
-	private static Coordinate initializeThirdNeighbour(Habitat habitat, Coordinate coordinate, int index) {
-		if (habitat.rotation() == 1 || habitat.rotation() == 4) {
-			if ((index == 0 && habitat.rotation() == 1) || (index == 1 && habitat.rotation() == 4)) {
-				return coordinate.y() % 2 != 0 ? new Coordinate(coordinate.x() - 1, coordinate.y() - 1)
-						: new Coordinate(coordinate.x(), coordinate.y() - 1);
-			} else {
-				return coordinate.y() % 2 != 0 ? new Coordinate(coordinate.x(), coordinate.y() + 1)
-						: new Coordinate(coordinate.x() + 1, coordinate.y() + 1);
-			}
-		} else if (habitat.rotation() == 2 || habitat.rotation() == 5) {
-			if ((index == 0 && habitat.rotation() == 2) || (index == 1 && habitat.rotation() == 5)) {
-				return coordinate.y() % 2 != 0 ? new Coordinate(coordinate.x(), coordinate.y() - 1)
-						: new Coordinate(coordinate.x() + 1, coordinate.y() - 1);
-			} else {
-				return coordinate.y() % 2 != 0 ? new Coordinate(coordinate.x() - 1, coordinate.y() + 1)
-						: new Coordinate(coordinate.x(), coordinate.y() + 1);
-			}
-		} else {
-			if ((index == 0 && habitat.rotation() == 3) || (index == 1 && habitat.rotation() == 6)) {
-				return new Coordinate(coordinate.x() + 1, coordinate.y());
-			} else {
-				return new Coordinate(coordinate.x() - 1, coordinate.y());
-			}
+		var before = new int[wildlifeCards.size()];
+		for (var i = 0; i < before.length; i++) {
+			var card = wildlifeCards.get(i);
+			before[i] = card.affectedBy(animal) ? card.pointCount(copy) : 0;
 		}
-	}
-
-	/**
-   * Recursively calculates the number of connected tiles of a specific biome in a hexagonal grid.
-   *
-   * @param player The player whose habitat is being evaluated.
-   * @param coordinate The current coordinate being evaluated.
-   * @param visitedHabitat A map tracking visited coordinates.
-   * @param biome The biome to count.
-   * @param oldCoordinate The previous coordinate for comparison.
-   * @return The total number of connected tiles for the given biome.
-   */
-	private static int biomePointCountForHexagon(Player player, Coordinate coordinate, HashMap<Coordinate, Boolean> visitedHabitat, String biome, Coordinate oldCoordinate) {
-		if (visitedHabitat.getOrDefault(coordinate, false)) {
-			return 0;
+		copy.add(tile, x, y, animal, rotation);
+		for (var entry : biomes.entrySet()) {
+			entry.setValue(Math.max(0, corridors.size(x, y, entry.getKey()) - entry.getValue()));
 		}
-		Habitat habitat = player.getHabitat(coordinate);
-		if (player.habitats().containsKey(coordinate) && habitat.tile().biome().size() == 1) {
-			if (habitat.biomeToString(0).equals(biome)) {
-				return returnFunctionForOneBiomeHabitat(player, coordinate, visitedHabitat, biome);
-			}
-		} else {
-			if (player.habitats().containsKey(coordinate) && (habitat.biomeToString(0).equals(biome) || habitat.biomeToString(1).equals(biome))) {
-				return returnFunctionForTwoBiomeHabitat(player, coordinate, visitedHabitat, biome, oldCoordinate, habitat);
-			}
+		var wildlife = new LinkedHashMap<String, Integer>();
+		for (var i = 0; i < before.length; i++) {
+			var card = wildlifeCards.get(i);
+			wildlife.put(card.name(), card.affectedBy(animal) ? card.pointCount(copy) - before[i] : 0);
 		}
-		return 0;
+		var natureToken = !animal.equals(Animals.NOTHING) && tile.biome().size() == 1 ? 1 : 0;
+		return new ScoreDelta(biomes, wildlife, natureToken);
 	}
 
 	/**
-   * Adds biome points for a given player based on their habitat configuration.
-   *
-   * @param player The player whose habitat is being evaluated.
-   * @param biome The biome being evaluated.
-   * @param coordinate The starting coordinate.
-   * @param visitedHabitatForBiome A map tracking visited coordinates for the biome.
-   * @param shapeOfTile The shape of the tiles (square or hexagon).
-   */
-	private static void addPointForBiomeCount(Player player, Biome biome, Coordinate coordinate, HashMap<Coordinate, Boolean> visitedHabitatForBiome, int shapeOfTile) {
-		int visitedBiome = 0;
-		Habitat habitat = player.getHabitat(coordinate);
-		if (habitat.tile().biome().size() == 2 && !visitedHabitatForBiome.getOrDefault(coordinate, false)) {
-			visitedBiome = biomePointCountForHexagon(player, coordinate, visitedHabitatForBiome, biome.name(), new Coordinate(-1, -1));
-			if (habitat.biomeToString(0).equals(biome.name()) && visitedBiome >= player.getHashMapBiomePoint().getOrDefault(habitat.biomeToString(0), 0)) {
-				player.putHashMapBiomePoint(habitat.biomeToString(0), visitedBiome);
-			} else if (habitat.biomeToString(1).equals(biome.name()) && visitedBiome >= player.getHashMapBiomePoint().getOrDefault(habitat.biomeToString(1), 0)) {
-				player.putHashMapBiomePoint(habitat.biomeToString(1), visitedBiome);
-			}
-		} else {
-			if (habitat.biomeToString(0).equals(biome.name()) && !visitedHabitatForBiome.getOrDefault(coordinate, false)) {
-				visitedBiome = shapeOfTile == 2
-						? biomePointCountForHexagon(player, coordinate, visitedHabitatForBiome, biome.name(), new Coordinate(-1, -1))
-						: biomePointCountForSquare(player, coordinate, visitedHabitatForBiome, biome.name());
-				if (visitedBiome >= player.getHashMapBiomePoint().getOrDefault(habitat.biomeToString(0), 0)) {
-					player.putHashMapBiomePoint(habitat.biomeToString(0), visitedBiome);
-				}
+	 * Measures the largest corridor of each biome for every player.
+	 *
+	 * @param players The list of players to evaluate.
+	 * @param shapeOfTile The shape of the tiles (square or hexagon).
+	 * @return A matrix of corridor sizes, indexed by player then by the position of the biome in {@code BIOMES}.
+	 */
+	private static int[][] biomeCount(List<Player> players, int shapeOfTile) {
+		var sizes = new int[players.size()][BIOMES.size()];
+		for (var i = 0; i < players.size(); i++) {
+			for (var j = 0; j < BIOMES.size(); j++) {
+				sizes[i][j] = largestCorridor(players.get(i), BIOMES.get(j), shapeOfTile);
 			}
 		}
+		return sizes;
 	}
 
 	/**
-	 * Calculates the total points for a player based on their biomes and wildlife cards.
+	 * Converts a row of the biome matrix into a map keyed by biome.
 	 *
-	 * @param players The list of players whose points are being calculated.
-	 * @param wildlifeCards The list of wildlife cards to evaluate.
-	 * @param shapeOfTile The shape of the tiles (square or hexagon).
+	 * @param row The row of values, in the order of {@code BIOMES}.
+	 * @return The values by biome.
 	 */
-	private static void totalPointCount(ArrayList<Player> players, ArrayList<WildlifeCount> wildlifeCards, int shapeOfTile) {
-		for(var player : players) {
-			List<Biome> listOfBiome = List.of(Biome.FOREST, Biome.MEADOW, Biome.MOUNTAIN, Biome.RIVER, Biome.SWAMP);
-			for (Biome biome : listOfBiome) {
-				HashMap<Coordinate, Boolean> visitedHabitatForBiome = new HashMap<>();
-				for (Coordinate coordinate : player.habitats().keySet()) {
-					addPointForBiomeCount(player, biome, coordinate, visitedHabitatForBiome, shapeOfTile);
-				}
-			}
-			System.out.println(player.getHashMapBiomePoint());
-			for (var entry : player.getHashMapBiomePoint().entrySet()) {
-				player.pointAdd(entry.getValue());
-			}
-			for (var card : wildlifeCards) {
-				player.pointAdd(card.pointCount(player));
-			}
+	private static EnumMap<Biome, Integer> biomeMap(int[] row) {
+		var map = new EnumMap<Biome, Integer>(Biome.class);
+		for (var j = 0; j < BIOMES.size(); j++) {
+			map.put(BIOMES.get(j), row[j]);
 		}
+		return map;
 	}
 
 	/**
-	 * Sorts a list of players based on their points for a specific biome.
+	 * Computes the points of each wildlife card for a player.
 	 *
-	 * @param players The list of players to sort.
-	 * @param biome The biome key to sort by.
-	 * @return The sorted list of players.
+	 * @param player The player to evaluate.
+	 * @param wildlifeCards The list of wildlife cards to evaluate.
+	 * @return The points of each card, by card name, in the order of the cards.
 	 */
-	private static ArrayList<Player> sortedList(ArrayList<Player> players, String biome) {
-		ArrayList<Player> playerBis = new ArrayList<>(players);
-		return (ArrayList<Player>) playerBis.stream().sorted((p1, p2) -> Integer
-				.compare(p2.getHashMapBiomePoint().getOrDefault(biome, 0), p1.getHashMapBiomePoint().getOrDefault(biome, 0)))
-				.collect(Collectors.toList());
+	private static LinkedHashMap<String, Integer> wildlifeCount(Player player, List<WildlifeCount> wildlifeCards) {
+		var wildlife = new LinkedHashMap<String, Integer>();
+		for (var card : wildlifeCards) {
+			wildlife.merge(card.name(), card.pointCount(player), Integer::sum);
+		}
+		return wildlife;
 	}
 
 	/**
-	 * Adds bonus points to players based on their biome rankings.
+	 * Computes the majority bonus of one biome in a single pass over the players.
+	 * Alone or with 2 players the largest corridor wins 2 points, or 1 point each on a tie.
+	 * With 3 or 4 players the largest corridor wins 3 points and the second 1 point,
+	 * players tied for the second winning 1 point each; when the largest is tied nobody
+	 * is second, and the tied players win 2 points each if they are two, 1 point each if
+	 * they are three or more. Players without a tile of the biome tie for the largest
+	 * corridor when nobody has one, but are never second.
 	 *
-	 * @param players The list of players to evaluate.
+	 * @param sizes The corridor sizes, indexed by player then by biome.
+	 * @param bonus The matrix receiving the bonus, with the same dimensions as sizes.
+	 * @param biome The index of the biome in the matrices.
+	 * @param numberOfPlayers The number of players in the game.
 	 */
-	private static void addBonusPoints(ArrayList<Player> players) {
-		for (var key : players.get(0).getHashMapBiomePoint().keySet()) {
-			ArrayList<Player> sortedPlayer = sortedList(players, key);
-			int maxBiomeSize = sortedPlayer.get(0).getHashMapBiomePoint().getOrDefault(key, 0);
-			int countMaxPlayers = 0;
-			for (Player player : sortedPlayer) {
-				if (player.getHashMapBiomePoint().getOrDefault(key, 0) == maxBiomeSize) {
-					countMaxPlayers++;
-				}
+	private static void addBonusPoints(int[][] sizes, int[][] bonus, int biome, int numberOfPlayers) {
+		int first = 0, firstCount = 0, second = 0;
+		for (var player : sizes) {
+			var size = player[biome];
+			if (size > first) {
+				second = first;
+				first = size;
+				firstCount = 1;
+			} else if (size == first) {
+				firstCount++;
+			} else if (size > second) {
+				second = size;
 			}
-			if (countMaxPlayers == 1) {
-				sortedPlayer.get(0).pointAdd(2);
+		}
+		int firstBonus, secondBonus = 0;
+		if (numberOfPlayers <= 2) {
+			firstBonus = firstCount == 1 ? 2 : 1;
+		} else if (firstCount == 1) {
+			firstBonus = 3;
+			secondBonus = 1;
+		} else if (firstCount == 2) {
+			firstBonus = 2;
+		} else {
+			firstBonus = 1;
+		}
+		for (var i = 0; i < sizes.length; i++) {
+			var size = sizes[i][biome];
+			if (size == first) {
+				bonus[i][biome] = firstBonus;
+			} else if (size == second && second > 0) {
+				bonus[i][biome] = secondBonus;
 			} else {
-				for (int i = 0; i < countMaxPlayers; i++) {
-					sortedPlayer.get(i).pointAdd(1);
-				}
+				bonus[i][biome] = 0;
 			}
 		}
 	}
-	
+
 	/**
-	 * Awards bonus points to players based on their rankings and the number of players.
+	 * Computes the bonus points of players based on their rankings and the number of players.
 	 *
-	 * @param players The list of players to evaluate.
-	 * @param numberOfPlayers The number of players in the game.
+	 * @param sizes The corridor sizes, indexed by player then by biome.
+	 * @param bonus The matrix receiving the bonus, with the same dimensions as sizes.
+	 * @param numberOfPlayers The number of players in the game, which chooses the rule.
+	 * @throws IllegalArgumentException if the number of players is not between 1 and 4
+	 *         or is not the number of boards.
 	 */
-	private static void bonusPoint(ArrayList<Player> players, int numberOfPlayers) {
-		Objects.requireNonNull(players, "players is null");
-		if (numberOfPlayers < 0 || numberOfPlayers > 4) {
-			throw new IllegalArgumentException("numberOfPlayers < 0 or numberOfPlayers > 4");
+	private static void bonusPoint(int[][] sizes, int[][] bonus, int numberOfPlayers) {
+		Objects.requireNonNull(sizes, "sizes is null");
+		Objects.requireNonNull(bonus, "bonus is null");
+		if (numberOfPlayers < 1 || numberOfPlayers > 4) {
+			throw new IllegalArgumentException("numberOfPlayers < 1 or numberOfPlayers > 4");
+		}
+		if (numberOfPlayers != sizes.length) {
+			throw new IllegalArgumentException("numberOfPlayers != number of players scored");
+		}
+		for (var biome = 0; biome < BIOMES.size(); biome++) {
+			addBonusPoints(sizes, bonus, biome, numberOfPlayers);
 		}
-		addBonusPoints(players);
 	}
 
 	/**
-	 * Counts and awards nature token points to players.
+	 * Calculates the final score of every player, including biomes, wildlife cards,
+	 * bonus points and nature tokens. The breakdown of each player is recorded on the
+	 * player, so the results screens read it back without scoring the boards again.
 	 *
 	 * @param players The list of players to evaluate.
+	 * @param wildlifeCards The list of wildlife cards to consider.
+	 * @param shapeOfTile The shape of the tiles (square or hexagon).
+	 * @param numberOfPlayer The number of players in the game.
+	 * @return The breakdown of each player, in the same order as the players.
+	 * @throws IllegalArgumentException if the number of players is not the size of the list.
 	 */
-	private static void countNatureToken(ArrayList<Player> players) {
+	public static List<ScoreBreakdown> pointCount(List<Player> players, List<WildlifeCount> wildlifeCards, int shapeOfTile, int numberOfPlayer) {
 		Objects.requireNonNull(players, "players is null");
+		Objects.requireNonNull(wildlifeCards, "wildlifeCards is null");
+		var biomes = biomeCount(players, shapeOfTile);
+		var wildlife = new ArrayList<LinkedHashMap<String, Integer>>(players.size());
 		for (var player : players) {
-			int token = player.natureToken();
-			player.pointAdd(token);
+			wildlife.add(wildlifeCount(player, wildlifeCards));
 		}
+		return breakdowns(players, biomes, wildlife, numberOfPlayer);
 	}
-	
+
 	/**
-	 * Calculates total points for players, including biome, wildlife cards, 
-	 * bonus points, and nature tokens.
+	 * Calculates the final score of every player like {@link #pointCount(List, List, int, int)},
+	 * reading the corridors and the wildlife points of boards already scored from a cache.
 	 *
 	 * @param players The list of players to evaluate.
 	 * @param wildlifeCards The list of wildlife cards to consider.
 	 * @param shapeOfTile The shape of the tiles (square or hexagon).
 	 * @param numberOfPlayer The number of players in the game.
+	 * @param cache The cache of the board scores.
+	 * @return The breakdown of each player, in the same order as the players.
+	 * @throws IllegalArgumentException if the number of players is not the size of the list.
 	 */
-	public static void pointCount(ArrayList<Player> players, ArrayList<WildlifeCount> wildlifeCards, int shapeOfTile, int numberOfPlayer) {
+	public static List<ScoreBreakdown> pointCount(List<Player> players, List<WildlifeCount> wildlifeCards, int shapeOfTile, int numberOfPlayer, ScoreCache cache) {
 		Objects.requireNonNull(players, "players is null");
 		Objects.requireNonNull(wildlifeCards, "wildlifeCards is null");
-		totalPointCount(players, wildlifeCards, shapeOfTile);
-    bonusPoint(players, numberOfPlayer);
-    countNatureToken(players);
+		Objects.requireNonNull(cache, "cache is null");
+		var biomes = new int[players.size()][];
+		var wildlife = new ArrayList<Map<String, Integer>>(players.size());
+		for (var i = 0; i < players.size(); i++) {
+			var player = players.get(i);
+			var score = cache.get(player, wildlifeCards, shapeOfTile, () -> new ScoreCache.BoardScore(
+					biomeCount(List.of(player), shapeOfTile)[0], wildlifeCount(player, wildlifeCards)));
+			biomes[i] = score.corridors();
+			wildlife.add(score.wildlife());
+		}
+		return breakdowns(players, biomes, wildlife, numberOfPlayer);
+	}
+
+	/**
+	 * Builds the breakdown of every player from the scores of their boards, adding the
+	 * majority bonuses and the nature tokens, and records it on the player.
+	 *
+	 * @param players The list of players to evaluate.
+	 * @param biomes The corridor sizes, indexed by player then by biome.
+	 * @param wildlife The points of each wildlife card, by player.
+	 * @param numberOfPlayer The number of players in the game.
+	 * @return The breakdown of each player, in the same order as the players.
+	 */
+	private static List<ScoreBreakdown> breakdowns(List<Player> players, int[][] biomes, List<? extends Map<String, Integer>> wildlife, int numberOfPlayer) {
+		if (players.isEmpty()) {
+			return List.of();
+		}
+		var bonus = new int[players.size()][BIOMES.size()];
+		bonusPoint(biomes, bonus, numberOfPlayer);
+		var breakdowns = new ArrayList<ScoreBreakdown>(players.size());
+		for (var i = 0; i < players.size(); i++) {
+			var player = players.get(i);
+			var breakdown = new ScoreBreakdown(player.name(), biomeMap(biomes[i]), biomeMap(bonus[i]), wildlife.get(i), player.natureToken());
+			player.recordScore(breakdown);
+			breakdowns.add(breakdown);
+		}
+		return List.copyOf(breakdowns);
 	}
-}
\ No newline at end of file
+}
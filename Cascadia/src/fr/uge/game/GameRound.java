@@ -1,13 +1,11 @@
 package fr.uge.game;
 
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.Objects;
-import java.util.random.RandomGenerator;
 
 import com.github.forax.zen.ApplicationContext;
 
-import fr.uge.game.element.Animals;
+import fr.uge.bot.HintService;
 import fr.uge.game.element.Draw;
 import fr.uge.game.element.Player;
 import fr.uge.version.Action;
@@ -25,6 +23,7 @@ public class GameRound {
 	private Structure structure;
 	private Draw draw;
 	private final int shapeOfTile;
+	private HintService hints;
 	
 	/**
    * Constructor to initialize a new game round.
@@ -42,6 +41,19 @@ public class GameRound {
 			throw new IllegalArgumentException("shapeOfTile < 0 or shapeOfTile > 2"); 
 		}
 	}
+
+	/**
+   * Returns the service suggesting a batch to the players, created the first time a
+   * graphical turn needs it so a game in the terminal never builds its search table.
+   *
+   * @return The hint service of the game.
+   */
+	private HintService hints() {
+		if (hints == null) {
+			hints = new HintService(structure, draw, 4, 5_000);
+		}
+		return hints;
+	}
 	
 	/**
    * Adds a tile and an animal to the game board and updates the display.
@@ -51,14 +63,13 @@ public class GameRound {
    * @param draw The draw object containing available tiles and animals.
    * @param tile The index of the tile to be added.
    * @param animal The index of the animal to be added.
-   * @param animalToken The animal tokens available.
    * @throws NumberFormatException if the tile or animal index is invalid.
    * @throws IOException if there is an issue displaying the updated game board.
    */
-	private void addOnGameBoard(Display diplay, Action actionOfPlayer, Draw draw, int tile, int animal, HashMap<Animals, Integer> animalToken) throws NumberFormatException, IOException {
-		actionOfPlayer.addTileOnGameBoard(draw.tilesForChoice.get(tile - 1));
+	private void addOnGameBoard(Display diplay, Action actionOfPlayer, Draw draw, int tile, int animal) throws NumberFormatException, IOException {
+		actionOfPlayer.addTileOnGameBoard(draw.tilesForChoice().get(tile - 1));
 		diplay.gameBoard();
-		actionOfPlayer.addAnimalOnGameBoard(draw.animalsForChoice.get(animal - 1), animalToken);
+		actionOfPlayer.addAnimalOnGameBoard(draw.animalsForChoice().get(animal - 1), structure);
   }
 	
 	 /**
@@ -73,13 +84,9 @@ public class GameRound {
    * @throws IOException if there is an issue updating the game display.
    */
 	private void updateGame(Display diplay, Action actionOfPlayer, Player player, int tile, int animal) throws NumberFormatException, IOException{
-		int randomNumber;
-		addOnGameBoard(diplay, actionOfPlayer, draw, tile, animal, structure.animalToken());
-		RandomGenerator rand = RandomGenerator.getDefault();
-		draw.animalsForChoice.set(animal - 1, draw.randomAnimal());
-		randomNumber = rand.nextInt(structure.tiles().size());
-		draw.tilesForChoice.set(tile - 1, structure.tiles().get(randomNumber));
-		structure.tiles().remove(randomNumber);
+		addOnGameBoard(diplay, actionOfPlayer, draw, tile, animal);
+		draw.replaceAnimal(animal - 1);
+		draw.replaceTile(tile - 1);
 	}
 	
 	/**
@@ -159,7 +166,7 @@ public class GameRound {
 		for (int i = 0; i < structure.players().size(); i++) {
 			var players = structure.players();
 			Display display = shapeOfTile == 0 ? new DisplayForTerminal(players, draw, i) : new DisplayForGraphic(players, draw, structure, i, context, shapeOfTile, width, height, gameTurn);
-			Action action = shapeOfTile == 0  ? new TerminalAction(draw, players.get(i)) : new GraphicAction(draw, players.get(i), context, display, shapeOfTile);
+			Action action = shapeOfTile == 0  ? new TerminalAction(draw, players.get(i)) : new GraphicAction(draw, players.get(i), context, display, shapeOfTile, hints(), Structure.ROUNDS - gameTurn);
 			display.playerBoard();
 			action.availableTile();
 			var play = false;
@@ -0,0 +1,61 @@
+package fr.uge.game;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import fr.uge.game.element.Animals;
+import fr.uge.game.element.Draw;
+import fr.uge.game.element.Tile;
+
+/**
+ * The state of a game at one moment: the players, the market, the pile and the bag. It
+ * never changes once taken, so spectator views, undo, searches and autosaves can read it
+ * from any thread while the game goes on.
+ * <p>
+ * The boards are the persistent boards of the players, shared with the game; the market,
+ * the pile and the bag are copied.
+ *
+ * @param players The players, in the order of the game.
+ * @param market The tiles of the market, by slot.
+ * @param animals The animals of the market, by slot.
+ * @param pile The tiles left in the pile.
+ * @param bag The number of tokens left of each animal.
+ */
+public record GameSnapshot(List<PlayerSnapshot> players, List<Tile> market, List<Animals> animals, List<Tile> pile,
+		Map<Animals, Integer> bag) {
+
+	/**
+	 * Copies the lists and the map.
+	 *
+	 * @throws NullPointerException if an argument is null.
+	 */
+	public GameSnapshot {
+		players = List.copyOf(players);
+		market = Collections.unmodifiableList(new ArrayList<>(market));
+		animals = Collections.unmodifiableList(new ArrayList<>(animals));
+		pile = List.copyOf(pile);
+		bag = Collections.unmodifiableMap(bag.isEmpty() ? new EnumMap<>(Animals.class) : new EnumMap<>(bag));
+	}
+
+	/**
+	 * Takes the snapshot of a game. It must be called on the thread playing the game.
+	 *
+	 * @param structure The game.
+	 * @param draw The market of the game.
+	 * @return The snapshot.
+	 */
+	public static GameSnapshot of(Structure structure, Draw draw) {
+		Objects.requireNonNull(structure, "structure is null");
+		Objects.requireNonNull(draw, "draw is null");
+		var players = new ArrayList<PlayerSnapshot>();
+		for (var player : structure.players()) {
+			players.add(player.snapshot());
+		}
+		return new GameSnapshot(players, draw.tilesForChoice(), draw.animalsForChoice(), structure.tiles(),
+				structure.animalToken());
+	}
+}
@@ -0,0 +1,43 @@
+package fr.uge.game;
+
+import java.util.Objects;
+
+import fr.uge.game.board.PersistentBoard;
+import fr.uge.game.board.Topology;
+import fr.uge.game.element.Player;
+
+/**
+ * The state of a player at one moment of the game. It shares the persistent board of the
+ * player, so taking it costs nothing, and it never changes afterwards, so it can be read
+ * from any thread while the game goes on.
+ *
+ * @param name The name of the player.
+ * @param natureToken The number of nature tokens of the player.
+ * @param point The points of the player.
+ * @param hash The Zobrist hash of the board, see {@link Player#hash()}.
+ * @param board The tiles, rotations and animals of the board.
+ */
+public record PlayerSnapshot(String name, int natureToken, int point, long hash, PersistentBoard board) {
+
+	/**
+	 * Checks the snapshot.
+	 *
+	 * @throws NullPointerException if name or board is null.
+	 */
+	public PlayerSnapshot {
+		Objects.requireNonNull(name, "name is null");
+		Objects.requireNonNull(board, "board is null");
+	}
+
+	/**
+	 * Returns the content of a cell of the board.
+	 *
+	 * @param x The x-coordinate of the cell.
+	 * @param y The y-coordinate of the cell.
+	 * @return The tile, rotation and animal of the cell, or null if there is no tile there.
+	 * @throws IndexOutOfBoundsException if the coordinates are out of bounds.
+	 */
+	public PersistentBoard.Cell habitat(int x, int y) {
+		return board.get(Topology.index(x, y));
+	}
+}
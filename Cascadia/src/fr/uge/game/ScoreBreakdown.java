@@ -0,0 +1,136 @@
+package fr.uge.game;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import fr.uge.game.element.Biome;
+
+/**
+ * Immutable result of the final scoring of one player: the size of the largest corridor
+ * of each biome, the majority bonus won on each biome, the points of each wildlife card
+ * and the nature tokens left.
+ */
+public record ScoreBreakdown(String name, Map<Biome, Integer> biomes, Map<Biome, Integer> majorityBonus, Map<String, Integer> wildlife, int natureToken) {
+
+	/**
+	 * Constructs a ScoreBreakdown, copying the given maps into unmodifiable ones.
+	 *
+	 * @param name The name of the player.
+	 * @param biomes The size of the largest corridor of each biome.
+	 * @param majorityBonus The bonus won on each biome.
+	 * @param wildlife The points of each wildlife card, by card name.
+	 * @param natureToken The number of nature tokens left.
+	 * @throws NullPointerException if any argument is null.
+	 * @throws IllegalArgumentException if natureToken is negative.
+	 */
+	public ScoreBreakdown {
+		Objects.requireNonNull(name, "name is null");
+		Objects.requireNonNull(biomes, "biomes is null");
+		Objects.requireNonNull(majorityBonus, "majorityBonus is null");
+		Objects.requireNonNull(wildlife, "wildlife is null");
+		if (natureToken < 0) {
+			throw new IllegalArgumentException("natureToken < 0");
+		}
+		biomes = Collections.unmodifiableMap(copyOf(biomes));
+		majorityBonus = Collections.unmodifiableMap(copyOf(majorityBonus));
+		wildlife = Collections.unmodifiableMap(new LinkedHashMap<>(wildlife));
+	}
+
+	/**
+	 * Copies a map keyed by biome into an EnumMap, which keeps the biomes in declaration order.
+	 *
+	 * @param map The map to copy.
+	 * @return The copy.
+	 */
+	private static EnumMap<Biome, Integer> copyOf(Map<Biome, Integer> map) {
+		var copy = new EnumMap<Biome, Integer>(Biome.class);
+		copy.putAll(map);
+		return copy;
+	}
+
+	/**
+	 * Returns the points given by the biome corridors.
+	 *
+	 * @return The sum of the largest corridor of each biome.
+	 */
+	public int biomePoints() {
+		return sum(biomes);
+	}
+
+	/**
+	 * Returns the points given by the majority bonuses.
+	 *
+	 * @return The sum of the bonuses won on each biome.
+	 */
+	public int bonusPoints() {
+		return sum(majorityBonus);
+	}
+
+	/**
+	 * Returns the points given by the wildlife cards.
+	 *
+	 * @return The sum of the points of each wildlife card.
+	 */
+	public int wildlifePoints() {
+		return sum(wildlife);
+	}
+
+	/**
+	 * Returns the final score of the player.
+	 *
+	 * @return The sum of every category.
+	 */
+	public int total() {
+		return biomePoints() + bonusPoints() + wildlifePoints() + natureToken;
+	}
+
+	/**
+	 * Sums the values of a map.
+	 *
+	 * @param map The map to sum.
+	 * @return The sum of the values.
+	 */
+	private static int sum(Map<?, Integer> map) {
+		var sum = 0;
+		for (var value : map.values()) {
+			sum += value;
+		}
+		return sum;
+	}
+
+	/**
+	 * Appends a map as a JSON object.
+	 *
+	 * @param builder The builder to append to.
+	 * @param map The map to append.
+	 */
+	private static void appendJson(StringBuilder builder, Map<?, Integer> map) {
+		builder.append('{');
+		var separator = "";
+		for (var entry : map.entrySet()) {
+			builder.append(separator).append('"').append(entry.getKey()).append("\":").append(entry.getValue());
+			separator = ",";
+		}
+		builder.append('}');
+	}
+
+	/**
+	 * Returns a compact JSON representation of the breakdown, for dashboards and logs.
+	 *
+	 * @return The breakdown as a JSON object.
+	 */
+	public String toJson() {
+		var builder = new StringBuilder();
+		builder.append("{\"name\":\"").append(name.replace("\\", "\\\\").replace("\"", "\\\"")).append("\",\"biomes\":");
+		appendJson(builder, biomes);
+		builder.append(",\"majorityBonus\":");
+		appendJson(builder, majorityBonus);
+		builder.append(",\"wildlife\":");
+		appendJson(builder, wildlife);
+		builder.append(",\"natureToken\":").append(natureToken).append(",\"total\":").append(total()).append('}');
+		return builder.toString();
+	}
+}
@@ -0,0 +1,139 @@
+package fr.uge.game;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import fr.uge.game.element.Player;
+
+/**
+ * Bounded cache of the scores of boards, keyed by the Zobrist hash of the board, the
+ * wildlife cards in play and the shape of the tiles. Only what depends on the board alone
+ * is kept: the largest corridor of each biome and the points of each card. The majority
+ * bonuses compare the players and the nature tokens are not on the board, so
+ * {@link CountPoint} works them out again from the cached values.
+ * <p>
+ * The least recently used board is evicted when the cache is full. Boards are told apart
+ * by their 64-bit hash only, so two different boards with the same hash, which is very
+ * unlikely, would share their scores. The cache can be shared between threads.
+ */
+public final class ScoreCache {
+	/**
+	 * The scores of one board.
+	 *
+	 * @param corridors The largest corridor of each biome, in the order of {@link CountPoint}.
+	 * @param wildlife The points of each wildlife card, by card name.
+	 */
+	record BoardScore(int[] corridors, Map<String, Integer> wildlife) {
+	}
+
+	private record Key(long hash, List<WildlifeCount> wildlifeCards, int shapeOfTile) {
+	}
+
+	private final int capacity;
+	private final LinkedHashMap<Key, BoardScore> entries;
+	private long hits;
+	private long misses;
+
+	/**
+	 * Creates an empty cache.
+	 *
+	 * @param capacity The largest number of boards kept.
+	 * @throws IllegalArgumentException if capacity is not positive.
+	 */
+	public ScoreCache(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("capacity < 1");
+		}
+		this.capacity = capacity;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, BoardScore> eldest) {
+				return size() > ScoreCache.this.capacity;
+			}
+		};
+	}
+
+	/**
+	 * Returns the scores of a board, computing them on a miss. The computation runs
+	 * outside the lock, so two threads missing the same board may both compute it.
+	 *
+	 * @param player The player holding the board.
+	 * @param wildlifeCards The wildlife cards in play.
+	 * @param shapeOfTile The shape of the tiles.
+	 * @param scorer Computes the scores of the board on a miss.
+	 * @return The scores of the board.
+	 */
+	BoardScore get(Player player, List<WildlifeCount> wildlifeCards, int shapeOfTile, Supplier<BoardScore> scorer) {
+		var key = new Key(player.hash(), List.copyOf(wildlifeCards), shapeOfTile);
+		synchronized (entries) {
+			var score = entries.get(key);
+			if (score != null) {
+				hits++;
+				return score;
+			}
+			misses++;
+		}
+		var score = Objects.requireNonNull(scorer.get());
+		synchronized (entries) {
+			entries.put(key, score);
+		}
+		return score;
+	}
+
+	/**
+	 * Returns the number of boards found in the cache.
+	 *
+	 * @return The number of hits.
+	 */
+	public long hits() {
+		synchronized (entries) {
+			return hits;
+		}
+	}
+
+	/**
+	 * Returns the number of boards that had to be scored.
+	 *
+	 * @return The number of misses.
+	 */
+	public long misses() {
+		synchronized (entries) {
+			return misses;
+		}
+	}
+
+	/**
+	 * Returns the number of boards in the cache.
+	 *
+	 * @return The number of boards.
+	 */
+	public int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	/**
+	 * Removes every board from the cache and resets the counters. This is needed when the
+	 * points of the cards change, since the cards are part of the key but not their tables.
+	 */
+	public void clear() {
+		synchronized (entries) {
+			entries.clear();
+			hits = 0;
+			misses = 0;
+		}
+	}
+
+	@Override
+	public String toString() {
+		synchronized (entries) {
+			return "ScoreCache " + entries.size() + "/" + capacity + ", " + hits + " hits, " + misses + " misses";
+		}
+	}
+}
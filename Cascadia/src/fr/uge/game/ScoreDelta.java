@@ -0,0 +1,59 @@
+package fr.uge.game;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import fr.uge.game.element.Biome;
+
+/**
+ * Represents the score difference a hypothetical placement would bring to a player,
+ * split by category: one entry per biome corridor, one entry per wildlife card and
+ * the nature token gained.
+ */
+public record ScoreDelta(Map<Biome, Integer> biomes, Map<String, Integer> wildlife, int natureToken) {
+
+	/**
+	 * Constructs a ScoreDelta, copying the given maps into unmodifiable ones.
+	 *
+	 * @param biomes The point difference for each biome corridor.
+	 * @param wildlife The point difference for each wildlife card, by card name.
+	 * @param natureToken The number of nature tokens gained (0 or 1).
+	 * @throws NullPointerException if biomes or wildlife is null.
+	 */
+	public ScoreDelta {
+		Objects.requireNonNull(biomes, "biomes is null");
+		Objects.requireNonNull(wildlife, "wildlife is null");
+		biomes = Collections.unmodifiableMap(biomes.isEmpty() ? new EnumMap<>(Biome.class) : new EnumMap<>(biomes));
+		wildlife = Collections.unmodifiableMap(new LinkedHashMap<>(wildlife));
+	}
+
+	/**
+	 * Returns the point difference for a biome corridor.
+	 *
+	 * @param biome The biome to look at.
+	 * @return The point difference, 0 if the placement does not change this corridor.
+	 */
+	public int biome(Biome biome) {
+		Objects.requireNonNull(biome, "biome is null");
+		return biomes.getOrDefault(biome, 0);
+	}
+
+	/**
+	 * Returns the total point difference over every category.
+	 *
+	 * @return The sum of all the deltas.
+	 */
+	public int total() {
+		var total = natureToken;
+		for (var value : biomes.values()) {
+			total += value;
+		}
+		for (var value : wildlife.values()) {
+			total += value;
+		}
+		return total;
+	}
+}
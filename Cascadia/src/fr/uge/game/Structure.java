@@ -3,14 +3,14 @@ package fr.uge.game;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 import fr.uge.game.element.Player;
 import fr.uge.game.element.Animals;
@@ -26,8 +26,18 @@ import fr.uge.game.wildlifeCount.Salmon;
 
 /**
  * Core class managing the game's setup, tiles, players, and rules.
+ * <p>
+ * A structure holds the state of one game and draws from its own random generator, so
+ * games do not share anything but the immutable {@link Catalogue}. The collections are
+ * handed out as unmodifiable views and only change through the methods of the game;
+ * a structure is not thread-safe and must stay on the thread playing its game.
  */
 public class Structure {
+	/**
+	 * The number of rounds of a game.
+	 */
+	public static final int ROUNDS = 15;
+
 	private final ArrayList<Tile> tiles = new ArrayList<>();
 	private final ArrayList<Player> players = new ArrayList<>();
 	private final ArrayList<ArrayList<Tile>> startHabitat = new ArrayList<>();
@@ -36,6 +46,7 @@ public class Structure {
 	private final int game;
 	private final int numberOfPlayers;
 	private final int shapeOfTile;
+	private final RandomGenerator random;
 
 	/**
    * Constructor for the Structure class.
@@ -46,6 +57,19 @@ public class Structure {
    * @throws IllegalArgumentException if any parameter is out of its valid range.
    */
 	public Structure(int numberOfPlayers, int game, int shapeOfTile) {
+		this(numberOfPlayers, game, shapeOfTile, new SplittableRandom());
+	}
+
+	/**
+   * Constructor for the Structure class, drawing from the given random generator.
+   *
+   * @param numberOfPlayers The number of players in the game (between 2 and 4).
+   * @param game The game mode (0 to 3).
+   * @param shapeOfTile The shape of the tiles (0 = square, 2 = hexagonal).
+   * @param random The random generator of the game, only used by this game.
+   * @throws IllegalArgumentException if any parameter is out of its valid range.
+   */
+	public Structure(int numberOfPlayers, int game, int shapeOfTile, RandomGenerator random) {
 		if (game < 0 && game > 3) {
 			throw new IllegalArgumentException("game < 0 and game > 3");
 		}
@@ -58,24 +82,48 @@ public class Structure {
 		this.numberOfPlayers = numberOfPlayers;
 		this.game = game;
 		this.shapeOfTile = shapeOfTile;
+		this.random = Objects.requireNonNull(random, "random is null");
 	}
 
 	/**
-   * Gets the list of tiles in the game.
+   * Gets the list of tiles left in the pile.
    *
-   * @return An ArrayList of Tile objects.
+   * @return An unmodifiable view of the tiles.
    */
-	public ArrayList<Tile> tiles() {
-		return tiles;
+	public List<Tile> tiles() {
+		return Collections.unmodifiableList(tiles);
+	}
+
+	/**
+   * Takes a random tile out of the pile.
+   *
+   * @return The tile.
+   * @throws IllegalStateException if the pile is empty.
+   */
+	public Tile drawTile() {
+		if (tiles.isEmpty()) {
+			throw new IllegalStateException("the pile is empty");
+		}
+		return tiles.remove(random.nextInt(tiles.size()));
 	}
 
 	/**
    * Gets the map of animal tokens.
    *
-   * @return A HashMap where the key is an Animals enum and the value is the token count.
+   * @return An unmodifiable view of the token count of each animal.
    */
-	public HashMap<Animals, Integer> animalToken() {
-		return animalToken;
+	public Map<Animals, Integer> animalToken() {
+		return Collections.unmodifiableMap(animalToken);
+	}
+
+	/**
+   * Gets the random generator of the game. Like the rest of the game, it must only be
+   * used on the thread playing the game.
+   *
+   * @return The random generator.
+   */
+	public RandomGenerator random() {
+		return random;
 	}
 
 	/**
@@ -95,10 +143,10 @@ public class Structure {
 	 /**
    * Gets the list of players in the game.
    *
-   * @return An ArrayList of Player objects.
+   * @return An unmodifiable view of the players.
    */
-	public ArrayList<Player> players() {
-		return players;
+	public List<Player> players() {
+		return Collections.unmodifiableList(players);
 	}
 
 	/**
@@ -110,6 +158,15 @@ public class Structure {
 		return game;
 	}
 
+	/**
+   * Gets the shape of the tiles.
+   *
+   * @return The shape of the tiles (0 = square in the terminal, 1 = square, 2 = hexagonal).
+   */
+	public int shapeOfTile() {
+		return shapeOfTile;
+	}
+
 	/**
    * Gets the number of players in the game.
    *
@@ -122,10 +179,10 @@ public class Structure {
 	/**
    * Gets the list of wildlife cards.
    *
-   * @return An ArrayList of WildlifeCount objects.
+   * @return An unmodifiable view of the wildlife cards.
    */
-	public ArrayList<WildlifeCount> wildlifeCards() {
-		return wildlifeCards;
+	public List<WildlifeCount> wildlifeCards() {
+		return Collections.unmodifiableList(wildlifeCards);
 	}
 
 	/**
@@ -141,60 +198,13 @@ public class Structure {
 		animalToken.put(Animals.NOTHING, 0);
 	}
 
-	/**
-   * Reads tile data from a file and adds it to the tiles list.
-   *
-   * @param path The path to the file containing tile data.
-   * @param tiles The list to populate with tile data.
-   * @param reader The BufferedReader used to read the file.
-   * @throws IOException If an I/O error occurs while reading the file.
-   */
-	private void readFile(Path path, List<Tile> tiles, BufferedReader reader) throws IOException {
-		String line;
-		while ((line = reader.readLine()) != null) {
-			List<Biome> biome = new ArrayList<>();
-			List<Animals> animals = new ArrayList<>();
-			String[] words = line.split("\\s+");
-			var change = false;
-			for (String word : words) {
-				if (word.equals("|")) {
-					change = true;
-				} else if (!change) {
-					biome.add(Biome.valueOf(word));
-				} else {
-					animals.add(Animals.valueOf(word));
-				}
-			}
-			var tile = new Tile(animals, biome);
-			tiles.add(tile);
-		}
-	}
-
-	/**
-   * Reads all tiles from a given file.
-   *
-   * @param path The path to the file containing tile data.
-   * @return An ArrayList of Tile objects read from the file.
-   */
-	private ArrayList<Tile> totalOfTiles(Path path) {
-		ArrayList<Tile> totalTile = new ArrayList<>();
-		try (var reader = Files.newBufferedReader(path)) {
-			readFile(path, totalTile, reader);
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
-		return totalTile;
-	}
-
 	/**
    * Initializes habitat tiles for hexagonal tiles.
-   * Reads tiles from a file and randomly selects a subset based on the number of players.
+   * Randomly selects a subset of the habitat cards of the catalogue based on the number of players.
    */
 	private void initializeHabitatHexagonal() {
-		Path path = Paths.get("HabitatCards.txt");
 		var index = numberOfPlayers * 20 + 3;
-		Random random = new Random();
-		var totalTile = totalOfTiles(path);
+		var totalTile = new ArrayList<>(Catalogue.habitatCards());
 		while (index != 0) {
 			var listIndex = random.nextInt(totalTile.size());
 			tiles.add(totalTile.get(listIndex));
@@ -211,11 +221,10 @@ public class Structure {
    * @return A random integer between 0 (inclusive) and limit (exclusive), excluding the given number.
    * @throws IllegalArgumentException If the limit is less than the number.
    */
-	private static int randomNumber(int limit, int number) {
+	private int randomNumber(int limit, int number) {
 		if (limit < number) {
 			throw new IllegalArgumentException("limit < number");
 		}
-		Random random = new Random();
 		int random1;
 		do {
 			random1 = random.nextInt(limit);
@@ -235,7 +244,6 @@ public class Structure {
 		}
 		List<Animals> animals = List.of(Animals.BEAR, Animals.SALMON, Animals.FOX, Animals.ELK, Animals.BUZZARD);
 		List<Biome> biome = List.of(Biome.MOUNTAIN, Biome.FOREST, Biome.MEADOW, Biome.SWAMP, Biome.RIVER);
-		Random random = new Random();
 		var random1 = random.nextInt(5);
 		var random2 = randomNumber(5, random1);
 		tiles.add(new Tile(List.of(animals.get(random1), animals.get(random2)), List.of(biome.get(index))));
@@ -269,7 +277,6 @@ public class Structure {
    * Uses randomly generated tiles to populate the habitat.
    */
 	private void initializeHabitatSquare() {
-		Random random = new Random();
 		var totalTiles = createTiles();
 		int numberOfTile = 20 * numberOfPlayers + 3;
 		for (int i = 0; i < numberOfTile; i++) {
@@ -280,13 +287,10 @@ public class Structure {
 	}
 
 	/**
-   * Creates starting habitat tiles for a hexagonal game board from a file.
-   * 
-   * @throws IOException if there is an error reading the file.
+   * Creates starting habitat tiles for a hexagonal game board from the start habitat cards of the catalogue.
    */
 	private void createStartTilesHexagonal() {
-		Path path = Paths.get("StartHabitatCards.txt");
-		var totalTile = totalOfTiles(path);
+		var totalTile = Catalogue.startHabitatCards();
 		ArrayList<Tile> startHabitToAdd = new ArrayList<>();
 		for (int i = 0; i < totalTile.size(); i++) {
 			startHabitToAdd.add(totalTile.get(i));
@@ -301,7 +305,6 @@ public class Structure {
    * Creates starting habitat tiles for a square game board.
    */
 	private void createStartTilesSquare() {
-		Random random = new Random();
 		int random1;
 		int random2;
 		List<Animals> animals = List.of(Animals.BEAR, Animals.SALMON, Animals.FOX, Animals.ELK, Animals.BUZZARD);
@@ -363,10 +366,9 @@ public class Structure {
    * Assigns starting tiles to players randomly from the available habitat tiles.
    */
 	private void choiceOfStartTiles() {
-		Random rand = new Random();
 		for (var i = 0; i < numberOfPlayers; i++) {
 			
-			ArrayList<Tile> listofChoice = startHabitat.get(rand.nextInt(startHabitat.size()));
+			ArrayList<Tile> listofChoice = startHabitat.get(random.nextInt(startHabitat.size()));
 			players.get(i).add(listofChoice.get(0), 25, 24, Animals.NOTHING, 1);
 			players.get(i).add(listofChoice.get(1), 25, 25, Animals.NOTHING, 2);
 			players.get(i).add(listofChoice.get(2), 26, 25, Animals.NOTHING, 3);
@@ -1,5 +1,6 @@
 package fr.uge.game;
 
+import fr.uge.game.element.Animals;
 import fr.uge.game.element.Player;
 
 
@@ -31,4 +32,15 @@ public interface WildlifeCount {
    * @return the total points as an integer.
    */
 	int pointCount(Player player);
+
+	/**
+   * Tells whether placing a tile holding an animal can change the points of this card,
+   * so what-if scoring only scores again the cards a placement touches.
+   * 
+   * @param animal the animal placed, {@code Animals.NOTHING} for a tile without animal.
+   * @return true if the points may change, which is the safe answer for any card.
+   */
+	default boolean affectedBy(Animals animal) {
+		return true;
+	}
 }
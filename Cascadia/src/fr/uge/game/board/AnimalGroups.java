@@ -0,0 +1,238 @@
+package fr.uge.game.board;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import fr.uge.game.element.Animals;
+
+/**
+ * Keeps the groups of connected animals of a same species as they are placed, with the
+ * number of groups of each size for every species.
+ * <p>
+ * Groups are merged with a union-find: a new animal is joined with the groups of the
+ * same species around it. Union-find cannot split, so when an animal leaves a cell its
+ * group is dropped and the pieces left around the cell are labelled again with a short
+ * walk. Cards scoring group sizes only read the histogram.
+ */
+public final class AnimalGroups {
+	private static final int SPECIES = Animals.NOTHING.ordinal();
+
+	private final Topology topology;
+	private final byte[] animals = new byte[Topology.CELLS];
+	private final int[] parent = new int[Topology.CELLS];
+	private final int[] size = new int[Topology.CELLS];
+	private final int[][] histogram = new int[SPECIES][Topology.CELLS + 1];
+	private final int[] groups = new int[SPECIES];
+	private final int[] queue = new int[Topology.CELLS];
+	private final int[] visited = new int[Topology.CELLS];
+	private int stamp;
+
+	/**
+	 * Creates the groups of an empty board.
+	 *
+	 * @param topology The topology of the board.
+	 */
+	public AnimalGroups(Topology topology) {
+		this.topology = Objects.requireNonNull(topology, "topology is null");
+		Arrays.fill(animals, (byte) SPECIES);
+	}
+
+	/**
+	 * Creates a copy of the groups of a board.
+	 *
+	 * @param groups The groups to copy.
+	 */
+	public AnimalGroups(AnimalGroups groups) {
+		Objects.requireNonNull(groups, "groups is null");
+		this.topology = groups.topology;
+		System.arraycopy(groups.animals, 0, animals, 0, Topology.CELLS);
+		System.arraycopy(groups.parent, 0, parent, 0, Topology.CELLS);
+		System.arraycopy(groups.size, 0, size, 0, Topology.CELLS);
+		for (var species = 0; species < SPECIES; species++) {
+			System.arraycopy(groups.histogram[species], 0, histogram[species], 0, Topology.CELLS + 1);
+		}
+		System.arraycopy(groups.groups, 0, this.groups, 0, SPECIES);
+	}
+
+	/**
+	 * Records the animal of a cell, replacing the previous one.
+	 *
+	 * @param x The x-coordinate.
+	 * @param y The y-coordinate.
+	 * @param animal The animal of the cell, {@code Animals.NOTHING} to clear it.
+	 * @throws NullPointerException if the animal is null.
+	 * @throws IndexOutOfBoundsException if the cell is not on the board.
+	 */
+	public void set(int x, int y, Animals animal) {
+		Objects.requireNonNull(animal, "animal is null");
+		var cell = Topology.index(x, y);
+		var previous = animals[cell];
+		var next = animal.ordinal();
+		if (previous == next) {
+			return;
+		}
+		if (previous != SPECIES) {
+			remove(cell, previous);
+		}
+		if (next != SPECIES) {
+			insert(cell, next);
+		}
+	}
+
+	/**
+	 * Adds an animal to the board and joins it with the groups around it.
+	 *
+	 * @param cell The cell of the animal.
+	 * @param species The ordinal of the animal.
+	 */
+	private void insert(int cell, int species) {
+		animals[cell] = (byte) species;
+		parent[cell] = cell;
+		size[cell] = 1;
+		count(species, 1, 1);
+		for (var side = 0; side < topology.degree(); side++) {
+			var neighbour = topology.neighbour(cell, side);
+			if (neighbour != Topology.NONE && animals[neighbour] == species) {
+				union(cell, neighbour, species);
+			}
+		}
+	}
+
+	/**
+	 * Takes an animal off the board and labels again the pieces of its group.
+	 *
+	 * @param cell The cell of the animal.
+	 * @param species The ordinal of the animal.
+	 */
+	private void remove(int cell, int species) {
+		count(species, size[find(cell)], -1);
+		animals[cell] = (byte) SPECIES;
+		stamp++;
+		for (var side = 0; side < topology.degree(); side++) {
+			var neighbour = topology.neighbour(cell, side);
+			if (neighbour != Topology.NONE && animals[neighbour] == species && visited[neighbour] != stamp) {
+				count(species, relabel(neighbour, species), 1);
+			}
+		}
+	}
+
+	/**
+	 * Makes a cell the root of every animal of the same species connected to it.
+	 *
+	 * @param root The cell of the new root.
+	 * @param species The ordinal of the animal.
+	 * @return The size of the group.
+	 */
+	private int relabel(int root, int species) {
+		var head = 0;
+		var tail = 0;
+		queue[tail++] = root;
+		visited[root] = stamp;
+		while (head < tail) {
+			var cell = queue[head++];
+			parent[cell] = root;
+			for (var side = 0; side < topology.degree(); side++) {
+				var neighbour = topology.neighbour(cell, side);
+				if (neighbour != Topology.NONE && animals[neighbour] == species && visited[neighbour] != stamp) {
+					visited[neighbour] = stamp;
+					queue[tail++] = neighbour;
+				}
+			}
+		}
+		size[root] = tail;
+		return tail;
+	}
+
+	/**
+	 * Finds the root of the group of a cell.
+	 *
+	 * @param cell The cell of an animal.
+	 * @return The root of its group.
+	 */
+	private int find(int cell) {
+		while (parent[cell] != cell) {
+			parent[cell] = parent[parent[cell]];
+			cell = parent[cell];
+		}
+		return cell;
+	}
+
+	/**
+	 * Merges the groups of two cells holding the same species.
+	 *
+	 * @param cell1 The first cell.
+	 * @param cell2 The second cell.
+	 * @param species The ordinal of the animal.
+	 */
+	private void union(int cell1, int cell2, int species) {
+		var root1 = find(cell1);
+		var root2 = find(cell2);
+		if (root1 == root2) {
+			return;
+		}
+		if (size[root1] < size[root2]) {
+			var swap = root1;
+			root1 = root2;
+			root2 = swap;
+		}
+		count(species, size[root1], -1);
+		count(species, size[root2], -1);
+		parent[root2] = root1;
+		size[root1] += size[root2];
+		count(species, size[root1], 1);
+	}
+
+	/**
+	 * Updates the histogram of a species.
+	 *
+	 * @param species The ordinal of the animal.
+	 * @param groupSize The size of the group added or removed.
+	 * @param delta 1 to add the group, -1 to remove it.
+	 */
+	private void count(int species, int groupSize, int delta) {
+		histogram[species][groupSize] += delta;
+		groups[species] += delta;
+	}
+
+	/**
+	 * Returns the number of groups of a species with a given size.
+	 *
+	 * @param animal The species.
+	 * @param groupSize The number of animals in the group.
+	 * @return The number of groups of exactly this size, 0 for {@code Animals.NOTHING}.
+	 * @throws IndexOutOfBoundsException if the size is negative or larger than the board.
+	 */
+	public int groups(Animals animal, int groupSize) {
+		Objects.requireNonNull(animal, "animal is null");
+		Objects.checkIndex(groupSize, Topology.CELLS + 1);
+		return animal == Animals.NOTHING ? 0 : histogram[animal.ordinal()][groupSize];
+	}
+
+	/**
+	 * Returns the number of groups of a species.
+	 *
+	 * @param animal The species.
+	 * @return The number of groups of any size, 0 for {@code Animals.NOTHING}.
+	 */
+	public int groups(Animals animal) {
+		Objects.requireNonNull(animal, "animal is null");
+		return animal == Animals.NOTHING ? 0 : groups[animal.ordinal()];
+	}
+
+	/**
+	 * Returns the number of groups of a species with at least a given size.
+	 *
+	 * @param animal The species.
+	 * @param groupSize The smallest number of animals in the group.
+	 * @return The number of groups of this size or larger.
+	 * @throws IndexOutOfBoundsException if the size is negative or larger than the board.
+	 */
+	public int groupsOfAtLeast(Animals animal, int groupSize) {
+		Objects.checkIndex(groupSize, Topology.CELLS + 1);
+		var result = groups(animal);
+		for (var smaller = 1; smaller < groupSize; smaller++) {
+			result -= groups(animal, smaller);
+		}
+		return result;
+	}
+}
@@ -0,0 +1,268 @@
+package fr.uge.game.board;
+
+import java.util.Objects;
+
+import fr.uge.game.element.Biome;
+import fr.uge.game.element.Tile;
+
+/**
+ * Keeps the corridors of every biome as tiles are placed, with the number of corridors
+ * of each size and the size of the largest one.
+ * <p>
+ * Two tiles are in the same corridor of a biome when the sides they share both show the
+ * biome. Square tiles only count their first biome, on every side; hexagonal tiles show
+ * their biomes on the sides given by {@link TileEdges}. Like {@link AnimalGroups}, the
+ * corridors are merged with a union-find and the pieces left when a tile is taken back
+ * are labelled again with a walk limited to its corridor.
+ */
+public final class Corridors {
+	private static final int BIOMES = Biome.NOTHING.ordinal();
+
+	private final Topology topology;
+	private final byte[][] sides = new byte[BIOMES][Topology.CELLS];
+	private final int[][] parent = new int[BIOMES][Topology.CELLS];
+	private final int[][] size = new int[BIOMES][Topology.CELLS];
+	private final int[][] histogram = new int[BIOMES][Topology.CELLS + 1];
+	private final int[] largest = new int[BIOMES];
+	private final int[] queue = new int[Topology.CELLS];
+	private final int[] visited = new int[Topology.CELLS];
+	private int stamp;
+
+	/**
+	 * Creates the corridors of an empty board.
+	 *
+	 * @param topology The topology of the board.
+	 */
+	public Corridors(Topology topology) {
+		this.topology = Objects.requireNonNull(topology, "topology is null");
+	}
+
+	/**
+	 * Creates a copy of the corridors of a board.
+	 *
+	 * @param corridors The corridors to copy.
+	 */
+	public Corridors(Corridors corridors) {
+		Objects.requireNonNull(corridors, "corridors is null");
+		this.topology = corridors.topology;
+		for (var biome = 0; biome < BIOMES; biome++) {
+			System.arraycopy(corridors.sides[biome], 0, sides[biome], 0, Topology.CELLS);
+			System.arraycopy(corridors.parent[biome], 0, parent[biome], 0, Topology.CELLS);
+			System.arraycopy(corridors.size[biome], 0, size[biome], 0, Topology.CELLS);
+			System.arraycopy(corridors.histogram[biome], 0, histogram[biome], 0, Topology.CELLS + 1);
+		}
+		System.arraycopy(corridors.largest, 0, largest, 0, BIOMES);
+	}
+
+	/**
+	 * Places a tile on a cell, replacing the previous one.
+	 *
+	 * @param x The x-coordinate.
+	 * @param y The y-coordinate.
+	 * @param tile The tile.
+	 * @param rotation The rotation of the tile.
+	 * @throws NullPointerException if the tile is null.
+	 * @throws IndexOutOfBoundsException if the cell is not on the board.
+	 */
+	public void set(int x, int y, Tile tile, int rotation) {
+		Objects.requireNonNull(tile, "tile is null");
+		var cell = Topology.index(x, y);
+		remove(cell);
+		var biomes = tile.biome();
+		for (var side = 0; side < topology.degree(); side++) {
+			var biome = topology == Topology.HEXAGON && biomes.size() > 1 ? biomes.get(TileEdges.half(rotation, side)) : biomes.get(0);
+			if (biome != Biome.NOTHING) {
+				sides[biome.ordinal()][cell] |= (byte) (1 << side);
+			}
+		}
+		for (var biome = 0; biome < BIOMES; biome++) {
+			if (sides[biome][cell] != 0) {
+				insert(cell, biome);
+			}
+		}
+	}
+
+	/**
+	 * Takes the tile of a cell back.
+	 *
+	 * @param x The x-coordinate.
+	 * @param y The y-coordinate.
+	 * @throws IndexOutOfBoundsException if the cell is not on the board.
+	 */
+	public void remove(int x, int y) {
+		remove(Topology.index(x, y));
+	}
+
+	/**
+	 * Checks if the sides two neighbours share both show a biome.
+	 *
+	 * @param cell The first cell.
+	 * @param side The side of the first cell facing the second one.
+	 * @param neighbour The second cell, or {@code Topology.NONE}.
+	 * @param biome The ordinal of the biome.
+	 * @return True if the two cells are in the same corridor of the biome.
+	 */
+	private boolean joined(int cell, int side, int neighbour, int biome) {
+		return neighbour != Topology.NONE && (sides[biome][cell] & 1 << side) != 0
+				&& (sides[biome][neighbour] & 1 << topology.opposite(side)) != 0;
+	}
+
+	/**
+	 * Adds a tile to the corridors of a biome and joins it with the corridors around it.
+	 *
+	 * @param cell The cell of the tile.
+	 * @param biome The ordinal of the biome.
+	 */
+	private void insert(int cell, int biome) {
+		parent[biome][cell] = cell;
+		size[biome][cell] = 1;
+		count(biome, 1, 1);
+		for (var side = 0; side < topology.degree(); side++) {
+			var neighbour = topology.neighbour(cell, side);
+			if (joined(cell, side, neighbour, biome)) {
+				union(cell, neighbour, biome);
+			}
+		}
+	}
+
+	/**
+	 * Takes a tile off the corridors of every biome and labels again the pieces left.
+	 *
+	 * @param cell The cell of the tile.
+	 */
+	private void remove(int cell) {
+		for (var biome = 0; biome < BIOMES; biome++) {
+			if (sides[biome][cell] == 0) {
+				continue;
+			}
+			count(biome, size[biome][find(cell, biome)], -1);
+			stamp++;
+			visited[cell] = stamp;
+			for (var side = 0; side < topology.degree(); side++) {
+				var neighbour = topology.neighbour(cell, side);
+				if (joined(cell, side, neighbour, biome) && visited[neighbour] != stamp) {
+					count(biome, relabel(neighbour, biome), 1);
+				}
+			}
+			sides[biome][cell] = 0;
+		}
+	}
+
+	/**
+	 * Makes a cell the root of every tile of the corridor containing it. The cell marked
+	 * visited before the walk is left out, so a tile being taken back is not reached.
+	 *
+	 * @param root The cell of the new root.
+	 * @param biome The ordinal of the biome.
+	 * @return The size of the corridor.
+	 */
+	private int relabel(int root, int biome) {
+		var head = 0;
+		var tail = 0;
+		queue[tail++] = root;
+		visited[root] = stamp;
+		while (head < tail) {
+			var cell = queue[head++];
+			parent[biome][cell] = root;
+			for (var side = 0; side < topology.degree(); side++) {
+				var neighbour = topology.neighbour(cell, side);
+				if (joined(cell, side, neighbour, biome) && visited[neighbour] != stamp) {
+					visited[neighbour] = stamp;
+					queue[tail++] = neighbour;
+				}
+			}
+		}
+		size[biome][root] = tail;
+		return tail;
+	}
+
+	/**
+	 * Finds the root of the corridor of a cell.
+	 *
+	 * @param cell The cell of a tile showing the biome.
+	 * @param biome The ordinal of the biome.
+	 * @return The root of its corridor.
+	 */
+	private int find(int cell, int biome) {
+		var parents = parent[biome];
+		while (parents[cell] != cell) {
+			parents[cell] = parents[parents[cell]];
+			cell = parents[cell];
+		}
+		return cell;
+	}
+
+	/**
+	 * Merges the corridors of two cells.
+	 *
+	 * @param cell1 The first cell.
+	 * @param cell2 The second cell.
+	 * @param biome The ordinal of the biome.
+	 */
+	private void union(int cell1, int cell2, int biome) {
+		var root1 = find(cell1, biome);
+		var root2 = find(cell2, biome);
+		if (root1 == root2) {
+			return;
+		}
+		var sizes = size[biome];
+		if (sizes[root1] < sizes[root2]) {
+			var swap = root1;
+			root1 = root2;
+			root2 = swap;
+		}
+		count(biome, sizes[root1], -1);
+		count(biome, sizes[root2], -1);
+		parent[biome][root2] = root1;
+		sizes[root1] += sizes[root2];
+		count(biome, sizes[root1], 1);
+	}
+
+	/**
+	 * Updates the histogram and the largest corridor of a biome.
+	 *
+	 * @param biome The ordinal of the biome.
+	 * @param corridorSize The size of the corridor added or removed.
+	 * @param delta 1 to add the corridor, -1 to remove it.
+	 */
+	private void count(int biome, int corridorSize, int delta) {
+		var counts = histogram[biome];
+		counts[corridorSize] += delta;
+		if (delta > 0) {
+			largest[biome] = Math.max(largest[biome], corridorSize);
+			return;
+		}
+		while (largest[biome] > 0 && counts[largest[biome]] == 0) {
+			largest[biome]--;
+		}
+	}
+
+	/**
+	 * Returns the size of the largest corridor of a biome.
+	 *
+	 * @param biome The biome.
+	 * @return The number of tiles of the largest corridor, 0 for {@code Biome.NOTHING}.
+	 */
+	public int largest(Biome biome) {
+		Objects.requireNonNull(biome, "biome is null");
+		return biome == Biome.NOTHING ? 0 : largest[biome.ordinal()];
+	}
+
+	/**
+	 * Returns the size of the corridor of a biome containing a cell.
+	 *
+	 * @param x The x-coordinate.
+	 * @param y The y-coordinate.
+	 * @param biome The biome.
+	 * @return The number of tiles of the corridor, 0 if the tile of the cell does not show the biome.
+	 * @throws IndexOutOfBoundsException if the cell is not on the board.
+	 */
+	public int size(int x, int y, Biome biome) {
+		Objects.requireNonNull(biome, "biome is null");
+		var cell = Topology.index(x, y);
+		if (biome == Biome.NOTHING || sides[biome.ordinal()][cell] == 0) {
+			return 0;
+		}
+		return size[biome.ordinal()][find(cell, biome.ordinal())];
+	}
+}
@@ -0,0 +1,243 @@
+package fr.uge.game.board;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import fr.uge.game.element.Animals;
+import fr.uge.game.element.Coordinate;
+
+/**
+ * Keeps, for every straight line of a board, which cells hold which animal. Each line
+ * stores one bit mask per species where bit {@code p} is the cell at position {@code p}
+ * along the line, so "first animal in a direction" or "animals between two cells" are
+ * answered with a few bit operations instead of a walk over the cells.
+ * <p>
+ * Square boards use the {@link Axis#ROW} and {@link Axis#COLUMN} lines, hexagonal boards
+ * use {@link Axis#ROW}, {@link Axis#RISING} and {@link Axis#FALLING}. All four are kept
+ * up to date so the index does not depend on the shape of the tiles.
+ */
+public final class LineIndex {
+	/**
+	 * The directions of the straight lines of a board.
+	 */
+	public enum Axis {
+		/**
+		 * Horizontal lines, the position is x.
+		 */
+		ROW(Topology.SIZE),
+		/**
+		 * Vertical lines of a square board, the position is y.
+		 */
+		COLUMN(Topology.SIZE),
+		/**
+		 * Hexagonal lines going from lower-left to upper-right, the position is y.
+		 */
+		RISING(Topology.SIZE + Topology.SIZE / 2),
+		/**
+		 * Hexagonal lines going from lower-right to upper-left, the position is y.
+		 */
+		FALLING(Topology.SIZE + Topology.SIZE / 2);
+
+		private final int lines;
+
+		private Axis(int lines) {
+			this.lines = lines;
+		}
+
+		/**
+		 * Returns the number of lines along this axis.
+		 *
+		 * @return The number of lines.
+		 */
+		public int lines() {
+			return lines;
+		}
+	}
+
+	private static final List<Axis> SQUARE_AXES = List.of(Axis.ROW, Axis.COLUMN);
+	private static final List<Axis> HEXAGON_AXES = List.of(Axis.ROW, Axis.RISING, Axis.FALLING);
+	private static final Animals[] ANIMALS = Animals.values();
+	private static final int SPECIES = Animals.NOTHING.ordinal();
+
+	private final long[][] masks = new long[Axis.values().length][];
+	private final byte[] animals = new byte[Topology.CELLS];
+
+	/**
+	 * Creates an empty index.
+	 */
+	public LineIndex() {
+		for (var axis : Axis.values()) {
+			masks[axis.ordinal()] = new long[axis.lines * SPECIES];
+		}
+		Arrays.fill(animals, (byte) SPECIES);
+	}
+
+	/**
+	 * Creates a copy of an index.
+	 *
+	 * @param index The index to copy.
+	 */
+	public LineIndex(LineIndex index) {
+		Objects.requireNonNull(index, "index is null");
+		for (var axis : Axis.values()) {
+			masks[axis.ordinal()] = index.masks[axis.ordinal()].clone();
+		}
+		System.arraycopy(index.animals, 0, animals, 0, Topology.CELLS);
+	}
+
+	/**
+	 * Returns the axes of the lines of a board.
+	 *
+	 * @param shapeOfTile The shape of the tiles (2 for hexagons, square otherwise).
+	 * @return The axes to look along.
+	 */
+	public static List<Axis> axes(int shapeOfTile) {
+		return shapeOfTile == 2 ? HEXAGON_AXES : SQUARE_AXES;
+	}
+
+	/**
+	 * Returns the line containing a cell.
+	 *
+	 * @param axis The axis of the line.
+	 * @param x The x-coordinate.
+	 * @param y The y-coordinate.
+	 * @return The line number.
+	 */
+	public static int line(Axis axis, int x, int y) {
+		return switch (axis) {
+		case ROW -> y;
+		case COLUMN -> x;
+		case RISING -> x + y / 2;
+		case FALLING -> x - (y + 1) / 2 + Topology.SIZE / 2;
+		};
+	}
+
+	/**
+	 * Returns the position of a cell along its line.
+	 *
+	 * @param axis The axis of the line.
+	 * @param x The x-coordinate.
+	 * @param y The y-coordinate.
+	 * @return The position, which is also the bit of the cell in the masks of the line.
+	 */
+	public static int position(Axis axis, int x, int y) {
+		return axis == Axis.ROW ? x : y;
+	}
+
+	/**
+	 * Returns the coordinate of the cell at a position of a line.
+	 *
+	 * @param axis The axis of the line.
+	 * @param line The line number.
+	 * @param position The position along the line.
+	 * @return The coordinate, or null if it is outside the board.
+	 */
+	public static Coordinate coordinate(Axis axis, int line, int position) {
+		int x, y;
+		switch (axis) {
+		case ROW -> { x = position; y = line; }
+		case COLUMN -> { x = line; y = position; }
+		case RISING -> { y = position; x = line - y / 2; }
+		case FALLING -> { y = position; x = line - Topology.SIZE / 2 + (y + 1) / 2; }
+		default -> throw new AssertionError();
+		}
+		return Topology.contains(x, y) ? Topology.coordinate(y * Topology.SIZE + x) : null;
+	}
+
+	/**
+	 * Returns the mask of the cells strictly between two positions of a line.
+	 *
+	 * @param position1 The first position.
+	 * @param position2 The second position.
+	 * @return The bits between the two positions.
+	 */
+	public static long between(int position1, int position2) {
+		var low = Math.min(position1, position2);
+		var high = Math.max(position1, position2);
+		return high - low < 2 ? 0L : (-1L << (low + 1)) & ((1L << high) - 1);
+	}
+
+	/**
+	 * Records the animal of a cell, replacing the previous one.
+	 *
+	 * @param x The x-coordinate.
+	 * @param y The y-coordinate.
+	 * @param animal The animal of the cell, {@code Animals.NOTHING} to clear it.
+	 * @throws NullPointerException if the animal is null.
+	 * @throws IndexOutOfBoundsException if the cell is not on the board.
+	 */
+	public void set(int x, int y, Animals animal) {
+		Objects.requireNonNull(animal, "animal is null");
+		var cell = Topology.index(x, y);
+		var previous = animals[cell];
+		var next = animal.ordinal();
+		if (previous == next) {
+			return;
+		}
+		for (var axis : Axis.values()) {
+			var bit = 1L << position(axis, x, y);
+			var base = line(axis, x, y) * SPECIES;
+			var axisMasks = masks[axis.ordinal()];
+			if (previous != SPECIES) {
+				axisMasks[base + previous] &= ~bit;
+			}
+			if (next != SPECIES) {
+				axisMasks[base + next] |= bit;
+			}
+		}
+		animals[cell] = (byte) next;
+	}
+
+	/**
+	 * Returns the animal recorded on a cell.
+	 *
+	 * @param x The x-coordinate.
+	 * @param y The y-coordinate.
+	 * @return The animal, {@code Animals.NOTHING} if there is none.
+	 * @throws IndexOutOfBoundsException if the cell is not on the board.
+	 */
+	public Animals animal(int x, int y) {
+		return ANIMALS[animals[Topology.index(x, y)]];
+	}
+
+	/**
+	 * Returns the animal recorded on a cell.
+	 *
+	 * @param cell The packed index of the cell.
+	 * @return The animal, {@code Animals.NOTHING} if there is none.
+	 * @throws IndexOutOfBoundsException if the index is not a cell of the board.
+	 */
+	public Animals animal(int cell) {
+		Objects.checkIndex(cell, Topology.CELLS);
+		return ANIMALS[animals[cell]];
+	}
+
+	/**
+	 * Returns the cells of a line holding a species.
+	 *
+	 * @param axis The axis of the line.
+	 * @param line The line number.
+	 * @param animal The species, {@code Animals.NOTHING} is never recorded.
+	 * @return The mask of the positions holding this animal.
+	 */
+	public long mask(Axis axis, int line, Animals animal) {
+		Objects.requireNonNull(animal, "animal is null");
+		Objects.checkIndex(line, axis.lines);
+		return animal == Animals.NOTHING ? 0L : masks[axis.ordinal()][line * SPECIES + animal.ordinal()];
+	}
+
+	/**
+	 * Counts the animals of a species strictly between two cells of the same line.
+	 *
+	 * @param axis The axis of the line.
+	 * @param line The line number.
+	 * @param position1 The position of the first cell.
+	 * @param position2 The position of the second cell.
+	 * @param animal The species to count.
+	 * @return The number of cells holding this animal between the two cells.
+	 */
+	public int countBetween(Axis axis, int line, int position1, int position2, Animals animal) {
+		return Long.bitCount(mask(axis, line, animal) & between(position1, position2));
+	}
+}
@@ -0,0 +1,149 @@
+package fr.uge.game.board;
+
+import java.util.Objects;
+import java.util.function.ObjIntConsumer;
+
+import fr.uge.game.element.Animals;
+import fr.uge.game.element.Tile;
+
+/**
+ * An immutable board: the tile, rotation and animal of every cell of a
+ * {@link Topology}, stored in a trie of 16 children per node, three levels deep for the
+ * 2500 cells. Changing a cell copies the three nodes on its path and shares the others
+ * with the previous board, so a change costs O(log n) and keeping the previous board
+ * costs nothing.
+ * <p>
+ * The nodes are never written once the board holding them is built, so a board can be
+ * read from any thread.
+ */
+public final class PersistentBoard {
+	/**
+	 * The content of a cell.
+	 *
+	 * @param tile The tile.
+	 * @param rotation The rotation of the tile.
+	 * @param animal The animal on the tile, {@code Animals.NOTHING} if none.
+	 */
+	public record Cell(Tile tile, int rotation, Animals animal) {
+		/**
+		 * Checks the content.
+		 *
+		 * @throws NullPointerException if tile or animal is null.
+		 */
+		public Cell {
+			Objects.requireNonNull(tile, "tile is null");
+			Objects.requireNonNull(animal, "animal is null");
+		}
+	}
+
+	private static final int BITS = 4;
+	private static final int WIDTH = 1 << BITS;
+	private static final int MASK = WIDTH - 1;
+	private static final int TOP = 2 * BITS;
+
+	/**
+	 * The board without any tile.
+	 */
+	public static final PersistentBoard EMPTY = new PersistentBoard(new Object[WIDTH], 0);
+
+	private final Object[] root;
+	private final int size;
+
+	private PersistentBoard(Object[] root, int size) {
+		this.root = root;
+		this.size = size;
+	}
+
+	/**
+	 * Returns the content of a cell.
+	 *
+	 * @param cell The index of the cell.
+	 * @return The content, or null if there is no tile on the cell.
+	 * @throws IndexOutOfBoundsException if the cell is not on the board.
+	 */
+	public Cell get(int cell) {
+		Objects.checkIndex(cell, Topology.CELLS);
+		var node = root;
+		for (var shift = TOP; shift > 0; shift -= BITS) {
+			node = (Object[]) node[cell >>> shift & MASK];
+			if (node == null) {
+				return null;
+			}
+		}
+		return (Cell) node[cell & MASK];
+	}
+
+	/**
+	 * Returns the board with the content of a cell replaced, leaving this board untouched.
+	 *
+	 * @param cell The index of the cell.
+	 * @param content The new content.
+	 * @return The new board, this board if the content is the same.
+	 * @throws IndexOutOfBoundsException if the cell is not on the board.
+	 */
+	public PersistentBoard with(int cell, Cell content) {
+		Objects.requireNonNull(content, "content is null");
+		return set(cell, content);
+	}
+
+	/**
+	 * Returns the board without the tile of a cell, leaving this board untouched.
+	 *
+	 * @param cell The index of the cell.
+	 * @return The new board, this board if there is no tile on the cell.
+	 * @throws IndexOutOfBoundsException if the cell is not on the board.
+	 */
+	public PersistentBoard without(int cell) {
+		return set(cell, null);
+	}
+
+	private PersistentBoard set(int cell, Cell content) {
+		var previous = get(cell);
+		if (Objects.equals(previous, content)) {
+			return this;
+		}
+		var delta = (content == null ? 0 : 1) - (previous == null ? 0 : 1);
+		return new PersistentBoard(copyPath(root, TOP, cell, content), size + delta);
+	}
+
+	private static Object[] copyPath(Object[] node, int shift, int cell, Cell content) {
+		var copy = node == null ? new Object[WIDTH] : node.clone();
+		var index = cell >>> shift & MASK;
+		copy[index] = shift == 0 ? content : copyPath((Object[]) copy[index], shift - BITS, cell, content);
+		return copy;
+	}
+
+	/**
+	 * Returns the number of cells holding a tile.
+	 *
+	 * @return The number of tiles.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Calls an action on every cell holding a tile, by increasing index.
+	 *
+	 * @param action Receives the content and the index of each cell.
+	 */
+	public void forEach(ObjIntConsumer<Cell> action) {
+		Objects.requireNonNull(action, "action is null");
+		forEach(root, TOP, 0, action);
+	}
+
+	private static void forEach(Object[] node, int shift, int base, ObjIntConsumer<Cell> action) {
+		for (var i = 0; i < WIDTH; i++) {
+			var child = node[i];
+			if (child == null) {
+				continue;
+			}
+			var index = base | i << shift;
+			if (shift == 0) {
+				action.accept((Cell) child, index);
+			} else {
+				forEach((Object[]) child, shift - BITS, index, action);
+			}
+		}
+	}
+}
@@ -0,0 +1,200 @@
+package fr.uge.game.board;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import fr.uge.game.element.Animals;
+
+/**
+ * Keeps the salmon runs of a board up to date as animals are placed.
+ * <p>
+ * A run is a group of connected salmon where no salmon touches more than two others.
+ * Each salmon remembers how many salmon surround it, and each group is labelled with the
+ * cell it was last explored from. When a cell changes, only the groups next to it are
+ * explored again, so the number of runs of each length and the animals around them are
+ * always ready to be read.
+ */
+public final class SalmonRuns {
+	/**
+	 * Runs of this length or longer are counted together.
+	 */
+	public static final int LONGEST = 7;
+
+	private final Topology topology;
+	private final boolean[] salmon = new boolean[Topology.CELLS];
+	private final boolean[] occupied = new boolean[Topology.CELLS];
+	private final int[] degree = new int[Topology.CELLS];
+	private final int[] component = new int[Topology.CELLS];
+	private final int[] length = new int[Topology.CELLS];
+	private final int[] adjacent = new int[Topology.CELLS];
+	private final boolean[] valid = new boolean[Topology.CELLS];
+	private final boolean[] live = new boolean[Topology.CELLS];
+	private final int[] queue = new int[Topology.CELLS];
+	private final int[] visited = new int[Topology.CELLS];
+	private final int[] seen = new int[Topology.CELLS];
+	private final int[] runs = new int[LONGEST + 1];
+	private int visitStamp;
+	private int seenStamp;
+	private int wildlife;
+
+	/**
+	 * Creates the runs of an empty board.
+	 *
+	 * @param topology The topology of the board.
+	 */
+	public SalmonRuns(Topology topology) {
+		this.topology = Objects.requireNonNull(topology, "topology is null");
+		Arrays.fill(component, Topology.NONE);
+	}
+
+	/**
+	 * Creates a copy of the runs of a board.
+	 *
+	 * @param runs The runs to copy.
+	 */
+	public SalmonRuns(SalmonRuns runs) {
+		Objects.requireNonNull(runs, "runs is null");
+		this.topology = runs.topology;
+		System.arraycopy(runs.salmon, 0, salmon, 0, Topology.CELLS);
+		System.arraycopy(runs.occupied, 0, occupied, 0, Topology.CELLS);
+		System.arraycopy(runs.degree, 0, degree, 0, Topology.CELLS);
+		System.arraycopy(runs.component, 0, component, 0, Topology.CELLS);
+		System.arraycopy(runs.length, 0, length, 0, Topology.CELLS);
+		System.arraycopy(runs.adjacent, 0, adjacent, 0, Topology.CELLS);
+		System.arraycopy(runs.valid, 0, valid, 0, Topology.CELLS);
+		System.arraycopy(runs.live, 0, live, 0, Topology.CELLS);
+		System.arraycopy(runs.runs, 0, this.runs, 0, LONGEST + 1);
+		this.wildlife = runs.wildlife;
+	}
+
+	/**
+	 * Records the animal of a cell, replacing the previous one.
+	 *
+	 * @param x The x-coordinate.
+	 * @param y The y-coordinate.
+	 * @param animal The animal of the cell, {@code Animals.NOTHING} to clear it.
+	 * @throws NullPointerException if the animal is null.
+	 * @throws IndexOutOfBoundsException if the cell is not on the board.
+	 */
+	public void set(int x, int y, Animals animal) {
+		Objects.requireNonNull(animal, "animal is null");
+		var cell = Topology.index(x, y);
+		var isSalmon = animal == Animals.SALMON;
+		var isOccupied = animal != Animals.NOTHING;
+		if (salmon[cell] == isSalmon && occupied[cell] == isOccupied) {
+			return;
+		}
+		if (salmon[cell]) {
+			retract(component[cell]);
+		}
+		var salmonAround = 0;
+		for (var side = 0; side < topology.degree(); side++) {
+			var neighbour = topology.neighbour(cell, side);
+			if (neighbour != Topology.NONE && salmon[neighbour]) {
+				retract(component[neighbour]);
+				salmonAround++;
+				if (salmon[cell] != isSalmon) {
+					degree[neighbour] += isSalmon ? 1 : -1;
+				}
+			}
+		}
+		salmon[cell] = isSalmon;
+		occupied[cell] = isOccupied;
+		degree[cell] = isSalmon ? salmonAround : 0;
+		component[cell] = Topology.NONE;
+
+		visitStamp++;
+		if (isSalmon) {
+			explore(cell);
+		}
+		for (var side = 0; side < topology.degree(); side++) {
+			var neighbour = topology.neighbour(cell, side);
+			if (neighbour != Topology.NONE && salmon[neighbour] && visited[neighbour] != visitStamp) {
+				explore(neighbour);
+			}
+		}
+	}
+
+	/**
+	 * Removes a group from the totals before it is explored again.
+	 *
+	 * @param id The label of the group.
+	 */
+	private void retract(int id) {
+		if (!live[id]) {
+			return;
+		}
+		live[id] = false;
+		if (valid[id]) {
+			runs[Math.min(length[id], LONGEST)]--;
+			wildlife -= length[id] + adjacent[id];
+		}
+	}
+
+	/**
+	 * Labels the group of salmon containing a cell and adds it to the totals.
+	 *
+	 * @param start The cell of a salmon, used as the label of its group.
+	 */
+	private void explore(int start) {
+		seenStamp++;
+		var head = 0;
+		var tail = 0;
+		var isRun = true;
+		var animals = 0;
+		queue[tail++] = start;
+		visited[start] = visitStamp;
+		while (head < tail) {
+			var cell = queue[head++];
+			component[cell] = start;
+			isRun &= degree[cell] <= 2;
+			for (var side = 0; side < topology.degree(); side++) {
+				var neighbour = topology.neighbour(cell, side);
+				if (neighbour == Topology.NONE) {
+					continue;
+				}
+				if (salmon[neighbour]) {
+					if (visited[neighbour] != visitStamp) {
+						visited[neighbour] = visitStamp;
+						queue[tail++] = neighbour;
+					}
+				} else if (occupied[neighbour] && seen[neighbour] != seenStamp) {
+					seen[neighbour] = seenStamp;
+					animals++;
+				}
+			}
+		}
+		live[start] = true;
+		length[start] = tail;
+		adjacent[start] = animals;
+		valid[start] = isRun;
+		if (isRun) {
+			runs[Math.min(tail, LONGEST)]++;
+			wildlife += tail + animals;
+		}
+	}
+
+	/**
+	 * Returns the number of runs of a length.
+	 *
+	 * @param length The number of salmon in the run, from 1 to {@link #LONGEST}.
+	 * @return The number of runs of this length, or of this length and more for {@link #LONGEST}.
+	 * @throws IndexOutOfBoundsException if the length is not between 1 and {@link #LONGEST}.
+	 */
+	public int runs(int length) {
+		if (length < 1 || length > LONGEST) {
+			throw new IndexOutOfBoundsException("length < 1 or length > " + LONGEST);
+		}
+		return runs[length];
+	}
+
+	/**
+	 * Returns the number of salmon in runs plus, for each run, the number of other animals
+	 * touching it.
+	 *
+	 * @return The total over all the runs.
+	 */
+	public int wildlife() {
+		return wildlife;
+	}
+}
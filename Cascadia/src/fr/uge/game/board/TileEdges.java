@@ -0,0 +1,62 @@
+package fr.uge.game.board;
+
+import java.util.Objects;
+
+import fr.uge.game.element.Biome;
+import fr.uge.game.element.Habitat;
+
+/**
+ * Tells which biome a hexagonal tile shows on each of its six sides, using the side
+ * numbering of {@link Topology#HEXAGON}.
+ * <p>
+ * A tile with two biomes is split in two halves of three sides. Rotations 1, 2 and 3
+ * put the first biome on sides {3, 4, 5}, {4, 5, 0} and {5, 0, 1}; rotations 4, 5 and 6
+ * are the same splits with the two biomes swapped. Since the sides already hide the
+ * shift of odd rows, the table does not depend on the row of the tile.
+ */
+public final class TileEdges {
+	private static final int SIDES = 6;
+	private static final int[] HALVES = new int[7 * SIDES];
+	static {
+		for (var rotation = 1; rotation <= 6; rotation++) {
+			var first = (rotation - 1) % 3 + 3;
+			for (var side = 0; side < SIDES; side++) {
+				var onFirst = (side - first + SIDES) % SIDES < 3;
+				HALVES[rotation * SIDES + side] = onFirst == (rotation <= 3) ? 0 : 1;
+			}
+		}
+		System.arraycopy(HALVES, SIDES, HALVES, 0, SIDES);
+	}
+
+	private TileEdges() {
+	}
+
+	/**
+	 * Returns the index, in the tile's biome list, of the half covering a side.
+	 * A habitat that was never rotated (rotation -1 or 0) is read as rotation 1.
+	 *
+	 * @param rotation The rotation of the tile.
+	 * @param side The side of the tile, from 0 to 5.
+	 * @return 0 for the first biome of the tile, 1 for the second.
+	 * @throws IndexOutOfBoundsException if the side is not between 0 and 5.
+	 */
+	public static int half(int rotation, int side) {
+		Objects.checkIndex(side, SIDES);
+		return HALVES[(rotation < 1 || rotation > 6 ? 0 : rotation) * SIDES + side];
+	}
+
+	/**
+	 * Returns the biome shown by a hexagonal habitat on one of its sides.
+	 *
+	 * @param habitat The habitat placed on the board.
+	 * @param side The side of the tile, from 0 to 5.
+	 * @return The biome on this side.
+	 * @throws NullPointerException if the habitat is null.
+	 * @throws IndexOutOfBoundsException if the side is not between 0 and 5.
+	 */
+	public static Biome biome(Habitat habitat, int side) {
+		Objects.requireNonNull(habitat, "habitat is null");
+		var biomes = habitat.tile().biome();
+		return biomes.size() == 1 ? biomes.get(0) : biomes.get(half(habitat.rotation(), side));
+	}
+}
@@ -0,0 +1,214 @@
+package fr.uge.game.board;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import fr.uge.game.element.Coordinate;
+
+/**
+ * Describes how the cells of a game board are connected. The neighbours of the
+ * 2,500 cells are computed once, so finding a neighbour is a table read instead of a
+ * parity test on the row.
+ * <p>
+ * A cell is identified by its packed index {@code y * SIZE + x}. The sides of a cell
+ * are numbered clockwise: for squares 0 is up, 1 right, 2 down and 3 left; for
+ * hexagons 0 is upper-right, 1 right, 2 lower-right, 3 lower-left, 4 left and
+ * 5 upper-left. The hexagons of odd rows are shifted to the left.
+ */
+public final class Topology {
+	/**
+	 * The width and height of a board.
+	 */
+	public static final int SIZE = 50;
+	/**
+	 * The number of cells of a board.
+	 */
+	public static final int CELLS = SIZE * SIZE;
+	/**
+	 * Value returned for a neighbour outside the board.
+	 */
+	public static final int NONE = -1;
+
+	private static final Coordinate[] COORDINATES = new Coordinate[CELLS];
+	static {
+		for (var index = 0; index < CELLS; index++) {
+			COORDINATES[index] = new Coordinate(index % SIZE, index / SIZE);
+		}
+	}
+
+	/**
+	 * Topology of the square tiles.
+	 */
+	public static final Topology SQUARE = new Topology(new int[][] { { 0, -1 }, { 1, 0 }, { 0, 1 }, { -1, 0 } },
+			new int[][] { { 0, -1 }, { 1, 0 }, { 0, 1 }, { -1, 0 } });
+	/**
+	 * Topology of the hexagonal tiles.
+	 */
+	public static final Topology HEXAGON = new Topology(
+			new int[][] { { 1, -1 }, { 1, 0 }, { 1, 1 }, { 0, 1 }, { -1, 0 }, { 0, -1 } },
+			new int[][] { { 0, -1 }, { 1, 0 }, { 0, 1 }, { -1, 1 }, { -1, 0 }, { -1, -1 } });
+
+	private final int degree;
+	private final int[] neighbours;
+	private final List<List<Coordinate>> neighbourCoordinates;
+
+	/**
+	 * Builds the neighbour tables from the offsets of each side.
+	 *
+	 * @param evenOffsets The (dx, dy) offset of each side for even rows.
+	 * @param oddOffsets The (dx, dy) offset of each side for odd rows.
+	 */
+	private Topology(int[][] evenOffsets, int[][] oddOffsets) {
+		this.degree = evenOffsets.length;
+		this.neighbours = new int[CELLS * degree];
+		var lists = new ArrayList<List<Coordinate>>(CELLS);
+		for (var index = 0; index < CELLS; index++) {
+			var x = index % SIZE;
+			var y = index / SIZE;
+			var offsets = y % 2 != 0 ? oddOffsets : evenOffsets;
+			var list = new ArrayList<Coordinate>(degree);
+			for (var side = 0; side < degree; side++) {
+				var nx = x + offsets[side][0];
+				var ny = y + offsets[side][1];
+				var neighbour = contains(nx, ny) ? ny * SIZE + nx : NONE;
+				neighbours[index * degree + side] = neighbour;
+				if (neighbour != NONE) {
+					list.add(COORDINATES[neighbour]);
+				}
+			}
+			lists.add(Collections.unmodifiableList(list));
+		}
+		this.neighbourCoordinates = Collections.unmodifiableList(lists);
+	}
+
+	/**
+	 * Returns the topology matching a shape of tile.
+	 *
+	 * @param shapeOfTile The shape of the tiles (2 for hexagons, square otherwise).
+	 * @return The topology of the board.
+	 */
+	public static Topology of(int shapeOfTile) {
+		return shapeOfTile == 2 ? HEXAGON : SQUARE;
+	}
+
+	/**
+	 * Checks whether a position is on the board.
+	 *
+	 * @param x The x-coordinate.
+	 * @param y The y-coordinate.
+	 * @return True if the position is on the board, false otherwise.
+	 */
+	public static boolean contains(int x, int y) {
+		return x >= 0 && x < SIZE && y >= 0 && y < SIZE;
+	}
+
+	/**
+	 * Returns the packed index of a position.
+	 *
+	 * @param x The x-coordinate.
+	 * @param y The y-coordinate.
+	 * @return The index of the cell.
+	 * @throws IndexOutOfBoundsException if the position is not on the board.
+	 */
+	public static int index(int x, int y) {
+		if (!contains(x, y)) {
+			throw new IndexOutOfBoundsException("Coordinates out of bounds");
+		}
+		return y * SIZE + x;
+	}
+
+	/**
+	 * Returns the packed index of a coordinate.
+	 *
+	 * @param coordinate The coordinate.
+	 * @return The index of the cell.
+	 * @throws NullPointerException if the coordinate is null.
+	 * @throws IndexOutOfBoundsException if the coordinate is not on the board.
+	 */
+	public static int index(Coordinate coordinate) {
+		Objects.requireNonNull(coordinate, "coordinate is null");
+		return index(coordinate.x(), coordinate.y());
+	}
+
+	/**
+	 * Returns the shared coordinate of a cell.
+	 *
+	 * @param index The index of the cell.
+	 * @return The coordinate of the cell.
+	 * @throws IndexOutOfBoundsException if the index is not a cell of the board.
+	 */
+	public static Coordinate coordinate(int index) {
+		Objects.checkIndex(index, CELLS);
+		return COORDINATES[index];
+	}
+
+	/**
+	 * Returns the number of sides of a cell.
+	 *
+	 * @return 4 for squares, 6 for hexagons.
+	 */
+	public int degree() {
+		return degree;
+	}
+
+	/**
+	 * Returns the side facing a side, the one a neighbour shares with this cell.
+	 *
+	 * @param side The side of the cell.
+	 * @return The side of the neighbour touching it.
+	 */
+	public int opposite(int side) {
+		Objects.checkIndex(side, degree);
+		return (side + degree / 2) % degree;
+	}
+
+	/**
+	 * Returns the index of the neighbour sharing a side of a cell.
+	 *
+	 * @param index The index of the cell.
+	 * @param side The side of the cell.
+	 * @return The index of the neighbour, or {@link #NONE} if it is outside the board.
+	 */
+	public int neighbour(int index, int side) {
+		Objects.checkIndex(side, degree);
+		return neighbours[index * degree + side];
+	}
+
+	/**
+	 * Returns the coordinate of the neighbour sharing a side of a cell.
+	 *
+	 * @param coordinate The coordinate of the cell.
+	 * @param side The side of the cell.
+	 * @return The coordinate of the neighbour, or null if it is outside the board.
+	 * @throws IndexOutOfBoundsException if the coordinate is not on the board.
+	 */
+	public Coordinate neighbour(Coordinate coordinate, int side) {
+		var neighbour = neighbour(index(coordinate), side);
+		return neighbour == NONE ? null : COORDINATES[neighbour];
+	}
+
+	/**
+	 * Returns the coordinates of the neighbours of a cell that are on the board, in side order.
+	 *
+	 * @param coordinate The coordinate of the cell.
+	 * @return An unmodifiable list of the neighbours.
+	 * @throws IndexOutOfBoundsException if the coordinate is not on the board.
+	 */
+	public List<Coordinate> neighbours(Coordinate coordinate) {
+		return neighbourCoordinates.get(index(coordinate));
+	}
+
+	/**
+	 * Returns the coordinates of the neighbours of a cell that are on the board, in side order.
+	 * A coordinate outside the board has no neighbour.
+	 *
+	 * @param x The x-coordinate of the cell.
+	 * @param y The y-coordinate of the cell.
+	 * @return An unmodifiable list of the neighbours.
+	 */
+	public List<Coordinate> neighbours(int x, int y) {
+		return contains(x, y) ? neighbourCoordinates.get(y * SIZE + x) : List.of();
+	}
+}
@@ -0,0 +1,96 @@
+package fr.uge.game.board;
+
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+import fr.uge.game.element.Animals;
+import fr.uge.game.element.Tile;
+
+/**
+ * Zobrist keys of the boards: a board hashes to the xor of the keys of its tiles and of
+ * the animals on them, so placing a tile or changing an animal updates the hash with two
+ * xors instead of hashing the whole board again.
+ * <p>
+ * Every cell has a random key for each animal. Tiles are too many to draw a key for each
+ * one, so the key of a tile is its content and rotation, packed into a number and mixed
+ * with a random key of the cell. The keys are drawn from a fixed seed, so a board has the
+ * same hash in every run.
+ */
+public final class Zobrist {
+	private static final long SEED = 0x43617363616469L;
+	private static final int ANIMALS = Animals.values().length;
+	private static final long[] CELL_KEYS = new long[Topology.CELLS];
+	private static final long[] ANIMAL_KEYS = new long[Topology.CELLS * ANIMALS];
+	static {
+		var random = new SplittableRandom(SEED);
+		for (var cell = 0; cell < Topology.CELLS; cell++) {
+			CELL_KEYS[cell] = random.nextLong();
+			for (var animal = 0; animal < ANIMALS; animal++) {
+				ANIMAL_KEYS[cell * ANIMALS + animal] = animal == Animals.NOTHING.ordinal() ? 0 : random.nextLong();
+			}
+		}
+	}
+
+	private Zobrist() {
+	}
+
+	/**
+	 * Returns the key of an animal on a cell. An empty cell has key 0.
+	 *
+	 * @param cell The index of the cell.
+	 * @param animal The animal on the cell.
+	 * @return The key.
+	 * @throws IndexOutOfBoundsException if the cell is not on the board.
+	 */
+	public static long animal(int cell, Animals animal) {
+		Objects.requireNonNull(animal, "animal is null");
+		Objects.checkIndex(cell, Topology.CELLS);
+		return ANIMAL_KEYS[cell * ANIMALS + animal.ordinal()];
+	}
+
+	/**
+	 * Returns the key of a tile placed on a cell with a rotation.
+	 *
+	 * @param cell The index of the cell.
+	 * @param tile The tile.
+	 * @param rotation The rotation of the tile.
+	 * @return The key.
+	 * @throws IndexOutOfBoundsException if the cell is not on the board.
+	 */
+	public static long tile(int cell, Tile tile, int rotation) {
+		Objects.checkIndex(cell, Topology.CELLS);
+		return mix(CELL_KEYS[cell] + (content(tile) * 8 + rotation + 1) * 0x9E3779B97F4A7C15L);
+	}
+
+	/**
+	 * Packs the biomes and the animals of a tile into a number, different for every tile
+	 * of the game. It is not scrambled, {@link #mix(long)} turns it into a key.
+	 *
+	 * @param tile The tile.
+	 * @return The content of the tile.
+	 */
+	public static long content(Tile tile) {
+		Objects.requireNonNull(tile, "tile is null");
+		var content = 1L;
+		for (var biome : tile.biome()) {
+			content = content * 8 + biome.ordinal() + 1;
+		}
+		content *= 8;
+		for (var animal : tile.animals()) {
+			content = content * 8 + animal.ordinal() + 1;
+		}
+		return content;
+	}
+
+	/**
+	 * Scrambles the bits of a number, the finalizer of SplitMix64.
+	 *
+	 * @param z The number.
+	 * @return The scrambled number.
+	 */
+	public static long mix(long z) {
+		z = (z ^ z >>> 30) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ z >>> 27) * 0x94D049BB133111EBL;
+		return z ^ z >>> 31;
+	}
+}
@@ -1,20 +1,24 @@
 package fr.uge.game.element;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
-import java.util.random.RandomGenerator;
 
 import fr.uge.game.Structure;
 
 /**
  * Class responsible for managing the draw phase, including selecting tiles and
  * animals for the player's choice in the game.
+ * <p>
+ * The market belongs to the game of its structure and draws from the random generator
+ * of that game; it is handed out as unmodifiable views and only changes through the
+ * methods of this class.
  */
 public class Draw {
-	public ArrayList<Tile> tilesForChoice = new ArrayList<>();
-	public ArrayList<Animals> animalsForChoice = new ArrayList<>();
-	Structure structure;
-	Player player;
+	private final ArrayList<Tile> tilesForChoice = new ArrayList<>();
+	private final ArrayList<Animals> animalsForChoice = new ArrayList<>();
+	private final Structure structure;
 
 	/**
 	 * Constructor for the Draw class.
@@ -23,10 +27,7 @@ public class Draw {
 	 * @throws NullPointerException if the structure, tilesForChoice, or animalsForChoice are null.
 	 */
 	public Draw(Structure structure) {
-		Objects.requireNonNull(tilesForChoice, "tilesForChoice is null");
-		Objects.requireNonNull(animalsForChoice, "animalsForChoice is null");
-		Objects.requireNonNull(structure, "structure is null");
-		this.structure = structure;
+		this.structure = Objects.requireNonNull(structure, "structure is null");
 	}
 
 	/**
@@ -34,12 +35,8 @@ public class Draw {
 	 * from the available tiles in the structure and removing them.
 	 */
 	public void initializeTilesToChoice() {
-		RandomGenerator rand = RandomGenerator.getDefault();
-		var randomNumber = 0;
 		for (var i = 0; i < 4; i++) {
-			randomNumber = rand.nextInt(structure.tiles().size());
-			tilesForChoice.add(structure.tiles().get(randomNumber));
-			structure.tiles().remove(structure.tiles().get(randomNumber));
+			tilesForChoice.add(structure.drawTile());
 		}
 	}
 
@@ -62,14 +59,37 @@ public class Draw {
 	 * @throws IllegalStateException if no animals are available.
 	 */
 	public Animals randomAnimal() {
-		RandomGenerator rand = RandomGenerator.getDefault();
+		var random = structure.random();
 		Animals animal;
 		do {
-			animal = Animals.values()[rand.nextInt(Animals.values().length)];
+			animal = Animals.values()[random.nextInt(Animals.values().length)];
 		} while (structure.animalToken().get(animal) <= 0);
 		return animal;
 	}
 
+	/**
+	 * Replaces the animal of a batch by a random animal from the available tokens.
+	 * 
+	 * @param index The index of the batch, from 0 to 3.
+	 * @throws IndexOutOfBoundsException if there is no such batch.
+	 */
+	public void replaceAnimal(int index) {
+		Objects.checkIndex(index, animalsForChoice.size());
+		animalsForChoice.set(index, randomAnimal());
+	}
+
+	/**
+	 * Replaces the tile of a batch by a random tile taken out of the pile.
+	 * 
+	 * @param index The index of the batch, from 0 to 3.
+	 * @throws IndexOutOfBoundsException if there is no such batch.
+	 * @throws IllegalStateException if the pile is empty.
+	 */
+	public void replaceTile(int index) {
+		Objects.checkIndex(index, tilesForChoice.size());
+		tilesForChoice.set(index, structure.drawTile());
+	}
+
 	/**
 	 * Initializes the list of animals for the player's choice by randomly selecting 4 animals
 	 * from the available animal tokens.
@@ -156,18 +176,18 @@ public class Draw {
 	/**
 	 * Returns the list of tiles available for the player's choice.
 	 * 
-	 * @return A list of tiles available for the player's choice.
+	 * @return An unmodifiable view of the tiles available for the player's choice.
 	 */
-	public ArrayList<Tile> tilesForChoice() {
-		return this.tilesForChoice;
+	public List<Tile> tilesForChoice() {
+		return Collections.unmodifiableList(tilesForChoice);
 	}
 
 	/**
 	 * Returns the list of animals available for the player's choice.
 	 * 
-	 * @return A list of animals available for the player's choice.
+	 * @return An unmodifiable view of the animals available for the player's choice.
 	 */
-	public ArrayList<Animals> animalsForChoice() {
-		return animalsForChoice;
+	public List<Animals> animalsForChoice() {
+		return Collections.unmodifiableList(animalsForChoice);
 	}
 }
\ No newline at end of file
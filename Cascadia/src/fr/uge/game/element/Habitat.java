@@ -10,6 +10,8 @@ public class Habitat {
 	private final Tile tile;
 	private Animals animalPresent;
 	private final int rotation;
+	private Player owner;
+	private Coordinate coordinate;
 	
 	/**
    * Constructs a Habitat with the specified tile, animal, and rotation value.
@@ -89,8 +91,22 @@ public class Habitat {
 	public void changeAnimal(Animals animal) {
 		Objects.requireNonNull(animal, "animal is null");
   	this.animalPresent = animal;
+  	if (owner != null) {
+  		owner.animalChanged(coordinate, animal);
+  	}
   }
 
+	/**
+   * Binds this habitat to the board of a player, so the player is told when the animal changes.
+   * 
+   * @param owner the player holding this habitat, null to unbind it
+   * @param coordinate the coordinate of this habitat on the player's board
+   */
+	void attach(Player owner, Coordinate coordinate) {
+		this.owner = owner;
+		this.coordinate = coordinate;
+	}
+
 	/**
    * Returns the name of a biome at the specified index in the tile's biome list.
    * 
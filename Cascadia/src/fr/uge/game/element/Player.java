@@ -1,9 +1,20 @@
 package fr.uge.game.element;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
+import fr.uge.game.PlayerSnapshot;
+import fr.uge.game.ScoreBreakdown;
+import fr.uge.game.board.AnimalGroups;
+import fr.uge.game.board.Corridors;
+import fr.uge.game.board.LineIndex;
+import fr.uge.game.board.PersistentBoard;
+import fr.uge.game.board.SalmonRuns;
+import fr.uge.game.board.Topology;
+import fr.uge.game.board.Zobrist;
+
 /**
  * The Player class represents a player in the game, managing the player's name,
  * habitats, nature tokens, points, and biome points.
@@ -14,6 +25,16 @@ public class Player {
 	private int natureToken;
 	private int point;
 	private final HashMap<String, Integer> biomePoint;
+	private ScoreBreakdown score;
+	private final LineIndex lineIndex;
+	private SalmonRuns squareSalmon;
+	private SalmonRuns hexagonSalmon;
+	private AnimalGroups squareGroups;
+	private AnimalGroups hexagonGroups;
+	private Corridors squareCorridors;
+	private Corridors hexagonCorridors;
+	private long hash;
+	private PersistentBoard board = PersistentBoard.EMPTY;
 
 	/**
 	 * Constructor for the Player class.
@@ -32,6 +53,38 @@ public class Player {
 		this.natureToken = natureToken;
 		this.biomePoint = Objects.requireNonNull(biomePoint, "biomePoint cannot be null");
 		this.point = point;
+		this.lineIndex = new LineIndex();
+	}
+
+	/**
+	 * Copy constructor used to build hypothetical boards. Habitats are duplicated so
+	 * the copy can be changed without touching the original player; the index, the
+	 * trackers already built and the hash are copied rather than built again, and the
+	 * persistent board is shared.
+	 * 
+	 * @param player The player to copy.
+	 */
+	private Player(Player player) {
+		this.name = player.name;
+		this.natureToken = player.natureToken;
+		this.point = player.point;
+		this.score = player.score;
+		this.biomePoint = new HashMap<>(player.biomePoint);
+		for (var entry : player.habitats.entrySet()) {
+			var habitat = entry.getValue();
+			var copy = new Habitat(habitat.tile(), habitat.animal(), habitat.rotation());
+			copy.attach(this, entry.getKey());
+			habitats.put(entry.getKey(), copy);
+		}
+		this.lineIndex = new LineIndex(player.lineIndex);
+		this.squareSalmon = player.squareSalmon == null ? null : new SalmonRuns(player.squareSalmon);
+		this.hexagonSalmon = player.hexagonSalmon == null ? null : new SalmonRuns(player.hexagonSalmon);
+		this.squareGroups = player.squareGroups == null ? null : new AnimalGroups(player.squareGroups);
+		this.hexagonGroups = player.hexagonGroups == null ? null : new AnimalGroups(player.hexagonGroups);
+		this.squareCorridors = player.squareCorridors == null ? null : new Corridors(player.squareCorridors);
+		this.hexagonCorridors = player.hexagonCorridors == null ? null : new Corridors(player.hexagonCorridors);
+		this.hash = player.hash;
+		this.board = player.board;
 	}
 
 	/**
@@ -84,7 +137,225 @@ public class Player {
 		checkIndex(x, y);
 		Coordinate coord = new Coordinate(x, y);
 		Habitat habitat = new Habitat(tile, animalPresent, rotation);
-		habitats.put(coord, habitat);
+		habitat.attach(this, coord);
+		var previous = habitats.put(coord, habitat);
+		var cell = Topology.index(x, y);
+		if (previous != null) {
+			previous.attach(null, null);
+			hash ^= Zobrist.tile(cell, previous.tile(), previous.rotation());
+		}
+		hash ^= Zobrist.tile(cell, tile, rotation);
+		if (squareCorridors != null) {
+			squareCorridors.set(x, y, tile, rotation);
+		}
+		if (hexagonCorridors != null) {
+			hexagonCorridors.set(x, y, tile, rotation);
+		}
+		animalChanged(coord, animalPresent);
+	}
+
+	/**
+	 * Removes the tile at the specified coordinates, with its animal, so a search can take
+	 * back a placement.
+	 * 
+	 * @param x The x-coordinate of the tile.
+	 * @param y The y-coordinate of the tile.
+	 * @return The habitat removed, or null if there was no tile there.
+	 * @throws IndexOutOfBoundsException if the coordinates are out of bounds.
+	 */
+	public Habitat remove(int x, int y) {
+		checkIndex(x, y);
+		var coord = new Coordinate(x, y);
+		var habitat = habitats.remove(coord);
+		if (habitat == null) {
+			return null;
+		}
+		animalChanged(coord, Animals.NOTHING);
+		habitat.attach(null, null);
+		hash ^= Zobrist.tile(Topology.index(x, y), habitat.tile(), habitat.rotation());
+		board = board.without(Topology.index(x, y));
+		if (squareCorridors != null) {
+			squareCorridors.remove(x, y);
+		}
+		if (hexagonCorridors != null) {
+			hexagonCorridors.remove(x, y);
+		}
+		return habitat;
+	}
+
+	/**
+	 * Updates the hash, the line index, the salmon runs and animal groups already built and the persistent board when
+	 * the animal of one of the player's habitats changes. The animal being replaced is read back from the line index
+	 * before it is updated.
+	 * 
+	 * @param coordinate The coordinate of the habitat.
+	 * @param animal The new animal of the habitat.
+	 */
+	void animalChanged(Coordinate coordinate, Animals animal) {
+		var cell = Topology.index(coordinate);
+		hash ^= Zobrist.animal(cell, lineIndex.animal(cell)) ^ Zobrist.animal(cell, animal);
+		var habitat = habitats.get(coordinate);
+		if (habitat != null) {
+			board = board.with(cell, new PersistentBoard.Cell(habitat.tile(), habitat.rotation(), animal));
+		}
+		var x = coordinate.x();
+		var y = coordinate.y();
+		lineIndex.set(x, y, animal);
+		if (squareSalmon != null) {
+			squareSalmon.set(x, y, animal);
+		}
+		if (hexagonSalmon != null) {
+			hexagonSalmon.set(x, y, animal);
+		}
+		if (squareGroups != null) {
+			squareGroups.set(x, y, animal);
+		}
+		if (hexagonGroups != null) {
+			hexagonGroups.set(x, y, animal);
+		}
+	}
+
+	/**
+	 * Returns the Zobrist hash of the player's board, kept up to date as tiles are placed
+	 * and animals change. Two players holding the same tiles, rotations and animals on the
+	 * same cells have the same hash, whatever the order of the placements.
+	 * 
+	 * @return The hash of the player's board.
+	 */
+	public long hash() {
+		return hash;
+	}
+
+	/**
+	 * Returns the state of the player as it is now, sharing the persistent board of the player. It costs nothing to take,
+	 * never changes afterwards and can be read from any thread; it must be taken on the thread playing the game.
+	 * 
+	 * @return The snapshot of the player.
+	 */
+	public PlayerSnapshot snapshot() {
+		return new PlayerSnapshot(name, natureToken, point, hash, board);
+	}
+
+	/**
+	 * Returns the index of the animals along the lines of the player's board.
+	 * It follows the habitats of the player and must only be read.
+	 * 
+	 * @return The line index of the player's board.
+	 */
+	public LineIndex lineIndex() {
+		return lineIndex;
+	}
+
+	/**
+	 * Returns the salmon runs of the player's board. The runs of a shape of tiles are built
+	 * from the habitats the first time they are asked for, then kept up to date, so a game
+	 * only pays for the shape it is played with.
+	 * 
+	 * @param shapeOfTile The shape of the tiles (2 for hexagons, square otherwise).
+	 * @return The salmon runs of the player's board.
+	 */
+	public SalmonRuns salmonRuns(int shapeOfTile) {
+		if (shapeOfTile == 2) {
+			if (hexagonSalmon == null) {
+				hexagonSalmon = new SalmonRuns(Topology.HEXAGON);
+				forEachAnimal(hexagonSalmon::set);
+			}
+			return hexagonSalmon;
+		}
+		if (squareSalmon == null) {
+			squareSalmon = new SalmonRuns(Topology.SQUARE);
+			forEachAnimal(squareSalmon::set);
+		}
+		return squareSalmon;
+	}
+
+	/**
+	 * Returns the groups of connected animals of the player's board. Like the salmon runs,
+	 * the groups of a shape of tiles are built the first time they are asked for.
+	 * 
+	 * @param shapeOfTile The shape of the tiles (2 for hexagons, square otherwise).
+	 * @return The animal groups of the player's board.
+	 */
+	public AnimalGroups animalGroups(int shapeOfTile) {
+		if (shapeOfTile == 2) {
+			if (hexagonGroups == null) {
+				hexagonGroups = new AnimalGroups(Topology.HEXAGON);
+				forEachAnimal(hexagonGroups::set);
+			}
+			return hexagonGroups;
+		}
+		if (squareGroups == null) {
+			squareGroups = new AnimalGroups(Topology.SQUARE);
+			forEachAnimal(squareGroups::set);
+		}
+		return squareGroups;
+	}
+
+	/**
+	 * Returns the corridors of the player's board. Like the salmon runs, the corridors of a
+	 * shape of tiles are built the first time they are asked for.
+	 * 
+	 * @param shapeOfTile The shape of the tiles (2 for hexagons, square otherwise).
+	 * @return The corridors of the player's board.
+	 */
+	public Corridors corridors(int shapeOfTile) {
+		if (shapeOfTile == 2) {
+			if (hexagonCorridors == null) {
+				hexagonCorridors = corridors(Topology.HEXAGON);
+			}
+			return hexagonCorridors;
+		}
+		if (squareCorridors == null) {
+			squareCorridors = corridors(Topology.SQUARE);
+		}
+		return squareCorridors;
+	}
+
+	/**
+	 * Builds the corridors of the player's board.
+	 * 
+	 * @param topology The topology of the board.
+	 * @return The corridors holding every habitat.
+	 */
+	private Corridors corridors(Topology topology) {
+		var corridors = new Corridors(topology);
+		for (var entry : habitats.entrySet()) {
+			var habitat = entry.getValue();
+			corridors.set(entry.getKey().x(), entry.getKey().y(), habitat.tile(), habitat.rotation());
+		}
+		return corridors;
+	}
+
+	/**
+	 * Receives the animal of a cell.
+	 */
+	@FunctionalInterface
+	private interface AnimalSetter {
+		void set(int x, int y, Animals animal);
+	}
+
+	/**
+	 * Gives the animal of every habitat holding one to a tracker being built.
+	 * 
+	 * @param setter The tracker.
+	 */
+	private void forEachAnimal(AnimalSetter setter) {
+		for (var entry : habitats.entrySet()) {
+			var animal = entry.getValue().animal();
+			if (animal != Animals.NOTHING) {
+				setter.set(entry.getKey().x(), entry.getKey().y(), animal);
+			}
+		}
+	}
+
+	/**
+	 * Returns a copy of this player, with its own habitats, that can be changed without
+	 * touching this player.
+	 * 
+	 * @return The copy.
+	 */
+	public Player copy() {
+		return new Player(this);
 	}
 
 	/**
@@ -97,15 +368,7 @@ public class Player {
 	 */
 	public boolean neighbourSquare(int x, int y) {
 		checkIndex(x, y);
-
-		return habitats.containsKey(new Coordinate(x + 1, y))
-				&& !habitats.get(new Coordinate(x + 1, y)).equals(Habitat.defaultHabitat())
-				|| habitats.containsKey(new Coordinate(x - 1, y))
-						&& !habitats.get(new Coordinate(x - 1, y)).equals(Habitat.defaultHabitat())
-				|| habitats.containsKey(new Coordinate(x, y + 1))
-						&& !habitats.get(new Coordinate(x, y + 1)).equals(Habitat.defaultHabitat())
-				|| habitats.containsKey(new Coordinate(x, y - 1))
-						&& !habitats.get(new Coordinate(x, y - 1)).equals(Habitat.defaultHabitat());
+		return hasNeighbour(Topology.SQUARE, x, y);
 	}
 
 	/**
@@ -118,33 +381,25 @@ public class Player {
 	 */
 	public boolean neighbourHexagonal(int x, int y) {
 		checkIndex(x, y);
-		if (y % 2 != 0) {
-			return habitats.containsKey(new Coordinate(x, y - 1))
-					&& !habitats.get(new Coordinate(x, y - 1)).equals(Habitat.defaultHabitat())
-					|| habitats.containsKey(new Coordinate(x + 1, y))
-							&& !habitats.get(new Coordinate(x + 1, y)).equals(Habitat.defaultHabitat())
-					|| habitats.containsKey(new Coordinate(x, y + 1))
-							&& !habitats.get(new Coordinate(x, y + 1)).equals(Habitat.defaultHabitat())
-					|| habitats.containsKey(new Coordinate(x - 1, y + 1))
-							&& !habitats.get(new Coordinate(x - 1, y + 1)).equals(Habitat.defaultHabitat())
-					|| habitats.containsKey(new Coordinate(x - 1, y))
-							&& !habitats.get(new Coordinate(x - 1, y)).equals(Habitat.defaultHabitat())
-					|| habitats.containsKey(new Coordinate(x - 1, y - 1))
-							&& !habitats.get(new Coordinate(x - 1, y - 1)).equals(Habitat.defaultHabitat());
-		} else {
-			return habitats.containsKey(new Coordinate(x + 1, y - 1))
-					&& !habitats.get(new Coordinate(x + 1, y - 1)).equals(Habitat.defaultHabitat())
-					|| habitats.containsKey(new Coordinate(x + 1, y))
-							&& !habitats.get(new Coordinate(x + 1, y)).equals(Habitat.defaultHabitat())
-					|| habitats.containsKey(new Coordinate(x + 1, y + 1))
-							&& !habitats.get(new Coordinate(x + 1, y + 1)).equals(Habitat.defaultHabitat())
-					|| habitats.containsKey(new Coordinate(x, y + 1))
-							&& !habitats.get(new Coordinate(x, y + 1)).equals(Habitat.defaultHabitat())
-					|| habitats.containsKey(new Coordinate(x - 1, y))
-							&& !habitats.get(new Coordinate(x - 1, y)).equals(Habitat.defaultHabitat())
-					|| habitats.containsKey(new Coordinate(x, y - 1))
-							&& !habitats.get(new Coordinate(x, y - 1)).equals(Habitat.defaultHabitat());
+		return hasNeighbour(Topology.HEXAGON, x, y);
+	}
+
+	/**
+	 * Checks if one of the neighbours of a cell holds a habitat.
+	 * 
+	 * @param topology The topology of the board.
+	 * @param x The x-coordinate to check.
+	 * @param y The y-coordinate to check.
+	 * @return True if there is a neighboring habitat, false otherwise.
+	 */
+	private boolean hasNeighbour(Topology topology, int x, int y) {
+		for (var coordinate : topology.neighbours(x, y)) {
+			var habitat = habitats.get(coordinate);
+			if (habitat != null && !habitat.equals(Habitat.defaultHabitat())) {
+				return true;
+			}
 		}
+		return false;
 	}
 
 	/**
@@ -199,12 +454,14 @@ public class Player {
 	}
 
 	/**
-	 * Returns the map of habitats the player has.
+	 * Returns the map of habitats the player has. The map cannot be changed: tiles are
+	 * only placed and taken back with {@link #add} and {@link #remove}, which keep the
+	 * board structures of the player up to date.
 	 * 
-	 * @return A map of habitats with coordinates as keys.
+	 * @return An unmodifiable view of the habitats with coordinates as keys.
 	 */
-	public HashMap<Coordinate, Habitat> habitats() {
-		return habitats;
+	public Map<Coordinate, Habitat> habitats() {
+		return Collections.unmodifiableMap(habitats);
 	}
 
 	/**
@@ -221,12 +478,23 @@ public class Player {
 	}
 
 	/**
-	 * Adds points to the player's current score.
+	 * Records the final score of the player. The player's points become the total of the breakdown.
+	 * 
+	 * @param score The breakdown computed for this player.
+	 * @throws NullPointerException if the score is null.
+	 */
+	public void recordScore(ScoreBreakdown score) {
+		this.score = Objects.requireNonNull(score, "score is null");
+		this.point = score.total();
+	}
+
+	/**
+	 * Returns the final score of the player, as recorded at the end of the game.
 	 * 
-	 * @param value The number of points to add.
+	 * @return The breakdown of the player's score, or null if the game is not scored yet.
 	 */
-	public void pointAdd(int value) {
-		this.point = this.point + value;
+	public ScoreBreakdown score() {
+		return score;
 	}
 
 	/**
@@ -5,9 +5,10 @@ import java.util.HashMap;
 import java.util.Objects;
 
 import fr.uge.game.WildlifeCount;
+import fr.uge.game.board.LineIndex;
+import fr.uge.game.board.Topology;
 import fr.uge.game.element.Animals;
 import fr.uge.game.element.Coordinate;
-import fr.uge.game.element.Habitat;
 import fr.uge.game.element.Player;
 
 /**
@@ -16,6 +17,7 @@ import fr.uge.game.element.Player;
  * conditions for the buzzard.
  */
 public record Buzzard(String name, int pattern, int shapeOfTile) implements WildlifeCount {
+	private static final ScoreCurve[] CURVES = ScoringTables.standard().curves("BUZZARD");
 
 	/**
    * Constructs a Buzzard object with the specified name, pattern, and shape of tile.
@@ -36,43 +38,14 @@ public record Buzzard(String name, int pattern, int shapeOfTile) implements Wild
 	}
 
 	/**
-	 * Calculates the counting result for pattern 1.
+	 * Calculates the counting result for patterns 1 and 2 from the buzzard table of
+	 * the pattern.
 	 * 
 	 * @param finalCount : A map containing the number of buzzards counted.
-	 * @return The score based on pattern 1.
+	 * @return The score based on the buzzards counted for the pattern.
 	 */
-	private int resultOfCount1(HashMap<Integer, Integer> finalCount) {
-		Integer counter = finalCount.get(1);
-		return switch (counter) {
-		case 1 -> 2;
-		case 2 -> 5;
-		case 3 -> 8;
-		case 4 -> 11;
-		case 5 -> 14;
-		case 6 -> 18;
-		case 7 -> 22;
-		default -> (counter >= 8) ? 26 : 0;
-		};
-	}
-
-	/**
-	 * Calculates the counting result for pattern 2.
-	 * 
-	 * @param finalCount : A map containing the number of buzzards counted.
-	 * @return The score based on pattern 2.
-	 */
-	private int resultOfCount2(HashMap<Integer, Integer> finalCount) {
-		Integer counter = finalCount.get(2);
-		return switch (counter) {
-		case 1 -> 2;
-		case 2 -> 5;
-		case 3 -> 8;
-		case 4 -> 11;
-		case 5 -> 14;
-		case 6 -> 18;
-		case 7 -> 22;
-		default -> (counter >= 8) ? 26 : 0;
-		};
+	private int resultOfCurve(HashMap<Integer, Integer> finalCount) {
+		return CURVES[pattern].points(finalCount.get(pattern));
 	}
 
 	/**
@@ -175,215 +148,47 @@ public record Buzzard(String name, int pattern, int shapeOfTile) implements Wild
 	private boolean surroundByOtherAnimal(Player player, Coordinate coordinate) {
 		Objects.requireNonNull(player, "player is null");
 
-		if (shapeOfTile == 2) {
-			if (coordinate.y() % 2 != 0) {
-				return neighbourAnimal(player, new Coordinate(coordinate.x(), coordinate.y() - 1))
-						& neighbourAnimal(player, new Coordinate(coordinate.x() + 1, coordinate.y()))
-						& neighbourAnimal(player, new Coordinate(coordinate.x(), coordinate.y() + 1))
-						& neighbourAnimal(player, new Coordinate(coordinate.x() - 1, coordinate.y() + 1))
-						& neighbourAnimal(player, new Coordinate(coordinate.x() - 1, coordinate.y()))
-						& neighbourAnimal(player, new Coordinate(coordinate.x() - 1, coordinate.y() - 1));
-			} else {
-				return neighbourAnimal(player, new Coordinate(coordinate.x() + 1, coordinate.y() - 1))
-						& neighbourAnimal(player, new Coordinate(coordinate.x() + 1, coordinate.y()))
-						& neighbourAnimal(player, new Coordinate(coordinate.x() + 1, coordinate.y() + 1))
-						& neighbourAnimal(player, new Coordinate(coordinate.x(), coordinate.y() + 1))
-						& neighbourAnimal(player, new Coordinate(coordinate.x() - 1, coordinate.y()))
-						& neighbourAnimal(player, new Coordinate(coordinate.x(), coordinate.y() - 1));
-			}
-		}
-		return neighbourAnimal(player, new Coordinate(coordinate.x() + 1, coordinate.y()))
-				&& neighbourAnimal(player, new Coordinate(coordinate.x() - 1, coordinate.y()))
-				&& neighbourAnimal(player, new Coordinate(coordinate.x(), coordinate.y() + 1))
-				&& neighbourAnimal(player, new Coordinate(coordinate.x(), coordinate.y() - 1));
-
-	}
-
-	/**
-	 * Checks if the path between two coordinates forms a valid line and processes
-	 * the animals along the path.
-	 * 
-	 * @param coordinate1   : The first coordinate of the path.
-	 * @param coordinate2   : The second coordinate of the path.
-	 * @param animals       : A map to count the animals encountered.
-	 * @param player        : The player whose habitat is being checked.
-	 * @param finalCount    : A map to track final counts.
-	 * @param visitedAnimal : A map to track the animals that have already been
-	 *                      visited.
-	 * @param min           : The minimum value of the coordinate (x or y) to check.
-	 * @param max           : The maximum value of the coordinate (x or y) to check.
-	 * @return True if the path is valid and processed, false otherwise.
-	 */
-	private boolean checkColumRow(Coordinate coordinate1, Coordinate coordinate2, HashMap<Animals, Integer> animals,
-			Player player, HashMap<Integer, Integer> finalCount, HashMap<Coordinate, Boolean> visitedAnimal, int min,
-			int max) {
-		if (shapeOfTile != 2) {
-			for (int i = min + 1; i < max; i++) {
-				Coordinate currentCoord = new Coordinate(coordinate1.x(), i);
-				if (player.habitats().containsKey(currentCoord)) {
-					Habitat habitat = player.getHabitat(currentCoord);
-					if (!habitat.animal().equals(Animals.BUZZARD) && !habitat.animal().equals(Animals.NOTHING)) {
-						Animals animal = habitat.animal();
-						animals.put(animal, animals.getOrDefault(animal, 0) + 1);
-					}
-					if (habitat.animal().equals(Animals.BUZZARD) && !visitedAnimal.containsKey(currentCoord)) {
-						visitedAnimal.put(currentCoord, true);
-						finalCount.put(3, finalCount.get(3) + 1);
-						if (pattern != 3) {
-							finalCount.put(2, finalCount.get(2) + 1);
-							return true;
-						}
-					}
-				}
-			}
-		}
-		return true;
-	}
-
-	/**
-	 * Checks if the given coordinates form a valid line and processes the animals
-	 * in the line.
-	 * 
-	 * @param player        : The player whose habitat is being checked.
-	 * @param coordinate1   : The starting coordinate of the line.
-	 * @param coordinate2   : The ending coordinate of the line.
-	 * @param finalCount    : A map tracking the number of animals encountered.
-	 * @param visitedAnimal : A map tracking which coordinates have been visited.
-	 * @param animals       : A map to count the animals encountered.
-	 * @return True if the line is valid and processed, false otherwise.
-	 */
-	private boolean checkLine(Player player, Coordinate coordinate1, Coordinate coordinate2,
-			HashMap<Integer, Integer> finalCount, HashMap<Coordinate, Boolean> visitedAnimal,
-			HashMap<Animals, Integer> animals) {
-		if (coordinate1.x() == coordinate2.x()) {
-			int min = Math.min(coordinate1.y(), coordinate2.y());
-			int max = Math.max(coordinate1.y(), coordinate2.y());
-			if (min + 1 == max) {
+		for (var neighbour : Topology.of(shapeOfTile).neighbours(coordinate)) {
+			if (!neighbourAnimal(player, neighbour)) {
 				return false;
 			}
-			return checkColumRow(coordinate1, coordinate2, animals, player, finalCount, visitedAnimal, min, max);
-		} else if (coordinate1.y() == coordinate2.y()) {
-			int min = Math.min(coordinate1.x(), coordinate2.x());
-			int max = Math.max(coordinate1.x(), coordinate2.x());
-			if (min + 1 == max) {
-				return false;
-			}
-			return checkColumRow(coordinate1, coordinate2, animals, player, finalCount, visitedAnimal, min, max);
 		}
 		return true;
 	}
 
 	/**
-	 * Checks if a given coordinate is valid (within the bounds of the game board).
-	 * 
-	 * @param coord : The coordinate to check.
-	 * @return True if the coordinate is valid, false otherwise.
-	 */
-	private boolean isValidCoord(Coordinate coord) {
-		return coord.x() >= 0 && coord.y() >= 0 && coord.x() < 50 && coord.y() < 50;
-	}
-
-	/**
-	 * Determines the direction to take based on movement on a hexagonal grid.
-	 * 
-	 * @param direction : The direction to move (0 or 1).
-	 * @param y         : The current y-coordinate.
-	 * @param x         : The current x-coordinate.
-	 * @return The next coordinate to move to.
-	 */
-	private Coordinate directionToUse(int direction, int y, int x) {
-		if (y % 2 != 0) {
-			return (direction == 1) ? new Coordinate(x, y - 1) : new Coordinate(x - 1, y - 1);
-		}
-		return (direction == 1) ? new Coordinate(x + 1, y - 1) : new Coordinate(x, y - 1);
-	}
-
-	/**
-	 * Adds an animal to the animals map if the habitat at the given coordinate
-	 * contains an animal.
-	 * 
-	 * @param habitat : The habitat to check.
-	 * @param animals : The map to count the animals.
-	 */
-	private void addOtherAnimal(Habitat habitat, HashMap<Animals, Integer> animals) {
-		if (habitat != null) {
-			if (!habitat.animal().equals(Animals.NOTHING)) {
-				Animals animal = habitat.animal();
-				animals.put(animal, animals.getOrDefault(animal, 0) + 1);
-				System.out.println("PREMIER : " + animals);
-			}
-		}
-	}
-
-	/**
-	 * Traverses a diagonal path from the starting point to the target point and
-	 * processes the animals along the way.
+	 * Finds the lines of sight of the player's board: two buzzards on the same straight line,
+	 * not adjacent, with no other buzzard between them. The buzzards of each line of sight
+	 * are marked and the animals between them are counted.
 	 * 
 	 * @param player        : The player whose habitat is being checked.
-	 * @param startPoint    : The starting coordinate of the diagonal.
-	 * @param targetPoint   : The target coordinate to reach.
-	 * @param animals       : A map to count the animals encountered.
-	 * @param visitedAnimal : A map to track the animals that have already been
-	 *                      visited.
-	 * @param direction     : The direction to move in (0 or 1).
-	 * @return True if the diagonal is traversed successfully, false otherwise.
-	 */
-	private boolean travelDiagonal(Player player, Coordinate startPoint, Coordinate targetPoint,
-			HashMap<Animals, Integer> animals, HashMap<Coordinate, Boolean> visitedAnimal, int direction) {
-		int x = startPoint.x();
-		int y = startPoint.y();
-		while (true) {
-			Coordinate nextCoordinate = directionToUse(direction, y, x);
-			if (!isValidCoord(nextCoordinate)) {
-				break;
-			}
-			Habitat habitat = player.getHabitat(nextCoordinate);
-			addOtherAnimal(habitat, animals);
-			if (nextCoordinate.x() == targetPoint.x() && nextCoordinate.y() == targetPoint.y()) {
-				if (pattern == 4) {
-					visitedAnimal.put(nextCoordinate, true);
-				}
-				return true;
-			}
-			x = nextCoordinate.x();
-			y = nextCoordinate.y();
-		}
-		return false;
-	}
-
-	/**
-	 * Checks if a diagonal path between two coordinates on a hexagonal grid is
-	 * valid and processes the animals encountered.
-	 * 
-	 * @param player        : The player whose habitat is being checked.
-	 * @param coordinate1   : The first coordinate of the diagonal.
-	 * @param coordinate2   : The second coordinate of the diagonal.
-	 * @param finalCount    : A map to track final counts.
-	 * @param visitedAnimal : A map to track the animals that have already been
-	 *                      visited.
-	 * @param animals       : A map to count the animals encountered.
-	 * @return True if the diagonal is valid and processed, false otherwise.
-	 */
-	private boolean checkDiagonalHexagonalUsingNeighbours(Player player, Coordinate coordinate1, Coordinate coordinate2,
-			HashMap<Integer, Integer> finalCount, HashMap<Coordinate, Boolean> visitedAnimal,
-			HashMap<Animals, Integer> animals) {
-		HashMap<Animals, Integer> temporaryAnimals = initializeMap2();
-		int y = Math.max(coordinate1.y(), coordinate2.y());
-		var coordinateMaxy = (y == coordinate1.y()) ? coordinate1 : coordinate2;
-		var coordinateMiny = (y == coordinate2.y()) ? coordinate1 : coordinate2;
-		System.out.println(coordinate1 + " " + coordinate2);
-		if (travelDiagonal(player, coordinateMaxy, coordinateMiny, temporaryAnimals, visitedAnimal, 0)
-				|| travelDiagonal(player, coordinateMaxy, coordinateMiny, temporaryAnimals, visitedAnimal, 1)) {
-			for (var key : temporaryAnimals.keySet()) {
-				if (temporaryAnimals.get(key) != 0) {
-					animals.put(key, animals.getOrDefault(key, 0) + 1);
-					System.out.println("DEUXIEME : " + animals);
+	 * @param visitedAnimal : A map receiving the buzzards that see another buzzard.
+	 * @param animals       : A map to count the animals seen between buzzards.
+	 * @return The number of lines of sight.
+	 */
+	private int lineOfSight(Player player, HashMap<Coordinate, Boolean> visitedAnimal, HashMap<Animals, Integer> animals) {
+		var index = player.lineIndex();
+		var lines = 0;
+		for (var axis : LineIndex.axes(shapeOfTile)) {
+			for (var line = 0; line < axis.lines(); line++) {
+				var buzzards = index.mask(axis, line, Animals.BUZZARD);
+				while (Long.bitCount(buzzards) >= 2) {
+					var first = Long.numberOfTrailingZeros(buzzards);
+					buzzards &= buzzards - 1;
+					var second = Long.numberOfTrailingZeros(buzzards);
+					if (second - first < 2) {
+						continue;
+					}
+					lines++;
+					visitedAnimal.put(LineIndex.coordinate(axis, line, first), true);
+					visitedAnimal.put(LineIndex.coordinate(axis, line, second), true);
+					for (var animal : animals.keySet()) {
+						animals.put(animal, animals.get(animal) + index.countBetween(axis, line, first, second, animal));
+					}
 				}
 			}
-			finalCount.put(3, finalCount.get(3) + 1);
-			return true;
 		}
-		return false;
+		return lines;
 	}
 
 	/**
@@ -395,8 +200,7 @@ public record Buzzard(String name, int pattern, int shapeOfTile) implements Wild
 	 */
 	private int finalResult(HashMap<Integer, Integer> mapOfCounter, HashMap<Animals, Integer> animals) {
 		return switch (pattern) {
-		case 1 -> resultOfCount1(mapOfCounter);
-		case 2 -> resultOfCount2(mapOfCounter);
+		case 1, 2 -> resultOfCurve(mapOfCounter);
 		case 3 -> resultOfCount3(mapOfCounter);
 		case 4 -> resultOfCount4(animals);
 		default -> 0;
@@ -417,25 +221,28 @@ public record Buzzard(String name, int pattern, int shapeOfTile) implements Wild
 		HashMap<Integer, Integer> mapOfCounter = initializeMap();
 		HashMap<Animals, Integer> animals = initializeMap2();
 		HashMap<Coordinate, Boolean> visitedAnimal = new HashMap<>();
-		for (int i = 0; i < buzzardOnGameBoard.size(); i++) {
-			if (pattern == 1) {
-				if (surroundByOtherAnimal(player, buzzardOnGameBoard.get(i))) {
-					mapOfCounter.put(1, mapOfCounter.get(1) + 1);
-				}
-			} else {
-				for (int j = i + 1; j < buzzardOnGameBoard.size(); j++) {
-					if (shapeOfTile() == 2) {
-						checkLine(player, buzzardOnGameBoard.get(i), buzzardOnGameBoard.get(j), mapOfCounter, visitedAnimal,
-								animals);
-						checkDiagonalHexagonalUsingNeighbours(player, buzzardOnGameBoard.get(i), buzzardOnGameBoard.get(j),
-								mapOfCounter, visitedAnimal, animals);
-					} else {
-						checkLine(player, buzzardOnGameBoard.get(i), buzzardOnGameBoard.get(j), mapOfCounter, visitedAnimal,
-								animals);
-					}
+		if (pattern != 1) {
+			mapOfCounter.put(3, lineOfSight(player, visitedAnimal, animals));
+		}
+		for (var buzzard : buzzardOnGameBoard) {
+			if (surroundByOtherAnimal(player, buzzard)) {
+				mapOfCounter.put(1, mapOfCounter.get(1) + 1);
+				if (visitedAnimal.containsKey(buzzard)) {
+					mapOfCounter.put(2, mapOfCounter.get(2) + 1);
 				}
 			}
 		}
 		return finalResult(mapOfCounter, animals);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Buzzards and their lines of sight only change with buzzards, but pattern 4 also counts the animals seen.
+	 * 
+	 * @param animal The animal placed, {@code Animals.NOTHING} for a tile without animal.
+	 * @return True if the points may change.
+	 */
+	@Override
+	public boolean affectedBy(Animals animal) {
+		return pattern == 4 ? animal != Animals.NOTHING : animal == Animals.BUZZARD;
+	}
+}
@@ -0,0 +1,272 @@
+package fr.uge.game.wildlifeCount;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import fr.uge.game.WildlifeCount;
+import fr.uge.game.board.Topology;
+import fr.uge.game.element.Animals;
+import fr.uge.game.element.Player;
+
+/**
+ * Compiles house-rule wildlife cards written as one line of text into cards scoring from
+ * the structures the player keeps up to date.
+ * <p>
+ * A rule gives the name of the card, the animal it scores ({@code ANY} for every species
+ * where it makes sense), the kind of rule and its points, in the layout of the other card
+ * files:
+ * <pre>
+ * herds BEAR GROUPS | 0 2 5 8 0
+ * pairs BEAR COUNT 2 | 0 4 11 19 27
+ * families ANY GROUPS | 0 2 5 9
+ * troupe ELK SHAPES | 0 2 5 9 13
+ * rows ELK LINES | 0 2 5 9 13
+ * mixed FOX DIVERSITY | 0 1 2 3 4 5
+ * </pre>
+ * {@code GROUPS} gives each group the points of its size, {@code COUNT n} reads the points
+ * at the number of groups of size {@code n}, {@code SHAPES} and {@code LINES} split the
+ * animals into the best groups of the elk cards, and {@code DIVERSITY} gives each animal
+ * the points of the number of species around it. Every rule is resolved once into a
+ * dedicated card, so scoring does no parsing and no look-up.
+ */
+public final class CardCompiler {
+	private static final String ANY = "ANY";
+
+	/**
+	 * The kinds of rules of a house card.
+	 */
+	public enum Kind {
+		/**
+		 * Each group of animals is worth the points of its size.
+		 */
+		GROUPS,
+		/**
+		 * The points are read at the number of groups of one size.
+		 */
+		COUNT,
+		/**
+		 * The animals are split into the groups of the elk shape card.
+		 */
+		SHAPES,
+		/**
+		 * The animals are split into straight lines.
+		 */
+		LINES,
+		/**
+		 * Each animal is worth the points of the number of species around it.
+		 */
+		DIVERSITY
+	}
+
+	private CardCompiler() {
+	}
+
+	/**
+	 * Card giving each group of animals the points of its size.
+	 */
+	private record GroupsCard(String name, Animals animal, int shapeOfTile, ScoreCurve curve) implements WildlifeCount {
+		@Override
+		public int pattern() {
+			return 0;
+		}
+
+		@Override
+		public int pointCount(Player player) {
+			Objects.requireNonNull(player, "player is null");
+			var groups = player.animalGroups(shapeOfTile);
+			return animal == null ? curve.allGroupPoints(groups) : curve.groupPoints(groups, animal);
+		}
+
+		@Override
+		public boolean affectedBy(Animals placed) {
+			return animal == null ? placed != Animals.NOTHING : placed == animal;
+		}
+	}
+
+	/**
+	 * Card reading its points at the number of groups of one size.
+	 */
+	private record CountCard(String name, Animals animal, int size, int shapeOfTile, ScoreCurve curve) implements WildlifeCount {
+		@Override
+		public int pattern() {
+			return 0;
+		}
+
+		@Override
+		public int pointCount(Player player) {
+			Objects.requireNonNull(player, "player is null");
+			var groups = player.animalGroups(shapeOfTile);
+			if (animal != null) {
+				return curve.points(groups.groups(animal, size));
+			}
+			var count = 0;
+			for (var species : Animals.values()) {
+				count += groups.groups(species, size);
+			}
+			return curve.points(count);
+		}
+
+		@Override
+		public boolean affectedBy(Animals placed) {
+			return animal == null ? placed != Animals.NOTHING : placed == animal;
+		}
+	}
+
+	/**
+	 * Card splitting the animals into the best set of groups of a matcher.
+	 */
+	private record PackingCard(String name, Animals animal, ElkShapeMatcher matcher, int[] values) implements WildlifeCount {
+		@Override
+		public int pattern() {
+			return 0;
+		}
+
+		@Override
+		public int pointCount(Player player) {
+			var counts = matcher.bestPacking(player, animal, values);
+			var result = 0;
+			for (var size = 1; size < counts.length; size++) {
+				result += counts[size] * values[size];
+			}
+			return result;
+		}
+
+		@Override
+		public boolean affectedBy(Animals placed) {
+			return placed == animal;
+		}
+	}
+
+	/**
+	 * Card giving each animal the points of the number of species around it.
+	 */
+	private record DiversityCard(String name, Animals animal, int shapeOfTile, ScoreCurve curve) implements WildlifeCount {
+		@Override
+		public int pattern() {
+			return 0;
+		}
+
+		@Override
+		public int pointCount(Player player) {
+			Objects.requireNonNull(player, "player is null");
+			return FoxScorer.diversity(player, animal, shapeOfTile, curve);
+		}
+
+		@Override
+		public boolean affectedBy(Animals placed) {
+			return placed != Animals.NOTHING;
+		}
+	}
+
+	/**
+	 * Compiles one rule into a card.
+	 *
+	 * @param rule The rule, like {@code herds BEAR GROUPS | 0 2 5 8 0}.
+	 * @param shapeOfTile The shape of the tiles (2 for hexagons, square otherwise).
+	 * @return The card scoring the rule.
+	 * @throws IllegalArgumentException if the rule is malformed.
+	 */
+	public static WildlifeCount compile(String rule, int shapeOfTile) {
+		Objects.requireNonNull(rule, "rule is null");
+		if (shapeOfTile < 0 || shapeOfTile > 2) {
+			throw new IllegalArgumentException("shapeOfTile < 0 or shapeOfTile > 2");
+		}
+		String[] words = rule.strip().split("\\s+");
+		var bar = List.of(words).indexOf("|");
+		if (bar < 3 || bar == words.length - 1) {
+			throw new IllegalArgumentException("malformed rule: " + rule);
+		}
+		try {
+			var name = words[0];
+			var animal = words[1].equals(ANY) ? null : Animals.valueOf(words[1]);
+			if (animal == Animals.NOTHING) {
+				throw new IllegalArgumentException("no card scores NOTHING: " + rule);
+			}
+			var kind = Kind.valueOf(words[2]);
+			var points = new int[words.length - bar - 1];
+			for (var i = 0; i < points.length; i++) {
+				points[i] = Integer.parseInt(words[bar + 1 + i]);
+			}
+			var curve = new ScoreCurve(points);
+			var argument = bar == 4 ? Integer.parseInt(words[3]) : -1;
+			if ((kind == Kind.COUNT) != (bar == 4)) {
+				throw new IllegalArgumentException("only COUNT takes a group size: " + rule);
+			}
+			if (animal == null && kind != Kind.GROUPS && kind != Kind.COUNT) {
+				throw new IllegalArgumentException(kind + " needs an animal: " + rule);
+			}
+			return switch (kind) {
+			case GROUPS -> new GroupsCard(name, animal, shapeOfTile, curve);
+			case COUNT -> {
+				if (argument < 1 || argument > Topology.CELLS) {
+					throw new IllegalArgumentException("group size out of the board: " + rule);
+				}
+				yield new CountCard(name, animal, argument, shapeOfTile, curve);
+			}
+			case SHAPES -> packing(name, animal, ElkShapeMatcher.shapes(shapeOfTile), curve);
+			case LINES -> packing(name, animal, ElkShapeMatcher.lines(shapeOfTile), curve);
+			case DIVERSITY -> new DiversityCard(name, animal, shapeOfTile, curve);
+			};
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("malformed rule: " + rule, e);
+		}
+	}
+
+	/**
+	 * Builds a card splitting animals into the groups of a matcher.
+	 *
+	 * @param name The name of the card.
+	 * @param animal The species to group.
+	 * @param matcher The groups of the card.
+	 * @param curve The points of a group by its size.
+	 * @return The card.
+	 */
+	private static WildlifeCount packing(String name, Animals animal, ElkShapeMatcher matcher, ScoreCurve curve) {
+		var values = new int[matcher.maxSize() + 1];
+		for (var size = 1; size < values.length; size++) {
+			values[size] = curve.points(size);
+		}
+		return new PackingCard(name, animal, matcher, values);
+	}
+
+	/**
+	 * Compiles every rule of a file. Blank lines and lines starting with {@code #} are skipped.
+	 *
+	 * @param path The path to the file.
+	 * @param shapeOfTile The shape of the tiles (2 for hexagons, square otherwise).
+	 * @return The cards of the file, in the order of the file.
+	 * @throws IOException If an I/O error occurs while reading the file.
+	 * @throws IllegalArgumentException if a rule is malformed.
+	 */
+	public static List<WildlifeCount> load(Path path, int shapeOfTile) throws IOException {
+		Objects.requireNonNull(path, "path is null");
+		try (var reader = Files.newBufferedReader(path)) {
+			return readFile(reader, shapeOfTile);
+		}
+	}
+
+	/**
+	 * Reads and compiles the rules of a file.
+	 *
+	 * @param reader The BufferedReader used to read the file.
+	 * @param shapeOfTile The shape of the tiles (2 for hexagons, square otherwise).
+	 * @return The cards of the file.
+	 * @throws IOException If an I/O error occurs while reading the file.
+	 */
+	private static List<WildlifeCount> readFile(BufferedReader reader, int shapeOfTile) throws IOException {
+		var cards = new ArrayList<WildlifeCount>();
+		String line;
+		while ((line = reader.readLine()) != null) {
+			line = line.strip();
+			if (!line.isEmpty() && !line.startsWith("#")) {
+				cards.add(compile(line, shapeOfTile));
+			}
+		}
+		return List.copyOf(cards);
+	}
+}
@@ -0,0 +1,298 @@
+package fr.uge.game.wildlifeCount;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Objects;
+
+import fr.uge.game.board.Topology;
+import fr.uge.game.element.Animals;
+import fr.uge.game.element.Player;
+
+/**
+ * Finds the best way to split the elk of a board into the groups drawn on an elk card.
+ * <p>
+ * Every placement of every orientation of the card's groups is computed once for the
+ * 2,500 cells of the board. A placement is stored with the cell of lowest index as its
+ * anchor, so when the elk are visited by increasing index, the first elk not yet used can
+ * only start a group anchored on it. The solver then tries these placements against a
+ * bitboard of the elk and keeps the non-overlapping assignment with the best score.
+ */
+public final class ElkShapeMatcher {
+	private static final int WORDS = (Topology.CELLS + 63) / 64;
+	private static final int[][][] SQUARE_SHAPES = {
+			{ {} },
+			{ {}, { 1 } },
+			{ {}, { 1 }, { 0 } },
+			{ {}, { 3 }, { 1 }, { 1, 2 } } };
+	private static final int[][][] HEXAGON_SHAPES = {
+			{ {} },
+			{ {}, { 1 } },
+			{ {}, { 1 }, { 2 } },
+			{ {}, { 1 }, { 2 }, { 1, 2 } } };
+	private static final int[][][] LINES = {
+			{ {} },
+			{ {}, { 1 } },
+			{ {}, { 1 }, { 1, 1 } },
+			{ {}, { 1 }, { 1, 1 }, { 1, 1, 1 } } };
+
+	private static final ElkShapeMatcher SQUARE_LINE = new ElkShapeMatcher(Topology.SQUARE, LINES);
+	private static final ElkShapeMatcher HEXAGON_LINE = new ElkShapeMatcher(Topology.HEXAGON, LINES);
+	private static final ElkShapeMatcher SQUARE_SHAPE = new ElkShapeMatcher(Topology.SQUARE, SQUARE_SHAPES);
+	private static final ElkShapeMatcher HEXAGON_SHAPE = new ElkShapeMatcher(Topology.HEXAGON, HEXAGON_SHAPES);
+
+	private final int maxSize;
+	private final int[][][] placements;
+
+	/**
+	 * Precomputes the placements of a set of groups on every cell of the board.
+	 *
+	 * @param topology The topology of the board.
+	 * @param groups The groups, each one given as the sides to follow from a starting cell to reach its cells.
+	 */
+	private ElkShapeMatcher(Topology topology, int[][][] groups) {
+		this.maxSize = groups.length;
+		var found = new ArrayList<ArrayList<int[]>>(Topology.CELLS);
+		for (var cell = 0; cell < Topology.CELLS; cell++) {
+			found.add(new ArrayList<>());
+		}
+		for (var size = groups.length; size >= 1; size--) {
+			for (var start = 0; start < Topology.CELLS; start++) {
+				for (var turn = 0; turn < topology.degree(); turn++) {
+					var cells = place(topology, groups[size - 1], start, turn);
+					if (cells != null && !contains(found.get(cells[0]), cells)) {
+						found.get(cells[0]).add(cells);
+					}
+				}
+			}
+		}
+		this.placements = new int[Topology.CELLS][][];
+		for (var anchor = 0; anchor < Topology.CELLS; anchor++) {
+			placements[anchor] = found.get(anchor).toArray(int[][]::new);
+		}
+	}
+
+	/**
+	 * Returns the largest group of the matcher.
+	 *
+	 * @return The number of animals of the largest group.
+	 */
+	public int maxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Returns the matcher of the straight lines of elk, up to 4 elk long.
+	 *
+	 * @param shapeOfTile The shape of the tiles (2 for hexagons, square otherwise).
+	 * @return The matcher.
+	 */
+	public static ElkShapeMatcher lines(int shapeOfTile) {
+		return shapeOfTile == 2 ? HEXAGON_LINE : SQUARE_LINE;
+	}
+
+	/**
+	 * Returns the matcher of the elk groups of the shape card: one elk, a pair, a triangle
+	 * and a group of four.
+	 *
+	 * @param shapeOfTile The shape of the tiles (2 for hexagons, square otherwise).
+	 * @return The matcher.
+	 */
+	public static ElkShapeMatcher shapes(int shapeOfTile) {
+		return shapeOfTile == 2 ? HEXAGON_SHAPE : SQUARE_SHAPE;
+	}
+
+	/**
+	 * Computes the cells of a group turned and placed on a starting cell.
+	 *
+	 * @param topology The topology of the board.
+	 * @param group The sides to follow from the starting cell to reach each cell.
+	 * @param anchor The cell the group starts from.
+	 * @param turn The number of sides the group is turned by.
+	 * @return The sorted cells of the group, or null if one of them is outside the board.
+	 */
+	private static int[] place(Topology topology, int[][] group, int anchor, int turn) {
+		var cells = new int[group.length];
+		for (var i = 0; i < group.length; i++) {
+			var cell = anchor;
+			for (var side : group[i]) {
+				cell = topology.neighbour(cell, (side + turn) % topology.degree());
+				if (cell == Topology.NONE) {
+					return null;
+				}
+			}
+			cells[i] = cell;
+		}
+		Arrays.sort(cells);
+		return cells;
+	}
+
+	/**
+	 * Checks if a placement was already found.
+	 *
+	 * @param found The placements already found.
+	 * @param cells The placement to look for.
+	 * @return True if the placement is already in the list.
+	 */
+	private static boolean contains(ArrayList<int[]> found, int[] cells) {
+		for (var placement : found) {
+			if (Arrays.equals(placement, cells)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Search state of the solver. The group worth the most per elk, {@code bestValue} points
+	 * for {@code bestSize} elk, bounds what the elk left can still add, and the bound is
+	 * compared as an integer fraction rather than a rounded double.
+	 */
+	private static final class Search {
+		private final int[] elk;
+		private final long[] board = new long[WORDS];
+		private final long[] used = new long[WORDS];
+		private final int[] values;
+		private final int bestValue;
+		private final int bestSize;
+		private final int[] counts;
+		private int[] bestCounts;
+		private int best = -1;
+
+		private Search(int[] elk, int[] values, int maxSize) {
+			this.elk = elk;
+			this.values = values;
+			this.counts = new int[maxSize + 1];
+			this.bestCounts = counts.clone();
+			var bestValue = 0;
+			var bestSize = 1;
+			for (var size = 1; size <= maxSize; size++) {
+				if (values[size] * bestSize > bestValue * size) {
+					bestValue = values[size];
+					bestSize = size;
+				}
+			}
+			this.bestValue = bestValue;
+			this.bestSize = bestSize;
+			for (var cell : elk) {
+				board[cell >>> 6] |= 1L << cell;
+			}
+		}
+	}
+
+	/**
+	 * Explores the assignments of the elk from a position of the sorted elk list.
+	 *
+	 * @param search The search state.
+	 * @param position The position of the next elk to assign.
+	 * @param score The score of the groups already chosen.
+	 */
+	private void search(Search search, int position, int score) {
+		while (position < search.elk.length && isSet(search.used, search.elk[position])) {
+			position++;
+		}
+		var left = 0;
+		for (var i = position; i < search.elk.length; i++) {
+			if (!isSet(search.used, search.elk[i])) {
+				left++;
+			}
+		}
+		if (left * search.bestValue < (search.best - score + 1) * search.bestSize) {
+			return;
+		}
+		if (position == search.elk.length) {
+			search.best = score;
+			search.bestCounts = search.counts.clone();
+			return;
+		}
+		var anchor = search.elk[position];
+		for (var cells : placements[anchor]) {
+			if (fits(search, cells)) {
+				toggle(search, cells);
+				search.counts[cells.length]++;
+				search(search, position + 1, score + search.values[cells.length]);
+				search.counts[cells.length]--;
+				toggle(search, cells);
+			}
+		}
+		search.used[anchor >>> 6] ^= 1L << anchor;
+		search(search, position + 1, score);
+		search.used[anchor >>> 6] ^= 1L << anchor;
+	}
+
+	/**
+	 * Checks if every cell of a placement holds a free elk.
+	 *
+	 * @param search The search state.
+	 * @param cells The cells of the placement.
+	 * @return True if the placement can be chosen.
+	 */
+	private static boolean fits(Search search, int[] cells) {
+		for (var cell : cells) {
+			if (!isSet(search.board, cell) || isSet(search.used, cell)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Marks or frees the cells of a placement.
+	 *
+	 * @param search The search state.
+	 * @param cells The cells of the placement.
+	 */
+	private static void toggle(Search search, int[] cells) {
+		for (var cell : cells) {
+			search.used[cell >>> 6] ^= 1L << cell;
+		}
+	}
+
+	/**
+	 * Tests the bit of a cell in a bitboard.
+	 *
+	 * @param bitboard The bitboard, one bit per cell.
+	 * @param cell The index of the cell.
+	 * @return True if the bit is set.
+	 */
+	private static boolean isSet(long[] bitboard, int cell) {
+		return (bitboard[cell >>> 6] & 1L << cell) != 0;
+	}
+
+	/**
+	 * Splits the elk of a player into groups so that the total value is the highest possible.
+	 *
+	 * @param player The player whose elk are grouped.
+	 * @param values The value of a group by its number of elk, index 0 is unused.
+	 * @return The number of groups of each size in the best split, indexed by size.
+	 * @throws IllegalArgumentException if values does not give a value for every size.
+	 */
+	public int[] bestPacking(Player player, int[] values) {
+		return bestPacking(player, Animals.ELK, values);
+	}
+
+	/**
+	 * Splits the animals of a species into groups so that the total value is the highest possible.
+	 *
+	 * @param player The player whose animals are grouped.
+	 * @param animal The species to group.
+	 * @param values The value of a group by its number of animals, index 0 is unused.
+	 * @return The number of groups of each size in the best split, indexed by size.
+	 * @throws IllegalArgumentException if values does not give a value for every size.
+	 */
+	public int[] bestPacking(Player player, Animals animal, int[] values) {
+		Objects.requireNonNull(player, "player is null");
+		Objects.requireNonNull(animal, "animal is null");
+		Objects.requireNonNull(values, "values is null");
+		if (values.length <= maxSize) {
+			throw new IllegalArgumentException("values.length <= " + maxSize);
+		}
+		var elk = player.habitats().entrySet().stream()
+				.filter(entry -> entry.getValue().animal().equals(animal))
+				.mapToInt(entry -> Topology.index(entry.getKey()))
+				.sorted()
+				.toArray();
+		var search = new Search(elk, values, maxSize);
+		search(search, 0, 0);
+		return search.bestCounts;
+	}
+}
@@ -1,12 +1,9 @@
 package fr.uge.game.wildlifeCount;
 
-import java.util.HashMap;
 import java.util.Objects;
 
 import fr.uge.game.WildlifeCount;
 import fr.uge.game.element.Animals;
-import fr.uge.game.element.Coordinate;
-import fr.uge.game.element.Habitat;
 import fr.uge.game.element.Player;
 
 /**
@@ -14,6 +11,7 @@ import fr.uge.game.element.Player;
  * Implements the WildlifeCount interface.
  */
 public record Family(String name, int pattern, int shapeOfTile) implements WildlifeCount {
+	private static final ScoreCurve[] CURVES = ScoringTables.standard().curves("FAMILY");
 
 	/**
    * Constructs a Family object. Throws exceptions if any argument is invalid.
@@ -32,74 +30,9 @@ public record Family(String name, int pattern, int shapeOfTile) implements Wildl
 		}
 	}
 
-	/**
-   * Calculates the points for a given family card based on the counter (number of animals in a formation).
-   * 
-   * @param counter The number of animals in a formation.
-   * @return The points for the family card based on the counter.
-   */
-	private int cardOfFamilyPoint(int counter) {
-		return switch (counter) {
-			case 1 -> 2;
-			case 2 -> 5;
-			default -> (counter >= 3) ? 9 : 0;
-		};
-	}
-
-	 /**
-   * Recursively counts the number of animals of a specific type in a player's habitats,
-   * and ensures that all animals in a specific shape or pattern are accounted for.
-   * 
-   * @param player The player whose habitats are being examined.
-   * @param coordinate The current coordinate to check.
-   * @param visitedHabitat A map that tracks the habitats that have already been visited.
-   * @param animal The animal type to count in the habitats.
-   * @return The number of animals in the formation.
-   */
-	private int animalsPointCount(Player player, Coordinate coordinate, HashMap<Coordinate, Boolean> visitedHabitat,
-			Animals animal) {
-
-		if (visitedHabitat.getOrDefault(coordinate, false)) {
-			return 0;
-		}
-
-		Habitat habitat = player.getHabitat(coordinate);
-		if (habitat != null && habitat.animal().equals(animal)) {
-			visitedHabitat.put(coordinate, true);
-			if (shapeOfTile == 2) {
-				if (coordinate.y() % 2 != 0) {
-					return 1
-							+ animalsPointCount(player, new Coordinate(coordinate.x(), coordinate.y() - 1), visitedHabitat, animal)
-							+ animalsPointCount(player, new Coordinate(coordinate.x() + 1, coordinate.y()), visitedHabitat, animal)
-							+ animalsPointCount(player, new Coordinate(coordinate.x(), coordinate.y() + 1), visitedHabitat, animal)
-							+ animalsPointCount(player, new Coordinate(coordinate.x() - 1, coordinate.y() + 1), visitedHabitat,
-									animal)
-							+ animalsPointCount(player, new Coordinate(coordinate.x() - 1, coordinate.y()), visitedHabitat, animal)
-							+ animalsPointCount(player, new Coordinate(coordinate.x() - 1, coordinate.y() - 1), visitedHabitat,
-									animal);
-				} else {
-					return 1
-							+ animalsPointCount(player, new Coordinate(coordinate.x() + 1, coordinate.y() - 1), visitedHabitat,
-									animal)
-							+ animalsPointCount(player, new Coordinate(coordinate.x() + 1, coordinate.y()), visitedHabitat, animal)
-							+ animalsPointCount(player, new Coordinate(coordinate.x() + 1, coordinate.y() + 1), visitedHabitat,
-									animal)
-							+ animalsPointCount(player, new Coordinate(coordinate.x(), coordinate.y() + 1), visitedHabitat, animal)
-							+ animalsPointCount(player, new Coordinate(coordinate.x() - 1, coordinate.y()), visitedHabitat, animal)
-							+ animalsPointCount(player, new Coordinate(coordinate.x(), coordinate.y() - 1), visitedHabitat, animal);
-				}
-			} else {
-				return 1 + animalsPointCount(player, new Coordinate(coordinate.x(), coordinate.y() - 1), visitedHabitat, animal)
-						+ animalsPointCount(player, new Coordinate(coordinate.x() + 1, coordinate.y()), visitedHabitat, animal)
-						+ animalsPointCount(player, new Coordinate(coordinate.x(), coordinate.y() + 1), visitedHabitat, animal)
-						+ animalsPointCount(player, new Coordinate(coordinate.x() - 1, coordinate.y()), visitedHabitat, animal);
-			}
-		}
-		return 0;
-	}
-
 	/**
    * Calculates the total points for the player based on the family's pattern and the animals in their habitats.
+   * Each group of animals is worth the points of its size in the family table of {@link ScoringTables}.
    * 
    * @param player The player whose total points are being calculated.
    * @return The total points based on the family's pattern and animal formations.
@@ -107,24 +40,17 @@ public record Family(String name, int pattern, int shapeOfTile) implements Wildl
 	@Override
 	public int pointCount(Player player) {
 		Objects.requireNonNull(player, "player is null");
+		return CURVES[pattern].allGroupPoints(player.animalGroups(shapeOfTile));
+	}
 
-		HashMap<Coordinate, Boolean> visitedHabitatForAnimal = new HashMap<>();
-		var result = 0;
-		for (Coordinate coordinate : player.habitats().keySet()) {
-			Habitat habitat = player.getHabitat(coordinate);
-			if (habitat != null && !habitat.animal().equals(Habitat.defaultHabitat().animal())
-					&& !visitedHabitatForAnimal.getOrDefault(coordinate, false)) {
-				var counter = 0;
-				counter = animalsPointCount(player, coordinate, visitedHabitatForAnimal, habitat.animal());
-
-				result += cardOfFamilyPoint(counter);
-				if (counter != 0) {
-					System.out.println("counter : " + counter);
-					System.out.println("result : " + result);
-				}
-			}
-		}
-		return result;
-
+	/**
+	 * Every species forms groups.
+	 * 
+	 * @param animal The animal placed, {@code Animals.NOTHING} for a tile without animal.
+	 * @return True if the points may change.
+	 */
+	@Override
+	public boolean affectedBy(Animals animal) {
+		return animal != Animals.NOTHING;
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,215 @@
+package fr.uge.game.wildlifeCount;
+
+import java.util.Objects;
+
+import fr.uge.game.board.LineIndex;
+import fr.uge.game.board.Topology;
+import fr.uge.game.element.Animals;
+import fr.uge.game.element.Player;
+
+/**
+ * Scores the fox cards from the animals around each fox.
+ * <p>
+ * The neighbours of a fox are summed into a single int holding one 4-bit counter per
+ * species, the counter of a species being at bit {@code 4 * ordinal}. The set of species
+ * present is then a popcount away, pairs are halved counters and the points come from
+ * the fox tables of {@link ScoringTables}, so scoring a board walks the fox masks of the
+ * line index and allocates nothing.
+ */
+public final class FoxScorer {
+	private static final ScoreCurve[] CURVES = ScoringTables.standard().curves("FOX");
+	private static final int SPECIES = Animals.NOTHING.ordinal();
+	private static final int NIBBLES = 0x11111;
+	private static final int FOX_SHIFT = 4 * Animals.FOX.ordinal();
+
+	private FoxScorer() {
+	}
+
+	/**
+	 * Sums the animals around a cell, one 4-bit counter per species.
+	 *
+	 * @param index The animals of the board.
+	 * @param topology The topology of the board.
+	 * @param cell The cell whose neighbours are counted.
+	 * @param skip A cell left out of the count, {@link Topology#NONE} for none.
+	 * @param around A cell whose own neighbours are left out, {@link Topology#NONE} for none.
+	 * @return The packed counters.
+	 */
+	private static int neighbourCounts(LineIndex index, Topology topology, int cell, int skip, int around) {
+		var counts = 0;
+		for (var side = 0; side < topology.degree(); side++) {
+			var neighbour = topology.neighbour(cell, side);
+			if (neighbour == Topology.NONE || neighbour == skip || isNeighbour(topology, around, neighbour)) {
+				continue;
+			}
+			var species = index.animal(neighbour).ordinal();
+			if (species != SPECIES) {
+				counts += 1 << 4 * species;
+			}
+		}
+		return counts;
+	}
+
+	/**
+	 * Checks if two cells are next to each other.
+	 *
+	 * @param topology The topology of the board.
+	 * @param cell The first cell, {@link Topology#NONE} is next to nothing.
+	 * @param other The second cell.
+	 * @return True if the cells share a side.
+	 */
+	private static boolean isNeighbour(Topology topology, int cell, int other) {
+		if (cell == Topology.NONE) {
+			return false;
+		}
+		for (var side = 0; side < topology.degree(); side++) {
+			if (topology.neighbour(cell, side) == other) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Counts the species present in packed counters.
+	 *
+	 * @param counts The packed counters.
+	 * @return The number of non-zero counters.
+	 */
+	private static int species(int counts) {
+		return Integer.bitCount((counts | counts >>> 1 | counts >>> 2 | counts >>> 3) & NIBBLES);
+	}
+
+	/**
+	 * Counts the pairs of animals of the same species, foxes excluded.
+	 *
+	 * @param counts The packed counters.
+	 * @return The sum of the halved counters of the other species.
+	 */
+	private static int pairs(int counts) {
+		var halves = (counts & ~(0xF << FOX_SHIFT)) >>> 1 & 0x77777;
+		var pairs = 0;
+		for (; halves != 0; halves >>>= 4) {
+			pairs += halves & 0xF;
+		}
+		return pairs;
+	}
+
+	/**
+	 * Returns the largest counter, foxes excluded.
+	 *
+	 * @param counts The packed counters.
+	 * @return The highest number of animals of one species.
+	 */
+	private static int largest(int counts) {
+		var max = 0;
+		for (var rest = counts & ~(0xF << FOX_SHIFT); rest != 0; rest >>>= 4) {
+			max = Math.max(max, rest & 0xF);
+		}
+		return max;
+	}
+
+	/**
+	 * Finds the first fox next to a cell.
+	 *
+	 * @param index The animals of the board.
+	 * @param topology The topology of the board.
+	 * @param cell The cell to look around.
+	 * @return The cell of the fox, {@link Topology#NONE} if there is none.
+	 */
+	private static int foxAround(LineIndex index, Topology topology, int cell) {
+		for (var side = 0; side < topology.degree(); side++) {
+			var neighbour = topology.neighbour(cell, side);
+			if (neighbour != Topology.NONE && index.animal(neighbour) == Animals.FOX) {
+				return neighbour;
+			}
+		}
+		return Topology.NONE;
+	}
+
+	/**
+	 * Computes the value of one fox for a card before the lookup in the points table.
+	 * Card 4 scores pairs of foxes touching no other fox, once for the pair, from the
+	 * animals around both foxes.
+	 *
+	 * @param index The animals of the board.
+	 * @param topology The topology of the board.
+	 * @param pattern The fox card, from 1 to 4.
+	 * @param cell The cell of the fox.
+	 * @return The number looked up in the points table of the card.
+	 */
+	private static int value(LineIndex index, Topology topology, int pattern, int cell) {
+		var counts = neighbourCounts(index, topology, cell, Topology.NONE, Topology.NONE);
+		return switch (pattern) {
+		case 1 -> species(counts);
+		case 2 -> pairs(counts);
+		case 3 -> largest(counts);
+		default -> {
+			if ((counts >>> FOX_SHIFT & 0xF) != 1) {
+				yield 0;
+			}
+			var partner = foxAround(index, topology, cell);
+			var partnerCounts = neighbourCounts(index, topology, partner, Topology.NONE, Topology.NONE);
+			if (partner < cell || (partnerCounts >>> FOX_SHIFT & 0xF) != 1) {
+				yield 0;
+			}
+			yield pairs(neighbourCounts(index, topology, cell, partner, Topology.NONE)
+					+ neighbourCounts(index, topology, partner, cell, cell));
+		}
+		};
+	}
+
+	/**
+	 * Computes the points a player earns with a fox card.
+	 *
+	 * @param player The player whose board is scored.
+	 * @param pattern The fox card, from 1 to 4.
+	 * @param shapeOfTile The shape of the tiles (2 for hexagons, square otherwise).
+	 * @return The points of all the foxes of the player.
+	 * @throws IllegalArgumentException if the pattern is not between 1 and 4.
+	 */
+	public static int score(Player player, int pattern, int shapeOfTile) {
+		Objects.requireNonNull(player, "player is null");
+		if (pattern < 1 || pattern > 4) {
+			throw new IllegalArgumentException("pattern < 1 or pattern > 4");
+		}
+		return total(player, Animals.FOX, pattern, shapeOfTile, CURVES[pattern]);
+	}
+
+	/**
+	 * Computes the points of the animals of a species, each one worth the points of the
+	 * number of species around it, like the first fox card.
+	 *
+	 * @param player The player whose board is scored.
+	 * @param animal The species whose animals are scored.
+	 * @param shapeOfTile The shape of the tiles (2 for hexagons, square otherwise).
+	 * @param curve The points by number of species around an animal.
+	 * @return The points of all the animals of the species.
+	 */
+	static int diversity(Player player, Animals animal, int shapeOfTile, ScoreCurve curve) {
+		return total(player, animal, 1, shapeOfTile, curve);
+	}
+
+	/**
+	 * Adds up the points of every animal of a species.
+	 *
+	 * @param player The player whose board is scored.
+	 * @param animal The species whose animals are scored.
+	 * @param pattern The fox card, from 1 to 4.
+	 * @param shapeOfTile The shape of the tiles (2 for hexagons, square otherwise).
+	 * @param curve The points table of the card.
+	 * @return The points of all the animals of the species.
+	 */
+	private static int total(Player player, Animals animal, int pattern, int shapeOfTile, ScoreCurve curve) {
+		var index = player.lineIndex();
+		var topology = Topology.of(shapeOfTile);
+		var total = 0;
+		for (var y = 0; y < Topology.SIZE; y++) {
+			for (var cells = index.mask(LineIndex.Axis.ROW, y, animal); cells != 0; cells &= cells - 1) {
+				var cell = y * Topology.SIZE + Long.numberOfTrailingZeros(cells);
+				total += curve.points(value(index, topology, pattern, cell));
+			}
+		}
+		return total;
+	}
+}
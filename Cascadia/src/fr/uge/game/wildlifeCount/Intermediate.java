@@ -1,12 +1,9 @@
 package fr.uge.game.wildlifeCount;
 
-import java.util.HashMap;
 import java.util.Objects;
 
 import fr.uge.game.WildlifeCount;
 import fr.uge.game.element.Animals;
-import fr.uge.game.element.Coordinate;
-import fr.uge.game.element.Habitat;
 import fr.uge.game.element.Player;
 
 /**
@@ -14,6 +11,7 @@ import fr.uge.game.element.Player;
  * The class calculates the points based on a specified pattern and tile shape.
  */
 public record Intermediate(String name, int pattern, int shapeOfTile) implements WildlifeCount{
+	private static final ScoreCurve[] CURVES = ScoringTables.standard().curves("INTERMEDIATE");
 	
 	/**
    * Constructs an Intermediate object with the specified name, pattern, and shape of tile.
@@ -33,93 +31,27 @@ public record Intermediate(String name, int pattern, int shapeOfTile) implements
 		}
 	}
 	
-	/**
-   * Calculates the points for intermediary cards based on the count of animals.
-   * The point calculation follows different rules depending on the animal count.
-   * 
-   * @param counter The number of animals found in the player's habitats.
-   * @return The points calculated for the given animal count.
-   */
-	private int cardOfIntermediaryPoint(int counter) {
-		return switch(counter) {
-			case 2 -> 5;
-			case 3 -> 8;
-			default ->  (counter >= 4) ? 12 : 0;
-		};
-  }
-	
-	/**
-   * Recursively counts the number of animals of a specific type in the player's habitats, 
-   * starting from a given coordinate. It checks all adjacent coordinates.
-   * 
-   * @param player The player whose habitats are being checked.
-   * @param coordinate The starting coordinate for the animal search.
-   * @param visitedHabitat A map tracking which habitats have been visited.
-   * @param animal The type of animal to count.
-   * @return The total count of the specified animal in the player's habitats.
-   */
-	private int animalsPointCount(Player player,Coordinate coordinate, HashMap<Coordinate, Boolean> visitedHabitat, Animals animal) {
-    if (visitedHabitat.getOrDefault(coordinate, false)) {
-    	return 0;
-    }
-    Habitat habitat = player.getHabitat(coordinate);
-    if (habitat != null && habitat.animal().equals(animal)) {
-    	visitedHabitat.put(coordinate, true);
-      if(shapeOfTile == 2) {
-      	if (coordinate.y() % 2 != 0) {
-      		return 1 +
-      				animalsPointCount(player, new Coordinate(coordinate.x(), coordinate.y() - 1), visitedHabitat, animal) +
-      				animalsPointCount(player, new Coordinate(coordinate.x() + 1, coordinate.y()), visitedHabitat, animal) +
-        			animalsPointCount(player, new Coordinate(coordinate.x(), coordinate.y() + 1), visitedHabitat, animal) +
-        			animalsPointCount(player, new Coordinate(coordinate.x() - 1, coordinate.y() + 1), visitedHabitat, animal) +
-        			animalsPointCount(player, new Coordinate(coordinate.x() - 1, coordinate.y()), visitedHabitat, animal) +
-        			animalsPointCount(player, new Coordinate(coordinate.x() - 1, coordinate.y() - 1), visitedHabitat, animal);
-      	}
-      	else {
-      		return 1 +
-      				animalsPointCount(player, new Coordinate(coordinate.x() + 1, coordinate.y() - 1), visitedHabitat, animal) +
-        			animalsPointCount(player, new Coordinate(coordinate.x() + 1, coordinate.y()), visitedHabitat, animal) +
-        			animalsPointCount(player, new Coordinate(coordinate.x() + 1, coordinate.y() + 1), visitedHabitat, animal) +
-        			animalsPointCount(player, new Coordinate(coordinate.x(), coordinate.y() + 1), visitedHabitat, animal) +
-        			animalsPointCount(player, new Coordinate(coordinate.x() - 1, coordinate.y()), visitedHabitat, animal) +
-        			animalsPointCount(player, new Coordinate(coordinate.x(), coordinate.y() - 1), visitedHabitat, animal);
-      	}
-      }
-      else {
-      	 return 1 +
-      			 animalsPointCount(player, new Coordinate(coordinate.x(), coordinate.y() - 1), visitedHabitat, animal) +
-      			 animalsPointCount(player, new Coordinate(coordinate.x() + 1, coordinate.y()), visitedHabitat, animal) +
-      			 animalsPointCount(player, new Coordinate(coordinate.x(), coordinate.y() + 1), visitedHabitat, animal) +
-      			 animalsPointCount(player, new Coordinate(coordinate.x() - 1, coordinate.y()), visitedHabitat, animal);
-      }
-    }
-    return 0;
-  }
-  
 	/**
    * Calculates the total points for the player based on the selected pattern and tile shape.
-   * It checks each habitat for animals and calculates points accordingly.
+   * Each group of animals is worth the points of its size in the intermediate table of {@link ScoringTables}.
    * 
    * @param player The player whose habitats and animals are being checked.
    * @return The total points for the player based on the current pattern.
    */
 	@Override
-  public int pointCount(Player player) {
-    Objects.requireNonNull(player, "player is null");
+	public int pointCount(Player player) {
+		Objects.requireNonNull(player, "player is null");
+		return CURVES[pattern].allGroupPoints(player.animalGroups(shapeOfTile));
+	}
 
-    HashMap<Coordinate, Boolean> visitedHabitatForAnimal = new HashMap<>();
-    var result = 0;
-    
-    for (Coordinate coordinate : player.habitats().keySet()) {
-    	Habitat habitat = player.getHabitat(coordinate);
-    	if (habitat != null && !habitat.animal().equals(Habitat.defaultHabitat().animal()) && !visitedHabitatForAnimal.getOrDefault(coordinate, false)) {
-    		var counter = 0;
-    		counter = animalsPointCount(player, coordinate, visitedHabitatForAnimal, habitat.animal());
-    		result = cardOfIntermediaryPoint(counter);
-      }
-    }
-    return result;
-    
- 
-  }
-}
\ No newline at end of file
+	/**
+	 * Every species forms groups.
+	 * 
+	 * @param animal The animal placed, {@code Animals.NOTHING} for a tile without animal.
+	 * @return True if the points may change.
+	 */
+	@Override
+	public boolean affectedBy(Animals animal) {
+		return animal != Animals.NOTHING;
+	}
+}
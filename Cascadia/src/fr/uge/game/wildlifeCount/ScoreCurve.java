@@ -0,0 +1,90 @@
+package fr.uge.game.wildlifeCount;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import fr.uge.game.board.AnimalGroups;
+import fr.uge.game.element.Animals;
+
+/**
+ * Turns a count into points with a table read at the count. Counts past the end of the
+ * table get its last value and negative counts get the first one, so a curve that stops
+ * growing, or drops to 0, only needs one more entry.
+ */
+public final class ScoreCurve {
+	private final int[] points;
+
+	/**
+	 * Creates a curve from its points.
+	 *
+	 * @param points The points for a count of 0, 1, 2 and so on.
+	 * @throws IllegalArgumentException if there are no points.
+	 */
+	public ScoreCurve(int[] points) {
+		Objects.requireNonNull(points, "points is null");
+		if (points.length == 0) {
+			throw new IllegalArgumentException("points is empty");
+		}
+		this.points = points.clone();
+	}
+
+	/**
+	 * Returns the points for a count.
+	 *
+	 * @param count The count, clamped to the table.
+	 * @return The points.
+	 */
+	public int points(int count) {
+		return points[Math.min(Math.max(count, 0), points.length - 1)];
+	}
+
+	/**
+	 * Returns the number of entries of the table.
+	 *
+	 * @return The number of entries.
+	 */
+	public int size() {
+		return points.length;
+	}
+
+	/**
+	 * Adds up the points of the groups of a species, each group being worth the points of
+	 * its size. Groups larger than the table are worth its last value.
+	 *
+	 * @param groups The animal groups of a board.
+	 * @param animal The species whose groups are scored.
+	 * @return The points of all the groups.
+	 */
+	public int groupPoints(AnimalGroups groups, Animals animal) {
+		Objects.requireNonNull(groups, "groups is null");
+		var last = points.length - 1;
+		var result = groups.groupsOfAtLeast(animal, last) * points[last];
+		for (var size = 1; size < last; size++) {
+			result += groups.groups(animal, size) * points[size];
+		}
+		return result;
+	}
+
+	/**
+	 * Adds up the points of the groups of every species, like {@link #groupPoints} for each
+	 * of them.
+	 *
+	 * @param groups The animal groups of a board.
+	 * @return The points of the groups of all the species.
+	 */
+	public int allGroupPoints(AnimalGroups groups) {
+		Objects.requireNonNull(groups, "groups is null");
+		var result = 0;
+		for (var animal : Animals.values()) {
+			if (animal != Animals.NOTHING) {
+				result += groupPoints(groups, animal);
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(points);
+	}
+}
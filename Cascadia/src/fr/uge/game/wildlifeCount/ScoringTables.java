@@ -0,0 +1,146 @@
+package fr.uge.game.wildlifeCount;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import fr.uge.game.Catalogue;
+
+/**
+ * The points tables of the wildlife cards, read from a card-definition file.
+ * <p>
+ * Each line of the file gives a card, its pattern and its points, in the same layout as
+ * the habitat files: {@code BEAR 1 | 0 4 11 19 20}. Blank lines and lines starting with
+ * {@code #} are skipped. The tables of the game are read once from {@code ScoringCards.txt},
+ * found like the other data files by {@link Catalogue#openData(String)}, so balancing a
+ * card only means editing that file.
+ * <p>
+ * The tables of a card are kept in an array indexed by pattern, which the cards read once
+ * with {@link #curves(String)} instead of looking their table up at every count.
+ */
+public final class ScoringTables {
+	private final Map<String, ScoreCurve[]> curves;
+
+	private ScoringTables(Map<String, ScoreCurve[]> curves) {
+		this.curves = Map.copyOf(curves);
+	}
+
+	/**
+	 * Holds the tables of the game, read the first time they are needed.
+	 */
+	private static final class Standard {
+		private static final ScoringTables TABLES;
+		static {
+			try (var reader = Catalogue.openData("ScoringCards.txt")) {
+				TABLES = new ScoringTables(readFile(reader));
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	/**
+	 * Returns the tables of the game, read from {@code ScoringCards.txt}.
+	 *
+	 * @return The tables of the game.
+	 * @throws UncheckedIOException if the file cannot be read.
+	 */
+	public static ScoringTables standard() {
+		return Standard.TABLES;
+	}
+
+	/**
+	 * Reads the tables of a card-definition file.
+	 *
+	 * @param path The path to the file.
+	 * @return The tables of the file.
+	 * @throws IOException If an I/O error occurs while reading the file.
+	 * @throws IllegalArgumentException if a line is malformed.
+	 */
+	public static ScoringTables load(Path path) throws IOException {
+		Objects.requireNonNull(path, "path is null");
+		try (var reader = Files.newBufferedReader(path)) {
+			return new ScoringTables(readFile(reader));
+		}
+	}
+
+	/**
+	 * Reads the lines of a card-definition file.
+	 *
+	 * @param reader The BufferedReader used to read the file.
+	 * @return The curves of the file by card, indexed by pattern.
+	 * @throws IOException If an I/O error occurs while reading the file.
+	 */
+	private static Map<String, ScoreCurve[]> readFile(BufferedReader reader) throws IOException {
+		var curves = new HashMap<String, ScoreCurve[]>();
+		String line;
+		while ((line = reader.readLine()) != null) {
+			line = line.strip();
+			if (line.isEmpty() || line.startsWith("#")) {
+				continue;
+			}
+			String[] words = line.split("\\s+");
+			if (words.length < 4 || !words[2].equals("|")) {
+				throw new IllegalArgumentException("malformed line: " + line);
+			}
+			var points = new int[words.length - 3];
+			try {
+				var pattern = Integer.parseInt(words[1]);
+				if (pattern < 0) {
+					throw new IllegalArgumentException("malformed line: " + line);
+				}
+				for (var i = 0; i < points.length; i++) {
+					points[i] = Integer.parseInt(words[i + 3]);
+				}
+				var card = curves.getOrDefault(words[0], new ScoreCurve[0]);
+				if (pattern >= card.length) {
+					card = Arrays.copyOf(card, pattern + 1);
+				}
+				card[pattern] = new ScoreCurve(points);
+				curves.put(words[0], card);
+			} catch (NumberFormatException e) {
+				throw new IllegalArgumentException("malformed line: " + line, e);
+			}
+		}
+		return curves;
+	}
+
+	/**
+	 * Returns the points table of a card.
+	 *
+	 * @param card The name of the card in the file, like {@code BEAR} or {@code FAMILY}.
+	 * @param pattern The pattern of the card.
+	 * @return The curve of the card.
+	 * @throws IllegalArgumentException if the file has no table for this card.
+	 */
+	public ScoreCurve curve(String card, int pattern) {
+		Objects.requireNonNull(card, "card is null");
+		var patterns = curves.get(card);
+		if (patterns == null || pattern < 0 || pattern >= patterns.length || patterns[pattern] == null) {
+			throw new IllegalArgumentException("no points for " + card + " " + pattern);
+		}
+		return patterns[pattern];
+	}
+
+	/**
+	 * Returns the points tables of every pattern of a card.
+	 *
+	 * @param card The name of the card in the file, like {@code BEAR} or {@code FAMILY}.
+	 * @return The curves of the card indexed by pattern, null for a pattern without table.
+	 * @throws IllegalArgumentException if the file has no table for this card.
+	 */
+	public ScoreCurve[] curves(String card) {
+		Objects.requireNonNull(card, "card is null");
+		var patterns = curves.get(card);
+		if (patterns == null) {
+			throw new IllegalArgumentException("no points for " + card);
+		}
+		return patterns.clone();
+	}
+}
@@ -37,10 +37,10 @@ public class Main {
             draw.initialize();
             Display display = choiceOfGame == 0 ? new DisplayForTerminal(structure.players(), draw, 0) : new DisplayForGraphic(structure.players(), draw, structure, 0, context, choiceOfGame, screenInfo.width(), screenInfo.height(), 0);
             GameRound gameRound = new GameRound(structure, draw, choiceOfGame);
-            for (int i = 0; i < 15; i++) {
+            for (int i = 0; i < Structure.ROUNDS; i++) {
                 gameRound.roundOfGame(context, screenInfo.width(), screenInfo.height(), i);
             }
-            CountPoint.pointCount(structure.players(), structure.wildlifeCards(), numberOfPlayers, choiceOfGame);
+            CountPoint.pointCount(structure.players(), structure.wildlifeCards(), choiceOfGame, numberOfPlayers);
             display.resultOfGame(gameRound.winner());
         } catch (IOException e) {
             e.printStackTrace();
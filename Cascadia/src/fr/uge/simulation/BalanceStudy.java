@@ -0,0 +1,272 @@
+package fr.uge.simulation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+
+import fr.uge.bot.Bot;
+import fr.uge.bot.Evaluator;
+import fr.uge.bot.Match;
+import fr.uge.bot.MoveGenerator;
+import fr.uge.game.WildlifeCount;
+import fr.uge.game.board.Zobrist;
+import fr.uge.game.wildlifeCount.Bear;
+import fr.uge.game.wildlifeCount.Buzzard;
+import fr.uge.game.wildlifeCount.Elk;
+import fr.uge.game.wildlifeCount.Fox;
+import fr.uge.game.wildlifeCount.Salmon;
+
+/**
+ * Measures the balance of the wildlife cards of game mode 3, where
+ * {@code Structure.initializeWildlifeCards} takes one pattern from 1 to 4 for each
+ * animal: 4^5 = 1024 combinations.
+ * <p>
+ * Greedy bots play {@code games} seeded games of every combination, on several threads.
+ * For every card of a combination, the points it gives each player are accumulated with
+ * the share of the win of the player in {@link Moments}: the mean and the variance of the
+ * contribution of the card, and its correlation with winning. The combinations only keep
+ * their accumulators, so the memory does not depend on the number of games. The
+ * accumulators of a card are then merged over the 256 combinations holding it, in the
+ * order of the combinations, which gives the same report whatever the number of threads.
+ */
+public final class BalanceStudy {
+	/**
+	 * The number of combinations of patterns.
+	 */
+	public static final int COMBINATIONS = 1 << 10;
+
+	/**
+	 * The animals of the cards, in the order of {@code Structure.initializeWildlifeCards}.
+	 */
+	public static final List<String> ANIMALS = List.of("fox", "salmon", "bear", "elk", "buzzard");
+
+	private static final List<String> NAMES = List.of("renard", "saumon", "ours", "wapiti", "buse");
+	private static final long GAME = 0xBA1AL << 40;
+
+	/**
+	 * The settings of a study.
+	 *
+	 * @param players The number of players of a game, from 1 to 4.
+	 * @param games The number of games of a combination.
+	 * @param threads The number of threads playing the games.
+	 * @param tileWidth The placements of a tile kept by the bots.
+	 * @param seed The seed of the games.
+	 */
+	public record Settings(int players, int games, int threads, int tileWidth, long seed) {
+		/**
+		 * Checks the settings.
+		 *
+		 * @throws IllegalArgumentException if a value is out of its range.
+		 */
+		public Settings {
+			if (players < 1 || players > 4) {
+				throw new IllegalArgumentException("players < 1 or players > 4");
+			}
+			if (games < 1 || threads < 1 || tileWidth < 1) {
+				throw new IllegalArgumentException("games, threads or tileWidth < 1");
+			}
+		}
+	}
+
+	/**
+	 * The contribution of the cards of a combination: one accumulator by animal, then one
+	 * for the total of the player, each paired with the share of the win.
+	 *
+	 * @param combination The number of the combination.
+	 * @param moments The accumulators, in the order of {@link #ANIMALS}, then the total.
+	 */
+	public record Combination(int combination, List<Moments> moments) {
+		/**
+		 * Returns the patterns of the combination.
+		 *
+		 * @return The pattern of each animal, in the order of {@link #ANIMALS}.
+		 */
+		public List<Integer> patterns() {
+			return BalanceStudy.patterns(combination);
+		}
+	}
+
+	private final Settings settings;
+
+	/**
+	 * Creates a study.
+	 *
+	 * @param settings The settings.
+	 */
+	public BalanceStudy(Settings settings) {
+		this.settings = Objects.requireNonNull(settings, "settings is null");
+	}
+
+	/**
+	 * Returns the patterns of a combination, the combination being read as five digits in
+	 * base 4, the fox first.
+	 *
+	 * @param combination The number of the combination, from 0 to 1023.
+	 * @return The pattern of each animal, from 1 to 4, in the order of {@link #ANIMALS}.
+	 */
+	public static List<Integer> patterns(int combination) {
+		Objects.checkIndex(combination, COMBINATIONS);
+		var patterns = new ArrayList<Integer>();
+		for (var animal = 0; animal < ANIMALS.size(); animal++) {
+			patterns.add((combination >> 2 * (ANIMALS.size() - 1 - animal) & 3) + 1);
+		}
+		return List.copyOf(patterns);
+	}
+
+	/**
+	 * Returns the cards of a combination, named like {@code Structure} names them.
+	 *
+	 * @param combination The number of the combination.
+	 * @return The fox, salmon, bear, elk and buzzard cards of the hexagonal version.
+	 */
+	public static List<WildlifeCount> cards(int combination) {
+		var patterns = patterns(combination);
+		return List.of(new Fox(NAMES.get(0), patterns.get(0), 2), new Salmon(NAMES.get(1), patterns.get(1), 2),
+				new Bear(NAMES.get(2), patterns.get(2), 2), new Elk(NAMES.get(3), patterns.get(3), 2),
+				new Buzzard(NAMES.get(4), patterns.get(4), 2));
+	}
+
+	/**
+	 * Plays the games of a combination.
+	 *
+	 * @param combination The number of the combination.
+	 * @return The accumulators of the combination.
+	 */
+	public Combination study(int combination) {
+		var cards = cards(combination);
+		var match = Match.standard(cards);
+		var moments = new ArrayList<Moments>();
+		for (var i = 0; i <= ANIMALS.size(); i++) {
+			moments.add(new Moments());
+		}
+		for (var game = 0; game < settings.games(); game++) {
+			var bots = new ArrayList<Bot>();
+			for (var seat = 0; seat < settings.players(); seat++) {
+				bots.add(Bot.greedy(new MoveGenerator(new Evaluator(cards, 2), settings.tileWidth())));
+			}
+			var result = match.play(bots, Zobrist.mix(settings.seed() ^ (GAME + ((long) combination << 32 | game))));
+			for (var seat = 0; seat < settings.players(); seat++) {
+				var win = result.win(seat);
+				var wildlife = result.scores().get(seat).wildlife();
+				for (var animal = 0; animal < ANIMALS.size(); animal++) {
+					moments.get(animal).add(wildlife.getOrDefault(NAMES.get(animal), 0), win);
+				}
+				moments.get(ANIMALS.size()).add(result.score(seat), win);
+			}
+		}
+		return new Combination(combination, List.copyOf(moments));
+	}
+
+	/**
+	 * Plays the games of every combination.
+	 *
+	 * @return The accumulators of the combinations, in order.
+	 * @throws InterruptedException if the thread is interrupted while waiting.
+	 */
+	public List<Combination> run() throws InterruptedException {
+		var executor = Executors.newFixedThreadPool(settings.threads());
+		try {
+			var tasks = new ArrayList<Callable<Combination>>();
+			for (var combination = 0; combination < COMBINATIONS; combination++) {
+				var index = combination;
+				tasks.add(() -> study(index));
+			}
+			var combinations = new ArrayList<Combination>();
+			for (var future : executor.invokeAll(tasks)) {
+				combinations.add(future.get());
+			}
+			return combinations;
+		} catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Merges the accumulators of every card: the contribution of the card of each animal
+	 * and pattern over the combinations holding it.
+	 *
+	 * @param combinations The combinations studied.
+	 * @return The accumulators, by animal in the order of {@link #ANIMALS}, then by pattern.
+	 */
+	public static Moments[][] cards(List<Combination> combinations) {
+		Objects.requireNonNull(combinations, "combinations is null");
+		var cards = new Moments[ANIMALS.size()][4];
+		for (var animal = 0; animal < ANIMALS.size(); animal++) {
+			for (var pattern = 0; pattern < 4; pattern++) {
+				cards[animal][pattern] = new Moments();
+			}
+		}
+		for (var combination : combinations) {
+			var patterns = combination.patterns();
+			for (var animal = 0; animal < ANIMALS.size(); animal++) {
+				cards[animal][patterns.get(animal) - 1].merge(combination.moments().get(animal));
+			}
+		}
+		return cards;
+	}
+
+	/**
+	 * Writes the contribution of every card of every combination as CSV.
+	 *
+	 * @param combinations The combinations studied.
+	 * @param path The file, replaced if it exists.
+	 * @throws IOException if the file cannot be written.
+	 */
+	public static void write(List<Combination> combinations, Path path) throws IOException {
+		Objects.requireNonNull(combinations, "combinations is null");
+		try (var writer = Files.newBufferedWriter(Objects.requireNonNull(path, "path is null"))) {
+			writer.write("combination,fox,salmon,bear,elk,buzzard,card,values,mean,variance,winCorrelation");
+			writer.newLine();
+			for (var combination : combinations) {
+				var prefix = new StringBuilder().append(combination.combination());
+				combination.patterns().forEach(pattern -> prefix.append(',').append(pattern));
+				for (var i = 0; i < combination.moments().size(); i++) {
+					var moments = combination.moments().get(i);
+					writer.write(String.format(Locale.ROOT, "%s,%s,%d,%.4f,%.4f,%.4f", prefix,
+							i < ANIMALS.size() ? ANIMALS.get(i) : "total", moments.count(), moments.mean(), moments.variance(),
+							moments.correlation()));
+					writer.newLine();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Studies every combination and prints the contribution of each card.
+	 *
+	 * @param args The number of games by combination, the number of players, the CSV file
+	 *             and the seed, all optional.
+	 * @throws IOException if the file cannot be written.
+	 * @throws InterruptedException if the thread is interrupted.
+	 */
+	public static void main(String[] args) throws IOException, InterruptedException {
+		var games = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+		var players = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+		var path = Path.of(args.length > 2 ? args[2] : "balance.csv");
+		var seed = args.length > 3 ? Long.parseLong(args[3]) : 0;
+		var settings = new Settings(players, games, Runtime.getRuntime().availableProcessors(), 4, seed);
+		var begin = System.nanoTime();
+		var combinations = new BalanceStudy(settings).run();
+		write(combinations, path);
+		var cards = cards(combinations);
+		System.out.println("card        values     mean  variance  win correlation");
+		for (var animal = 0; animal < ANIMALS.size(); animal++) {
+			for (var pattern = 0; pattern < 4; pattern++) {
+				var moments = cards[animal][pattern];
+				System.out.printf(Locale.ROOT, "%-10s %7d  %7.2f  %8.2f  %+15.3f%n", ANIMALS.get(animal) + (pattern + 1),
+						moments.count(), moments.mean(), moments.variance(), moments.correlation());
+			}
+		}
+		System.out.printf("%d games in %d s, every combination in %s%n", COMBINATIONS * games,
+				(System.nanoTime() - begin) / 1_000_000_000, path);
+	}
+}
@@ -0,0 +1,406 @@
+package fr.uge.simulation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import fr.uge.game.Catalogue;
+import fr.uge.game.board.TileEdges;
+import fr.uge.game.board.Topology;
+import fr.uge.game.element.Animals;
+import fr.uge.game.element.Biome;
+import fr.uge.game.element.Player;
+import fr.uge.game.element.Tile;
+
+/**
+ * Grows legal boards for benchmarks and load tests, without playing games.
+ * <p>
+ * A board starts with a triad of {@code StartHabitatCards.txt} placed like at the start
+ * of a game, then takes tiles from a shuffled deck of {@code HabitatCards.txt}, each one
+ * next to a tile already placed. When the deck runs out a new copy is shuffled in, so
+ * boards can be larger than a real game. Square boards use the same cards and only read
+ * their first biome, like the scoring does.
+ * <p>
+ * Each board comes from its own seed, so the same seed and settings always give the same
+ * board. A board can be built as a {@link Player} or kept as a compact encoding, one int
+ * per tile, decoded later by the generator that produced it.
+ */
+public final class BoardGenerator {
+	private static final int SAMPLES = 8;
+	private static final int[][] START = { { 25, 24, 1 }, { 25, 25, 2 }, { 26, 25, 3 } };
+	private static final Animals[] ANIMALS = Animals.values();
+	private static final int CELL_BITS = 12;
+	private static final int CARD_SHIFT = 6 + CELL_BITS;
+
+	/**
+	 * The settings of the generated boards.
+	 *
+	 * @param shapeOfTile The shape of the tiles (2 for hexagons, square otherwise).
+	 * @param tiles The number of tiles of a board, start triad included.
+	 * @param clustering The chance, from 0 to 1, that a tile goes where its biomes match
+	 *                   the most sides among a few free cells, instead of a random one.
+	 * @param density The chance, from 0 to 1, that a tile holds one of its animals.
+	 */
+	public record Settings(int shapeOfTile, int tiles, double clustering, double density) {
+		/**
+		 * Checks the settings.
+		 *
+		 * @throws IllegalArgumentException if a value is out of its range.
+		 */
+		public Settings {
+			if (shapeOfTile < 0 || shapeOfTile > 2) {
+				throw new IllegalArgumentException("shapeOfTile < 0 or shapeOfTile > 2");
+			}
+			if (tiles < START.length || tiles > Topology.CELLS) {
+				throw new IllegalArgumentException("tiles < 3 or tiles > " + Topology.CELLS);
+			}
+			if (!(clustering >= 0 && clustering <= 1) || !(density >= 0 && density <= 1)) {
+				throw new IllegalArgumentException("clustering and density must be between 0 and 1");
+			}
+		}
+	}
+
+	private final Settings settings;
+	private final Topology topology;
+	private final int deckSize;
+	private final int triads;
+	private final Tile[] cards;
+
+	/**
+	 * Creates a generator drawing from the given cards.
+	 *
+	 * @param deck The habitat cards.
+	 * @param startCards The start habitat cards, three by three.
+	 * @param settings The settings of the boards.
+	 * @throws IllegalArgumentException if there is no card or no full start triad.
+	 */
+	public BoardGenerator(List<Tile> deck, List<Tile> startCards, Settings settings) {
+		Objects.requireNonNull(deck, "deck is null");
+		Objects.requireNonNull(startCards, "startCards is null");
+		this.settings = Objects.requireNonNull(settings, "settings is null");
+		if (deck.isEmpty() || startCards.size() < START.length) {
+			throw new IllegalArgumentException("no habitat card or no start triad");
+		}
+		this.topology = Topology.of(settings.shapeOfTile());
+		this.deckSize = deck.size();
+		this.triads = startCards.size() / START.length;
+		var all = new ArrayList<Tile>(deck);
+		all.addAll(startCards.subList(0, triads * START.length));
+		if (all.size() >= 1 << 32 - CARD_SHIFT) {
+			throw new IllegalArgumentException("too many cards");
+		}
+		this.cards = all.toArray(Tile[]::new);
+	}
+
+	/**
+	 * Creates a generator drawing from {@code HabitatCards.txt} and
+	 * {@code StartHabitatCards.txt}.
+	 *
+	 * @param settings The settings of the boards.
+	 * @return The generator.
+	 * @throws UncheckedIOException if a file cannot be read.
+	 */
+	public static BoardGenerator standard(Settings settings) {
+		return new BoardGenerator(Catalogue.habitatCards(), Catalogue.startHabitatCards(), settings);
+	}
+
+	/**
+	 * Returns the cards of {@code HabitatCards.txt}.
+	 *
+	 * @return The habitat cards, unmodifiable.
+	 * @throws UncheckedIOException if a file cannot be read.
+	 */
+	public static List<Tile> standardDeck() {
+		return Catalogue.habitatCards();
+	}
+
+	/**
+	 * Returns the cards of {@code StartHabitatCards.txt}, three by three.
+	 *
+	 * @return The start habitat cards, unmodifiable.
+	 * @throws UncheckedIOException if a file cannot be read.
+	 */
+	public static List<Tile> standardStartCards() {
+		return Catalogue.startHabitatCards();
+	}
+
+	/**
+	 * Reads the tiles of a habitat card file.
+	 *
+	 * @param path The path to the file.
+	 * @return The tiles of the file, in the order of the file.
+	 * @throws IOException If an I/O error occurs while reading the file.
+	 * @throws IllegalArgumentException if a line names an unknown biome or animal.
+	 */
+	public static List<Tile> readTiles(Path path) throws IOException {
+		return Catalogue.readTiles(path);
+	}
+
+	/**
+	 * Returns the settings of the boards.
+	 *
+	 * @return The settings.
+	 */
+	public Settings settings() {
+		return settings;
+	}
+
+	/**
+	 * Returns the biome a card shows on a side once placed with a rotation.
+	 *
+	 * @param tile The card.
+	 * @param rotation The rotation of the card.
+	 * @param side The side of the cell.
+	 * @return The biome on this side.
+	 */
+	private Biome edge(Tile tile, int rotation, int side) {
+		var biomes = tile.biome();
+		if (topology != Topology.HEXAGON || biomes.size() == 1) {
+			return biomes.get(0);
+		}
+		return biomes.get(TileEdges.half(rotation, side));
+	}
+
+	/**
+	 * Counts the sides where a card would show the same biome as the tile next to it.
+	 *
+	 * @param board The cards placed so far by cell, null for empty cells.
+	 * @param rotations The rotations of the placed cards by cell.
+	 * @param cell The free cell.
+	 * @param tile The card to place.
+	 * @param rotation The rotation of the card.
+	 * @return The number of matching sides.
+	 */
+	private int matches(Tile[] board, int[] rotations, int cell, Tile tile, int rotation) {
+		var matches = 0;
+		for (var side = 0; side < topology.degree(); side++) {
+			var neighbour = topology.neighbour(cell, side);
+			if (neighbour != Topology.NONE && board[neighbour] != null
+					&& edge(tile, rotation, side) == edge(board[neighbour], rotations[neighbour], topology.opposite(side))) {
+				matches++;
+			}
+		}
+		return matches;
+	}
+
+	/**
+	 * Packs a placement into an int: the card in the high bits, then the cell, the animal
+	 * and the rotation.
+	 *
+	 * @param card The index of the card.
+	 * @param cell The index of the cell.
+	 * @param animal The animal on the tile.
+	 * @param rotation The rotation of the tile.
+	 * @return The packed placement.
+	 */
+	private static int pack(int card, int cell, Animals animal, int rotation) {
+		return card << CARD_SHIFT | cell << 6 | animal.ordinal() << 3 | rotation;
+	}
+
+	/**
+	 * Generates the board of a seed.
+	 *
+	 * @param seed The seed of the board.
+	 * @return The board, one packed placement per tile in the order they were made.
+	 */
+	public int[] encode(long seed) {
+		var random = new SplittableRandom(seed);
+		var board = new Tile[Topology.CELLS];
+		var rotations = new int[Topology.CELLS];
+		var queued = new boolean[Topology.CELLS];
+		var frontier = new int[Topology.CELLS];
+		var frontierSize = 0;
+		var result = new int[settings.tiles()];
+		var placed = 0;
+		var triad = deckSize + random.nextInt(triads) * START.length;
+		var order = new int[deckSize];
+		var left = 0;
+		while (placed < result.length) {
+			int card;
+			int cell;
+			int rotation;
+			if (placed < START.length) {
+				card = triad + placed;
+				cell = Topology.index(START[placed][0], START[placed][1]);
+				rotation = START[placed][2];
+				if (queued[cell]) {
+					frontier[indexOf(frontier, frontierSize, cell)] = frontier[--frontierSize];
+				}
+			} else {
+				if (frontierSize == 0) {
+					break;
+				}
+				if (left == 0) {
+					Arrays.setAll(order, i -> i);
+					left = deckSize;
+				}
+				var drawn = random.nextInt(left);
+				card = order[drawn];
+				order[drawn] = order[--left];
+				var slot = random.nextInt(frontierSize);
+				rotation = randomRotation(random);
+				if (random.nextDouble() < settings.clustering()) {
+					var best = -1;
+					for (var sample = 0; sample < SAMPLES && sample < frontierSize; sample++) {
+						var candidate = sample == 0 ? slot : random.nextInt(frontierSize);
+						for (var turn = 1; turn <= (topology == Topology.HEXAGON ? 6 : 1); turn++) {
+							var score = matches(board, rotations, frontier[candidate], cards[card], turn);
+							if (score > best) {
+								best = score;
+								slot = candidate;
+								rotation = turn;
+							}
+						}
+					}
+				}
+				cell = frontier[slot];
+				frontier[slot] = frontier[--frontierSize];
+			}
+			var tile = cards[card];
+			board[cell] = tile;
+			rotations[cell] = rotation;
+			queued[cell] = true;
+			var animals = tile.animals();
+			var animal = random.nextDouble() < settings.density() ? animals.get(random.nextInt(animals.size())) : Animals.NOTHING;
+			result[placed++] = pack(card, cell, animal, rotation);
+			for (var side = 0; side < topology.degree(); side++) {
+				var neighbour = topology.neighbour(cell, side);
+				if (neighbour != Topology.NONE && !queued[neighbour]) {
+					queued[neighbour] = true;
+					frontier[frontierSize++] = neighbour;
+				}
+			}
+		}
+		return placed == result.length ? result : Arrays.copyOf(result, placed);
+	}
+
+	/**
+	 * Draws the rotation of a tile placed at random.
+	 *
+	 * @param random The source of randomness.
+	 * @return A rotation from 1 to 6 for hexagons, 1 for squares.
+	 */
+	private int randomRotation(SplittableRandom random) {
+		return topology == Topology.HEXAGON ? 1 + random.nextInt(6) : 1;
+	}
+
+	/**
+	 * Finds a cell in the first entries of an array.
+	 *
+	 * @param cells The cells.
+	 * @param size The number of entries in use.
+	 * @param cell The cell to find.
+	 * @return The position of the cell.
+	 */
+	private static int indexOf(int[] cells, int size, int cell) {
+		for (var i = 0; i < size; i++) {
+			if (cells[i] == cell) {
+				return i;
+			}
+		}
+		throw new AssertionError("cell " + cell + " is not in the frontier");
+	}
+
+	/**
+	 * Builds the player holding an encoded board.
+	 *
+	 * @param board A board encoded by this generator.
+	 * @return A new player holding the board.
+	 * @throws IllegalArgumentException if the board was not encoded with these cards.
+	 */
+	public Player decode(int[] board) {
+		Objects.requireNonNull(board, "board is null");
+		var player = new Player("Board", 0, 0, biomePoints());
+		for (var placement : board) {
+			var card = placement >>> CARD_SHIFT;
+			var animal = placement >>> 3 & 7;
+			if (card >= cards.length || animal >= ANIMALS.length) {
+				throw new IllegalArgumentException("not a board of this generator");
+			}
+			var coordinate = Topology.coordinate(placement >>> 6 & (1 << CELL_BITS) - 1);
+			player.add(cards[card], coordinate.x(), coordinate.y(), ANIMALS[animal], placement & 7);
+		}
+		return player;
+	}
+
+	/**
+	 * Creates the biome points of a fresh player, all at 0.
+	 *
+	 * @return The map of biome points.
+	 */
+	private static HashMap<String, Integer> biomePoints() {
+		var map = new HashMap<String, Integer>();
+		for (var biome : Biome.values()) {
+			if (biome != Biome.NOTHING) {
+				map.put(biome.name(), 0);
+			}
+		}
+		return map;
+	}
+
+	/**
+	 * Generates the board of a seed as a player.
+	 *
+	 * @param seed The seed of the board.
+	 * @return A new player holding the board.
+	 */
+	public Player player(long seed) {
+		return decode(encode(seed));
+	}
+
+	/**
+	 * Generates the encoded boards of consecutive seeds. The stream can be made parallel,
+	 * every board only depends on its seed.
+	 *
+	 * @param firstSeed The seed of the first board.
+	 * @param count The number of boards.
+	 * @return The boards, in seed order.
+	 * @throws IllegalArgumentException if count is negative.
+	 */
+	public Stream<int[]> boards(long firstSeed, long count) {
+		if (count < 0) {
+			throw new IllegalArgumentException("count < 0");
+		}
+		return LongStream.range(0, count).mapToObj(i -> encode(firstSeed + i));
+	}
+
+	/**
+	 * Generates the players of consecutive seeds. The stream can be made parallel, every
+	 * board only depends on its seed.
+	 *
+	 * @param firstSeed The seed of the first board.
+	 * @param count The number of boards.
+	 * @return The players, in seed order.
+	 * @throws IllegalArgumentException if count is negative.
+	 */
+	public Stream<Player> players(long firstSeed, long count) {
+		return boards(firstSeed, count).map(this::decode);
+	}
+
+	/**
+	 * Generates boards from the command line and prints how fast they were built.
+	 *
+	 * @param args The shape of the tiles, the number of tiles, the clustering, the density
+	 *             and the number of boards, all optional.
+	 */
+	public static void main(String[] args) {
+		var shapeOfTile = args.length > 0 ? Integer.parseInt(args[0]) : 2;
+		var tiles = args.length > 1 ? Integer.parseInt(args[1]) : 23;
+		var clustering = args.length > 2 ? Double.parseDouble(args[2]) : 0.5;
+		var density = args.length > 3 ? Double.parseDouble(args[3]) : 0.8;
+		var count = args.length > 4 ? Long.parseLong(args[4]) : 100_000;
+		var generator = standard(new Settings(shapeOfTile, tiles, clustering, density));
+		var start = System.nanoTime();
+		var placed = generator.players(0, count).parallel().mapToLong(player -> player.habitats().size()).sum();
+		var seconds = (System.nanoTime() - start) / 1e9;
+		System.out.printf("%d boards, %d tiles (%.0f boards/s)%n", count, placed, count / seconds);
+	}
+}
@@ -0,0 +1,331 @@
+package fr.uge.simulation;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import fr.uge.bot.Weights;
+
+/**
+ * Splits a {@link SimulationJob} into ranges of seeds and runs them on {@link Worker}s
+ * connected over sockets: JVMs launched by the coordinator, JVMs started by hand on other
+ * machines, or threads of this JVM.
+ * <p>
+ * Each connection takes the next range waiting, sends it and waits for its sums. When a
+ * worker dies or does not answer in time, its connection is closed and its range goes back
+ * to the queue for another worker. The sums of a range only depend on its seeds, so the
+ * result is the same whichever worker ran a range and however often; the ranges are
+ * added in the order of their seeds, which keeps the floating-point sums identical from
+ * one run to the next.
+ */
+public final class Coordinator implements AutoCloseable {
+	/**
+	 * The first int a worker sends, to reject other programs.
+	 */
+	static final int MAGIC = 0xCA5CAD1A;
+
+	private record Range(long batch, int index, String spec, long firstSeed, long count) {
+	}
+
+	private static final class Batch {
+		private final double[][] sums;
+		private final CountDownLatch done;
+		private String error;
+
+		private Batch(int ranges) {
+			this.sums = new double[ranges][];
+			this.done = new CountDownLatch(ranges);
+		}
+
+		private synchronized void complete(int index, double[] result) {
+			if (sums[index] == null) {
+				sums[index] = result;
+				done.countDown();
+			}
+		}
+
+		private synchronized void fail(String message) {
+			if (error == null) {
+				error = message;
+				while (done.getCount() > 0) {
+					done.countDown();
+				}
+			}
+		}
+
+		private synchronized String error() {
+			return error;
+		}
+	}
+
+	private final ServerSocket server;
+	private final int timeoutMillis;
+	private final LinkedBlockingQueue<Range> pending = new LinkedBlockingQueue<>();
+	private final ConcurrentHashMap<Long, Batch> batches = new ConcurrentHashMap<>();
+	private final List<Socket> connections = new ArrayList<>();
+	private final List<Process> processes = new ArrayList<>();
+	private final AtomicLong nextBatch = new AtomicLong();
+	private final AtomicLong retries = new AtomicLong();
+	private volatile boolean closed;
+
+	/**
+	 * Opens the socket of the coordinator and starts accepting workers.
+	 *
+	 * @param address The address the workers connect to, the loopback for the workers of this machine.
+	 * @param port The port, 0 for any free port.
+	 * @param timeoutMillis The time a worker has to answer a range before it is given to another.
+	 * @throws IOException if the socket cannot be opened.
+	 * @throws IllegalArgumentException if timeoutMillis is not positive.
+	 */
+	public Coordinator(InetAddress address, int port, int timeoutMillis) throws IOException {
+		Objects.requireNonNull(address, "address is null");
+		if (timeoutMillis <= 0) {
+			throw new IllegalArgumentException("timeoutMillis <= 0");
+		}
+		this.timeoutMillis = timeoutMillis;
+		this.server = new ServerSocket(port, 50, address);
+		Thread.ofPlatform().daemon().name("coordinator-accept").start(this::accept);
+	}
+
+	/**
+	 * Returns the port the workers connect to.
+	 *
+	 * @return The port.
+	 */
+	public int port() {
+		return server.getLocalPort();
+	}
+
+	/**
+	 * Returns the number of ranges given to another worker after a failure.
+	 *
+	 * @return The number of retries since the coordinator was opened.
+	 */
+	public long retries() {
+		return retries.get();
+	}
+
+	/**
+	 * Launches workers in new JVMs of this machine, with the class path of this JVM.
+	 *
+	 * @param count The number of workers.
+	 * @return The processes, destroyed when the coordinator is closed.
+	 * @throws IOException if a JVM cannot be launched.
+	 */
+	public List<Process> launchWorkers(int count) throws IOException {
+		var java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+		var launched = new ArrayList<Process>();
+		for (var i = 0; i < count; i++) {
+			var process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"), Worker.class.getName(),
+					server.getInetAddress().getHostAddress(), String.valueOf(port())).inheritIO().start();
+			launched.add(process);
+		}
+		synchronized (processes) {
+			processes.addAll(launched);
+		}
+		return launched;
+	}
+
+	/**
+	 * Starts workers on threads of this JVM, connected through the same sockets as the
+	 * other workers.
+	 *
+	 * @param count The number of workers.
+	 */
+	public void startLocalWorkers(int count) {
+		for (var i = 0; i < count; i++) {
+			Thread.ofPlatform().daemon().name("local-worker-" + i).start(() -> {
+				try {
+					Worker.serve(new Socket(server.getInetAddress(), port()));
+				} catch (IOException e) {
+					// the coordinator is closed
+				}
+			});
+		}
+	}
+
+	/**
+	 * Runs a job on the workers and adds the sums of its seeds. The call waits as long as
+	 * there is a range left, so there must be at least one worker connected or coming.
+	 *
+	 * @param job The job.
+	 * @param firstSeed The first seed.
+	 * @param seeds The number of seeds.
+	 * @param rangeSize The number of seeds of a range.
+	 * @return The sums of the seeds.
+	 * @throws InterruptedException if the thread is interrupted while waiting.
+	 * @throws IllegalStateException if a worker cannot run the job.
+	 * @throws IllegalArgumentException if seeds is negative or rangeSize is not positive.
+	 */
+	public double[] run(SimulationJob job, long firstSeed, long seeds, int rangeSize) throws InterruptedException {
+		Objects.requireNonNull(job, "job is null");
+		if (seeds < 0 || rangeSize < 1) {
+			throw new IllegalArgumentException("seeds < 0 or rangeSize < 1");
+		}
+		var ranges = Math.toIntExact((seeds + rangeSize - 1) / rangeSize);
+		var id = nextBatch.getAndIncrement();
+		var batch = new Batch(ranges);
+		batches.put(id, batch);
+		try {
+			var spec = job.spec();
+			for (var i = 0; i < ranges; i++) {
+				var first = (long) i * rangeSize;
+				pending.add(new Range(id, i, spec, firstSeed + first, Math.min(rangeSize, seeds - first)));
+			}
+			batch.done.await();
+		} finally {
+			batches.remove(id);
+			pending.removeIf(range -> range.batch() == id);
+		}
+		if (batch.error() != null) {
+			throw new IllegalStateException("the job failed: " + batch.error());
+		}
+		var total = new double[job.width()];
+		for (var sums : batch.sums) {
+			for (var j = 0; j < total.length; j++) {
+				total[j] += sums[j];
+			}
+		}
+		return total;
+	}
+
+	private void accept() {
+		while (!closed) {
+			Socket socket;
+			try {
+				socket = server.accept();
+			} catch (IOException e) {
+				return;
+			}
+			synchronized (connections) {
+				if (closed) {
+					close(socket);
+					return;
+				}
+				connections.add(socket);
+			}
+			Thread.ofPlatform().daemon().name("coordinator-" + socket.getPort()).start(() -> serve(socket));
+		}
+	}
+
+	/**
+	 * Feeds one worker with ranges until the worker or the coordinator goes away.
+	 */
+	private void serve(Socket socket) {
+		try (socket) {
+			socket.setSoTimeout(timeoutMillis);
+			var in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+			var out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+			if (in.readInt() != MAGIC) {
+				return;
+			}
+			while (!closed) {
+				var range = pending.take();
+				if (!batches.containsKey(range.batch())) {
+					continue;
+				}
+				double[] sums;
+				try {
+					out.writeUTF(range.spec());
+					out.writeLong(range.firstSeed());
+					out.writeLong(range.count());
+					out.flush();
+					var length = in.readInt();
+					if (length < 0) {
+						var message = in.readUTF();
+						var batch = batches.get(range.batch());
+						if (batch != null) {
+							batch.fail(message);
+						}
+						continue;
+					}
+					sums = new double[length];
+					for (var i = 0; i < length; i++) {
+						sums[i] = in.readDouble();
+					}
+				} catch (IOException e) {
+					retries.incrementAndGet();
+					pending.add(range);
+					return;
+				}
+				var batch = batches.get(range.batch());
+				if (batch != null) {
+					batch.complete(range.index(), sums);
+				}
+			}
+		} catch (IOException | InterruptedException e) {
+			// the worker or the coordinator is gone
+		} finally {
+			synchronized (connections) {
+				connections.remove(socket);
+			}
+		}
+	}
+
+	private static void close(Socket socket) {
+		try {
+			socket.close();
+		} catch (IOException e) {
+			// already closed
+		}
+	}
+
+	/**
+	 * Closes the socket of the coordinator and the connections to the workers, and
+	 * destroys the workers it launched.
+	 *
+	 * @throws IOException if the socket cannot be closed.
+	 */
+	@Override
+	public void close() throws IOException {
+		closed = true;
+		server.close();
+		synchronized (connections) {
+			for (var socket : connections) {
+				close(socket);
+			}
+		}
+		synchronized (processes) {
+			processes.forEach(Process::destroy);
+		}
+	}
+
+	/**
+	 * Plays greedy bots with the default weights against each other on worker JVMs, then
+	 * on one thread of this JVM, and checks the sums are the same.
+	 *
+	 * @param args The number of worker JVMs, the number of seeds and the size of a range, all optional.
+	 * @throws Exception if a worker cannot be launched or the thread is interrupted.
+	 */
+	public static void main(String[] args) throws Exception {
+		var workers = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+		var seeds = args.length > 1 ? Long.parseLong(args[1]) : 64;
+		var rangeSize = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+		var job = new SimulationJob.Duel(List.of(1, 1, 1, 1, 1), Weights.DEFAULT,
+				new Weights(1, 1, 1, 1, 1, 0.5, 1), 4);
+		try (var coordinator = new Coordinator(InetAddress.getLoopbackAddress(), 0, 120_000)) {
+			coordinator.launchWorkers(workers);
+			var begin = System.nanoTime();
+			var sums = coordinator.run(job, 0, seeds, rangeSize);
+			var millis = (System.nanoTime() - begin) / 1_000_000;
+			System.out.printf("%d workers: %.0f games, first bot won %.1f%%, %.2f - %.2f, %d ms, %d retries%n", workers,
+					sums[0], 100 * sums[1] / sums[0], sums[2] / sums[0], sums[3] / sums[0], millis, coordinator.retries());
+			var single = job.run(0, seeds);
+			System.out.println(Arrays.equals(sums, single) ? "same sums on one thread" : "DIFFERENT sums on one thread");
+		}
+	}
+}
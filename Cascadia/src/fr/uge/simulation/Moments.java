@@ -0,0 +1,95 @@
+package fr.uge.simulation;
+
+import java.util.Objects;
+
+/**
+ * Streaming mean, variance and correlation of pairs of values, with Welford's update, so
+ * the memory does not grow with the number of values. Two accumulators of different
+ * values can be merged, with Chan's formula, which lets threads accumulate apart.
+ * <p>
+ * This class is not thread-safe.
+ */
+public final class Moments {
+	private long count;
+	private double meanX;
+	private double meanY;
+	private double squaresX;
+	private double squaresY;
+	private double products;
+
+	/**
+	 * Adds a pair of values.
+	 *
+	 * @param x The value studied.
+	 * @param y The value it is correlated with.
+	 */
+	public void add(double x, double y) {
+		count++;
+		var dx = x - meanX;
+		meanX += dx / count;
+		var dy = y - meanY;
+		meanY += dy / count;
+		squaresX += dx * (x - meanX);
+		squaresY += dy * (y - meanY);
+		products += dx * (y - meanY);
+	}
+
+	/**
+	 * Adds the values of another accumulator.
+	 *
+	 * @param other The other accumulator, left as it was.
+	 */
+	public void merge(Moments other) {
+		Objects.requireNonNull(other, "other is null");
+		if (other.count == 0) {
+			return;
+		}
+		var total = count + other.count;
+		var dx = other.meanX - meanX;
+		var dy = other.meanY - meanY;
+		var weight = (double) count * other.count / total;
+		squaresX += other.squaresX + dx * dx * weight;
+		squaresY += other.squaresY + dy * dy * weight;
+		products += other.products + dx * dy * weight;
+		meanX += dx * other.count / total;
+		meanY += dy * other.count / total;
+		count = total;
+	}
+
+	/**
+	 * Returns the number of pairs.
+	 *
+	 * @return The count.
+	 */
+	public long count() {
+		return count;
+	}
+
+	/**
+	 * Returns the mean of the values studied.
+	 *
+	 * @return The mean, 0 if there is no value.
+	 */
+	public double mean() {
+		return meanX;
+	}
+
+	/**
+	 * Returns the sample variance of the values studied.
+	 *
+	 * @return The variance, 0 if there are fewer than two values.
+	 */
+	public double variance() {
+		return count < 2 ? 0 : squaresX / (count - 1);
+	}
+
+	/**
+	 * Returns the Pearson correlation of the values studied with the other values.
+	 *
+	 * @return The correlation, 0 if one of the values never changes.
+	 */
+	public double correlation() {
+		var denominator = Math.sqrt(squaresX * squaresY);
+		return denominator == 0 ? 0 : products / denominator;
+	}
+}
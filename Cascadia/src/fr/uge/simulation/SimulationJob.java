@@ -0,0 +1,161 @@
+package fr.uge.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import fr.uge.bot.Bot;
+import fr.uge.bot.Evaluator;
+import fr.uge.bot.Match;
+import fr.uge.bot.MoveGenerator;
+import fr.uge.bot.Weights;
+import fr.uge.game.WildlifeCount;
+import fr.uge.game.wildlifeCount.Bear;
+import fr.uge.game.wildlifeCount.Buzzard;
+import fr.uge.game.wildlifeCount.Elk;
+import fr.uge.game.wildlifeCount.Fox;
+import fr.uge.game.wildlifeCount.Salmon;
+
+/**
+ * A simulation split by seed: every seed plays independently and adds a fixed number of
+ * sums, so a range of seeds can run anywhere and the sums of the ranges are added.
+ * <p>
+ * A job travels between the JVMs as a line of text, its {@link #spec()}, that
+ * {@link #parse(String)} reads back.
+ */
+public sealed interface SimulationJob {
+	/**
+	 * Returns the number of sums of a seed.
+	 *
+	 * @return The length of the arrays of {@link #play(long)}.
+	 */
+	int width();
+
+	/**
+	 * Plays the games of a seed.
+	 *
+	 * @param seed The seed.
+	 * @return The sums of the seed.
+	 */
+	double[] play(long seed);
+
+	/**
+	 * Returns the line describing the job.
+	 *
+	 * @return The spec, read back by {@link #parse(String)}.
+	 */
+	String spec();
+
+	/**
+	 * Plays consecutive seeds and adds their sums, in the order of the seeds.
+	 *
+	 * @param firstSeed The first seed.
+	 * @param count The number of seeds.
+	 * @return The sums.
+	 */
+	default double[] run(long firstSeed, long count) {
+		var sums = new double[width()];
+		for (var i = 0L; i < count; i++) {
+			var result = play(firstSeed + i);
+			for (var j = 0; j < sums.length; j++) {
+				sums[j] += result[j];
+			}
+		}
+		return sums;
+	}
+
+	/**
+	 * Reads a job from its spec.
+	 *
+	 * @param spec The spec.
+	 * @return The job.
+	 * @throws IllegalArgumentException if the spec is not a job.
+	 */
+	static SimulationJob parse(String spec) {
+		Objects.requireNonNull(spec, "spec is null");
+		var words = spec.strip().split("\\s+");
+		return switch (words[0]) {
+		case "duel" -> Duel.parse(words);
+		default -> throw new IllegalArgumentException("unknown job: " + words[0]);
+		};
+	}
+
+	/**
+	 * Two greedy bots of the hexagonal game playing each seed twice, seats swapped, like
+	 * {@link fr.uge.bot.WeightTuner#duel(Weights, Weights, long)}. The sums are the games,
+	 * the wins of the first bot (ties shared), and the points of each bot.
+	 *
+	 * @param patterns The pattern of the fox, salmon, bear, elk and buzzard cards.
+	 * @param first The weights of the first bot.
+	 * @param second The weights of the second bot.
+	 * @param tileWidth The placements of a tile kept by the bots.
+	 */
+	record Duel(List<Integer> patterns, Weights first, Weights second, int tileWidth) implements SimulationJob {
+		/**
+		 * Checks the job.
+		 *
+		 * @throws IllegalArgumentException if there are not five patterns from 1 to 4.
+		 */
+		public Duel {
+			patterns = List.copyOf(patterns);
+			Objects.requireNonNull(first, "first is null");
+			Objects.requireNonNull(second, "second is null");
+			if (patterns.size() != 5 || patterns.stream().anyMatch(pattern -> pattern < 1 || pattern > 4)) {
+				throw new IllegalArgumentException("expected five patterns from 1 to 4");
+			}
+			if (tileWidth < 1) {
+				throw new IllegalArgumentException("tileWidth < 1");
+			}
+		}
+
+		private static Duel parse(String[] words) {
+			var size = Weights.NAMES.size();
+			if (words.length != 3 + 2 * size) {
+				throw new IllegalArgumentException("duel expects patterns, a tile width and two weights");
+			}
+			try {
+				var patterns = new ArrayList<Integer>();
+				for (var digit : words[1].toCharArray()) {
+					patterns.add(digit - '0');
+				}
+				var values = new double[2][size];
+				for (var i = 0; i < 2 * size; i++) {
+					values[i / size][i % size] = Double.parseDouble(words[3 + i]);
+				}
+				return new Duel(patterns, Weights.of(values[0]), Weights.of(values[1]), Integer.parseInt(words[2]));
+			} catch (NumberFormatException e) {
+				throw new IllegalArgumentException("not a number in the duel", e);
+			}
+		}
+
+		@Override
+		public String spec() {
+			var builder = new StringBuilder("duel ");
+			patterns.forEach(builder::append);
+			builder.append(' ').append(tileWidth);
+			for (var weights : List.of(first, second)) {
+				for (var value : weights.toArray()) {
+					builder.append(' ').append(value);
+				}
+			}
+			return builder.toString();
+		}
+
+		@Override
+		public int width() {
+			return 4;
+		}
+
+		@Override
+		public double[] play(long seed) {
+			List<WildlifeCount> cards = List.of(new Fox("renard", patterns.get(0), 2), new Salmon("saumon", patterns.get(1), 2),
+					new Bear("ours", patterns.get(2), 2), new Elk("wapiti", patterns.get(3), 2), new Buzzard("buse", patterns.get(4), 2));
+			var match = Match.standard(cards);
+			var firstBot = Bot.greedy(new MoveGenerator(new Evaluator(cards, 2, first), tileWidth));
+			var secondBot = Bot.greedy(new MoveGenerator(new Evaluator(cards, 2, second), tileWidth));
+			var ahead = match.play(List.of(firstBot, secondBot), seed);
+			var behind = match.play(List.of(secondBot, firstBot), seed);
+			return new double[] { 2, ahead.win(0) + behind.win(1), ahead.score(0) + behind.score(1), ahead.score(1) + behind.score(0) };
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package fr.uge.simulation;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.Objects;
+
+/**
+ * Runs the seed ranges sent by a {@link Coordinator}, in its own JVM or on a thread.
+ * <p>
+ * The worker connects to the coordinator and sends {@link Coordinator#MAGIC}, then
+ * answers each range (the spec of the job as UTF, the first seed and the number of seeds
+ * as longs) with the number of sums and the sums, or with -1 and a message when the job
+ * cannot run. It stops when the coordinator closes the connection.
+ */
+public final class Worker {
+	private Worker() {
+	}
+
+	/**
+	 * Serves a coordinator until it closes the connection.
+	 *
+	 * @param socket The connection to the coordinator, closed at the end.
+	 * @throws IOException if the connection fails.
+	 */
+	public static void serve(Socket socket) throws IOException {
+		Objects.requireNonNull(socket, "socket is null");
+		try (socket) {
+			var in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+			var out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+			out.writeInt(Coordinator.MAGIC);
+			out.flush();
+			String spec = null;
+			SimulationJob job = null;
+			while (true) {
+				String next;
+				try {
+					next = in.readUTF();
+				} catch (EOFException e) {
+					return;
+				}
+				var firstSeed = in.readLong();
+				var count = in.readLong();
+				try {
+					if (!next.equals(spec)) {
+						job = SimulationJob.parse(next);
+						spec = next;
+					}
+					var sums = job.run(firstSeed, count);
+					out.writeInt(sums.length);
+					for (var sum : sums) {
+						out.writeDouble(sum);
+					}
+				} catch (IllegalArgumentException e) {
+					out.writeInt(-1);
+					out.writeUTF(String.valueOf(e.getMessage()));
+				}
+				out.flush();
+			}
+		}
+	}
+
+	/**
+	 * Connects to a coordinator and serves it.
+	 *
+	 * @param args The host and the port of the coordinator.
+	 * @throws IOException if the connection fails.
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length != 2) {
+			System.err.println("usage: Worker host port");
+			System.exit(1);
+		}
+		serve(new Socket(args[0], Integer.parseInt(args[1])));
+	}
+}
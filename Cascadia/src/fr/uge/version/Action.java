@@ -1,9 +1,9 @@
 package fr.uge.version;
 
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.List;
 
+import fr.uge.game.Structure;
 import fr.uge.game.element.Animals;
 import fr.uge.game.element.Tile;
 
@@ -51,11 +51,11 @@ public interface Action {
 	 * Adds an animal to the game board.
 	 * 
 	 * @param animals The animal to be added to the board.
-	 * @param hashMap A map of animals with their counts.
+	 * @param structure The structure of the game, whose animal tokens are taken.
 	 * @throws NumberFormatException if there is an error parsing numbers.
 	 * @throws IOException if there is an I/O error during input/output operations.
 	 */
-	void addAnimalOnGameBoard(Animals animals, HashMap<Animals, Integer> hashMap)
+	void addAnimalOnGameBoard(Animals animals, Structure structure)
 			throws NumberFormatException, IOException;
 
 	/**
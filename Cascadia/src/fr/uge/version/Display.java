@@ -2,6 +2,7 @@ package fr.uge.version;
 
 import java.awt.Graphics2D;
 
+import fr.uge.bot.Move;
 import fr.uge.game.element.Animals;
 import fr.uge.game.element.Coordinate;
 import fr.uge.game.element.Tile;
@@ -151,4 +152,12 @@ public interface Display {
    *
    */
 	void changeCursor(int direction);
+
+	/**
+   * Shows the move suggested to the player while they choose their batch. It may be
+   * called from another thread than the one drawing.
+   *
+   * @param move The suggested move, or null to hide the suggestion.
+   */
+	void hint(Move move);
 }
@@ -1,5 +1,6 @@
 package fr.uge.version.graphic;
 
+import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics2D;
@@ -10,13 +11,15 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 import javax.imageio.ImageIO;
 
 import com.github.forax.zen.ApplicationContext;
 
+import fr.uge.bot.Move;
+import fr.uge.game.board.Topology;
 import fr.uge.game.element.Coordinate;
 import fr.uge.game.element.Draw;
 import fr.uge.game.Menu;
@@ -32,7 +35,7 @@ import fr.uge.version.graphic.actionForGraphic.GraphicAction;
  */
 public class DisplayForGraphic implements Display {
 
-	private final ArrayList<Player> players;
+	private final List<Player> players;
 	private final int index;
 	private final Draw draw;
 	private final Structure structure;
@@ -42,6 +45,7 @@ public class DisplayForGraphic implements Display {
 	private final int choiceOfGame;
 	private final int gameTurn;
 	private Coordinate cursor = new Coordinate(25, 25);
+	private volatile Move hint;
 
 	/**
    * Constructs a DisplayForGraphic object with the specified parameters.
@@ -58,7 +62,7 @@ public class DisplayForGraphic implements Display {
    * @throws IllegalArgumentException if the index is less than 0.
    * @throws NullPointerException if any of the parameters are null.
    */
-	public DisplayForGraphic(ArrayList<Player> players, Draw draw, Structure structure, int index, ApplicationContext context, int choiceOfGame, int width, int height, int gameTurn) {
+	public DisplayForGraphic(List<Player> players, Draw draw, Structure structure, int index, ApplicationContext context, int choiceOfGame, int width, int height, int gameTurn) {
 		this.players = Objects.requireNonNull(players, "player is null");
 		this.draw = Objects.requireNonNull(draw, "draw is null");
 		this.structure = Objects.requireNonNull(structure, "structure is null");
@@ -527,11 +531,44 @@ public class DisplayForGraphic implements Display {
 			}
 			case 2 -> {
 				graphics.drawString("Choisissez un lot", width / 20, height / 2 + height / 22);
+				drawHint(graphics);
 			}
 			default -> {  }
 		}
 	}
 
+	/**
+	 * Draws the suggested move, if any: a frame around its batch and the place of its tile
+	 * and of its animal.
+	 *
+	 * @param graphics The graphics object used to draw the suggestion.
+	 */
+	private void drawHint(Graphics2D graphics) {
+		var move = hint;
+		if (move == null) {
+			return;
+		}
+		int tileWidth = (width / 2) / 11;
+		int tileHeight = (height - 2 * (height / 10)) / 11;
+		int x = width / 20 + width / 100 + (move.slot() % 2) * (tileWidth + width / 100);
+		int y = height / 6 + height / 50 + (move.slot() / 2) * (tileHeight + height / 50);
+		var stroke = graphics.getStroke();
+		graphics.setStroke(new BasicStroke(width / 400f));
+		graphics.setColor(new Color(230, 120, 0));
+		graphics.drawRect(x - width / 400, y - height / 250, tileWidth + width / 200, tileHeight + height / 125);
+		graphics.setStroke(stroke);
+		var tile = Topology.coordinate(move.cell());
+		graphics.drawString("Conseil : lot " + (move.slot() + 1), width / 20, height / 2 + height / 11);
+		graphics.drawString("Tuile en " + tile.x() + " " + tile.y() + (choiceOfGame == 2 ? ", rotation " + move.rotation() : ""),
+				width / 20, height / 2 + height / 11 + height / 30);
+		if (move.animalCell() == Topology.NONE) {
+			graphics.drawString("Animal remis dans le sac", width / 20, height / 2 + height / 11 + height / 15);
+		} else {
+			var animal = Topology.coordinate(move.animalCell());
+			graphics.drawString("Animal en " + animal.x() + " " + animal.y(), width / 20, height / 2 + height / 11 + height / 15);
+		}
+	}
+
 	/**
 	 * Draws a tile on the game board with a prompt.
 	 * Depending on the game choice, it uses either hexagonal or square tiles.
@@ -600,6 +637,17 @@ public class DisplayForGraphic implements Display {
 				Math.min(animalWidth, animalHeight) / 2, Math.min(animalWidth, animalHeight) / 2));
 	}
 
+	/**
+	 * Sets the suggested move drawn with the choice of a batch. It can be called from the
+	 * thread of the search, the move is only read when a frame is drawn.
+	 *
+	 * @param move The suggested move, or null to hide the suggestion.
+	 */
+	@Override
+	public void hint(Move move) {
+		hint = move;
+	}
+
 	/**
 	 * Changes the position of the cursor based on the given direction.
 	 * 
@@ -646,6 +694,12 @@ public class DisplayForGraphic implements Display {
 			String playerInfo = "Joueur : " + player.name() + " - Points : " + player.point();
 			graphics.drawString(playerInfo, x, y);
 			y += lineHeight;
+			var score = player.score();
+			if (score != null) {
+				graphics.drawString("Biomes : " + score.biomePoints() + " - Bonus : " + score.bonusPoints() + " - Faune : "
+						+ score.wildlifePoints() + " - Jetons nature : " + score.natureToken(), x + width / 96, y);
+				y += lineHeight;
+			}
 		}
 	}
 
@@ -3,7 +3,7 @@ package fr.uge.version.graphic;
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.geom.Ellipse2D;
-import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 import fr.uge.game.element.Animals;
@@ -184,7 +184,7 @@ public record DrawHexagonTiles(int width, int height) implements DrawTiles {
    * @param index the index of the current player.
    * @param cursor the current cursor position.
    */
-	public void drawPlayerBoard(Graphics2D graphics, int habitatWidth, int habitatHeight, ArrayList<Player> players, int index, Coordinate cursor) {
+	public void drawPlayerBoard(Graphics2D graphics, int habitatWidth, int habitatHeight, List<Player> players, int index, Coordinate cursor) {
 		Objects.requireNonNull(graphics, "graphics is null");
 		Objects.requireNonNull(players, "players is null");
 		Objects.requireNonNull(cursor, "cursor is null");
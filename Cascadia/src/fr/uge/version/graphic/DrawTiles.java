@@ -1,7 +1,7 @@
 package fr.uge.version.graphic;
 
 import java.awt.Graphics2D;
-import java.util.ArrayList;
+import java.util.List;
 
 import fr.uge.game.element.Animals;
 import fr.uge.game.element.Coordinate;
@@ -29,7 +29,7 @@ public sealed interface DrawTiles permits DrawSquareTiles, DrawHexagonTiles {
    * @param index The index of the current player in the players list.
    * @param cursor The cursor's coordinates that indicate the selected position on the board.
    */
-	public void drawPlayerBoard(Graphics2D graphics, int habitatWidth, int habitatHeight, ArrayList<Player> players, int index, Coordinate cursor);
+	public void drawPlayerBoard(Graphics2D graphics, int habitatWidth, int habitatHeight, List<Player> players, int index, Coordinate cursor);
 	
 	/**
    * Draws a tile on the game board, which can also include an animal on that tile. The drawing is performed
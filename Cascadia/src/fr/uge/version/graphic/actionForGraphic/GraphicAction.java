@@ -2,7 +2,6 @@ package fr.uge.version.graphic.actionForGraphic;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
@@ -13,6 +12,9 @@ import com.github.forax.zen.Event;
 import com.github.forax.zen.KeyboardEvent;
 import com.github.forax.zen.PointerEvent;
 
+import fr.uge.bot.HintService;
+import fr.uge.bot.Move;
+import fr.uge.game.Structure;
 import fr.uge.game.element.Animals;
 import fr.uge.game.element.Coordinate;
 import fr.uge.game.element.Draw;
@@ -32,6 +34,9 @@ public class GraphicAction implements Action {
 	private Display display;
 	private final ApplicationContext context;
 	private final int shapeOfTile;
+	private final HintService hints;
+	private final int turnsLeft;
+	private volatile Move suggestion;
 
 	/**
 	 * Constructs a GraphicAction with the specified parameters.
@@ -41,14 +46,18 @@ public class GraphicAction implements Action {
 	 * @param context the ApplicationContext used for rendering frames and handling events
 	 * @param display the Display instance that handles the graphical display of the game
 	 * @param shapeOfTile the integer representing the shape of the tile (square or hexagon)
+	 * @param hints the service suggesting a batch while the player chooses one
+	 * @param turnsLeft the number of turns the player has left, this one included
 	 * @throws NullPointerException if any of the parameters are null
 	 */
-	public GraphicAction(Draw draw, Player player, ApplicationContext context, Display display, int shapeOfTile) {
+	public GraphicAction(Draw draw, Player player, ApplicationContext context, Display display, int shapeOfTile, HintService hints, int turnsLeft) {
 		this.draw = Objects.requireNonNull(draw, "draw is null");
 		this.player = Objects.requireNonNull(player, "player is null");
 		this.display = Objects.requireNonNull(display, "display is null");
 		this.context = Objects.requireNonNull(context, "context is null");
 		this.shapeOfTile = shapeOfTile;
+		this.hints = Objects.requireNonNull(hints, "hints is null");
+		this.turnsLeft = turnsLeft;
 	}
 
 	/**
@@ -134,9 +143,9 @@ public class GraphicAction implements Action {
 	 * @throws IOException if there is an issue with input or output during the action
 	 */
 	private void redrawAnimal(Animals animal) throws NumberFormatException, IOException {
-		for (int i = 0; i < draw.animalsForChoice.size(); i++) {
-			if (draw.animalsForChoice.get(i).equals(animal)) {
-				draw.animalsForChoice.set(i, draw.randomAnimal());
+		for (int i = 0; i < draw.animalsForChoice().size(); i++) {
+			if (draw.animalsForChoice().get(i).equals(animal)) {
+				draw.replaceAnimal(i);
 			}
 		}
 		availableTile();
@@ -284,23 +293,40 @@ public class GraphicAction implements Action {
 
 	/**
 	 * Handles the player's choice for selecting a batch, continuously waiting for an event and returning the selected batch.
+	 * A move is searched in the background while the player thinks; each better move found is drawn when no event
+	 * is waiting, and the search is cancelled as soon as the player has chosen.
 	 *
 	 * @return the index of the selected batch
 	 * @throws IOException if there is an issue with input or output during the action
 	 */
 	public int choiceOfBatch() throws IOException {
 		int[] i = {2};
-		context.renderFrame(graphics -> display.gameBoard());
-		context.renderFrame(graphics -> display.drawChoiceOfBatch(graphics, i[0]));
-		while (true) {
-			var event = context.pollOrWaitEvent(10);
-			if (event == null) {
-				continue;
-			}
-			int actionForChoiceOfBatchReturn = actionForChoiceOfBatch(event, i[0]);
-			if (actionForChoiceOfBatchReturn != -1) {
-				return actionForChoiceOfBatchReturn;
+		suggestion = null;
+		Move drawn = null;
+		hints.start(player, turnsLeft, move -> suggestion = move);
+		try {
+			context.renderFrame(graphics -> display.gameBoard());
+			context.renderFrame(graphics -> display.drawChoiceOfBatch(graphics, i[0]));
+			while (true) {
+				var event = context.pollOrWaitEvent(10);
+				if (event == null) {
+					var move = suggestion;
+					if (move != drawn) {
+						drawn = move;
+						display.hint(move);
+						context.renderFrame(graphics -> display.gameBoard());
+						context.renderFrame(graphics -> display.drawChoiceOfBatch(graphics, i[0]));
+					}
+					continue;
+				}
+				int actionForChoiceOfBatchReturn = actionForChoiceOfBatch(event, i[0]);
+				if (actionForChoiceOfBatchReturn != -1) {
+					return actionForChoiceOfBatchReturn;
+				}
 			}
+		} finally {
+			hints.cancel();
+			display.hint(null);
 		}
 	}
 
@@ -374,7 +400,7 @@ public class GraphicAction implements Action {
 					var location = pe.location();
 					int animal = getClickedTileIndex(location);
 					if (animal != -1 && listOfToken.add(animal)) {
-						draw.animalsForChoice.set(animal - 1, draw.randomAnimal());
+						draw.replaceAnimal(animal - 1);
 						return true;
 					}
 				}
@@ -636,10 +662,10 @@ public class GraphicAction implements Action {
 	 * @param pe the pointer event triggered by the player
 	 * @param event the event triggered by the player
 	 * @param animal the animal to be added
-	 * @param hashMap a map that tracks the available animals and their count
+	 * @param structure the structure of the game, whose animal tokens are taken
 	 * @return true if the animal was successfully added, false otherwise
 	 */
-	private boolean actionForAddAnimalPointerDown(PointerEvent pe, Event event, Animals animal, HashMap<Animals, Integer> hashMap) {
+	private boolean actionForAddAnimalPointerDown(PointerEvent pe, Event event, Animals animal, Structure structure) {
 		if (pe.action() == PointerEvent.Action.POINTER_DOWN && isGameBoardClicked(pe.location())) {
 			Coordinate coordinate = shapeOfTile == 2 ? coordinateConversionHexagon(pe.location()) : coordinateConversion(pe.location());
 			if (player.habitats().containsKey(coordinate)) {
@@ -649,11 +675,7 @@ public class GraphicAction implements Action {
 						player.habitats().get(coordinate).changeAnimal(animal);
 					}
 				}
-				for (var key : hashMap.keySet()) {
-					if (key.equals(animal)) {
-						hashMap.put(key, hashMap.get(key) - 1);
-					}
-				}
+				structure.addOrSubtractAnimalToken(animal, 1);
 				return true;
 			}
 		}
@@ -665,13 +687,13 @@ public class GraphicAction implements Action {
 	 *
 	 * @param event the event triggered by the player
 	 * @param animal the animal to be added
-	 * @param hashMap a map that tracks the available animals and their count
+	 * @param structure the structure of the game, whose animal tokens are taken
 	 * @return true if the action was successful, false otherwise
 	 */
-	private boolean actionForAddAnimal(Event event, Animals animal, HashMap<Animals, Integer> hashMap) {
+	private boolean actionForAddAnimal(Event event, Animals animal, Structure structure) {
 		switch (event) {
 			case PointerEvent pe -> {
-				if (actionForAddAnimalPointerDown(pe, event, animal, hashMap)) {
+				if (actionForAddAnimalPointerDown(pe, event, animal, structure)) {
 					return true;
 				}
 			}
@@ -690,10 +712,10 @@ public class GraphicAction implements Action {
 	 * Adds an animal to the game board, allowing the player to place the animal in a valid habitat.
 	 *
 	 * @param animal the animal to be added
-	 * @param hashMap a map that tracks the available animals and their count
+	 * @param structure the structure of the game, whose animal tokens are taken
 	 * @throws IOException if there is an issue with input or output during the action
 	 */
-	private void addAnimal(Animals animal, HashMap<Animals, Integer> hashMap) throws IOException {
+	private void addAnimal(Animals animal, Structure structure) throws IOException {
 		context.renderFrame(graphics -> display.gameBoard());
 		context.renderFrame(graphics -> display.drawAddAnimal(graphics, animal));
 		while (true) {
@@ -701,7 +723,7 @@ public class GraphicAction implements Action {
 			if (event == null) {
 				continue;
 			}
-			if (actionForAddAnimal(event, animal, hashMap)) {
+			if (actionForAddAnimal(event, animal, structure)) {
 				return;
 			}
 		}
@@ -713,15 +735,15 @@ public class GraphicAction implements Action {
 	 *
 	 * @param event the event triggered by the player
 	 * @param animals the animal to be added
-	 * @param hashMap a map that tracks the available animals and their count
+	 * @param structure the structure of the game, whose animal tokens are taken
 	 * @return true if the action was successful, false otherwise
 	 */
-	private boolean actionForAddAnimalOnGameBoard(Event event, Animals animals, HashMap<Animals, Integer> hashMap) throws IOException {
+	private boolean actionForAddAnimalOnGameBoard(Event event, Animals animals, Structure structure) throws IOException {
 		switch (event) {
 			case PointerEvent pe -> {
 				if (pe.action() == PointerEvent.Action.POINTER_DOWN) {
 					if (isYesButtonClicked(pe.location())) {
-						addAnimal(animals, hashMap);
+						addAnimal(animals, structure);
 						return true;
 					} else if (isNoButtonClicked(pe.location())) {
 						return true;
@@ -766,13 +788,13 @@ public class GraphicAction implements Action {
 	 * Adds an animal on the game board based on user interaction.
 	 *
 	 * @param animals the animal to be added
-	 * @param hashMap a map that tracks the available animals and their count
+	 * @param structure the structure of the game, whose animal tokens are taken
 	 * @throws NumberFormatException if an error occurs during number parsing
 	 * @throws IOException if there is an issue with input or output during the action
 	 */
-	public void addAnimalOnGameBoard(Animals animals, HashMap<Animals, Integer> hashMap) throws NumberFormatException, IOException {
+	public void addAnimalOnGameBoard(Animals animals, Structure structure) throws NumberFormatException, IOException {
 		Objects.requireNonNull(animals, "animal is null");
-		Objects.requireNonNull(hashMap, "hashMap is null");
+		Objects.requireNonNull(structure, "structure is null");
 		context.renderFrame(graphics -> display.gameBoard());
 		context.renderFrame(graphics -> display.drawAddAnimalOnGameBoard(graphics, animals));
 		while (true) {
@@ -780,7 +802,7 @@ public class GraphicAction implements Action {
 			if (event == null) {
 				continue;
 			}
-			if (actionForAddAnimalOnGameBoard(event, animals, hashMap)) {
+			if (actionForAddAnimalOnGameBoard(event, animals, structure)) {
 				return;
 			}
 		}
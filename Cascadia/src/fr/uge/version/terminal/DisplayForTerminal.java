@@ -2,8 +2,10 @@ package fr.uge.version.terminal;
 
 import java.awt.Graphics2D;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
+import fr.uge.bot.Move;
 import fr.uge.game.element.Animals;
 import fr.uge.game.element.Coordinate;
 import fr.uge.game.element.Draw;
@@ -20,7 +22,7 @@ import fr.uge.version.Display;
  * It implements the {@link Display} interface for terminal-based visual output.
  */
 public class DisplayForTerminal implements Display {
-	private ArrayList<Player> players;
+	private List<Player> players;
 	private final Draw draw;
 	private final int index;
 
@@ -33,7 +35,7 @@ public class DisplayForTerminal implements Display {
 	 * @throws IllegalArgumentException If the index is less than 0.
 	 * @throws NullPointerException If either players or draw is null.
 	 */
-	public DisplayForTerminal(ArrayList<Player> players, Draw draw, int index) {
+	public DisplayForTerminal(List<Player> players, Draw draw, int index) {
 		this.players = Objects.requireNonNull(players, "player is null");
 		this.draw = Objects.requireNonNull(draw, "draw is null");
 		if (index < 0) {
@@ -159,6 +161,13 @@ public class DisplayForTerminal implements Display {
 		Objects.requireNonNull(winnersName, "winnersName is null");
 		for (var player : players) {
 			System.out.println("Point de  " + player.name() + " : " + player.point());
+			var score = player.score();
+			if (score != null) {
+				System.out.println("  Biomes : " + score.biomes() + " (" + score.biomePoints() + ")");
+				System.out.println("  Bonus : " + score.majorityBonus() + " (" + score.bonusPoints() + ")");
+				System.out.println("  Faune : " + score.wildlife() + " (" + score.wildlifePoints() + ")");
+				System.out.println("  Jetons nature : " + score.natureToken());
+			}
 		}
 		System.out.println("Le ou les gagnant sont : " + winnersName);
 	}
@@ -243,4 +252,8 @@ public class DisplayForTerminal implements Display {
 	@Override
 	public void changeCursor(int direction) {
 	}
+
+	@Override
+	public void hint(Move move) {
+	}
 }
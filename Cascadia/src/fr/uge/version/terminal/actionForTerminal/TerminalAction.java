@@ -4,12 +4,12 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
+import fr.uge.game.Structure;
 import fr.uge.game.element.Animals;
 import fr.uge.game.element.Coordinate;
 import fr.uge.game.element.Draw;
@@ -65,10 +65,10 @@ public class TerminalAction implements Action {
    * Ensures that the animal is placed correctly and updates the animal count.
    *
    * @param animal the animal to be added
-   * @param hashMap the map of animals with their counts
+   * @param structure the structure of the game, whose animal tokens are taken
    * @throws IOException if there is an issue reading the input
    */
-  private void addAnimal(Animals animal, HashMap<Animals, Integer> hashMap) throws IOException {
+  private void addAnimal(Animals animal, Structure structure) throws IOException {
   	var reader = new BufferedReader(new InputStreamReader(System.in));
   	System.out.println("Veuillez entrer la coordonnée X et Y pour placer l'animal (exemple : 4 10):");
   	var coordonnees = reader.readLine().split(" ");
@@ -83,24 +83,19 @@ public class TerminalAction implements Action {
     }
     player.addNatureToken(player.habitats().get(new Coordinate(x, y)).tile());
     player.habitats().get(new Coordinate(x, y)).changeAnimal(animal);
-    for(var key : hashMap.keySet()) {
-    	if(key.equals(animal)) {
-    		hashMap.put(key, hashMap.get(key) - 1);
-    		break;
-    	}
-    }
+    structure.addOrSubtractAnimalToken(animal, 1);
   }
 	
   /**
    * Asks the player if they want to place an animal on the board and validates the choice.
    *
    * @param animals the animal to be placed
-   * @param hashMap the map of animals with their counts
+   * @param structure the structure of the game, whose animal tokens are taken
    * @throws IOException if there is an issue reading the input
    */
-  public void addAnimalOnGameBoard(Animals animals, HashMap<Animals, Integer> hashMap) throws NumberFormatException, IOException {
+  public void addAnimalOnGameBoard(Animals animals, Structure structure) throws NumberFormatException, IOException {
   	Objects.requireNonNull(animals, "animal is null");
-  	Objects.requireNonNull(hashMap, "hashMap is null");
+  	Objects.requireNonNull(structure, "structure is null");
   	
   	var reader = new BufferedReader(new InputStreamReader(System.in));
 		int choice;
@@ -109,7 +104,7 @@ public class TerminalAction implements Action {
 			choice = Integer.parseInt(reader.readLine());
 		} while(choice != 1 && choice != 2);
 		if(choice == 1) {
-			addAnimal(animals, hashMap);
+			addAnimal(animals, structure);
 		}
 	}
   
@@ -166,9 +161,9 @@ public class TerminalAction implements Action {
    * @throws IOException if there is an issue reading the input
    */
 	private void redrawAnimal(Animals animal) throws NumberFormatException, IOException {
-		for(int i = 0; i < draw.animalsForChoice.size(); i++) {
-			if(draw.animalsForChoice.get(i).equals(animal)) {
-				draw.animalsForChoice.set(i, draw.randomAnimal());
+		for(int i = 0; i < draw.animalsForChoice().size(); i++) {
+			if(draw.animalsForChoice().get(i).equals(animal)) {
+				draw.replaceAnimal(i);
 			}
 		}
 		availableTile();
@@ -210,7 +205,7 @@ public class TerminalAction implements Action {
     	System.out.println("Veuillez entrer le numéro du lot pour le jeton (exemple : 4):");
       animal = Integer.parseInt(reader.readLine());
     } while(!listOfToken.add(animal) || (animal < 0 || animal > 4));
-		draw.animalsForChoice.set(animal - 1, draw.randomAnimal());
+		draw.replaceAnimal(animal - 1);
 	}
 	
 	/**
@@ -0,0 +1,392 @@
+package fr.uge.simulation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import fr.uge.game.WildlifeCount;
+import fr.uge.game.element.Biome;
+import fr.uge.game.element.Coordinate;
+import fr.uge.game.element.Habitat;
+import fr.uge.game.element.Player;
+
+/**
+ * The final scoring of the game as it was before the incremental trackers, kept as the
+ * reference {@link ScoreFuzzer} compares {@link fr.uge.game.CountPoint} with.
+ * <p>
+ * The corridor walks, the majority bonus and the card loop are those of the game then.
+ * Only the bookkeeping differs: the corridor sizes go into a map of their own instead of
+ * the biome points of the player, and the points are returned instead of added to the
+ * player, so scoring a board leaves it untouched.
+ */
+final class ReferenceCountPoint {
+	private static final List<Biome> BIOMES = List.of(Biome.FOREST, Biome.MEADOW, Biome.MOUNTAIN, Biome.RIVER, Biome.SWAMP);
+
+	private ReferenceCountPoint() {
+	}
+
+	/**
+   * Recursively calculates the number of connected tiles of a specific biome in a square-shaped grid.
+   *
+   * @param player The player whose habitat is being evaluated.
+   * @param coordinate The current coordinate being evaluated.
+   * @param visitedHabitat A map tracking visited coordinates.
+   * @param biome The biome to count.
+   * @return The total number of connected tiles for the given biome.
+   */
+	private static int biomePointCountForSquare(Player player, Coordinate coordinate, HashMap<Coordinate, Boolean> visitedHabitat, String biome) {
+		if (visitedHabitat.getOrDefault(coordinate, false)) {
+			return 0;
+		}
+		Habitat habitat = player.getHabitat(coordinate);
+		if (habitat != null && habitat.biomeToString(0).equals(biome)) {
+			visitedHabitat.put(coordinate, true);
+			return 1
+					+ biomePointCountForSquare(player, new Coordinate(coordinate.x(), coordinate.y() - 1), visitedHabitat, biome)
+					+ biomePointCountForSquare(player, new Coordinate(coordinate.x() + 1, coordinate.y()), visitedHabitat, biome)
+					+ biomePointCountForSquare(player, new Coordinate(coordinate.x(), coordinate.y() + 1), visitedHabitat, biome)
+					+ biomePointCountForSquare(player, new Coordinate(coordinate.x() - 1, coordinate.y()), visitedHabitat, biome);
+		}
+		return 0;
+	}
+
+	/**
+   * Compares a coordinate against three neighbors and an old coordinate to check for overlap.
+   *
+   * @param neighbour1 The first neighboring coordinate.
+   * @param neighbour2 The second neighboring coordinate.
+   * @param neighbour3 The third neighboring coordinate.
+   * @param oldCoordinate The previous coordinate.
+   * @return true if the coordinates match, false otherwise.
+   */
+	private static boolean CompareCoordinate(Coordinate neighbour1, Coordinate neighbour2, Coordinate neighbour3, Coordinate oldCoordinate) {
+		return (oldCoordinate.x() == neighbour1.x() && oldCoordinate.y() == neighbour1.y()
+				|| oldCoordinate.x() == neighbour2.x() && oldCoordinate.y() == neighbour2.y()
+				|| oldCoordinate.x() == neighbour3.x() && oldCoordinate.y() == neighbour3.y())
+				|| (oldCoordinate.x() == -1 && oldCoordinate.y() == -1);
+	}
+
+	/**
+   * Calculates points for a single-biome habitat in a hexagonal grid.
+   *
+   * @param player The player whose habitat is being evaluated.
+   * @param coordinate The starting coordinate for evaluation.
+   * @param visitedHabitat A map tracking visited coordinates.
+   * @param biome The biome to count.
+   * @return The total points for the given biome.
+   */
+	private static int returnFunctionForOneBiomeHabitat(Player player, Coordinate coordinate, HashMap<Coordinate, Boolean> visitedHabitat, String biome) {
+		visitedHabitat.put(coordinate, true);
+		if (coordinate.y() % 2 != 0) {
+			return 1
+					+ biomePointCountForHexagon(player, new Coordinate(coordinate.x(), coordinate.y() - 1), visitedHabitat, biome,
+							coordinate)
+					+ biomePointCountForHexagon(player, new Coordinate(coordinate.x() + 1, coordinate.y()), visitedHabitat, biome,
+							coordinate)
+					+ biomePointCountForHexagon(player, new Coordinate(coordinate.x(), coordinate.y() + 1), visitedHabitat, biome,
+							coordinate)
+					+ biomePointCountForHexagon(player, new Coordinate(coordinate.x() - 1, coordinate.y() + 1), visitedHabitat,
+							biome, coordinate)
+					+ biomePointCountForHexagon(player, new Coordinate(coordinate.x() - 1, coordinate.y()), visitedHabitat, biome,
+							coordinate)
+					+ biomePointCountForHexagon(player, new Coordinate(coordinate.x() - 1, coordinate.y() - 1), visitedHabitat,
+							biome, coordinate);
+		} else {
+			return 1
+					+ biomePointCountForHexagon(player, new Coordinate(coordinate.x() + 1, coordinate.y() - 1), visitedHabitat,
+							biome, coordinate)
+					+ biomePointCountForHexagon(player, new Coordinate(coordinate.x() + 1, coordinate.y()), visitedHabitat, biome,
+							coordinate)
+					+ biomePointCountForHexagon(player, new Coordinate(coordinate.x() + 1, coordinate.y() + 1), visitedHabitat,
+							biome, coordinate)
+					+ biomePointCountForHexagon(player, new Coordinate(coordinate.x(), coordinate.y() + 1), visitedHabitat, biome,
+							coordinate)
+					+ biomePointCountForHexagon(player, new Coordinate(coordinate.x() - 1, coordinate.y()), visitedHabitat, biome,
+							coordinate)
+					+ biomePointCountForHexagon(player, new Coordinate(coordinate.x(), coordinate.y() - 1), visitedHabitat, biome,
+							coordinate);
+		}
+	}
+
+	/**
+   * Calculates points for a two-biome habitat in a hexagonal grid.
+   *
+   * @param player The player whose habitat is being evaluated.
+   * @param coordinate The starting coordinate for evaluation.
+   * @param visitedHabitat A map tracking visited coordinates.
+   * @param biome The biome to count.
+   * @param oldCoordinate The previous coordinate used for comparison.
+   * @param habitat The habitat to evaluate.
+   * @return The total points for the given biome.
+   */
+	private static int returnFunctionForTwoBiomeHabitat(Player player, Coordinate coordinate, HashMap<Coordinate, Boolean> visitedHabitat, String biome, Coordinate oldCoordinate, Habitat habitat) {
+		int index = habitat.biomeToString(0).equals(biome) ? 0 : 1;
+		Coordinate neighbour1 = initializeFirstNeighbour(habitat, coordinate, index),
+				neighbour2 = initializeSecondNeighbour(habitat, coordinate, index),
+				neighbour3 = initializeThirdNeighbour(habitat, coordinate, index);
+		if (!CompareCoordinate(neighbour1, neighbour2, neighbour3, oldCoordinate)) {
+			return 0;
+		}
+		visitedHabitat.put(coordinate, true);
+		return 1 + biomePointCountForHexagon(player, neighbour1, visitedHabitat, biome, coordinate)
+				+ biomePointCountForHexagon(player, neighbour2, visitedHabitat, biome, coordinate)
+				+ biomePointCountForHexagon(player, neighbour3, visitedHabitat, biome, coordinate);
+	}
+
+	/**
+   * Initializes the first neighboring coordinate for a habitat based on its rotation.
+   *
+   * @param habitat The habitat being evaluated.
+   * @param coordinate The current coordinate.
+   * @param index The biome index.
+   * @return The first neighboring coordinate.
+   */
+	private static Coordinate initializeFirstNeighbour(Habitat habitat, Coordinate coordinate, int index) {
+		if (habitat.rotation() == 1 || habitat.rotation() == 4) {
+			if ((index == 0 && habitat.rotation() == 1) || (index == 1 && habitat.rotation() == 4)) {
+				return coordinate.y() % 2 != 0 ? new Coordinate(coordinate.x() - 1, coordinate.y() + 1)
+						: new Coordinate(coordinate.x(), coordinate.y() + 1);
+			} else {
+				return coordinate.y() % 2 != 0 ? new Coordinate(coordinate.x(), coordinate.y() - 1)
+						: new Coordinate(coordinate.x() + 1, coordinate.y() - 1);
+			}
+		} else if (habitat.rotation() == 2 || habitat.rotation() == 5) {
+			if ((index == 0 && habitat.rotation() == 2) || (index == 1 && habitat.rotation() == 5)) {
+				return new Coordinate(coordinate.x() - 1, coordinate.y());
+			} else {
+				return new Coordinate(coordinate.x() + 1, coordinate.y());
+			}
+		} else {
+			if ((index == 0 && habitat.rotation() == 3) || (index == 1 && habitat.rotation() == 6)) {
+				return coordinate.y() % 2 != 0 ? new Coordinate(coordinate.x() - 1, coordinate.y() - 1)
+						: new Coordinate(coordinate.x(), coordinate.y() - 1);
+			} else {
+				return coordinate.y() % 2 != 0 ? new Coordinate(coordinate.x(), coordinate.y() + 1)
+						: new Coordinate(coordinate.x() + 1, coordinate.y() + 1);
+			}
+		}
+	}
+
+	/**
+   * Initializes the second neighboring coordinate for a habitat based on its rotation.
+   *
+   * @param habitat The habitat being evaluated.
+   * @param coordinate The current coordinate.
+   * @param index The biome index.
+   * @return The second neighboring coordinate.
+   */
+	private static Coordinate initializeSecondNeighbour(Habitat habitat, Coordinate coordinate, int index) {
+		if (habitat.rotation() == 1 || habitat.rotation() == 4) {
+			if ((index == 0 && habitat.rotation() == 1) || (index == 1 && habitat.rotation() == 4)) {
+				return new Coordinate(coordinate.x() - 1, coordinate.y());
+			} else {
+				return new Coordinate(coordinate.x() + 1, coordinate.y());
+			}
+		} else if (habitat.rotation() == 2 || habitat.rotation() == 5) {
+			if ((index == 0 && habitat.rotation() == 2) || (index == 1 && habitat.rotation() == 5)) {
+				return coordinate.y() % 2 != 0 ? new Coordinate(coordinate.x() - 1, coordinate.y() - 1)
+						: new Coordinate(coordinate.x(), coordinate.y() - 1);
+			} else {
+				return coordinate.y() % 2 != 0 ? new Coordinate(coordinate.x(), coordinate.y() + 1)
+						: new Coordinate(coordinate.x() + 1, coordinate.y() + 1);
+			}
+		} else {
+			if ((index == 0 && habitat.rotation() == 3) || (index == 1 && habitat.rotation() == 6)) {
+				return coordinate.y() % 2 != 0 ? new Coordinate(coordinate.x(), coordinate.y() - 1)
+						: new Coordinate(coordinate.x() + 1, coordinate.y() - 1);
+			} else {
+				return coordinate.y() % 2 != 0 ? new Coordinate(coordinate.x() - 1, coordinate.y() + 1)
+						: new Coordinate(coordinate.x(), coordinate.y() + 1);
+			}
+		}
+	}
+
+	/**
+   * Initializes the third neighboring coordinate for a habitat based on its rotation.
+   *
+   * @param habitat The habitat being evaluated.
+   * @param coordinate The current coordinate.
+   * @param index The biome index.
+   * @return The third neighboring coordinate.
+   */
+	private static Coordinate initializeThirdNeighbour(Habitat habitat, Coordinate coordinate, int index) {
+		if (habitat.rotation() == 1 || habitat.rotation() == 4) {
+			if ((index == 0 && habitat.rotation() == 1) || (index == 1 && habitat.rotation() == 4)) {
+				return coordinate.y() % 2 != 0 ? new Coordinate(coordinate.x() - 1, coordinate.y() - 1)
+						: new Coordinate(coordinate.x(), coordinate.y() - 1);
+			} else {
+				return coordinate.y() % 2 != 0 ? new Coordinate(coordinate.x(), coordinate.y() + 1)
+						: new Coordinate(coordinate.x() + 1, coordinate.y() + 1);
+			}
+		} else if (habitat.rotation() == 2 || habitat.rotation() == 5) {
+			if ((index == 0 && habitat.rotation() == 2) || (index == 1 && habitat.rotation() == 5)) {
+				return coordinate.y() % 2 != 0 ? new Coordinate(coordinate.x(), coordinate.y() - 1)
+						: new Coordinate(coordinate.x() + 1, coordinate.y() - 1);
+			} else {
+				return coordinate.y() % 2 != 0 ? new Coordinate(coordinate.x() - 1, coordinate.y() + 1)
+						: new Coordinate(coordinate.x(), coordinate.y() + 1);
+			}
+		} else {
+			if ((index == 0 && habitat.rotation() == 3) || (index == 1 && habitat.rotation() == 6)) {
+				return new Coordinate(coordinate.x() + 1, coordinate.y());
+			} else {
+				return new Coordinate(coordinate.x() - 1, coordinate.y());
+			}
+		}
+	}
+
+	/**
+   * Recursively calculates the number of connected tiles of a specific biome in a hexagonal grid.
+   *
+   * @param player The player whose habitat is being evaluated.
+   * @param coordinate The current coordinate being evaluated.
+   * @param visitedHabitat A map tracking visited coordinates.
+   * @param biome The biome to count.
+   * @param oldCoordinate The previous coordinate for comparison.
+   * @return The total number of connected tiles for the given biome.
+   */
+	private static int biomePointCountForHexagon(Player player, Coordinate coordinate, HashMap<Coordinate, Boolean> visitedHabitat, String biome, Coordinate oldCoordinate) {
+		if (visitedHabitat.getOrDefault(coordinate, false)) {
+			return 0;
+		}
+		Habitat habitat = player.getHabitat(coordinate);
+		if (player.habitats().containsKey(coordinate) && habitat.tile().biome().size() == 1) {
+			if (habitat.biomeToString(0).equals(biome)) {
+				return returnFunctionForOneBiomeHabitat(player, coordinate, visitedHabitat, biome);
+			}
+		} else {
+			if (player.habitats().containsKey(coordinate) && (habitat.biomeToString(0).equals(biome) || habitat.biomeToString(1).equals(biome))) {
+				return returnFunctionForTwoBiomeHabitat(player, coordinate, visitedHabitat, biome, oldCoordinate, habitat);
+			}
+		}
+		return 0;
+	}
+
+	/**
+   * Adds biome points for a given player based on their habitat configuration.
+   *
+   * @param player The player whose habitat is being evaluated.
+   * @param biome The biome being evaluated.
+   * @param coordinate The starting coordinate.
+   * @param visitedHabitatForBiome A map tracking visited coordinates for the biome.
+   * @param shapeOfTile The shape of the tiles (square or hexagon).
+   * @param biomePoint The largest corridor found so far for each biome name.
+   */
+	private static void addPointForBiomeCount(Player player, Biome biome, Coordinate coordinate, HashMap<Coordinate, Boolean> visitedHabitatForBiome, int shapeOfTile, HashMap<String, Integer> biomePoint) {
+		int visitedBiome = 0;
+		Habitat habitat = player.getHabitat(coordinate);
+		if (habitat.tile().biome().size() == 2 && !visitedHabitatForBiome.getOrDefault(coordinate, false)) {
+			visitedBiome = biomePointCountForHexagon(player, coordinate, visitedHabitatForBiome, biome.name(), new Coordinate(-1, -1));
+			if (habitat.biomeToString(0).equals(biome.name()) && visitedBiome >= biomePoint.getOrDefault(habitat.biomeToString(0), 0)) {
+				biomePoint.put(habitat.biomeToString(0), visitedBiome);
+			} else if (habitat.biomeToString(1).equals(biome.name()) && visitedBiome >= biomePoint.getOrDefault(habitat.biomeToString(1), 0)) {
+				biomePoint.put(habitat.biomeToString(1), visitedBiome);
+			}
+		} else {
+			if (habitat.biomeToString(0).equals(biome.name()) && !visitedHabitatForBiome.getOrDefault(coordinate, false)) {
+				visitedBiome = shapeOfTile == 2
+						? biomePointCountForHexagon(player, coordinate, visitedHabitatForBiome, biome.name(), new Coordinate(-1, -1))
+						: biomePointCountForSquare(player, coordinate, visitedHabitatForBiome, biome.name());
+				if (visitedBiome >= biomePoint.getOrDefault(habitat.biomeToString(0), 0)) {
+					biomePoint.put(habitat.biomeToString(0), visitedBiome);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Measures the largest corridor of every biome of a player, starting a walk from every
+	 * habitat like the game did.
+	 *
+	 * @param player The player whose habitats are measured.
+	 * @param shapeOfTile The shape of the tiles (square or hexagon).
+	 * @return The size of the largest corridor by biome name, 0 for a biome without tile.
+	 */
+	static HashMap<String, Integer> corridors(Player player, int shapeOfTile) {
+		Objects.requireNonNull(player, "player is null");
+		var biomePoint = new HashMap<String, Integer>();
+		for (Biome biome : BIOMES) {
+			biomePoint.put(biome.name(), 0);
+		}
+		for (Biome biome : BIOMES) {
+			HashMap<Coordinate, Boolean> visitedHabitatForBiome = new HashMap<>();
+			for (Coordinate coordinate : player.habitats().keySet()) {
+				addPointForBiomeCount(player, biome, coordinate, visitedHabitatForBiome, shapeOfTile, biomePoint);
+			}
+		}
+		return biomePoint;
+	}
+
+	/**
+	 * Scores every wildlife card of a player.
+	 *
+	 * @param player The player whose habitats are scored.
+	 * @param wildlifeCards The cards to score.
+	 * @return The points of each card, in the order of the cards.
+	 */
+	static int[] wildlife(Player player, List<WildlifeCount> wildlifeCards) {
+		Objects.requireNonNull(player, "player is null");
+		var points = new int[wildlifeCards.size()];
+		for (var i = 0; i < points.length; i++) {
+			points[i] = wildlifeCards.get(i).pointCount(player);
+		}
+		return points;
+	}
+
+	/**
+	 * Sorts the corridors of the players on a biome, largest first.
+	 *
+	 * @param corridors The corridors of each player.
+	 * @param biome The biome key to sort by.
+	 * @return The indices of the players, sorted.
+	 */
+	private static ArrayList<Integer> sortedList(List<? extends Map<String, Integer>> corridors, String biome) {
+		var players = new ArrayList<Integer>();
+		for (var i = 0; i < corridors.size(); i++) {
+			players.add(i);
+		}
+		return (ArrayList<Integer>) players.stream().sorted((p1, p2) -> Integer
+				.compare(corridors.get(p2).getOrDefault(biome, 0), corridors.get(p1).getOrDefault(biome, 0)))
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Computes the majority bonus of every player: 2 points for the largest corridor of a
+	 * biome, 1 point each to the players tied for it, whatever the number of players.
+	 *
+	 * @param corridors The corridors of each player, as given by {@link #corridors}.
+	 * @return The bonus of each player by biome name.
+	 */
+	static List<HashMap<String, Integer>> bonuses(List<? extends Map<String, Integer>> corridors) {
+		Objects.requireNonNull(corridors, "corridors is null");
+		var bonus = new ArrayList<HashMap<String, Integer>>();
+		for (var i = 0; i < corridors.size(); i++) {
+			var map = new HashMap<String, Integer>();
+			for (var biome : BIOMES) {
+				map.put(biome.name(), 0);
+			}
+			bonus.add(map);
+		}
+		for (var key : corridors.get(0).keySet()) {
+			var sortedPlayer = sortedList(corridors, key);
+			int maxBiomeSize = corridors.get(sortedPlayer.get(0)).getOrDefault(key, 0);
+			int countMaxPlayers = 0;
+			for (var player : sortedPlayer) {
+				if (corridors.get(player).getOrDefault(key, 0) == maxBiomeSize) {
+					countMaxPlayers++;
+				}
+			}
+			if (countMaxPlayers == 1) {
+				bonus.get(sortedPlayer.get(0)).merge(key, 2, Integer::sum);
+			} else {
+				for (int i = 0; i < countMaxPlayers; i++) {
+					bonus.get(sortedPlayer.get(i)).merge(key, 1, Integer::sum);
+				}
+			}
+		}
+		return bonus;
+	}
+}
@@ -0,0 +1,532 @@
+package fr.uge.simulation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import fr.uge.game.board.Topology;
+import fr.uge.game.element.Animals;
+import fr.uge.game.element.Coordinate;
+import fr.uge.simulation.ScoreFuzzer.Placement;
+
+/**
+ * Scores boards by the rules changed on purpose since the reference. Each oracle works
+ * from the placements of a board, on its own data structures, so the {@link ScoreFuzzer}
+ * can compare the game with it strictly where the reference no longer applies.
+ * <p>
+ * Groups of animals are matched by their geometry: cells are given cartesian coordinates
+ * on a square board and axial coordinates on a hexagonal one, where a group is turned by
+ * a simple formula, rather than by the sides followed by the game.
+ */
+final class RuleOracles {
+	private static final int[] ELK_GROUPS = { 0, 2, 5, 9, 13 };
+	private static final int[] ELK_SURROUNDED = { 0, 2, 5, 9, 13, 0 };
+	private static final int[][] SALMON_RUNS = { {}, { 0, 2, 5, 8, 12, 16, 20, 25 }, { 0, 2, 4, 9, 11, 17 }, { 0, 0, 0, 10, 12, 15 } };
+	private static final int[] BEAR_PAIRS = { 0, 4, 11, 19, 20 };
+	private static final int[] INTERMEDIATE_GROUPS = { 0, 0, 5, 8, 12 };
+	private static final int[] FOX_PAIRS = { 0, 3, 5, 7 };
+	private static final int[] FOX_PAIR_PAIRS = { 0, 5, 7, 9, 11 };
+	private static final int[] BUZZARDS_IN_SIGHT = { 0, 2, 5, 8, 11, 14, 18, 22, 26 };
+	private static final int[][] SQUARE_STEPS = { { 1, 0 }, { 0, 1 }, { -1, 0 }, { 0, -1 } };
+	private static final int[][] HEXAGON_STEPS = { { 1, 0 }, { 0, 1 }, { -1, 1 }, { -1, 0 }, { 0, -1 }, { 1, -1 } };
+	private static final int[][][] LINES = {
+			{ { 0, 0 } },
+			{ { 0, 0 }, { 1, 0 } },
+			{ { 0, 0 }, { 1, 0 }, { 2, 0 } },
+			{ { 0, 0 }, { 1, 0 }, { 2, 0 }, { 3, 0 } } };
+	private static final int[][][] SQUARE_SHAPES = {
+			{ { 0, 0 } },
+			{ { 0, 0 }, { 1, 0 } },
+			{ { 0, 0 }, { 1, 0 }, { 0, -1 } },
+			{ { -1, 0 }, { 0, 0 }, { 1, 0 }, { 1, 1 } } };
+	private static final int[][][] HEXAGON_SHAPES = {
+			{ { 0, 0 } },
+			{ { 0, 0 }, { 1, 0 } },
+			{ { 0, 0 }, { 1, 0 }, { 0, 1 } },
+			{ { 0, 0 }, { 1, 0 }, { 0, 1 }, { 1, 1 } } };
+
+	private RuleOracles() {
+	}
+
+	/**
+	 * Returns the geometric coordinates of a cell: the cell itself on a square board, its
+	 * axial coordinates on a hexagonal board, where the odd rows are shifted left.
+	 *
+	 * @param x The x-coordinate of the cell.
+	 * @param y The y-coordinate of the cell.
+	 * @param shapeOfTile The shape of the tiles (2 for hexagons, square otherwise).
+	 * @return The coordinates of the cell.
+	 */
+	private static Coordinate geometry(int x, int y, int shapeOfTile) {
+		return shapeOfTile == 2 ? new Coordinate(x - Math.floorDiv(y + (y & 1), 2), y) : new Coordinate(x, y);
+	}
+
+	/**
+	 * Moves a group so that its lowest cell, by row then column, is at the origin.
+	 *
+	 * @param cells The cells of the group.
+	 * @return The cells moved.
+	 */
+	private static Set<Coordinate> normalize(List<Coordinate> cells) {
+		var origin = cells.stream().min(Comparator.comparingInt(Coordinate::y).thenComparingInt(Coordinate::x)).orElseThrow();
+		var moved = new HashSet<Coordinate>();
+		for (var cell : cells) {
+			moved.add(new Coordinate(cell.x() - origin.x(), cell.y() - origin.y()));
+		}
+		return moved;
+	}
+
+	/**
+	 * Lists every orientation of the groups of a card, by number of animals.
+	 *
+	 * @param groups The groups, as geometric coordinates.
+	 * @param shapeOfTile The shape of the tiles (2 for hexagons, square otherwise).
+	 * @return The groups turned every way, normalized.
+	 */
+	private static Set<Set<Coordinate>> orientations(int[][][] groups, int shapeOfTile) {
+		var turns = shapeOfTile == 2 ? 6 : 4;
+		var found = new HashSet<Set<Coordinate>>();
+		for (var group : groups) {
+			var cells = new ArrayList<Coordinate>();
+			for (var cell : group) {
+				cells.add(new Coordinate(cell[0], cell[1]));
+			}
+			for (var turn = 0; turn < turns; turn++) {
+				found.add(normalize(cells));
+				cells.replaceAll(cell -> shapeOfTile == 2 ? new Coordinate(-cell.y(), cell.x() + cell.y())
+						: new Coordinate(-cell.y(), cell.x()));
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Scores the elk of a board by the best split into the groups of a card: straight lines
+	 * of one to four elk for pattern 1, one elk, a pair, a corner or triangle and a group of
+	 * four for pattern 2. Every split is tried, one elk at a time.
+	 *
+	 * @param board The placements of the board.
+	 * @param shapeOfTile The shape of the tiles (2 for hexagons, square otherwise).
+	 * @param pattern The pattern of the card, 1 or 2.
+	 * @return The points of the best split.
+	 */
+	static int elkGroups(List<Placement> board, int shapeOfTile, int pattern) {
+		Objects.requireNonNull(board, "board is null");
+		var groups = pattern == 1 ? LINES : shapeOfTile == 2 ? HEXAGON_SHAPES : SQUARE_SHAPES;
+		var elk = board.stream().filter(placement -> placement.animal() == Animals.ELK)
+				.map(placement -> geometry(placement.x(), placement.y(), shapeOfTile)).toList();
+		return bestSplit(elk, orientations(groups, shapeOfTile), (1L << elk.size()) - 1, new HashMap<>());
+	}
+
+	/**
+	 * Finds the best split of some elk: the first one is either left alone out of any group
+	 * or put in a group with up to three elk near it.
+	 *
+	 * @param elk The geometric coordinates of the elk.
+	 * @param groups The groups of the card, every orientation.
+	 * @param left The elk still to split, one bit per elk.
+	 * @param known The best splits already found.
+	 * @return The points of the best split of the elk left.
+	 */
+	private static int bestSplit(List<Coordinate> elk, Set<Set<Coordinate>> groups, long left, HashMap<Long, Integer> known) {
+		if (left == 0) {
+			return 0;
+		}
+		var cached = known.get(left);
+		if (cached != null) {
+			return cached;
+		}
+		var first = Long.numberOfTrailingZeros(left);
+		var rest = left & (left - 1);
+		var near = new ArrayList<Integer>();
+		for (var others = rest; others != 0; others &= others - 1) {
+			var other = Long.numberOfTrailingZeros(others);
+			if (Math.abs(elk.get(other).x() - elk.get(first).x()) <= 3 && Math.abs(elk.get(other).y() - elk.get(first).y()) <= 3) {
+				near.add(other);
+			}
+		}
+		var best = bestSplit(elk, groups, rest, known);
+		for (var subset = 0; subset < 1 << near.size(); subset++) {
+			if (Integer.bitCount(subset) > 3) {
+				continue;
+			}
+			var cells = new ArrayList<Coordinate>();
+			cells.add(elk.get(first));
+			var taken = 0L;
+			for (var i = 0; i < near.size(); i++) {
+				if ((subset & 1 << i) != 0) {
+					cells.add(elk.get(near.get(i)));
+					taken |= 1L << near.get(i);
+				}
+			}
+			if (groups.contains(normalize(cells))) {
+				best = Math.max(best, ELK_GROUPS[cells.size()] + bestSplit(elk, groups, rest & ~taken, known));
+			}
+		}
+		known.put(left, best);
+		return best;
+	}
+
+	/**
+	 * Scores the elk of a board for pattern 4: the habitats without elk are visited by row,
+	 * then by column, and each one takes the elk around it that no habitat took before.
+	 * It is worth the points of the number of elk it took plus one.
+	 *
+	 * @param board The placements of the board.
+	 * @param shapeOfTile The shape of the tiles (2 for hexagons, square otherwise).
+	 * @return The points of the habitats without elk.
+	 */
+	static int elkSurrounded(List<Placement> board, int shapeOfTile) {
+		Objects.requireNonNull(board, "board is null");
+		var animals = new HashMap<Coordinate, Animals>();
+		for (var placement : board) {
+			animals.put(new Coordinate(placement.x(), placement.y()), placement.animal());
+		}
+		var taken = new HashSet<Coordinate>();
+		var result = 0;
+		for (var coordinate : animals.keySet().stream()
+				.sorted(Comparator.comparingInt(Coordinate::y).thenComparingInt(Coordinate::x)).toList()) {
+			if (animals.get(coordinate) == Animals.ELK) {
+				continue;
+			}
+			var count = 1;
+			for (var neighbour : Topology.of(shapeOfTile).neighbours(coordinate)) {
+				if (animals.get(neighbour) == Animals.ELK && taken.add(neighbour)) {
+					count++;
+				}
+			}
+			result += ELK_SURROUNDED[Math.min(count, ELK_SURROUNDED.length - 1)];
+		}
+		return result;
+	}
+
+	/**
+	 * Maps the animals of a board by the geometric coordinates of their cells.
+	 *
+	 * @param board The placements of the board.
+	 * @param shapeOfTile The shape of the tiles (2 for hexagons, square otherwise).
+	 * @return The animal of each cell, {@code Animals.NOTHING} for a tile without animal.
+	 */
+	private static HashMap<Coordinate, Animals> animals(List<Placement> board, int shapeOfTile) {
+		var animals = new HashMap<Coordinate, Animals>();
+		for (var placement : board) {
+			animals.put(geometry(placement.x(), placement.y(), shapeOfTile), placement.animal());
+		}
+		return animals;
+	}
+
+	/**
+	 * Scores the buzzards of a board by their lines of sight: two buzzards see each other
+	 * when they lie on a same straight line of the board, are not adjacent, and no buzzard
+	 * stands between them. Pattern 2 scores the buzzards with no buzzard around them that
+	 * see another one, pattern 3 gives 3 points per line of sight and pattern 4 one point
+	 * per species seen between buzzards.
+	 *
+	 * @param board The placements of the board.
+	 * @param shapeOfTile The shape of the tiles (2 for hexagons, square otherwise).
+	 * @param pattern The pattern of the card, 2 to 4.
+	 * @return The points of the buzzards.
+	 */
+	static int buzzardSight(List<Placement> board, int shapeOfTile, int pattern) {
+		Objects.requireNonNull(board, "board is null");
+		var animals = animals(board, shapeOfTile);
+		var steps = shapeOfTile == 2 ? HEXAGON_STEPS : SQUARE_STEPS;
+		var buzzards = animals.keySet().stream().filter(cell -> animals.get(cell) == Animals.BUZZARD).toList();
+		var inSight = new HashSet<Coordinate>();
+		var seen = new HashSet<Animals>();
+		var lines = 0;
+		for (var i = 0; i < buzzards.size(); i++) {
+			for (var j = i + 1; j < buzzards.size(); j++) {
+				var from = buzzards.get(i);
+				var to = buzzards.get(j);
+				var between = between(from, to, steps);
+				if (between == null || between.isEmpty()
+						|| between.stream().anyMatch(cell -> animals.get(cell) == Animals.BUZZARD)) {
+					continue;
+				}
+				lines++;
+				inSight.add(from);
+				inSight.add(to);
+				for (var cell : between) {
+					var animal = animals.get(cell);
+					if (animal != null && animal != Animals.NOTHING) {
+						seen.add(animal);
+					}
+				}
+			}
+		}
+		return switch (pattern) {
+		case 2 -> {
+			var isolated = inSight.stream().filter(buzzard -> Arrays.stream(steps).noneMatch(
+					step -> animals.get(new Coordinate(buzzard.x() + step[0], buzzard.y() + step[1])) == Animals.BUZZARD)).count();
+			yield BUZZARDS_IN_SIGHT[(int) Math.min(isolated, BUZZARDS_IN_SIGHT.length - 1)];
+		}
+		case 3 -> 3 * lines;
+		default -> seen.size();
+		};
+	}
+
+	/**
+	 * Lists the cells strictly between two cells on a same straight line.
+	 *
+	 * @param from The first cell.
+	 * @param to The second cell.
+	 * @param steps The moves to a neighbour, in geometric coordinates.
+	 * @return The cells between, or null if the two cells are not on a same line.
+	 */
+	private static List<Coordinate> between(Coordinate from, Coordinate to, int[][] steps) {
+		for (var step : steps) {
+			var cells = new ArrayList<Coordinate>();
+			var x = from.x() + step[0];
+			var y = from.y() + step[1];
+			while (Math.abs(x - from.x()) <= Math.abs(to.x() - from.x()) && Math.abs(y - from.y()) <= Math.abs(to.y() - from.y())) {
+				if (x == to.x() && y == to.y()) {
+					return cells;
+				}
+				cells.add(new Coordinate(x, y));
+				x += step[0];
+				y += step[1];
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Scores the salmon runs of a board. A run is a group of connected salmon where no
+	 * salmon touches more than two others; a group breaking this scores nothing. Patterns
+	 * 1 to 3 give each run the points of its length, pattern 4 one point per salmon of a
+	 * run and one per other animal touching it.
+	 *
+	 * @param board The placements of the board.
+	 * @param shapeOfTile The shape of the tiles (2 for hexagons, square otherwise).
+	 * @param pattern The pattern of the card, 1 to 4.
+	 * @return The points of the runs.
+	 */
+	static int salmonRuns(List<Placement> board, int shapeOfTile, int pattern) {
+		Objects.requireNonNull(board, "board is null");
+		var animals = animals(board, shapeOfTile);
+		var steps = shapeOfTile == 2 ? HEXAGON_STEPS : SQUARE_STEPS;
+		var grouped = new HashSet<Coordinate>();
+		var result = 0;
+		for (var start : animals.keySet()) {
+			if (animals.get(start) != Animals.SALMON || !grouped.add(start)) {
+				continue;
+			}
+			var run = new ArrayList<Coordinate>();
+			run.add(start);
+			var touching = new HashSet<Coordinate>();
+			var isRun = true;
+			for (var i = 0; i < run.size(); i++) {
+				var salmon = 0;
+				for (var step : steps) {
+					var neighbour = new Coordinate(run.get(i).x() + step[0], run.get(i).y() + step[1]);
+					var animal = animals.get(neighbour);
+					if (animal == Animals.SALMON) {
+						salmon++;
+						if (grouped.add(neighbour)) {
+							run.add(neighbour);
+						}
+					} else if (animal != null && animal != Animals.NOTHING) {
+						touching.add(neighbour);
+					}
+				}
+				isRun &= salmon <= 2;
+			}
+			if (!isRun) {
+				continue;
+			}
+			if (pattern == 4) {
+				result += run.size() + touching.size();
+			} else {
+				var points = SALMON_RUNS[pattern];
+				result += points[Math.min(run.size(), points.length - 1)];
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Measures the groups of connected animals of a same species on a board.
+	 *
+	 * @param board The placements of the board.
+	 * @param shapeOfTile The shape of the tiles (2 for hexagons, square otherwise).
+	 * @return The species and the number of animals of each group.
+	 */
+	private static List<Map.Entry<Animals, Integer>> groups(List<Placement> board, int shapeOfTile) {
+		var animals = animals(board, shapeOfTile);
+		var steps = shapeOfTile == 2 ? HEXAGON_STEPS : SQUARE_STEPS;
+		var grouped = new HashSet<Coordinate>();
+		var groups = new ArrayList<Map.Entry<Animals, Integer>>();
+		for (var start : animals.keySet()) {
+			var animal = animals.get(start);
+			if (animal == Animals.NOTHING || !grouped.add(start)) {
+				continue;
+			}
+			var group = new ArrayList<Coordinate>();
+			group.add(start);
+			for (var i = 0; i < group.size(); i++) {
+				for (var step : steps) {
+					var neighbour = new Coordinate(group.get(i).x() + step[0], group.get(i).y() + step[1]);
+					if (animals.get(neighbour) == animal && grouped.add(neighbour)) {
+						group.add(neighbour);
+					}
+				}
+			}
+			groups.add(Map.entry(animal, group.size()));
+		}
+		return groups;
+	}
+
+	/**
+	 * Scores the bears of a board for pattern 1: the table is read with the number of
+	 * groups of exactly two bears.
+	 *
+	 * @param board The placements of the board.
+	 * @param shapeOfTile The shape of the tiles (2 for hexagons, square otherwise).
+	 * @return The points of the pairs of bears.
+	 */
+	static int bearPairs(List<Placement> board, int shapeOfTile) {
+		Objects.requireNonNull(board, "board is null");
+		var pairs = (int) groups(board, shapeOfTile).stream()
+				.filter(group -> group.getKey() == Animals.BEAR && group.getValue() == 2).count();
+		return BEAR_PAIRS[Math.min(pairs, BEAR_PAIRS.length - 1)];
+	}
+
+	/**
+	 * Scores the intermediate card: every group of animals, whatever its species, is worth
+	 * the points of its size.
+	 *
+	 * @param board The placements of the board.
+	 * @param shapeOfTile The shape of the tiles (2 for hexagons, square otherwise).
+	 * @return The points of all the groups.
+	 */
+	static int intermediateGroups(List<Placement> board, int shapeOfTile) {
+		Objects.requireNonNull(board, "board is null");
+		var result = 0;
+		for (var group : groups(board, shapeOfTile)) {
+			result += INTERMEDIATE_GROUPS[Math.min(group.getValue(), INTERMEDIATE_GROUPS.length - 1)];
+		}
+		return result;
+	}
+
+	/**
+	 * Counts the pairs of animals of a same species, foxes excluded, on some cells: each
+	 * species gives half its number of animals, rounded down.
+	 *
+	 * @param animals The animals of the board.
+	 * @param cells The cells to count.
+	 * @return The number of pairs.
+	 */
+	private static int pairs(Map<Coordinate, Animals> animals, Set<Coordinate> cells) {
+		var counts = new HashMap<Animals, Integer>();
+		for (var cell : cells) {
+			var animal = animals.get(cell);
+			if (animal != null && animal != Animals.NOTHING && animal != Animals.FOX) {
+				counts.merge(animal, 1, Integer::sum);
+			}
+		}
+		return counts.values().stream().mapToInt(count -> count / 2).sum();
+	}
+
+	/**
+	 * Lists the cells around a cell.
+	 *
+	 * @param cell The cell.
+	 * @param steps The moves to a neighbour, in geometric coordinates.
+	 * @return The neighbours of the cell.
+	 */
+	private static Set<Coordinate> around(Coordinate cell, int[][] steps) {
+		var around = new HashSet<Coordinate>();
+		for (var step : steps) {
+			around.add(new Coordinate(cell.x() + step[0], cell.y() + step[1]));
+		}
+		return around;
+	}
+
+	/**
+	 * Scores the foxes of a board for patterns 2 and 4. Pattern 2 scores each fox by the
+	 * pairs of animals around it, an odd animal left out. Pattern 4 scores each pair of
+	 * foxes touching no other fox once, by the pairs of animals around the two foxes, each
+	 * cell counted once.
+	 *
+	 * @param board The placements of the board.
+	 * @param shapeOfTile The shape of the tiles (2 for hexagons, square otherwise).
+	 * @param pattern The pattern of the card, 2 or 4.
+	 * @return The points of the foxes.
+	 */
+	static int foxPairs(List<Placement> board, int shapeOfTile, int pattern) {
+		Objects.requireNonNull(board, "board is null");
+		var animals = animals(board, shapeOfTile);
+		var steps = shapeOfTile == 2 ? HEXAGON_STEPS : SQUARE_STEPS;
+		var foxes = animals.keySet().stream().filter(cell -> animals.get(cell) == Animals.FOX).toList();
+		var result = 0;
+		if (pattern == 2) {
+			for (var fox : foxes) {
+				result += FOX_PAIRS[Math.min(pairs(animals, around(fox, steps)), FOX_PAIRS.length - 1)];
+			}
+			return result;
+		}
+		var scored = new HashSet<Coordinate>();
+		for (var fox : foxes) {
+			var partners = around(fox, steps).stream().filter(cell -> animals.get(cell) == Animals.FOX).toList();
+			if (partners.size() != 1 || scored.contains(fox)) {
+				continue;
+			}
+			var partner = partners.get(0);
+			if (around(partner, steps).stream().filter(cell -> animals.get(cell) == Animals.FOX).count() != 1) {
+				continue;
+			}
+			scored.add(fox);
+			scored.add(partner);
+			var cells = around(fox, steps);
+			cells.addAll(around(partner, steps));
+			cells.remove(fox);
+			cells.remove(partner);
+			result += FOX_PAIR_PAIRS[Math.min(pairs(animals, cells), FOX_PAIR_PAIRS.length - 1)];
+		}
+		return result;
+	}
+
+	/**
+	 * Computes the majority bonus of a player in a game of 3 or 4 players: the largest
+	 * corridor wins 3 points and the second 1 point, each player tied for the second
+	 * winning 1 point. When the largest is tied nobody is second, and the tied players win
+	 * 2 points each if they are two, 1 point each if they are more. A player without a tile
+	 * of the biome is never second.
+	 *
+	 * @param corridors The largest corridor of each player in the biome.
+	 * @param player The index of the player.
+	 * @return The bonus of the player.
+	 */
+	static int majorityBonus(List<Integer> corridors, int player) {
+		Objects.requireNonNull(corridors, "corridors is null");
+		var largest = corridors.stream().mapToInt(Integer::intValue).max().orElseThrow();
+		var tied = corridors.stream().filter(size -> size == largest).count();
+		var size = corridors.get(player);
+		if (size == largest) {
+			return tied == 1 ? 3 : tied == 2 ? 2 : 1;
+		}
+		if (tied > 1) {
+			return 0;
+		}
+		var second = corridors.stream().mapToInt(Integer::intValue).filter(other -> other < largest).max().orElseThrow();
+		return size == second && second > 0 ? 1 : 0;
+	}
+
+	/**
+	 * Reads the largest corridor of a biome from the corridors of every player.
+	 *
+	 * @param corridors The corridors of each player by biome name.
+	 * @param biome The biome name.
+	 * @return The largest corridor of each player in the biome.
+	 */
+	static List<Integer> corridorsOf(List<? extends Map<String, Integer>> corridors, String biome) {
+		return corridors.stream().map(sizes -> sizes.get(biome)).toList();
+	}
+}
@@ -0,0 +1,983 @@
+package fr.uge.simulation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+import fr.uge.game.CountPoint;
+import fr.uge.game.WildlifeCount;
+import fr.uge.game.board.Topology;
+import fr.uge.game.element.Animals;
+import fr.uge.game.element.Biome;
+import fr.uge.game.element.Coordinate;
+import fr.uge.game.element.Player;
+import fr.uge.game.element.Tile;
+import fr.uge.game.wildlifeCount.Bear;
+import fr.uge.game.wildlifeCount.Buzzard;
+import fr.uge.game.wildlifeCount.CardCompiler;
+import fr.uge.game.wildlifeCount.Elk;
+import fr.uge.game.wildlifeCount.Family;
+import fr.uge.game.wildlifeCount.Fox;
+import fr.uge.game.wildlifeCount.Intermediate;
+import fr.uge.game.wildlifeCount.Salmon;
+
+/**
+ * Differential fuzzer for the scoring code. Random games of connected boards are scored
+ * by a reference engine and by a candidate engine; the first game where they disagree is
+ * shrunk to a smallest game that still disagrees and printed.
+ * <p>
+ * The reference of the game is the scoring code as it was before the incremental
+ * trackers, kept unchanged in the {@code Reference} classes of this package. The rules
+ * changed on purpose since then are listed by {@link #ruleChanges()}: on the games a rule
+ * change applies to, the expected score comes from its oracle, an implementation of the
+ * new rule of its own kept in {@link RuleOracles}, instead of the reference. Every score
+ * is compared strictly.
+ * <p>
+ * The fuzzer and the reference classes are kept in the {@code tools} source folder, so
+ * they are compiled with the game but never shipped with it.
+ * <p>
+ * Boards are lists of placements so every engine can rebuild them its own way. Each
+ * game comes from its own seed, which makes a failure reproducible from the seed alone
+ * whatever the number of threads.
+ * <p>
+ * Usage: {@code ScoreFuzzer [mode] [games] [threads] [firstSeed]}, with the modes:
+ * <ul>
+ * <li>{@code reference}, the default: corridors, majority bonuses, every card and the
+ * nature tokens of games of 1 to 4 players, against the reference;</li>
+ * <li>{@code placement}: the score of {@link CountPoint#placementScore} for the last tile
+ * of a board, against the reference scores of the board with and without it;</li>
+ * <li>{@code replay}: the scores of the boards built in order, against the same boards
+ * built in reverse with animals swapped in and out;</li>
+ * <li>{@code tables}: the cards reading {@code ScoringCards.txt}, against the points
+ * written in the reference cards, 1500 games by default;</li>
+ * <li>{@code compiled}: built-in cards against the {@link CardCompiler} rules that mirror
+ * them, 1500 games by default.</li>
+ * </ul>
+ */
+public final class ScoreFuzzer {
+	private static final Biome[] BIOMES = { Biome.MOUNTAIN, Biome.FOREST, Biome.MEADOW, Biome.SWAMP, Biome.RIVER };
+	private static final Animals[] ANIMALS = { Animals.BEAR, Animals.SALMON, Animals.FOX, Animals.ELK, Animals.BUZZARD };
+	private static final int MAX_TILES = 30;
+	private static final int MAX_PLAYERS = 4;
+	private static final List<String> PLAIN_COUNTS = List.of("buzzard3", "buzzard4", "salmon4");
+
+	/**
+	 * One tile placed on a board.
+	 *
+	 * @param tile The tile.
+	 * @param x The x-coordinate of the tile.
+	 * @param y The y-coordinate of the tile.
+	 * @param animal The animal placed on the tile, {@code Animals.NOTHING} if none.
+	 * @param rotation The rotation of the tile.
+	 */
+	public record Placement(Tile tile, int x, int y, Animals animal, int rotation) {
+		/**
+		 * Checks the placement.
+		 *
+		 * @throws IllegalArgumentException if the tile cannot hold the animal.
+		 */
+		public Placement {
+			Objects.requireNonNull(tile, "tile is null");
+			Objects.requireNonNull(animal, "animal is null");
+			if (animal != Animals.NOTHING && !tile.animals().contains(animal)) {
+				throw new IllegalArgumentException("tile cannot hold " + animal);
+			}
+		}
+	}
+
+	/**
+	 * The boards of the players of a game.
+	 *
+	 * @param shapeOfTile The shape of the tiles (2 for hexagons, square otherwise).
+	 * @param boards The placements of each board, one board per player.
+	 */
+	public record Game(int shapeOfTile, List<List<Placement>> boards) {
+		/**
+		 * Copies the boards.
+		 *
+		 * @throws IllegalArgumentException if there is no board.
+		 */
+		public Game {
+			boards = boards.stream().map(List::copyOf).toList();
+			if (boards.isEmpty()) {
+				throw new IllegalArgumentException("no board");
+			}
+		}
+
+		/**
+		 * Returns the game with one board replaced.
+		 *
+		 * @param index The index of the board.
+		 * @param board The new board.
+		 * @return The new game.
+		 */
+		public Game with(int index, List<Placement> board) {
+			var copy = new ArrayList<>(boards);
+			copy.set(index, board);
+			return new Game(shapeOfTile, copy);
+		}
+
+		/**
+		 * Returns the game without one board.
+		 *
+		 * @param index The index of the board.
+		 * @return The new game.
+		 */
+		public Game without(int index) {
+			var copy = new ArrayList<>(boards);
+			copy.remove(index);
+			return new Game(shapeOfTile, copy);
+		}
+	}
+
+	/**
+	 * A way of scoring a game.
+	 */
+	@FunctionalInterface
+	public interface Engine {
+		/**
+		 * Scores a game.
+		 *
+		 * @param game The game.
+		 * @return The scores of each board in turn, in the order of the labels of the fuzzer.
+		 */
+		int[] score(Game game);
+	}
+
+	/**
+	 * Scores one board of a game by a rule changed since the reference.
+	 */
+	@FunctionalInterface
+	public interface Oracle {
+		/**
+		 * Scores a board.
+		 *
+		 * @param game The game.
+		 * @param board The index of the board.
+		 * @return The expected score of the board.
+		 */
+		int score(Game game, int board);
+	}
+
+	/**
+	 * A rule changed on purpose since the reference: on the games in its scope, the score
+	 * of a label is expected from the oracle instead of the reference.
+	 *
+	 * @param label The label of the score.
+	 * @param reason What changed.
+	 * @param scope The games the new rule applies to.
+	 * @param oracle The score by the new rule.
+	 */
+	public record RuleChange(String label, String reason, Predicate<Game> scope, Oracle oracle) {
+		/**
+		 * Checks the rule change.
+		 */
+		public RuleChange {
+			Objects.requireNonNull(label, "label is null");
+			Objects.requireNonNull(reason, "reason is null");
+			Objects.requireNonNull(scope, "scope is null");
+			Objects.requireNonNull(oracle, "oracle is null");
+		}
+	}
+
+	/**
+	 * A game scored differently by the two engines.
+	 *
+	 * @param seed The seed of the game before shrinking.
+	 * @param game The shrunk game.
+	 * @param differences The scores that differ on the shrunk game, with the rule change
+	 *                    giving the expected score if there is one.
+	 */
+	public record Mismatch(long seed, Game game, List<String> differences) {
+		/**
+		 * Copies the differences.
+		 */
+		public Mismatch {
+			Objects.requireNonNull(game, "game is null");
+			differences = List.copyOf(differences);
+		}
+
+		@Override
+		public String toString() {
+			var builder = new StringBuilder();
+			builder.append("seed ").append(seed).append(", shape ").append(game.shapeOfTile()).append(", ")
+					.append(game.boards().size()).append(" boards\n");
+			for (var board = 0; board < game.boards().size(); board++) {
+				builder.append("board ").append(board).append(", ").append(game.boards().get(board).size()).append(" tiles\n");
+				for (var placement : game.boards().get(board)) {
+					builder.append("  ").append(placement).append('\n');
+				}
+			}
+			builder.append(String.join("\n", differences));
+			return builder.toString();
+		}
+	}
+
+	private final Engine reference;
+	private final Engine candidate;
+	private final List<String> labels;
+	private final List<RuleChange> ruleChanges;
+	private final int maxPlayers;
+
+	/**
+	 * Creates a fuzzer comparing two engines on games of one board, with no rule change.
+	 *
+	 * @param reference The engine giving the expected scores.
+	 * @param candidate The engine under test.
+	 * @param labels The labels of the scores of a board.
+	 */
+	public ScoreFuzzer(Engine reference, Engine candidate, List<String> labels) {
+		this(reference, candidate, labels, List.of(), 1);
+	}
+
+	/**
+	 * Creates a fuzzer comparing two engines.
+	 *
+	 * @param reference The engine giving the expected scores.
+	 * @param candidate The engine under test.
+	 * @param labels The labels of the scores of a board.
+	 * @param ruleChanges The rule changes giving the expected scores of their games.
+	 * @param maxPlayers The largest number of boards of a game.
+	 * @throws IllegalArgumentException if there is no label or maxPlayers is not between 1 and 4.
+	 */
+	public ScoreFuzzer(Engine reference, Engine candidate, List<String> labels, List<RuleChange> ruleChanges, int maxPlayers) {
+		this.reference = Objects.requireNonNull(reference, "reference is null");
+		this.candidate = Objects.requireNonNull(candidate, "candidate is null");
+		this.labels = List.copyOf(labels);
+		this.ruleChanges = List.copyOf(ruleChanges);
+		if (this.labels.isEmpty() || maxPlayers < 1 || maxPlayers > MAX_PLAYERS) {
+			throw new IllegalArgumentException("labels is empty or maxPlayers < 1 or maxPlayers > " + MAX_PLAYERS);
+		}
+		this.maxPlayers = maxPlayers;
+	}
+
+	/**
+	 * Generates a random connected board: each tile is placed next to a tile already on
+	 * the board, with a random rotation and either one of its animals or none.
+	 *
+	 * @param random The source of randomness.
+	 * @param shapeOfTile The shape of the tiles (2 for hexagons, square otherwise).
+	 * @param tiles The number of tiles.
+	 * @return The placements of the board, in the order they were made.
+	 */
+	public static List<Placement> randomBoard(SplittableRandom random, int shapeOfTile, int tiles) {
+		Objects.requireNonNull(random, "random is null");
+		var topology = Topology.of(shapeOfTile);
+		var board = new ArrayList<Placement>(tiles);
+		var used = new HashSet<Coordinate>();
+		var frontier = new ArrayList<Coordinate>();
+		frontier.add(new Coordinate(Topology.SIZE / 2, Topology.SIZE / 2));
+		while (board.size() < tiles && !frontier.isEmpty()) {
+			var coordinate = frontier.remove(random.nextInt(frontier.size()));
+			if (!used.add(coordinate)) {
+				continue;
+			}
+			var tile = randomTile(random, shapeOfTile);
+			var animals = tile.animals();
+			var animal = random.nextInt(4) == 0 ? Animals.NOTHING : animals.get(random.nextInt(animals.size()));
+			board.add(new Placement(tile, coordinate.x(), coordinate.y(), animal, 1 + random.nextInt(6)));
+			for (var neighbour : topology.neighbours(coordinate)) {
+				if (!used.contains(neighbour)) {
+					frontier.add(neighbour);
+				}
+			}
+		}
+		return board;
+	}
+
+	/**
+	 * Draws a tile the game could deal, with one to three animals: a square tile has one
+	 * biome, a hexagonal tile one or two different biomes.
+	 *
+	 * @param random The source of randomness.
+	 * @param shapeOfTile The shape of the tiles (2 for hexagons, square otherwise).
+	 * @return The tile.
+	 */
+	private static Tile randomTile(SplittableRandom random, int shapeOfTile) {
+		var biomes = new ArrayList<Biome>();
+		var first = random.nextInt(BIOMES.length);
+		biomes.add(BIOMES[first]);
+		if (shapeOfTile == 2 && random.nextBoolean()) {
+			biomes.add(BIOMES[(first + 1 + random.nextInt(BIOMES.length - 1)) % BIOMES.length]);
+		}
+		var animals = new ArrayList<Animals>();
+		var count = 1 + random.nextInt(3);
+		while (animals.size() < count) {
+			var animal = ANIMALS[random.nextInt(ANIMALS.length)];
+			if (!animals.contains(animal)) {
+				animals.add(animal);
+			}
+		}
+		return new Tile(animals, biomes);
+	}
+
+	/**
+	 * Builds a player by placing the tiles of a board in order.
+	 *
+	 * @param board The placements of the board.
+	 * @return The player holding the board.
+	 */
+	public static Player build(List<Placement> board) {
+		var player = new Player("fuzz", 0, 0, new HashMap<>());
+		for (var placement : board) {
+			player.add(placement.tile(), placement.x(), placement.y(), placement.animal(), placement.rotation());
+		}
+		return player;
+	}
+
+	/**
+	 * Builds a player the long way: tiles are placed in reverse order without animals, then
+	 * each animal is put on its tile after another species was put there and taken back.
+	 * The incremental structures of the player go through insertions, removals and splits.
+	 *
+	 * @param board The placements of the board.
+	 * @return The player holding the board.
+	 */
+	public static Player replay(List<Placement> board) {
+		var player = new Player("fuzz", 0, 0, new HashMap<>());
+		for (var i = board.size() - 1; i >= 0; i--) {
+			var placement = board.get(i);
+			player.add(placement.tile(), placement.x(), placement.y(), Animals.NOTHING, placement.rotation());
+		}
+		for (var placement : board) {
+			var habitat = player.getHabitat(placement.x(), placement.y());
+			habitat.changeAnimal(ANIMALS[(placement.animal().ordinal() + 1) % ANIMALS.length]);
+			habitat.changeAnimal(placement.animal());
+		}
+		return player;
+	}
+
+	/**
+	 * Returns every built-in wildlife card, all patterns, with distinct names.
+	 *
+	 * @param shapeOfTile The shape of the tiles.
+	 * @return The cards.
+	 */
+	public static List<WildlifeCount> builtInCards(int shapeOfTile) {
+		var cards = new ArrayList<WildlifeCount>();
+		for (var pattern = 1; pattern <= 4; pattern++) {
+			cards.add(new Fox("fox" + pattern, pattern, shapeOfTile));
+			cards.add(new Salmon("salmon" + pattern, pattern, shapeOfTile));
+			cards.add(new Bear("bear" + pattern, pattern, shapeOfTile));
+			cards.add(new Elk("elk" + pattern, pattern, shapeOfTile));
+			cards.add(new Buzzard("buzzard" + pattern, pattern, shapeOfTile));
+		}
+		cards.add(new Family("family", 5, shapeOfTile));
+		cards.add(new Intermediate("intermediate", 6, shapeOfTile));
+		return cards;
+	}
+
+	/**
+	 * Returns the reference of every built-in card, with the names and in the order of
+	 * {@link #builtInCards(int)}.
+	 *
+	 * @param shapeOfTile The shape of the tiles.
+	 * @return The cards.
+	 */
+	public static List<WildlifeCount> referenceCards(int shapeOfTile) {
+		var cards = new ArrayList<WildlifeCount>();
+		for (var pattern = 1; pattern <= 4; pattern++) {
+			cards.add(new ReferenceFox("fox" + pattern, pattern, shapeOfTile));
+			cards.add(new ReferenceSalmon("salmon" + pattern, pattern, shapeOfTile));
+			cards.add(new ReferenceBear("bear" + pattern, pattern, shapeOfTile));
+			cards.add(new ReferenceElk("elk" + pattern, pattern, shapeOfTile));
+			cards.add(new ReferenceBuzzard("buzzard" + pattern, pattern, shapeOfTile));
+		}
+		cards.add(new ReferenceFamily("family", 5, shapeOfTile));
+		cards.add(new ReferenceIntermediate("intermediate", 6, shapeOfTile));
+		return cards;
+	}
+
+	/**
+	 * Keeps the cards whose points come from {@code ScoringCards.txt}, which are all of them
+	 * but the plain counts of Buzzard 3 and 4 and Salmon 4.
+	 *
+	 * @param cards The cards, named like {@link #builtInCards(int)}.
+	 * @return The cards reading a table.
+	 */
+	public static List<WildlifeCount> tableCards(List<WildlifeCount> cards) {
+		return cards.stream().filter(card -> !PLAIN_COUNTS.contains(card.name())).toList();
+	}
+
+	/**
+	 * Returns the labels of the scores of a board given by {@link #gameEngine()}: the
+	 * largest corridor and the majority bonus of each biome, every built-in card and the
+	 * nature tokens.
+	 *
+	 * @return The labels.
+	 */
+	public static List<String> scoreLabels() {
+		var labels = new ArrayList<String>();
+		for (var biome : BIOMES) {
+			labels.add("corridor " + biome);
+		}
+		for (var biome : BIOMES) {
+			labels.add("bonus " + biome);
+		}
+		labels.addAll(names(builtInCards(2)));
+		labels.add("nature");
+		return labels;
+	}
+
+	/**
+	 * Returns the labels of the scores given by {@link #placementEngine()}: the corridor
+	 * gained in each biome, the points gained with every built-in card, the nature token
+	 * gained, and 1 if the player was left as it was.
+	 *
+	 * @return The labels.
+	 */
+	public static List<String> placementLabels() {
+		var labels = new ArrayList<String>();
+		for (var biome : BIOMES) {
+			labels.add("corridor " + biome);
+		}
+		labels.addAll(names(builtInCards(2)));
+		labels.add("nature");
+		labels.add("unchanged");
+		return labels;
+	}
+
+	/**
+	 * Returns the names of some cards.
+	 *
+	 * @param cards The cards.
+	 * @return The names, in the order of the cards.
+	 */
+	private static List<String> names(List<WildlifeCount> cards) {
+		return cards.stream().map(WildlifeCount::name).toList();
+	}
+
+	/**
+	 * Scores the players of a game with {@link CountPoint}.
+	 *
+	 * @param players The players, one per board.
+	 * @param shapeOfTile The shape of the tiles.
+	 * @return The scores, labelled by {@link #scoreLabels()}.
+	 */
+	private static int[] countPoint(List<Player> players, int shapeOfTile) {
+		var cards = builtInCards(shapeOfTile);
+		var scores = new ArrayList<Integer>();
+		for (var breakdown : CountPoint.pointCount(players, cards, shapeOfTile, players.size())) {
+			for (var biome : BIOMES) {
+				scores.add(breakdown.biomes().get(biome));
+			}
+			for (var biome : BIOMES) {
+				scores.add(breakdown.majorityBonus().get(biome));
+			}
+			for (var card : cards) {
+				scores.add(breakdown.wildlife().get(card.name()));
+			}
+			scores.add(breakdown.natureToken());
+		}
+		return scores.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	/**
+	 * Scores the boards built in order with {@link CountPoint}.
+	 *
+	 * @return The engine, labelled by {@link #scoreLabels()}.
+	 */
+	public static Engine gameEngine() {
+		return game -> countPoint(game.boards().stream().map(ScoreFuzzer::build).toList(), game.shapeOfTile());
+	}
+
+	/**
+	 * Scores the boards built through {@link #replay(List)} with {@link CountPoint}.
+	 *
+	 * @return The engine, labelled by {@link #scoreLabels()}.
+	 */
+	public static Engine replayEngine() {
+		return game -> countPoint(game.boards().stream().map(ScoreFuzzer::replay).toList(), game.shapeOfTile());
+	}
+
+	/**
+	 * Scores the boards built in order with the reference scoring.
+	 *
+	 * @return The engine, labelled by {@link #scoreLabels()}.
+	 */
+	public static Engine referenceEngine() {
+		return game -> {
+			var shapeOfTile = game.shapeOfTile();
+			var cards = referenceCards(shapeOfTile);
+			var players = game.boards().stream().map(ScoreFuzzer::build).toList();
+			var corridors = players.stream().map(player -> ReferenceCountPoint.corridors(player, shapeOfTile)).toList();
+			var bonuses = ReferenceCountPoint.bonuses(corridors);
+			var scores = new ArrayList<Integer>();
+			for (var i = 0; i < players.size(); i++) {
+				for (var biome : BIOMES) {
+					scores.add(corridors.get(i).get(biome.name()));
+				}
+				for (var biome : BIOMES) {
+					scores.add(bonuses.get(i).get(biome.name()));
+				}
+				for (var points : ReferenceCountPoint.wildlife(players.get(i), cards)) {
+					scores.add(points);
+				}
+				scores.add(players.get(i).natureToken());
+			}
+			return scores.stream().mapToInt(Integer::intValue).toArray();
+		};
+	}
+
+	/**
+	 * Scores the last tile of the first board with {@link CountPoint#placementScore}, on the
+	 * board built without it.
+	 *
+	 * @return The engine, labelled by {@link #placementLabels()}.
+	 */
+	public static Engine placementEngine() {
+		return game -> {
+			var shapeOfTile = game.shapeOfTile();
+			var board = game.boards().get(0);
+			var last = board.get(board.size() - 1);
+			var player = build(board.subList(0, board.size() - 1));
+			var hash = player.hash();
+			var cards = builtInCards(shapeOfTile);
+			var delta = CountPoint.placementScore(player, last.tile(), last.x(), last.y(), last.rotation(), last.animal(), cards, shapeOfTile);
+			var scores = new int[BIOMES.length + cards.size() + 2];
+			var i = 0;
+			for (var biome : BIOMES) {
+				scores[i++] = delta.biome(biome);
+			}
+			for (var card : cards) {
+				scores[i++] = delta.wildlife().get(card.name());
+			}
+			scores[i++] = delta.natureToken();
+			scores[i] = player.hash() == hash && player.habitats().size() == board.size() - 1 ? 1 : 0;
+			return scores;
+		};
+	}
+
+	/**
+	 * Scores the last tile of the first board with the reference scoring, as the difference
+	 * between the board with and without it. The nature token is the one
+	 * {@link Player#addNatureToken} gives when the game places an animal.
+	 *
+	 * @return The engine, labelled by {@link #placementLabels()}.
+	 */
+	public static Engine referencePlacementEngine() {
+		return game -> {
+			var shapeOfTile = game.shapeOfTile();
+			var board = game.boards().get(0);
+			var last = board.get(board.size() - 1);
+			var before = build(board.subList(0, board.size() - 1));
+			var after = build(board);
+			var cards = referenceCards(shapeOfTile);
+			var corridorsBefore = ReferenceCountPoint.corridors(before, shapeOfTile);
+			var corridorsAfter = ReferenceCountPoint.corridors(after, shapeOfTile);
+			var wildlifeBefore = ReferenceCountPoint.wildlife(before, cards);
+			var wildlifeAfter = ReferenceCountPoint.wildlife(after, cards);
+			var scores = new int[BIOMES.length + cards.size() + 2];
+			var i = 0;
+			for (var biome : BIOMES) {
+				scores[i++] = corridorsAfter.get(biome.name()) - corridorsBefore.get(biome.name());
+			}
+			for (var card = 0; card < cards.size(); card++) {
+				scores[i++] = wildlifeAfter[card] - wildlifeBefore[card];
+			}
+			if (last.animal() != Animals.NOTHING) {
+				after.addNatureToken(last.tile());
+			}
+			scores[i++] = after.natureToken();
+			scores[i] = 1;
+			return scores;
+		};
+	}
+
+	/**
+	 * Scores the first board built in order with some cards.
+	 *
+	 * @param cards The cards for a shape of tiles.
+	 * @return The engine, labelled by the names of the cards.
+	 */
+	public static Engine cardsEngine(IntFunction<List<WildlifeCount>> cards) {
+		Objects.requireNonNull(cards, "cards is null");
+		var square = cards.apply(1);
+		var hexagon = cards.apply(2);
+		return game -> {
+			var player = build(game.boards().get(0));
+			return (game.shapeOfTile() == 2 ? hexagon : square).stream().mapToInt(card -> card.pointCount(player)).toArray();
+		};
+	}
+
+	/**
+	 * Returns the built-in cards that a compiled rule can express.
+	 *
+	 * @param shapeOfTile The shape of the tiles.
+	 * @return The cards, named like the rules of {@link #compiledEngine()}.
+	 */
+	public static List<WildlifeCount> mirroredCards(int shapeOfTile) {
+		return List.of(
+				new Bear("bear1", 1, shapeOfTile),
+				new Bear("bear4", 4, shapeOfTile),
+				new Elk("elk1", 1, shapeOfTile),
+				new Elk("elk2", 2, shapeOfTile),
+				new Fox("fox1", 1, shapeOfTile),
+				new Family("family", 5, shapeOfTile),
+				new Intermediate("intermediate", 6, shapeOfTile));
+	}
+
+	/**
+	 * Scores the rules compiled by {@link CardCompiler} that mirror {@link #mirroredCards(int)}.
+	 *
+	 * @return The engine, labelled by the names of the mirrored cards.
+	 */
+	public static Engine compiledEngine() {
+		var rules = List.of(
+				"bear1 BEAR COUNT 2 | 0 4 11 19 20",
+				"bear4 BEAR GROUPS | 0 0 5 8 13 0",
+				"elk1 ELK LINES | 0 2 5 9 13",
+				"elk2 ELK SHAPES | 0 2 5 9 13",
+				"fox1 FOX DIVERSITY | 0 1 2 3 4 5",
+				"family ANY GROUPS | 0 2 5 9",
+				"intermediate ANY GROUPS | 0 0 5 8 12");
+		return cardsEngine(shapeOfTile -> rules.stream().map(rule -> CardCompiler.compile(rule, shapeOfTile)).toList());
+	}
+
+	/**
+	 * Returns the rules changed on purpose since the reference, for the scores of
+	 * {@link #scoreLabels()}.
+	 *
+	 * @return The rule changes.
+	 */
+	public static List<RuleChange> ruleChanges() {
+		return ruleChanges(false);
+	}
+
+	/**
+	 * Returns the rules changed on purpose since the reference, for the scores of
+	 * {@link #placementLabels()}: a placement is expected to score the difference of the
+	 * oracle between the board with and without its last tile.
+	 *
+	 * @return The rule changes.
+	 */
+	public static List<RuleChange> placementRuleChanges() {
+		return ruleChanges(true);
+	}
+
+	/**
+	 * Lists the rule changes.
+	 *
+	 * @param placement True for the scores of a placement, false for the scores of a board.
+	 * @return The rule changes.
+	 */
+	private static List<RuleChange> ruleChanges(boolean placement) {
+		Predicate<Game> always = game -> true;
+		var changes = new ArrayList<RuleChange>();
+		changes.add(new RuleChange("bear1", "the table is read with the number of pairs instead of once per pair",
+				always, onBoard(placement, (game, board) -> RuleOracles.bearPairs(game.boards().get(board), game.shapeOfTile()))));
+		changes.add(new RuleChange("intermediate", "every group is scored, not only the last one met",
+				always, onBoard(placement, (game, board) -> RuleOracles.intermediateGroups(game.boards().get(board), game.shapeOfTile()))));
+		changes.add(new RuleChange("fox2", "an odd number of animals of a species still gives its pairs",
+				always, onBoard(placement, (game, board) -> RuleOracles.foxPairs(game.boards().get(board), game.shapeOfTile(), 2))));
+		changes.add(new RuleChange("fox4", "pairs of foxes do not depend on the order of the habitats and count each animal around them once",
+				always, onBoard(placement, (game, board) -> RuleOracles.foxPairs(game.boards().get(board), game.shapeOfTile(), 4))));
+		changes.add(new RuleChange("elk1", "elk are packed into the lines worth the most points, along the lines of the board",
+				always, onBoard(placement, (game, board) -> RuleOracles.elkGroups(game.boards().get(board), game.shapeOfTile(), 1))));
+		changes.add(new RuleChange("elk2", "elk are packed into the shapes worth the most points, from any cell",
+				always, onBoard(placement, (game, board) -> RuleOracles.elkGroups(game.boards().get(board), game.shapeOfTile(), 2))));
+		changes.add(new RuleChange("elk4", "the habitats take the elk around them by increasing cell index, not in the order of a HashMap",
+				always, onBoard(placement, (game, board) -> RuleOracles.elkSurrounded(game.boards().get(board), game.shapeOfTile()))));
+		for (var pattern = 2; pattern <= 4; pattern++) {
+			var card = pattern;
+			changes.add(new RuleChange("buzzard" + pattern, "lines of sight follow the lines of the board, with no buzzard between",
+					always, onBoard(placement, (game, board) -> RuleOracles.buzzardSight(game.boards().get(board), game.shapeOfTile(), card))));
+		}
+		for (var pattern = 1; pattern <= 4; pattern++) {
+			var card = pattern;
+			changes.add(new RuleChange("salmon" + pattern, "runs are scored by their length, a group with a salmon touching more than two scores nothing",
+					always, onBoard(placement, (game, board) -> RuleOracles.salmonRuns(game.boards().get(board), game.shapeOfTile(), card))));
+		}
+		for (var biome : BIOMES) {
+			changes.add(new RuleChange("bonus " + biome, "the majority bonuses of 3 or 4 players follow the rules for the number of players",
+					game -> game.boards().size() > 2, (game, board) -> RuleOracles.majorityBonus(
+							RuleOracles.corridorsOf(corridors(game), biome.name()), board)));
+		}
+		return changes;
+	}
+
+	/**
+	 * Turns the oracle of a board into the oracle of the scores of a board or of a
+	 * placement. A placement scores the difference between the board with and without
+	 * its last tile.
+	 *
+	 * @param placement True for the scores of a placement.
+	 * @param oracle The oracle of a board.
+	 * @return The oracle of the scores.
+	 */
+	private static Oracle onBoard(boolean placement, Oracle oracle) {
+		if (!placement) {
+			return oracle;
+		}
+		return (game, board) -> {
+			var tiles = game.boards().get(board);
+			return oracle.score(game, board) - oracle.score(game.with(board, tiles.subList(0, tiles.size() - 1)), board);
+		};
+	}
+
+	/**
+	 * Measures the corridors of every board of a game with the reference.
+	 *
+	 * @param game The game.
+	 * @return The largest corridor of each board by biome name.
+	 */
+	private static List<HashMap<String, Integer>> corridors(Game game) {
+		return game.boards().stream().map(board -> ReferenceCountPoint.corridors(build(board), game.shapeOfTile())).toList();
+	}
+
+	/**
+	 * Scores a game with the reference engine, then with the oracle of the rule change of
+	 * each score in its scope.
+	 *
+	 * @param game The game.
+	 * @return The expected scores.
+	 */
+	private int[] expected(Game game) {
+		var expected = reference.score(game);
+		for (var i = 0; i < expected.length; i++) {
+			var change = ruleChange(game, i);
+			if (change != null) {
+				expected[i] = change.oracle().score(game, i / labels.size());
+			}
+		}
+		return expected;
+	}
+
+	/**
+	 * Checks if both engines agree on a game, the rule changes giving their scores.
+	 *
+	 * @param game The game.
+	 * @return True if every score is the expected one.
+	 */
+	private boolean agree(Game game) {
+		return Arrays.equals(expected(game), candidate.score(game));
+	}
+
+	/**
+	 * Describes the scores of a game on which the engines differ.
+	 *
+	 * @param game The game.
+	 * @return One line per score that differs, with the rule change giving the expected
+	 *         score if any.
+	 */
+	private List<String> differences(Game game) {
+		var expected = expected(game);
+		var actual = candidate.score(game);
+		if (expected.length != actual.length) {
+			return List.of("expected " + expected.length + " scores, actual " + actual.length);
+		}
+		var differences = new ArrayList<String>();
+		for (var i = 0; i < expected.length; i++) {
+			if (expected[i] != actual[i]) {
+				var change = ruleChange(game, i);
+				differences.add("board " + i / labels.size() + ", " + labels.get(i % labels.size()) + ": expected " + expected[i]
+						+ ", actual " + actual[i] + (change == null ? "" : " (rule change: " + change.reason() + ")"));
+			}
+		}
+		return differences;
+	}
+
+	/**
+	 * Finds the rule change of a score.
+	 *
+	 * @param game The game.
+	 * @param index The index of the score.
+	 * @return The first rule change of the label of the score whose scope holds the game,
+	 *         or null if none.
+	 */
+	private RuleChange ruleChange(Game game, int index) {
+		var label = labels.get(index % labels.size());
+		for (var change : ruleChanges) {
+			if (change.label().equals(label) && change.scope().test(game)) {
+				return change;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Generates the game of a seed and compares the engines on it. The number of players
+	 * is only drawn when there may be more than one, so the games of one board stay those
+	 * of the earlier versions of the fuzzer.
+	 *
+	 * @param seed The seed of the game.
+	 * @return The shrunk mismatch, or null if the engines agree.
+	 */
+	public Mismatch check(long seed) {
+		var random = new SplittableRandom(seed);
+		var shapeOfTile = random.nextBoolean() ? 2 : 1;
+		var players = maxPlayers == 1 ? 1 : 1 + random.nextInt(maxPlayers);
+		var boards = new ArrayList<List<Placement>>();
+		for (var i = 0; i < players; i++) {
+			boards.add(randomBoard(random, shapeOfTile, 1 + random.nextInt(MAX_TILES)));
+		}
+		var game = new Game(shapeOfTile, boards);
+		if (agree(game)) {
+			return null;
+		}
+		var small = shrink(game);
+		return new Mismatch(seed, small, differences(small));
+	}
+
+	/**
+	 * Shrinks a failing game: boards are removed, then the tiles of each board one at a
+	 * time, as long as the boards stay connected and the engines still disagree, then
+	 * animals are taken off the tiles.
+	 *
+	 * @param game The failing game.
+	 * @return A game where no single removal keeps the failure.
+	 */
+	Game shrink(Game game) {
+		var current = game;
+		for (var board = current.boards().size() - 1; board >= 0 && current.boards().size() > 1; board--) {
+			var smaller = current.without(board);
+			if (!agree(smaller)) {
+				current = smaller;
+			}
+		}
+		for (var board = 0; board < current.boards().size(); board++) {
+			var progress = true;
+			while (progress) {
+				progress = false;
+				var tiles = current.boards().get(board);
+				for (var i = 0; i < tiles.size(); i++) {
+					var smaller = new ArrayList<>(tiles);
+					smaller.remove(i);
+					if (!smaller.isEmpty() && connected(smaller, current.shapeOfTile()) && !agree(current.with(board, smaller))) {
+						current = current.with(board, smaller);
+						progress = true;
+						break;
+					}
+				}
+			}
+			for (var i = 0; i < current.boards().get(board).size(); i++) {
+				var simpler = new ArrayList<>(current.boards().get(board));
+				var placement = simpler.get(i);
+				if (placement.animal() != Animals.NOTHING) {
+					simpler.set(i, new Placement(placement.tile(), placement.x(), placement.y(), Animals.NOTHING, placement.rotation()));
+					if (!agree(current.with(board, simpler))) {
+						current = current.with(board, simpler);
+					}
+				}
+			}
+		}
+		return current;
+	}
+
+	/**
+	 * Checks if the tiles of a board form a single group.
+	 *
+	 * @param board The placements of the board.
+	 * @param shapeOfTile The shape of the tiles.
+	 * @return True if every tile can be reached from the first one.
+	 */
+	private static boolean connected(List<Placement> board, int shapeOfTile) {
+		var topology = Topology.of(shapeOfTile);
+		var cells = new HashSet<Coordinate>();
+		for (var placement : board) {
+			cells.add(new Coordinate(placement.x(), placement.y()));
+		}
+		var reached = new HashSet<Coordinate>();
+		var stack = new ArrayList<Coordinate>();
+		stack.add(new Coordinate(board.get(0).x(), board.get(0).y()));
+		reached.add(stack.get(0));
+		while (!stack.isEmpty()) {
+			for (var neighbour : topology.neighbours(stack.remove(stack.size() - 1))) {
+				if (cells.contains(neighbour) && reached.add(neighbour)) {
+					stack.add(neighbour);
+				}
+			}
+		}
+		return reached.size() == cells.size();
+	}
+
+	/**
+	 * Checks consecutive seeds on several threads and stops at the first mismatch. When
+	 * several threads fail, the mismatch of the lowest seed is kept.
+	 *
+	 * @param firstSeed The first seed.
+	 * @param games The number of games to check.
+	 * @param threads The number of threads.
+	 * @return The mismatch of the lowest failing seed, or null if the engines always agree.
+	 * @throws InterruptedException if the thread is interrupted while waiting.
+	 */
+	public Mismatch run(long firstSeed, long games, int threads) throws InterruptedException {
+		if (games < 0 || threads < 1) {
+			throw new IllegalArgumentException("games < 0 or threads < 1");
+		}
+		var failingSeed = new AtomicLong(Long.MAX_VALUE);
+		var executor = Executors.newFixedThreadPool(threads);
+		try {
+			var futures = new ArrayList<Future<Mismatch>>();
+			for (var worker = 0; worker < threads; worker++) {
+				var start = worker;
+				futures.add(executor.submit(() -> {
+					Mismatch found = null;
+					for (var i = (long) start; i < games && firstSeed + i < failingSeed.get(); i += threads) {
+						var mismatch = check(firstSeed + i);
+						if (mismatch != null) {
+							var seed = firstSeed + i;
+							failingSeed.accumulateAndGet(seed, Math::min);
+							found = mismatch;
+						}
+					}
+					return found;
+				}));
+			}
+			Mismatch lowest = null;
+			for (var future : futures) {
+				var mismatch = future.get();
+				if (mismatch != null && (lowest == null || mismatch.seed() < lowest.seed())) {
+					lowest = mismatch;
+				}
+			}
+			return lowest;
+		} catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Runs the fuzzer from the command line.
+	 *
+	 * @param args The mode ({@code reference}, {@code placement}, {@code replay},
+	 *             {@code tables} or {@code compiled}), the number of games, the number of
+	 *             threads and the first seed, all optional.
+	 * @throws InterruptedException if the thread is interrupted.
+	 */
+	public static void main(String[] args) throws InterruptedException {
+		var mode = args.length > 0 ? args[0] : "reference";
+		var fuzzer = switch (mode) {
+		case "reference" -> new ScoreFuzzer(referenceEngine(), gameEngine(), scoreLabels(), ruleChanges(), MAX_PLAYERS);
+		case "placement" -> new ScoreFuzzer(referencePlacementEngine(), placementEngine(), placementLabels(), placementRuleChanges(), 1);
+		case "replay" -> new ScoreFuzzer(gameEngine(), replayEngine(), scoreLabels(), List.of(), MAX_PLAYERS);
+		case "tables" -> new ScoreFuzzer(cardsEngine(shapeOfTile -> tableCards(referenceCards(shapeOfTile))),
+				cardsEngine(shapeOfTile -> tableCards(builtInCards(shapeOfTile))), names(tableCards(builtInCards(2))), ruleChanges(), 1);
+		case "compiled" -> new ScoreFuzzer(cardsEngine(ScoreFuzzer::mirroredCards), compiledEngine(), names(mirroredCards(2)));
+		default -> throw new IllegalArgumentException("unknown mode " + mode);
+		};
+		var games = args.length > 1 ? Long.parseLong(args[1]) : mode.equals("tables") || mode.equals("compiled") ? 1_500 : 100_000;
+		var threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+		var firstSeed = args.length > 3 ? Long.parseLong(args[3]) : 0;
+		var start = System.nanoTime();
+		var mismatch = fuzzer.run(firstSeed, games, threads);
+		var seconds = (System.nanoTime() - start) / 1e9;
+		if (mismatch == null) {
+			System.out.printf("%d games agree (%.0f games/s)%n", games, games / seconds);
+		} else {
+			System.out.println("Mismatch found:\n" + mismatch);
+		}
+	}
+}